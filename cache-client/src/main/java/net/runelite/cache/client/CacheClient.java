@@ -25,6 +25,7 @@
 package net.runelite.cache.client;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Iterables;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -38,15 +39,22 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.StoreDiff;
 import net.runelite.cache.index.ArchiveData;
 import net.runelite.cache.index.IndexData;
 import net.runelite.cache.util.Crc32;
@@ -71,8 +79,12 @@ public class CacheClient implements AutoCloseable
 
 	private final Store store; // store cache will be written to
 	private final String host;
+	private final int port;
 	private final int clientRevision;
 	private DownloadWatcher watcher;
+	private DownloadJournal journal;
+	private int window = MAX_REQUESTS;
+	private boolean pipelined;
 
 	private ClientState state;
 
@@ -88,9 +100,15 @@ public class CacheClient implements AutoCloseable
 	}
 
 	public CacheClient(Store store, String host, int clientRevision)
+	{
+		this(store, host, PORT, clientRevision);
+	}
+
+	public CacheClient(Store store, String host, int port, int clientRevision)
 	{
 		this.store = store;
 		this.host = host;
+		this.port = port;
 		this.clientRevision = clientRevision;
 	}
 
@@ -117,7 +135,7 @@ public class CacheClient implements AutoCloseable
 					p.addLast("decoder", new HandshakeResponseDecoder());
 
 					p.addLast(
-						new CacheClientHandler(),
+						new CacheClientHandler(CacheClient.this),
 						new HandshakeResponseHandler(CacheClient.this),
 						new ArchiveResponseHandler(CacheClient.this)
 					);
@@ -131,7 +149,7 @@ public class CacheClient implements AutoCloseable
 			});
 
 		// Start the client.
-		ChannelFuture f = b.connect(host, PORT).syncUninterruptibly();
+		ChannelFuture f = b.connect(host, port).syncUninterruptibly();
 		channel = f.channel();
 	}
 
@@ -164,6 +182,76 @@ public class CacheClient implements AutoCloseable
 		return clientRevision;
 	}
 
+	public DownloadWatcher getWatcher()
+	{
+		return watcher;
+	}
+
+	public void setWatcher(DownloadWatcher watcher)
+	{
+		this.watcher = watcher;
+	}
+
+	public DownloadJournal getJournal()
+	{
+		return journal;
+	}
+
+	/**
+	 * Set the journal used to record archives as they are saved, so that an
+	 * interrupted download can skip them when it is restarted. The journal is
+	 * only used if the store's storage saves archives durably, otherwise the
+	 * archives it records may not be in the store when it is restarted.
+	 * <p>
+	 * Once a download completes the store is saved and the journal is cleared,
+	 * since its entries would not describe the store of a later download.
+	 *
+	 * @param journal
+	 */
+	public void setJournal(DownloadJournal journal)
+	{
+		if (journal != null && !store.getStorage().isArchiveSaveDurable())
+		{
+			logger.warn("The store does not save archives durably, the download journal will not be used");
+		}
+		this.journal = journal;
+	}
+
+	public int getWindow()
+	{
+		return window;
+	}
+
+	/**
+	 * Set the maximum number of archive requests in flight at once
+	 *
+	 * @param window
+	 */
+	public void setWindow(int window)
+	{
+		if (window < 1)
+		{
+			throw new IllegalArgumentException("window must be positive");
+		}
+		this.window = window;
+	}
+
+	public boolean isPipelined()
+	{
+		return pipelined;
+	}
+
+	/**
+	 * Set whether {@link #download()} requests every index file up front, and verifies and
+	 * writes archives off of the network thread, instead of handling one index at a time.
+	 *
+	 * @param pipelined
+	 */
+	public void setPipelined(boolean pipelined)
+	{
+		this.pipelined = pipelined;
+	}
+
 	public ClientState getState()
 	{
 		return state;
@@ -183,7 +271,7 @@ public class CacheClient implements AutoCloseable
 	{
 		logger.info("Requesting indexes");
 
-		FileResult result = requestFile(255, 255, true).join();
+		FileResult result = await(requestFile(255, 255, true));
 		result.decompress(null);
 
 		ByteBuf buffer = Unpooled.wrappedBuffer(result.getContents());
@@ -205,178 +293,505 @@ public class CacheClient implements AutoCloseable
 		Stopwatch stopwatch = Stopwatch.createStarted();
 
 		List<IndexInfo> indexes = requestIndexes();
+		if (pipelined)
+		{
+			downloadPipelined(indexes);
+		}
+		else
+		{
+			downloadSequential(indexes);
+		}
+
+		if (state == ClientState.DISCONNECTED)
+		{
+			throw new IOException("connection lost during download");
+		}
+
+		if (journal != null)
+		{
+			store.save();
+			journal.clear();
+		}
+
+		stopwatch.stop();
+		logger.info("Download completed in {}", stopwatch);
+	}
+
+	private void downloadSequential(List<IndexInfo> indexes) throws IOException
+	{
 		for (IndexInfo indexInfo : indexes)
 		{
 			int i = indexInfo.getId();
-			int crc = indexInfo.getCrc();
-			int revision = indexInfo.getRevision();
-
-			Index index = store.findIndex(i);
 
-			if (index == null)
-			{
-				logger.info("Index {} does not exist, creating", i);
-			}
-			else if (index.getRevision() != revision)
-			{
-				if (revision < index.getRevision())
-				{
-					logger.warn("Index {} revision is going BACKWARDS! (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
-				}
-				else
-				{
-					logger.info("Index {} has the wrong revision (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
-				}
-			}
-			else if (index.getCrc() != crc)
-			{
-				logger.warn("Index {} CRC has changed! (our crc {}, their crc {})",
-					index.getCrc(), index.getCrc(), crc);
-			}
-			else
-			{
-				// despite the index being up to date, not everything
-				// can be downloaded, eg. for tracks.
-				logger.info("Index {} is up to date", index.getId());
-			}
+			logIndexState(indexInfo);
 
 			logger.info("Downloading index {}", i);
 
-			FileResult indexFileResult = requestFile(255, i, true).join();
+			FileResult indexFileResult = await(requestFile(255, i, true));
 			indexFileResult.decompress(null);
 
 			logger.info("Downloaded index {}", i);
 
-			if (indexFileResult.getCrc() != crc)
+			List<Archive> removed = new ArrayList<>();
+			List<Archive> outOfDate = updateIndex(indexInfo, indexFileResult, removed);
+			if (outOfDate == null)
 			{
-				logger.warn("Corrupted download for index {}", i);
 				continue;
 			}
 
-			IndexData indexData = new IndexData();
-			indexData.load(indexFileResult.getContents());
-
-			if (index == null)
+			for (Archive archive : removed)
 			{
-				index = store.addIndex(i);
+				store.getStorage().removeArchive(archive);
 			}
 
-			// update index settings
-			index.setProtocol(indexData.getProtocol());
-			index.setNamed(indexData.isNamed());
-			index.setCrc(crc);
-			index.setRevision(revision);
+			for (Archive archive : outOfDate)
+			{
+				CompletableFuture<FileResult> future = requestFile(archive.getIndex().getId(), archive.getArchiveId(), false);
+				future.handle((fr, ex) ->
+				{
+					byte[] data = verify(archive, fr, ex);
+					if (data != null)
+					{
+						save(archive, data);
+					}
+					return null;
+				});
+			}
+		}
 
-			logger.info("Index {} has {} archives", i, indexData.getArchives().length);
+		// flush any pending requests
+		channel.flush();
 
-			for (ArchiveData ad : indexData.getArchives())
+		synchronized (this)
+		{
+			// wait for pending requests
+			while (!requests.isEmpty())
 			{
-				Archive existing = index.getArchive(ad.getId());
-
-				if (existing != null && existing.getRevision() == ad.getRevision()
-					&& existing.getCrc() == ad.getCrc()
-					&& existing.getNameHash() == ad.getNameHash())
+				try
 				{
-					logger.debug("Archive {}/{} in index {} is up to date",
-						ad.getId(), indexData.getArchives().length, index.getId());
-					continue;
+					wait();
 				}
-
-				if (existing == null)
+				catch (InterruptedException ex)
 				{
-					logger.info("Archive {}/{} in index {} is out of date, downloading",
-						ad.getId(), indexData.getArchives().length, index.getId());
+					logger.warn(null, ex);
 				}
-				else if (ad.getRevision() < existing.getRevision())
+			}
+		}
+	}
+
+	/**
+	 * Request all of the index files up front, and then keep up to the window of archive
+	 * requests in flight. Responses are verified on the store's executor, off of the event loop,
+	 * and then written, in request order, by a single writer thread. If a write fails no further
+	 * archives are requested, and the failure is thrown once the pending requests are done.
+	 */
+	private void downloadPipelined(List<IndexInfo> indexes) throws IOException
+	{
+		ExecutorService executor = store.getExecutor();
+		ExecutorService writer = Executors.newSingleThreadExecutor(r ->
+		{
+			Thread thread = new Thread(r, "cache-client-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try
+		{
+			List<CompletableFuture<FileResult>> indexFiles = new ArrayList<>(indexes.size());
+			for (IndexInfo indexInfo : indexes)
+			{
+				logIndexState(indexInfo);
+
+				indexFiles.add(requestFile(255, indexInfo.getId(), false)
+					.thenApplyAsync(fr ->
+					{
+						try
+						{
+							fr.decompress(null);
+						}
+						catch (IOException ex)
+						{
+							throw new UncheckedIOException(ex);
+						}
+						return fr;
+					}, executor));
+			}
+			channel.flush();
+
+			// all storage writes go through the writer, in order
+			CompletableFuture<Void> written = CompletableFuture.completedFuture(null);
+			AtomicBoolean writeFailed = new AtomicBoolean();
+			for (int i = 0; i < indexes.size() && !writeFailed.get(); ++i)
+			{
+				IndexInfo indexInfo = indexes.get(i);
+
+				FileResult indexFileResult;
+				try
 				{
-					logger.warn("Archive {}/{} in index {} revision is going BACKWARDS! (our revision {}, their revision {})",
-						ad.getId(), indexData.getArchives().length, index.getId(),
-						existing.getRevision(), ad.getRevision());
+					indexFileResult = indexFiles.get(i).join();
 				}
-				else
+				catch (CompletionException ex)
 				{
-					logger.info("Archive {}/{} in index {} is out of date, downloading. " +
-						"revision: ours: {} theirs: {}, crc: ours: {} theirs {}, name: ours {} theirs {}",
-						ad.getId(), indexData.getArchives().length, index.getId(),
-						existing.getRevision(), ad.getRevision(),
-						existing.getCrc(), ad.getCrc(),
-						existing.getNameHash(), ad.getNameHash());
+					logger.warn("Unable to download index {}", indexInfo.getId(), ex.getCause());
+					continue;
 				}
 
-				final Archive archive = existing == null
-					? index.addArchive(ad.getId())
-					: existing;
-
-				archive.setRevision(ad.getRevision());
-				archive.setCrc(ad.getCrc());
-				archive.setNameHash(ad.getNameHash());
+				List<Archive> removed = new ArrayList<>();
+				List<Archive> outOfDate = updateIndex(indexInfo, indexFileResult, removed);
+				if (outOfDate == null)
+				{
+					continue;
+				}
 
-				// Add files
-				archive.setFileData(ad.getFiles());
+				if (!removed.isEmpty())
+				{
+					written = written.thenRunAsync(() ->
+					{
+						for (Archive archive : removed)
+						{
+							try
+							{
+								store.getStorage().removeArchive(archive);
+							}
+							catch (IOException ex)
+							{
+								logger.warn("unable to remove archive", ex);
+							}
+						}
+					}, writer);
+				}
 
-				CompletableFuture<FileResult> future = requestFile(index.getId(), ad.getId(), false);
-				future.handle((fr, ex) ->
+				IndexDownloadStats stats = new IndexDownloadStats(indexInfo.getId(), outOfDate.size());
+				for (Archive archive : outOfDate)
 				{
-					byte[] data = fr.getCompressedData();
+					if (writeFailed.get())
+					{
+						break;
+					}
 
-					Crc32 crc32 = new Crc32();
-					crc32.update(data, 0, data.length);
-					int hash = crc32.getHash();
+					CompletableFuture<byte[]> verified = requestFile(archive.getIndex().getId(), archive.getArchiveId(), false)
+						.handleAsync((fr, ex) -> verify(archive, fr, ex), executor);
 
-					if (hash != archive.getCrc())
+					written = written.thenCombineAsync(verified, (v, data) ->
 					{
-						logger.warn("crc mismatch on downloaded archive {}/{}: {} != {}",
-							archive.getIndex().getId(), archive.getArchiveId(),
-							hash, archive.getCrc());
-						throw new RuntimeException("crc mismatch");
-					}
+						try
+						{
+							if (data != null)
+							{
+								save(archive, data);
+								stats.archiveComplete(data.length);
+							}
+							else
+							{
+								stats.archiveFailed();
+							}
+						}
+						catch (RuntimeException | Error ex)
+						{
+							writeFailed.set(true);
+							throw ex;
+						}
+						return null;
+					}, writer);
+				}
+
+				written = written.thenRunAsync(() ->
+				{
+					stats.complete();
+					logger.info("{}", stats);
 
 					if (watcher != null)
-					{
-						watcher.downloadComplete(archive, data);
-					}
-					else
 					{
 						try
 						{
-							Storage storage = store.getStorage();
-							storage.saveArchive(archive, data);
+							watcher.indexComplete(stats);
 						}
-						catch (IOException ex1)
+						catch (RuntimeException | Error ex)
 						{
-							logger.warn("unable to save archive data", ex1);
+							writeFailed.set(true);
+							throw ex;
 						}
 					}
-					return null;
-				});
-			}
-		}
+				}, writer);
 
-		// flush any pending requests
-		channel.flush();
+				channel.flush();
+			}
 
-		while (!requests.isEmpty())
-		{
-			// wait for pending requests
-			synchronized (this)
+			try
 			{
-				try
+				written.join();
+			}
+			catch (CompletionException ex)
+			{
+				Throwable cause = ex.getCause();
+				if (cause instanceof IOException)
 				{
-					wait();
+					throw (IOException) cause;
 				}
-				catch (InterruptedException ex)
+				if (cause instanceof UncheckedIOException)
 				{
-					logger.warn(null, ex);
+					throw ((UncheckedIOException) cause).getCause();
+				}
+				if (cause instanceof Error)
+				{
+					throw (Error) cause;
 				}
+				throw new IOException("unable to write downloaded archives", cause);
 			}
 		}
+		finally
+		{
+			writer.shutdown();
+		}
+	}
 
-		stopwatch.stop();
-		logger.info("Download completed in {}", stopwatch);
+	private void logIndexState(IndexInfo indexInfo)
+	{
+		int i = indexInfo.getId();
+		int crc = indexInfo.getCrc();
+		int revision = indexInfo.getRevision();
+
+		Index index = store.findIndex(i);
+
+		if (index == null)
+		{
+			logger.info("Index {} does not exist, creating", i);
+		}
+		else if (index.getRevision() != revision)
+		{
+			if (revision < index.getRevision())
+			{
+				logger.warn("Index {} revision is going BACKWARDS! (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
+			}
+			else
+			{
+				logger.info("Index {} has the wrong revision (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
+			}
+		}
+		else if (index.getCrc() != crc)
+		{
+			logger.warn("Index {} CRC has changed! (our crc {}, their crc {})",
+				index.getCrc(), index.getCrc(), crc);
+		}
+		else
+		{
+			// despite the index being up to date, not everything
+			// can be downloaded, eg. for tracks.
+			logger.info("Index {} is up to date", index.getId());
+		}
+	}
+
+	/**
+	 * Update the index in the store from its downloaded index data.
+	 *
+	 * @param indexInfo
+	 * @param indexFileResult decompressed index data
+	 * @param removed populated with the archives which have been removed from the index,
+	 * and need removing from storage
+	 * @return the archives to download, or null if the index data is corrupt
+	 * @throws IOException
+	 */
+	private List<Archive> updateIndex(IndexInfo indexInfo, FileResult indexFileResult, List<Archive> removed) throws IOException
+	{
+		int i = indexInfo.getId();
+		int crc = indexInfo.getCrc();
+		int revision = indexInfo.getRevision();
+
+		if (indexFileResult.getCrc() != crc)
+		{
+			logger.warn("Corrupted download for index {}", i);
+			return null;
+		}
+
+		IndexData indexData = new IndexData();
+		indexData.load(indexFileResult.getContents());
+
+		Index remote = new Index(i);
+		for (ArchiveData ad : indexData.getArchives())
+		{
+			Archive archive = remote.addArchive(ad.getId());
+			archive.setNameHash(ad.getNameHash());
+			archive.setCrc(ad.getCrc());
+			archive.setRevision(ad.getRevision());
+			archive.setFileData(ad.getFiles());
+		}
+
+		Index index = store.findIndex(i);
+		StoreDiff diff = StoreDiff.diff(index, remote);
+
+		if (index == null)
+		{
+			index = store.addIndex(i);
+		}
+
+		// update index settings
+		index.setProtocol(indexData.getProtocol());
+		index.setNamed(indexData.isNamed());
+		index.setCrc(crc);
+		index.setRevision(revision);
+
+		logger.info("Index {} has {} archives, {} added, {} changed, {} removed", i, indexData.getArchives().length,
+			diff.getAdded().size(), diff.getChanged().size(), diff.getRemoved().size());
+
+		for (Archive archive : diff.getRemoved())
+		{
+			logger.info("Archive {} in index {} has been removed", archive.getArchiveId(), index.getId());
+
+			index.removeArchive(archive);
+			removed.add(archive);
+		}
+
+		List<Archive> outOfDate = new ArrayList<>(diff.getAdded().size() + diff.getChanged().size());
+		int resumed = 0;
+		for (Archive remoteArchive : Iterables.concat(diff.getAdded(), diff.getChanged()))
+		{
+			Archive existing = index.getArchive(remoteArchive.getArchiveId());
+
+			if (existing == null)
+			{
+				logger.info("Archive {}/{} in index {} is out of date, downloading",
+					remoteArchive.getArchiveId(), indexData.getArchives().length, index.getId());
+			}
+			else if (remoteArchive.getRevision() < existing.getRevision())
+			{
+				logger.warn("Archive {}/{} in index {} revision is going BACKWARDS! (our revision {}, their revision {})",
+					remoteArchive.getArchiveId(), indexData.getArchives().length, index.getId(),
+					existing.getRevision(), remoteArchive.getRevision());
+			}
+			else
+			{
+				logger.info("Archive {}/{} in index {} is out of date, downloading. " +
+					"revision: ours: {} theirs: {}, crc: ours: {} theirs {}, name: ours {} theirs {}",
+					remoteArchive.getArchiveId(), indexData.getArchives().length, index.getId(),
+					existing.getRevision(), remoteArchive.getRevision(),
+					existing.getCrc(), remoteArchive.getCrc(),
+					existing.getNameHash(), remoteArchive.getNameHash());
+			}
+
+			final Archive archive = existing == null
+				? index.addArchive(remoteArchive.getArchiveId())
+				: existing;
+
+			archive.setRevision(remoteArchive.getRevision());
+			archive.setCrc(remoteArchive.getCrc());
+			archive.setNameHash(remoteArchive.getNameHash());
+
+			// Add files
+			archive.setFileData(remoteArchive.getFileData());
+
+			if (isJournaled() && journal.isSaved(index.getId(), archive.getArchiveId(), archive.getCrc()))
+			{
+				// saved by a previous, interrupted, download
+				logger.debug("Archive {} in index {} was saved by a previous download", archive.getArchiveId(), index.getId());
+				++resumed;
+				continue;
+			}
+
+			outOfDate.add(archive);
+		}
+
+		if (resumed > 0)
+		{
+			logger.info("Skipping {} archives in index {} saved by a previous download", resumed, index.getId());
+		}
+
+		// index data stores archive ids as deltas
+		index.getArchives().sort(Comparator.comparing(Archive::getArchiveId));
+		return outOfDate;
+	}
+
+	/**
+	 * Check a downloaded archive against the crc from the index data
+	 *
+	 * @return the archive data, or null if the download failed
+	 */
+	private byte[] verify(Archive archive, FileResult fr, Throwable ex)
+	{
+		if (ex != null)
+		{
+			logger.warn("unable to download archive {}/{}",
+				archive.getIndex().getId(), archive.getArchiveId(), ex);
+			return null;
+		}
+
+		byte[] data = fr.getCompressedData();
+
+		Crc32 crc32 = new Crc32();
+		crc32.update(data, 0, data.length);
+		int hash = crc32.getHash();
+
+		if (hash != archive.getCrc())
+		{
+			logger.warn("crc mismatch on downloaded archive {}/{}: {} != {}",
+				archive.getIndex().getId(), archive.getArchiveId(),
+				hash, archive.getCrc());
+			return null;
+		}
+
+		return data;
+	}
+
+	private void save(Archive archive, byte[] data)
+	{
+		if (watcher != null)
+		{
+			watcher.downloadComplete(archive, data);
+		}
+		else
+		{
+			try
+			{
+				Storage storage = store.getStorage();
+				storage.saveArchive(archive, data);
+			}
+			catch (IOException ex1)
+			{
+				logger.warn("unable to save archive data", ex1);
+				return;
+			}
+		}
+
+		if (isJournaled())
+		{
+			try
+			{
+				journal.saved(archive.getIndex().getId(), archive.getArchiveId(), archive.getCrc());
+			}
+			catch (IOException ex)
+			{
+				logger.warn("unable to write download journal", ex);
+			}
+		}
+	}
+
+	private boolean isJournaled()
+	{
+		return journal != null && store.getStorage().isArchiveSaveDurable();
+	}
+
+	private static FileResult await(CompletableFuture<FileResult> future) throws IOException
+	{
+		try
+		{
+			return future.join();
+		}
+		catch (CompletionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw ex;
+		}
 	}
 
 	private synchronized CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
 	{
+		if (state == ClientState.DISCONNECTED)
+		{
+			return disconnected();
+		}
+
 		if (state != ClientState.CONNECTED)
 		{
 			throw new IllegalStateException("Can't request files until connected!");
@@ -384,7 +799,7 @@ public class CacheClient implements AutoCloseable
 
 		if (!flush)
 		{
-			while (requests.size() >= MAX_REQUESTS)
+			while (requests.size() >= window)
 			{
 				channel.flush();
 
@@ -397,6 +812,11 @@ public class CacheClient implements AutoCloseable
 					logger.warn("interrupted while waiting for requests", ex);
 				}
 			}
+
+			if (state == ClientState.DISCONNECTED)
+			{
+				return disconnected();
+			}
 		}
 
 		ArchiveRequestPacket archiveRequest = new ArchiveRequestPacket();
@@ -436,6 +856,35 @@ public class CacheClient implements AutoCloseable
 		return null;
 	}
 
+	private static CompletableFuture<FileResult> disconnected()
+	{
+		CompletableFuture<FileResult> future = new CompletableFuture<>();
+		future.completeExceptionally(new IOException("connection lost"));
+		return future;
+	}
+
+	/**
+	 * Fail any pending requests once the connection has been lost
+	 */
+	synchronized void onDisconnect()
+	{
+		state = ClientState.DISCONNECTED;
+
+		IOException ex = new IOException("connection lost");
+		for (PendingFileRequest pr : requests)
+		{
+			pr.getFuture().completeExceptionally(ex);
+		}
+		requests.clear();
+
+		if (handshakeFuture != null)
+		{
+			handshakeFuture.completeExceptionally(ex);
+		}
+
+		notifyAll();
+	}
+
 	protected synchronized void onFileFinish(int index, int file, byte[] compressedData)
 	{
 		PendingFileRequest pr = findRequest(index, file);
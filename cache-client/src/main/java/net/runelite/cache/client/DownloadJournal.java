@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append only journal of the archives saved by a download, which lets a
+ * download that was interrupted before the store was saved resume without
+ * fetching them again. Each entry is the index, archive and crc of a saved archive,
+ * so an archive is only skipped if the same version is wanted again.
+ * <p>
+ * The journal describes the contents of a single store, and is cleared by the
+ * client once a download completes and that store has been saved.
+ */
+public class DownloadJournal implements AutoCloseable
+{
+	private static final Logger logger = LoggerFactory.getLogger(DownloadJournal.class);
+
+	private static final int ENTRY_SIZE = 12;
+
+	private final File file;
+	private final Map<Long, Integer> saved = new HashMap<>();
+	private DataOutputStream out;
+
+	public DownloadJournal(File file) throws IOException
+	{
+		this.file = file;
+
+		if (file.exists())
+		{
+			load();
+		}
+
+		out = open(true);
+	}
+
+	private void load() throws IOException
+	{
+		// a partially written entry at the end, from a crash, is discarded
+		long entries = file.length() / ENTRY_SIZE;
+		try (InputStream fin = new FileInputStream(file);
+			DataInputStream in = new DataInputStream(new BufferedInputStream(fin)))
+		{
+			for (long i = 0; i < entries; ++i)
+			{
+				int index = in.readInt();
+				int archive = in.readInt();
+				int crc = in.readInt();
+				saved.put(key(index, archive), crc);
+			}
+		}
+
+		if (file.length() != entries * ENTRY_SIZE)
+		{
+			// drop it, so new entries are aligned
+			try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+			{
+				raf.setLength(entries * ENTRY_SIZE);
+			}
+		}
+
+		logger.debug("Loaded {} journal entries from {}", saved.size(), file);
+	}
+
+	private DataOutputStream open(boolean append) throws IOException
+	{
+		return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, append)));
+	}
+
+	private static long key(int index, int archive)
+	{
+		return (long) index << 32 | (archive & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Check if an archive has already been saved
+	 *
+	 * @param index
+	 * @param archive
+	 * @param crc crc of the wanted archive
+	 * @return true if the archive has been saved with the given crc
+	 */
+	public synchronized boolean isSaved(int index, int archive, int crc)
+	{
+		Integer savedCrc = saved.get(key(index, archive));
+		return savedCrc != null && savedCrc == crc;
+	}
+
+	/**
+	 * Record that an archive has been saved. Entries are flushed immediately, so
+	 * they survive the process exiting.
+	 *
+	 * @param index
+	 * @param archive
+	 * @param crc
+	 * @throws IOException
+	 */
+	public synchronized void saved(int index, int archive, int crc) throws IOException
+	{
+		out.writeInt(index);
+		out.writeInt(archive);
+		out.writeInt(crc);
+		out.flush();
+
+		saved.put(key(index, archive), crc);
+	}
+
+	public synchronized int size()
+	{
+		return saved.size();
+	}
+
+	/**
+	 * Discard all entries, once the store they describe has been saved
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void clear() throws IOException
+	{
+		out.close();
+		saved.clear();
+		out = open(false);
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		out.close();
+	}
+}
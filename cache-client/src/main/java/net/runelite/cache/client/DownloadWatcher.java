@@ -30,4 +30,13 @@ import net.runelite.cache.fs.Archive;
 public interface DownloadWatcher
 {
 	void downloadComplete(Archive archive, byte[] data);
+
+	/**
+	 * Called by pipelined downloads once every archive of an index has been handled
+	 *
+	 * @param stats
+	 */
+	default void indexComplete(IndexDownloadStats stats)
+	{
+	}
 }
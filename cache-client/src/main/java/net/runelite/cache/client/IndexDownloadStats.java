@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Download statistics for a single index, from when its index data is
+ * processed until its last archive has been written
+ */
+public class IndexDownloadStats
+{
+	private final int index;
+	private final int archives;
+	private final long start = System.nanoTime();
+
+	// updated only by the writer
+	private int completed;
+	private int failed;
+	private long bytes;
+	private long elapsedNanos;
+
+	public IndexDownloadStats(int index, int archives)
+	{
+		this.index = index;
+		this.archives = archives;
+	}
+
+	void archiveComplete(int length)
+	{
+		++completed;
+		bytes += length;
+	}
+
+	void archiveFailed()
+	{
+		++failed;
+	}
+
+	void complete()
+	{
+		elapsedNanos = System.nanoTime() - start;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "Index " + index + " downloaded " + completed + "/" + archives + " archives"
+			+ (failed > 0 ? " (" + failed + " failed)" : "")
+			+ ", " + bytes + " bytes in " + getElapsed(TimeUnit.MILLISECONDS) + "ms"
+			+ " (" + (long) getBytesPerSecond() / 1024 + " KB/s)";
+	}
+
+	public int getIndex()
+	{
+		return index;
+	}
+
+	public int getArchives()
+	{
+		return archives;
+	}
+
+	public int getCompleted()
+	{
+		return completed;
+	}
+
+	public int getFailed()
+	{
+		return failed;
+	}
+
+	public long getBytes()
+	{
+		return bytes;
+	}
+
+	public long getElapsed(TimeUnit unit)
+	{
+		return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public double getBytesPerSecond()
+	{
+		return elapsedNanos > 0 ? bytes * 1e9 / elapsedNanos : 0;
+	}
+}
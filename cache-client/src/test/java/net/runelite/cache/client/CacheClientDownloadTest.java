@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.StoreDiff;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheClientDownloadTest
+{
+	private static final int REVISION = 1;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testDownload() throws IOException
+	{
+		testDownload(false);
+	}
+
+	@Test
+	public void testPipelinedDownload() throws IOException
+	{
+		List<IndexDownloadStats> stats = testDownload(true);
+
+		Assert.assertEquals(3, stats.size());
+		Assert.assertEquals(0, stats.get(0).getIndex());
+		Assert.assertEquals(50, stats.get(0).getCompleted());
+		Assert.assertEquals(200, stats.get(1).getCompleted());
+		Assert.assertEquals(1, stats.get(2).getCompleted());
+		for (IndexDownloadStats s : stats)
+		{
+			Assert.assertEquals(0, s.getFailed());
+			Assert.assertTrue(s.getBytes() > 0);
+		}
+	}
+
+	@Test
+	public void testPipelinedWriteFailure() throws IOException
+	{
+		try (Store source = createStore(folder.newFolder());
+			UpdateServer server = new UpdateServer(source, REVISION))
+		{
+			int port = server.start();
+			CountDownLatch resume = new CountDownLatch(1);
+			server.setPauseAfter(20, resume);
+
+			try (Store store = new Store(folder.newFolder()))
+			{
+				RuntimeException failure = new RuntimeException("write failed");
+				AtomicInteger writes = new AtomicInteger();
+
+				CacheClient client = new CacheClient(store, "127.0.0.1", port, REVISION);
+				client.setPipelined(true);
+				client.setWindow(8);
+				client.setWatcher(new DownloadWatcher()
+				{
+					@Override
+					public void downloadComplete(Archive archive, byte[] data)
+					{
+						if (writes.incrementAndGet() == 10)
+						{
+							// the server serves the rest once the write has failed
+							resume.countDown();
+							throw failure;
+						}
+					}
+
+					@Override
+					public void indexComplete(IndexDownloadStats indexStats)
+					{
+					}
+				});
+
+				client.connect();
+				client.handshake().join();
+				try
+				{
+					client.download();
+					Assert.fail("download should have failed");
+				}
+				catch (IOException ex)
+				{
+					Assert.assertSame(failure, ex.getCause());
+				}
+				client.close();
+
+				// nothing is written after the failure, and no more archives are requested
+				Assert.assertEquals(10, writes.get());
+				Assert.assertTrue(server.getArchivesServed() <= 20 + 8);
+			}
+		}
+	}
+
+	@Test
+	public void testResume() throws IOException
+	{
+		File journalFile = folder.newFile();
+
+		try (Store source = createStore(folder.newFolder());
+			UpdateServer server = new UpdateServer(source, REVISION))
+		{
+			int port = server.start();
+			server.setCloseAfter(100);
+
+			File root = folder.newFolder();
+			try (Store store = new Store(root);
+				DownloadJournal journal = new DownloadJournal(journalFile))
+			{
+				CacheClient client = new CacheClient(store, "127.0.0.1", port, REVISION);
+				client.setPipelined(true);
+				client.setJournal(journal);
+
+				client.connect();
+				client.handshake().join();
+				try
+				{
+					client.download();
+					Assert.fail("download should have been interrupted");
+				}
+				catch (IOException ex)
+				{
+					// expected
+				}
+				client.close();
+
+				Assert.assertEquals(100, journal.size());
+				// the store is not saved
+			}
+
+			server.setCloseAfter(-1);
+
+			try (Store store = new Store(root);
+				DownloadJournal journal = new DownloadJournal(journalFile))
+			{
+				Assert.assertEquals(100, journal.size());
+
+				CacheClient client = new CacheClient(store, "127.0.0.1", port, REVISION);
+				client.setJournal(journal);
+
+				client.connect();
+				client.handshake().join();
+				client.download();
+				client.close();
+
+				// the completed download saves the store, so the journal is no longer needed
+				Assert.assertEquals(0, journal.size());
+			}
+
+			// only the remaining archives are downloaded again
+			Assert.assertEquals(251, server.getArchivesServed());
+
+			try (DownloadJournal journal = new DownloadJournal(journalFile))
+			{
+				Assert.assertEquals(0, journal.size());
+			}
+
+			try (Store store = new Store(root))
+			{
+				store.load();
+				assertContentsEqual(source, store);
+			}
+		}
+	}
+
+	@Test
+	public void testResumeFlatStorage() throws IOException
+	{
+		File journalFile = folder.newFile();
+
+		try (Store source = createStore(folder.newFolder());
+			UpdateServer server = new UpdateServer(source, REVISION))
+		{
+			int port = server.start();
+			server.setCloseAfter(100);
+
+			// flat storage only keeps archives in memory until the store is saved
+			File root = folder.newFolder();
+			try (Store store = new Store(new FlatStorage(root));
+				DownloadJournal journal = new DownloadJournal(journalFile))
+			{
+				CacheClient client = new CacheClient(store, "127.0.0.1", port, REVISION);
+				client.setPipelined(true);
+				client.setJournal(journal);
+
+				client.connect();
+				client.handshake().join();
+				try
+				{
+					client.download();
+					Assert.fail("download should have been interrupted");
+				}
+				catch (IOException ex)
+				{
+					// expected
+				}
+				client.close();
+
+				Assert.assertEquals(0, journal.size());
+
+				// nor is a journal of archives saved elsewhere trusted
+				for (Index index : source.getIndexes())
+				{
+					for (Archive archive : index.getArchives())
+					{
+						journal.saved(index.getId(), archive.getArchiveId(), archive.getCrc());
+					}
+				}
+			}
+
+			server.setCloseAfter(-1);
+
+			try (Store store = new Store(new FlatStorage(root));
+				DownloadJournal journal = new DownloadJournal(journalFile))
+			{
+				CacheClient client = new CacheClient(store, "127.0.0.1", port, REVISION);
+				client.setJournal(journal);
+
+				client.connect();
+				client.handshake().join();
+				client.download();
+				client.close();
+
+				Assert.assertEquals(0, journal.size());
+			}
+
+			// everything is downloaded again
+			Assert.assertEquals(100 + 251, server.getArchivesServed());
+
+			try (Store store = new Store(new FlatStorage(root)))
+			{
+				store.load();
+				assertContentsEqual(source, store);
+			}
+		}
+	}
+
+	private List<IndexDownloadStats> testDownload(boolean pipelined) throws IOException
+	{
+		List<IndexDownloadStats> stats = new ArrayList<>();
+
+		try (Store source = createStore(folder.newFolder());
+			UpdateServer server = new UpdateServer(source, REVISION))
+		{
+			int port = server.start();
+
+			File root = folder.newFolder();
+			try (Store store = new Store(root))
+			{
+				CacheClient client = new CacheClient(store, "127.0.0.1", port, REVISION);
+				client.setPipelined(pipelined);
+				client.setWindow(8);
+				client.setWatcher(new DownloadWatcher()
+				{
+					@Override
+					public void downloadComplete(Archive archive, byte[] data)
+					{
+						try
+						{
+							store.getStorage().saveArchive(archive, data);
+						}
+						catch (IOException ex)
+						{
+							throw new RuntimeException(ex);
+						}
+					}
+
+					@Override
+					public void indexComplete(IndexDownloadStats indexStats)
+					{
+						stats.add(indexStats);
+					}
+				});
+
+				client.connect();
+				Assert.assertEquals(HandshakeResponseType.RESPONSE_OK, client.handshake().join());
+				client.download();
+				client.close();
+
+				store.save();
+			}
+
+			Assert.assertEquals(251, server.getArchivesServed());
+
+			try (Store store = new Store(root))
+			{
+				store.load();
+
+				assertContentsEqual(source, store);
+			}
+		}
+
+		return stats;
+	}
+
+	private static void assertContentsEqual(Store source, Store store) throws IOException
+	{
+		Assert.assertTrue(StoreDiff.diff(source, store).isEmpty());
+		for (Index index : source.getIndexes())
+		{
+			for (Archive archive : index.getArchives())
+			{
+				Archive other = store.findIndex(index.getId()).getArchive(archive.getArchiveId());
+				Assert.assertArrayEquals(archive.decompress(source.getStorage().loadArchive(archive)),
+					other.decompress(store.getStorage().loadArchive(other)));
+			}
+		}
+	}
+
+	static Store createStore(File root) throws IOException
+	{
+		Random random = new Random(42L);
+		int[] archiveCounts = {50, 200, 1};
+
+		Store store = new Store(root);
+		for (int i = 0; i < archiveCounts.length; ++i)
+		{
+			Index index = store.addIndex(i);
+			index.setRevision(REVISION);
+
+			for (int j = 0; j < archiveCounts[i]; ++j)
+			{
+				Archive archive = index.addArchive(j);
+				archive.setNameHash(random.nextInt());
+				archive.setRevision(j);
+				archive.setCompression(j % 2 == 0 ? CompressionType.GZ : CompressionType.NONE);
+				archive.setFileData(new FileData[]{new FileData()});
+
+				byte[] contents = new byte[random.nextInt(4096)];
+				random.nextBytes(contents);
+				store.setArchiveContents(archive, contents);
+			}
+		}
+		store.save();
+		return store;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import net.runelite.cache.StoreLocation;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DownloadJournalTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testReload() throws IOException
+	{
+		File file = new File(folder.getRoot(), "journal");
+
+		try (DownloadJournal journal = new DownloadJournal(file))
+		{
+			journal.saved(1, 2, 42);
+			journal.saved(7, 0x10000, -1);
+			journal.saved(1, 2, 43);
+		}
+
+		try (DownloadJournal journal = new DownloadJournal(file))
+		{
+			Assert.assertEquals(2, journal.size());
+			Assert.assertTrue(journal.isSaved(1, 2, 43));
+			Assert.assertFalse(journal.isSaved(1, 2, 42));
+			Assert.assertTrue(journal.isSaved(7, 0x10000, -1));
+			Assert.assertFalse(journal.isSaved(7, 0, -1));
+
+			journal.clear();
+			Assert.assertFalse(journal.isSaved(1, 2, 43));
+		}
+
+		try (DownloadJournal journal = new DownloadJournal(file))
+		{
+			Assert.assertEquals(0, journal.size());
+		}
+	}
+
+	@Test
+	public void testPartialEntry() throws IOException
+	{
+		File file = new File(folder.getRoot(), "journal");
+
+		try (DownloadJournal journal = new DownloadJournal(file))
+		{
+			journal.saved(1, 2, 3);
+		}
+
+		// simulate a crash part way through writing an entry
+		try (FileOutputStream out = new FileOutputStream(file, true))
+		{
+			out.write(new byte[]{0, 0, 0, 4, 0});
+		}
+
+		try (DownloadJournal journal = new DownloadJournal(file))
+		{
+			Assert.assertEquals(1, journal.size());
+			journal.saved(4, 5, 6);
+		}
+
+		try (DownloadJournal journal = new DownloadJournal(file))
+		{
+			Assert.assertEquals(2, journal.size());
+			Assert.assertTrue(journal.isSaved(1, 2, 3));
+			Assert.assertTrue(journal.isSaved(4, 5, 6));
+		}
+	}
+}
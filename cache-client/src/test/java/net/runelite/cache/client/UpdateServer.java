@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.Uninterruptibles;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.protocol.api.handshake.HandshakeResponsePacket;
+import net.runelite.protocol.api.handshake.UpdateHandshakePacket;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import net.runelite.protocol.api.update.ArchiveRequestPacket;
+import net.runelite.protocol.api.update.ArchiveResponsePacket;
+import net.runelite.protocol.handshake.HandshakeDecoder;
+import net.runelite.protocol.handshake.HandshakeResponseEncoder;
+import net.runelite.protocol.update.decoders.UpdateOpcodes;
+import net.runelite.protocol.update.encoders.ArchiveResponseEncoder;
+
+/**
+ * A minimal update server serving the contents of a store, for testing the cache client
+ */
+class UpdateServer implements AutoCloseable
+{
+	private final Store store;
+	private final int revision;
+	private final EventLoopGroup group = new NioEventLoopGroup(1);
+	private final AtomicInteger archivesServed = new AtomicInteger();
+	private Channel channel;
+	private volatile int closeAfter = -1;
+	private volatile int pauseAfter = -1;
+	private volatile CountDownLatch resume;
+
+	UpdateServer(Store store, int revision)
+	{
+		this.store = store;
+		this.revision = revision;
+	}
+
+	int start()
+	{
+		ServerBootstrap b = new ServerBootstrap();
+		b.group(group)
+			.channel(NioServerSocketChannel.class)
+			.childHandler(new ChannelInitializer<SocketChannel>()
+			{
+				@Override
+				public void initChannel(SocketChannel ch)
+				{
+					ChannelPipeline p = ch.pipeline();
+					p.addLast("decoder", new HandshakeDecoder());
+					p.addLast(new HandshakeResponseEncoder(), new ArchiveResponseEncoder());
+					p.addLast(new HandshakeHandler(), new ArchiveRequestHandler());
+				}
+			});
+
+		channel = b.bind("127.0.0.1", 0).syncUninterruptibly().channel();
+		return ((InetSocketAddress) channel.localAddress()).getPort();
+	}
+
+	/**
+	 * Drop the connection instead of serving any archive after the given number
+	 *
+	 * @param closeAfter number of archives to serve, or -1
+	 */
+	void setCloseAfter(int closeAfter)
+	{
+		this.closeAfter = closeAfter;
+	}
+
+	/**
+	 * Stop serving archives after the given number, until the latch is released
+	 *
+	 * @param pauseAfter number of archives to serve before pausing
+	 * @param resume latch to wait on
+	 */
+	void setPauseAfter(int pauseAfter, CountDownLatch resume)
+	{
+		this.resume = resume;
+		this.pauseAfter = pauseAfter;
+	}
+
+	int getArchivesServed()
+	{
+		return archivesServed.get();
+	}
+
+	@Override
+	public void close()
+	{
+		channel.close().syncUninterruptibly();
+		group.shutdownGracefully().syncUninterruptibly();
+	}
+
+	private byte[] getFile(int indexId, int archiveId) throws IOException
+	{
+		if (indexId == 255 && archiveId == 255)
+		{
+			ByteBuffer buf = ByteBuffer.allocate(store.getIndexes().size() * 8);
+			for (Index index : store.getIndexes())
+			{
+				buf.putInt(index.getCrc());
+				buf.putInt(index.getRevision());
+			}
+
+			Container container = new Container(CompressionType.NONE, -1);
+			container.compress(buf.array(), null);
+			return container.data;
+		}
+
+		if (indexId == 255)
+		{
+			Index index = store.findIndex(archiveId);
+			Container container = new Container(index.getCompression(), -1);
+			container.compress(index.toIndexData().writeIndexData(), null);
+			return container.data;
+		}
+
+		Index index = store.findIndex(indexId);
+		Archive archive = index == null ? null : index.getArchive(archiveId);
+		if (archive == null)
+		{
+			return null;
+		}
+
+		byte[] data = store.getStorage().loadArchive(archive);
+
+		// the revision is not sent
+		int compression = data[0];
+		int length = 5 + Ints.fromBytes(data[1], data[2], data[3], data[4])
+			+ (compression != CompressionType.NONE ? 4 : 0);
+		byte[] response = new byte[length];
+		System.arraycopy(data, 0, response, 0, length);
+		return response;
+	}
+
+	private static class UpdateRequestDecoder extends ByteToMessageDecoder
+	{
+		@Override
+		protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out)
+		{
+			while (in.readableBytes() >= 4)
+			{
+				int opcode = in.readUnsignedByte();
+				int index = in.readUnsignedByte();
+				int archive = in.readUnsignedShort();
+
+				if (opcode == UpdateOpcodes.ARCHIVE_REQUEST_LOW || opcode == UpdateOpcodes.ARCHIVE_REQUEST_HIGH)
+				{
+					ArchiveRequestPacket request = new ArchiveRequestPacket();
+					request.setPriority(opcode == UpdateOpcodes.ARCHIVE_REQUEST_HIGH);
+					request.setIndex(index);
+					request.setArchive(archive);
+					out.add(request);
+				}
+				// the encryption key is always 0, and the login state is ignored
+			}
+		}
+	}
+
+	private class HandshakeHandler extends SimpleChannelInboundHandler<UpdateHandshakePacket>
+	{
+		@Override
+		protected void channelRead0(ChannelHandlerContext ctx, UpdateHandshakePacket handshake)
+		{
+			HandshakeResponsePacket response = new HandshakeResponsePacket();
+			if (handshake.getRevision() != revision)
+			{
+				response.setResponse(HandshakeResponseType.RESPONSE_OUTDATED);
+				ctx.writeAndFlush(response);
+				ctx.close();
+				return;
+			}
+
+			ctx.pipeline().replace("decoder", "decoder", new UpdateRequestDecoder());
+			response.setResponse(HandshakeResponseType.RESPONSE_OK);
+			ctx.writeAndFlush(response);
+		}
+	}
+
+	private class ArchiveRequestHandler extends SimpleChannelInboundHandler<ArchiveRequestPacket>
+	{
+		@Override
+		protected void channelRead0(ChannelHandlerContext ctx, ArchiveRequestPacket request) throws IOException
+		{
+			byte[] data = getFile(request.getIndex(), request.getArchive());
+			if (data == null)
+			{
+				ctx.close();
+				return;
+			}
+
+			if (request.getIndex() != 255)
+			{
+				if (archivesServed.get() == closeAfter)
+				{
+					// shut down output once the responses already written have been sent. Closing
+					// with requests unread would reset the connection, losing those responses.
+					ctx.writeAndFlush(Unpooled.EMPTY_BUFFER)
+						.addListener(f -> ((SocketChannel) ctx.channel()).shutdownOutput());
+					return;
+				}
+
+				if (archivesServed.get() == pauseAfter)
+				{
+					pauseAfter = -1;
+					Uninterruptibles.awaitUninterruptibly(resume);
+				}
+
+				archivesServed.incrementAndGet();
+			}
+
+			ArchiveResponsePacket response = new ArchiveResponsePacket();
+			response.setIndex(request.getIndex());
+			response.setArchive(request.getArchive());
+			response.setData(data);
+			ctx.writeAndFlush(response);
+		}
+	}
+}
@@ -24,8 +24,12 @@
  */
 package net.runelite.cache.updater;
 
+import com.google.common.hash.Hashing;
 import java.io.IOException;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
@@ -42,12 +46,22 @@ public class CacheStorage implements Storage
 	private CacheEntry cacheEntry;
 	private final CacheDAO cacheDao;
 	private final Connection con;
-
-	public CacheStorage(CacheEntry cacheEntry, CacheDAO cacheDao, Connection con)
+	// archive rows the store was loaded from, reused on save when the archive is unchanged
+	private final Map<Archive, ArchiveEntry> archiveEntries = new IdentityHashMap<>();
+	private final BiConsumer<Archive, byte[]> uploader;
+
+	/**
+	 * @param cacheEntry
+	 * @param cacheDao
+	 * @param con
+	 * @param uploader uploads the data of the archives saved to this storage
+	 */
+	public CacheStorage(CacheEntry cacheEntry, CacheDAO cacheDao, Connection con, BiConsumer<Archive, byte[]> uploader)
 	{
 		this.cacheEntry = cacheEntry;
 		this.cacheDao = cacheDao;
 		this.con = con;
+		this.uploader = uploader;
 	}
 
 	public CacheEntry getCacheEntry()
@@ -94,6 +108,7 @@ public class CacheStorage implements Storage
 					archive.setCrc(archiveEntry.getCrc());
 					archive.setRevision(archiveEntry.getRevision());
 					archive.setHash(archiveEntry.getHash());
+					archiveEntries.put(archive, archiveEntry);
 
 					// File data is not necessary for cache updating
 				}
@@ -110,8 +125,16 @@ public class CacheStorage implements Storage
 
 			for (Archive archive : index.getArchives())
 			{
-				ArchiveEntry archiveEntry = cacheDao.findArchive(con, entry, archive.getArchiveId(),
-					archive.getNameHash(), archive.getCrc(), archive.getRevision());
+				ArchiveEntry archiveEntry = archiveEntries.get(archive);
+				if (archiveEntry == null
+					|| archiveEntry.getNameHash() != archive.getNameHash()
+					|| archiveEntry.getCrc() != archive.getCrc()
+					|| archiveEntry.getRevision() != archive.getRevision())
+				{
+					archiveEntry = cacheDao.findArchive(con, entry, archive.getArchiveId(),
+						archive.getNameHash(), archive.getCrc(), archive.getRevision());
+				}
+
 				if (archiveEntry == null)
 				{
 					byte[] hash = archive.getHash();
@@ -125,6 +148,7 @@ public class CacheStorage implements Storage
 				}
 
 				cacheDao.associateArchiveToIndex(con, archiveEntry, entry);
+				archiveEntries.put(archive, archiveEntry);
 			}
 		}
 	}
@@ -138,7 +162,9 @@ public class CacheStorage implements Storage
 	@Override
 	public void saveArchive(Archive archive, byte[] data) throws IOException
 	{
-		throw new UnsupportedOperationException();
+		// the hash is stored with the archive on save, which may happen before the upload
+		archive.setHash(Hashing.sha256().hashBytes(data).asBytes());
+		uploader.accept(archive, data);
 	}
 
 }
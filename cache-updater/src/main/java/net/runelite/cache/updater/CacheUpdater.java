@@ -36,7 +36,9 @@ import java.util.concurrent.TimeUnit;
 import net.runelite.cache.client.CacheClient;
 import net.runelite.cache.client.IndexInfo;
 import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.StoreDiff;
 import net.runelite.cache.updater.beans.CacheEntry;
 import net.runelite.cache.updater.beans.IndexEntry;
 import net.runelite.http.api.RuneLiteAPI;
@@ -88,14 +90,18 @@ public class CacheUpdater implements CommandLineRunner
 				cache = cacheDao.createCache(con, rsVersion, Instant.now());
 			}
 
-			CacheStorage storage = new CacheStorage(cache, cacheDao, con);
+			ExecutorService executor = Executors.newSingleThreadExecutor();
+
+			CacheStorage storage = new CacheStorage(cache, cacheDao, con,
+				(Archive archive, byte[] data) -> executor.submit(new CacheUploader(minioClient, minioBucket, archive, data)));
 			Store store = new Store(storage);
 			store.load();
 
-			ExecutorService executor = Executors.newSingleThreadExecutor();
+			// download into a copy of the cache, so that only the archives which changed are downloaded
+			Store remote = new Store(new MemoryStorage());
+			copyIndexes(store, remote);
 
-			CacheClient client = new CacheClient(store, rsVersion,
-				(Archive archive, byte[] data) -> executor.submit(new CacheUploader(minioClient, minioBucket, archive, data)));
+			CacheClient client = new CacheClient(remote, rsVersion);
 
 			client.connect();
 			HandshakeResponseType result = client.handshake().join();
@@ -119,8 +125,17 @@ public class CacheUpdater implements CommandLineRunner
 
 			CacheEntry newCache = created ? cache : cacheDao.createCache(con, rsVersion, Instant.now());
 
+			// uploads the added and changed archives, and saves the new cache
 			storage.setCacheEntry(newCache);
-			store.save();
+			StoreDiff diff = store.update(remote);
+			if (diff.isEmpty())
+			{
+				logger.info("No archives have changed.");
+				return;
+			}
+
+			logger.info("Updated cache: {} archives added, {} changed, {} removed",
+				diff.getAdded().size(), diff.getChanged().size(), diff.getRemoved().size());
 
 			// ensure objects are added to the store before they become
 			// visible in the database
@@ -135,6 +150,33 @@ public class CacheUpdater implements CommandLineRunner
 		}
 	}
 
+	/**
+	 * Copy the indexes and archives of one store to another, without the archive data
+	 */
+	private static void copyIndexes(Store from, Store to) throws IOException
+	{
+		for (Index index : from.getIndexes())
+		{
+			Index copy = to.addIndex(index.getId());
+			copy.setProtocol(index.getProtocol());
+			copy.setNamed(index.isNamed());
+			copy.setCrc(index.getCrc());
+			copy.setRevision(index.getRevision());
+			copy.setCompression(index.getCompression());
+
+			for (Archive archive : index.getArchives())
+			{
+				Archive archiveCopy = copy.addArchive(archive.getArchiveId());
+				archiveCopy.setNameHash(archive.getNameHash());
+				archiveCopy.setCrc(archive.getCrc());
+				archiveCopy.setRevision(archive.getRevision());
+				archiveCopy.setCompression(archive.getCompression());
+				archiveCopy.setFileData(archive.getFileData());
+				archiveCopy.setHash(archive.getHash());
+			}
+		}
+	}
+
 	private boolean checkOutOfDate(List<IndexInfo> indexes, List<IndexEntry> dbIndexes)
 	{
 		if (indexes.size() != dbIndexes.size())
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.updater;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Holds the archives downloaded from the update server in memory, until they are
+ * copied into the cache with {@link Store#update(Store)}
+ */
+class MemoryStorage implements Storage
+{
+	private final Map<Archive, byte[]> archives = new IdentityHashMap<>();
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+	}
+
+	@Override
+	public synchronized byte[] loadArchive(Archive archive) throws IOException
+	{
+		byte[] data = archives.get(archive);
+		if (data == null)
+		{
+			throw new IOException("Archive " + archive.getArchiveId() + " in index " + archive.getIndex().getId() + " was not downloaded");
+		}
+		return data;
+	}
+
+	@Override
+	public synchronized void saveArchive(Archive archive, byte[] data) throws IOException
+	{
+		archives.put(archive, data);
+	}
+
+	@Override
+	public synchronized void removeArchive(Archive archive) throws IOException
+	{
+		archives.remove(archive);
+	}
+}
@@ -27,9 +27,8 @@ package net.runelite.cache;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.AreaDefinition;
+import net.runelite.cache.definitions.DefinitionTable;
 import net.runelite.cache.definitions.loaders.AreaLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
@@ -41,7 +40,7 @@ import net.runelite.cache.fs.Store;
 public class AreaManager
 {
 	private final Store store;
-	private final Map<Integer, AreaDefinition> areas = new HashMap<>();
+	private final DefinitionTable<AreaDefinition> areas = new DefinitionTable<>();
 
 	public AreaManager(Store store)
 	{
@@ -27,6 +27,7 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -46,6 +47,8 @@ public class Cache
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
 
+		options.addOption(null, "compact", false, "compact the cache data file");
+
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
 		try
@@ -61,6 +64,13 @@ public class Cache
 
 		String cache = cmd.getOptionValue("cache");
 
+		if (cmd.hasOption("compact"))
+		{
+			System.out.println("Compacting " + cache);
+			compact(new File(cache));
+			return;
+		}
+
 		Store store = loadStore(cache);
 
 		if (cmd.hasOption("items"))
@@ -128,6 +138,15 @@ public class Cache
 		return store;
 	}
 
+	private static void compact(File cache) throws IOException
+	{
+		try (DiskStorage storage = new DiskStorage(cache))
+		{
+			long reclaimed = storage.compact();
+			System.out.println("Reclaimed " + reclaimed + " bytes");
+		}
+	}
+
 	private static void dumpItems(Store store, File itemdir) throws IOException
 	{
 		ItemManager dumper = new ItemManager(store);
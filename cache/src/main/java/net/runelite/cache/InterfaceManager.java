@@ -27,6 +27,7 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.List;
 import net.runelite.cache.definitions.InterfaceDefinition;
 import net.runelite.cache.definitions.exporters.InterfaceExporter;
 import net.runelite.cache.definitions.loaders.InterfaceLoader;
@@ -34,7 +35,6 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.Namer;
 
@@ -53,24 +53,18 @@ public class InterfaceManager
 	{
 		InterfaceLoader loader = new InterfaceLoader();
 
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.INTERFACES);
 
 		int max = index.getArchives().stream().mapToInt(a -> a.getArchiveId()).max().getAsInt();
 		interfaces = new InterfaceDefinition[max + 1][];
 
-		for (Archive archive : index.getArchives())
+		List<Archive> archives = index.getArchives();
+		List<InterfaceDefinition[]> groups = store.decodeArchives(archives, (archive, archiveData) ->
 		{
 			int archiveId = archive.getArchiveId();
-			byte[] archiveData = storage.loadArchive(archive);
 			ArchiveFiles files = archive.getFiles(archiveData);
 
-			InterfaceDefinition[] ifaces = interfaces[archiveId];
-			if (ifaces == null)
-			{
-				ifaces = interfaces[archiveId] = new InterfaceDefinition[archive.getFileData().length];
-			}
-
+			InterfaceDefinition[] ifaces = new InterfaceDefinition[archive.getFileData().length];
 			for (FSFile file : files.getFiles())
 			{
 				int fileId = file.getFileId();
@@ -80,6 +74,12 @@ public class InterfaceManager
 				InterfaceDefinition iface = loader.load(widgetId, file.getContents());
 				ifaces[fileId] = iface;
 			}
+			return ifaces;
+		});
+
+		for (int i = 0; i < archives.size(); ++i)
+		{
+			interfaces[archives.get(i).getArchiveId()] = groups.get(i);
 		}
 	}
 
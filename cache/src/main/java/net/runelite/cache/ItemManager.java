@@ -28,24 +28,50 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import net.runelite.cache.definitions.DefinitionSnapshot;
+import net.runelite.cache.definitions.DefinitionTable;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.exporters.ItemExporter;
 import net.runelite.cache.definitions.loaders.ItemLoader;
 import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.IDClass;
 
 public class ItemManager implements ItemProvider
 {
+	// the fields set on most items are set directly
+	static final DefinitionSnapshot<ItemDefinition> SNAPSHOT = new DefinitionSnapshot<>(ItemDefinition.class)
+		.factory(ItemDefinition::new)
+		.objectSetter("name", (def, value) -> def.name = (String) value)
+		.intSetter("cost", (def, value) -> def.cost = value)
+		.intSetter("isTradeable", (def, value) -> def.isTradeable = value != 0)
+		.intSetter("stackable", (def, value) -> def.stackable = value)
+		.intSetter("members", (def, value) -> def.members = value != 0)
+		.intSetter("inventoryModel", (def, value) -> def.inventoryModel = value)
+		.intSetter("zoom2d", (def, value) -> def.zoom2d = value)
+		.intSetter("xan2d", (def, value) -> def.xan2d = value)
+		.intSetter("yan2d", (def, value) -> def.yan2d = value)
+		.intSetter("zan2d", (def, value) -> def.zan2d = value)
+		.intSetter("xOffset2d", (def, value) -> def.xOffset2d = value)
+		.intSetter("yOffset2d", (def, value) -> def.yOffset2d = value)
+		.objectSetter("colorFind", (def, value) -> def.colorFind = (short[]) value)
+		.objectSetter("colorReplace", (def, value) -> def.colorReplace = (short[]) value)
+		.objectSetter("options", (def, value) -> def.options = (String[]) value)
+		.objectSetter("interfaceOptions", (def, value) -> def.interfaceOptions = (String[]) value)
+		.intSetter("maleModel0", (def, value) -> def.maleModel0 = value)
+		.intSetter("femaleModel0", (def, value) -> def.femaleModel0 = value)
+		.intSetter("notedID", (def, value) -> def.notedID = value)
+		.intSetter("notedTemplate", (def, value) -> def.notedTemplate = value)
+		.intSetter("placeholderId", (def, value) -> def.placeholderId = value)
+		.intSetter("placeholderTemplateId", (def, value) -> def.placeholderTemplateId = value)
+		.objectSetter("params", (def, value) -> def.params = cast(value));
+
 	private final Store store;
-	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private final DefinitionTable<ItemDefinition> items = new DefinitionTable<>();
 
 	public ItemManager(Store store)
 	{
@@ -54,19 +80,52 @@ public class ItemManager implements ItemProvider
 
 	public void load() throws IOException
 	{
-		ItemLoader loader = new ItemLoader();
+		add(decode(getArchive()));
+	}
 
-		Storage storage = store.getStorage();
+	/**
+	 * Load items from a snapshot if it was written for the current archive,
+	 * otherwise decode the archive and write a new snapshot.
+	 *
+	 * @param snapshot snapshot file
+	 * @throws IOException
+	 * @see DefinitionSnapshot
+	 */
+	public void load(File snapshot) throws IOException
+	{
+		Archive archive = getArchive();
+		List<ItemDefinition> defs = SNAPSHOT.read(snapshot, archive.getCrc());
+		if (defs == null)
+		{
+			defs = decode(archive);
+			SNAPSHOT.write(snapshot, archive.getCrc(), defs);
+		}
+		add(defs);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Integer, Object> cast(Object params)
+	{
+		return (Map<Integer, Object>) params;
+	}
+
+	private Archive getArchive()
+	{
 		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.ITEM.getId());
+		return index.getArchive(ConfigType.ITEM.getId());
+	}
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+	private List<ItemDefinition> decode(Archive archive) throws IOException
+	{
+		ItemLoader loader = new ItemLoader();
+		return store.decodeFiles(archive, f -> loader.load(f.getFileId(), f.getContents()));
+	}
 
-		for (FSFile f : files.getFiles())
+	private void add(List<ItemDefinition> defs)
+	{
+		for (ItemDefinition def : defs)
 		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
-			items.put(f.getFileId(), def);
+			items.put(def.id, def);
 		}
 	}
 
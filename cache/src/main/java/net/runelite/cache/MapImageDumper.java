@@ -28,9 +28,18 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntPredicate;
+import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.cache.definitions.AreaDefinition;
@@ -53,6 +62,7 @@ import net.runelite.cache.region.Location;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.Djb2;
+import net.runelite.cache.util.ParallelTasks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +74,7 @@ public class MapImageDumper
 	private static final int MAPICON_MAX_WIDTH = 5; // scale minimap icons down to this size so they fit..
 	private static final int MAPICON_MAX_HEIGHT = 6;
 	private static final int BLEND = 5; // number of surrounding tiles for ground blending
+	private static final int MAX_REGION = 32768;
 
 	private static int[] colorPalette = new ColorPalette(0.9d, 0, 512).getColorPalette();
 
@@ -80,6 +91,7 @@ public class MapImageDumper
 	private final Map<Integer, Image> scaledMapIcons = new HashMap<>();
 
 	private RegionLoader regionLoader;
+	private boolean regionsLoaded;
 	private final AreaManager areas;
 	private final SpriteManager sprites;
 	private RSTextureProvider rsTextureProvider;
@@ -111,14 +123,16 @@ public class MapImageDumper
 		textureManager.load();
 		rsTextureProvider = new RSTextureProvider(textureManager, sprites);
 
-		loadRegions(store);
+		regionLoader = new RegionLoader(store);
 		areas.load();
 		sprites.load();
 		loadSprites();
 	}
 
-	public BufferedImage drawMap(int z)
+	public BufferedImage drawMap(int z) throws IOException
 	{
+		loadRegions();
+
 		int minX = regionLoader.getLowestX().getBaseX();
 		int minY = regionLoader.getLowestY().getBaseY();
 
@@ -144,30 +158,264 @@ public class MapImageDumper
 		return image;
 	}
 
-	public BufferedImage drawRegion(Region region, int z)
+	public BufferedImage drawRegion(Region region, int z) throws IOException
 	{
 		int pixelsX = Region.X * MAP_SCALE;
 		int pixelsY = Region.Y * MAP_SCALE;
 
 		BufferedImage image = new BufferedImage(pixelsX, pixelsY, BufferedImage.TYPE_INT_RGB);
 
-		drawMap(image, 0, 0, z, region);
+		// only the region and the regions bordering it are needed
+		Map<Integer, Region> regions = loadRegions(region.getRegionX(), region.getRegionY(), 1);
+		regions.put(region.getRegionID(), region);
+		RegionLookup lookup = (x, y) -> regions.get((x >>> 6) << 8 | (y >>> 6));
+
+		drawMap(image, 0, 0, z, region, lookup);
 		drawObjects(image, 0, 0, region, z);
 		drawMapIcons(image, 0, 0, region, z);
 
 		return image;
 	}
 
-	private void drawMap(BufferedImage image, int drawBaseX, int drawBaseY, int z, Region region)
+	/**
+	 * Draw the map as square tiles of {@code tileSize} x {@code tileSize} regions. Tiles are drawn
+	 * in parallel on the store's executor, and passed to {@code consumer} as soon as each is drawn.
+	 * Each region is decoded once, when the first tile which needs it is drawn, and is released
+	 * once every tile which needs it has been drawn, so unlike {@link #drawMap(int)} not every
+	 * region is held in memory at once.
+	 * <p>
+	 * Tile {@code (0, 0)} contains region {@code (0, 0)}, and the top of each tile is north.
+	 *
+	 * @param z plane to draw
+	 * @param tileSize width and height of a tile, in regions
+	 * @param regionFilter if not null, only tiles containing a region accepted by this filter are drawn
+	 * @param consumer receives each tile. May be called concurrently.
+	 * @throws IOException
+	 */
+	public void drawMapTiles(int z, int tileSize, IntPredicate regionFilter, MapTileConsumer consumer) throws IOException
+	{
+		Set<Integer> tiles = new TreeSet<>();
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			if (regionLoader.hasRegion(i) && (regionFilter == null || regionFilter.test(i)))
+			{
+				int tileX = (i >> 8) / tileSize;
+				int tileY = (i & 0xFF) / tileSize;
+				tiles.add(tileX << 16 | tileY);
+			}
+		}
+
+		// count the tiles which need each region, which are those it is in or borders
+		Map<Integer, SharedRegion> regions = new HashMap<>();
+		for (int tile : tiles)
+		{
+			for (int id : regionIds((tile >>> 16) * tileSize, (tile & 0xFFFF) * tileSize, tileSize))
+			{
+				if (regionLoader.hasRegion(id))
+				{
+					regions.computeIfAbsent(id, SharedRegion::new).users++;
+				}
+			}
+		}
+
+		logger.info("Drawing {} tiles of {}x{} regions", tiles.size(), tileSize, tileSize);
+
+		ParallelTasks.run(store.getExecutor(), () -> tiles.parallelStream().forEach(tile ->
+		{
+			int tileX = tile >>> 16;
+			int tileY = tile & 0xFFFF;
+			try
+			{
+				BufferedImage image = drawMapTile(z, tileSize, tileX, tileY, regions);
+				consumer.accept(tileX, tileY, image);
+			}
+			catch (IOException ex)
+			{
+				throw new UncheckedIOException(ex);
+			}
+		}));
+	}
+
+	/**
+	 * Draw the map as tiles with {@link #drawMapTiles(int, int, IntPredicate, MapTileConsumer)}
+	 * and write each tile to {@code outDir} as {@code z_tileX_tileY.png} as soon as it is drawn.
+	 *
+	 * @param outDir
+	 * @param z
+	 * @param tileSize
+	 * @param regionFilter
+	 * @throws IOException
+	 */
+	public void writeMapTiles(File outDir, int z, int tileSize, IntPredicate regionFilter) throws IOException
+	{
+		outDir.mkdirs();
+
+		drawMapTiles(z, tileSize, regionFilter, (tileX, tileY, image) ->
+		{
+			File imageFile = new File(outDir, z + "_" + tileX + "_" + tileY + ".png");
+			ImageIO.write(image, "png", imageFile);
+		});
+	}
+
+	private BufferedImage drawMapTile(int z, int tileSize, int tileX, int tileY, Map<Integer, SharedRegion> sharedRegions) throws IOException
+	{
+		int baseRegionX = tileX * tileSize;
+		int baseRegionY = tileY * tileSize;
+
+		List<SharedRegion> used = new ArrayList<>();
+		Map<Integer, Region> regions = new HashMap<>();
+		for (int id : regionIds(baseRegionX, baseRegionY, tileSize))
+		{
+			SharedRegion shared = sharedRegions.get(id);
+			if (shared != null)
+			{
+				used.add(shared);
+			}
+		}
+
+		try
+		{
+			for (SharedRegion shared : used)
+			{
+				Region region = shared.get();
+				if (region != null)
+				{
+					regions.put(region.getRegionID(), region);
+				}
+			}
+
+			RegionLookup lookup = (x, y) -> regions.get((x >>> 6) << 8 | (y >>> 6));
+
+			int pixels = tileSize * Region.X * MAP_SCALE;
+			BufferedImage image = new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_RGB);
+
+			for (Region region : regions.values())
+			{
+				if (region.getRegionX() < baseRegionX || region.getRegionX() >= baseRegionX + tileSize
+					|| region.getRegionY() < baseRegionY || region.getRegionY() >= baseRegionY + tileSize)
+				{
+					continue;
+				}
+
+				int drawBaseX = (region.getRegionX() - baseRegionX) * Region.X;
+				int drawBaseY = (baseRegionY + tileSize - 1 - region.getRegionY()) * Region.Y;
+
+				drawMap(image, drawBaseX, drawBaseY, z, region, lookup);
+				drawObjects(image, drawBaseX, drawBaseY, region, z);
+				drawMapIcons(image, drawBaseX, drawBaseY, region, z);
+			}
+
+			return image;
+		}
+		finally
+		{
+			for (SharedRegion shared : used)
+			{
+				shared.release();
+			}
+		}
+	}
+
+	/**
+	 * Decode a square of {@code size} x {@code size} regions, and the regions bordering
+	 * it which are needed for blending the edges, without keeping them in the region loader
+	 */
+	private Map<Integer, Region> loadRegions(int baseRegionX, int baseRegionY, int size) throws IOException
+	{
+		Map<Integer, Region> regions = new HashMap<>();
+		for (int id : regionIds(baseRegionX, baseRegionY, size))
+		{
+			Region region = regionLoader.loadRegionFromArchive(id);
+			if (region != null)
+			{
+				regions.put(region.getRegionID(), region);
+			}
+		}
+		return regions;
+	}
+
+	/**
+	 * Get the ids of a square of {@code size} x {@code size} regions and the regions bordering it
+	 */
+	private static List<Integer> regionIds(int baseRegionX, int baseRegionY, int size)
+	{
+		List<Integer> ids = new ArrayList<>((size + 2) * (size + 2));
+		for (int x = baseRegionX - 1; x <= baseRegionX + size; ++x)
+		{
+			for (int y = baseRegionY - 1; y <= baseRegionY + size; ++y)
+			{
+				if (x < 0 || y < 0 || y > 0xFF || (x << 8 | y) >= MAX_REGION)
+				{
+					continue;
+				}
+
+				ids.add(x << 8 | y);
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * Find the regions which must be redrawn because their map or location archives, or
+	 * those of a region bordering them, differ between two stores. Changes to the
+	 * definitions used to draw the map, such as overlays or objects, are not considered.
+	 *
+	 * @param previous
+	 * @param current
+	 * @return the ids of the changed regions
+	 */
+	public static Set<Integer> findChangedRegions(Store previous, Store current)
+	{
+		Index previousMaps = previous.getIndex(IndexType.MAPS);
+		Index currentMaps = current.getIndex(IndexType.MAPS);
+
+		Set<Integer> changed = new HashSet<>();
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			int x = i >> 8;
+			int y = i & 0xFF;
+
+			if (archiveChanged(previousMaps, currentMaps, "m" + x + "_" + y)
+				|| archiveChanged(previousMaps, currentMaps, "l" + x + "_" + y))
+			{
+				for (int dx = -1; dx <= 1; ++dx)
+				{
+					for (int dy = -1; dy <= 1; ++dy)
+					{
+						int nx = x + dx;
+						int ny = y + dy;
+						if (nx >= 0 && ny >= 0 && ny <= 0xFF && (nx << 8 | ny) < MAX_REGION)
+						{
+							changed.add(nx << 8 | ny);
+						}
+					}
+				}
+			}
+		}
+		return changed;
+	}
+
+	private static boolean archiveChanged(Index previous, Index current, String name)
+	{
+		Archive previousArchive = previous.findArchiveByName(name);
+		Archive currentArchive = current.findArchiveByName(name);
+		if (previousArchive == null || currentArchive == null)
+		{
+			return previousArchive != currentArchive;
+		}
+		return previousArchive.getCrc() != currentArchive.getCrc();
+	}
+
+	private void drawMap(BufferedImage image, int drawBaseX, int drawBaseY, int z, Region region, RegionLookup regions)
 	{
 		int[][] map = new int[Region.X * MAP_SCALE][Region.Y * MAP_SCALE];
-		drawMap(map, region, z);
+		drawMap(map, region, z, regions);
 
 		int[][] above = null;
 		if (z < 3)
 		{
 			above = new int[Region.X * MAP_SCALE][Region.Y * MAP_SCALE];
-			drawMap(above, region, z + 1);
+			drawMap(above, region, z + 1, regions);
 		}
 
 		for (int x = 0; x < Region.X; ++x)
@@ -204,7 +452,7 @@ public class MapImageDumper
 			// region has the greatest y, so invert
 			int drawBaseY = regionLoader.getHighestY().getBaseY() - baseY;
 
-			drawMap(image, drawBaseX, drawBaseY, z, region);
+			drawMap(image, drawBaseX, drawBaseY, z, region, regionLoader::findRegionForWorldCoordinates);
 		}
 	}
 
@@ -221,7 +469,7 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawMap(int[][] pixels, Region region, int z)
+	private void drawMap(int[][] pixels, Region region, int z, RegionLookup regions)
 	{
 		int baseX = region.getBaseX();
 		int baseY = region.getBaseY();
@@ -233,10 +481,10 @@ public class MapImageDumper
 		int[] mul = new int[len];
 		int[] num = new int[len];
 
-		boolean hasLeftRegion = regionLoader.findRegionForWorldCoordinates(baseX - 1, baseY) != null;
-		boolean hasRightRegion = regionLoader.findRegionForWorldCoordinates(baseX + Region.X, baseY) != null;
-		boolean hasUpRegion = regionLoader.findRegionForWorldCoordinates(baseX, baseY + Region.Y) != null;
-		boolean hasDownRegion = regionLoader.findRegionForWorldCoordinates(baseX, baseY - 1) != null;
+		boolean hasLeftRegion = regions.find(baseX - 1, baseY) != null;
+		boolean hasRightRegion = regions.find(baseX + Region.X, baseY) != null;
+		boolean hasUpRegion = regions.find(baseX, baseY + Region.Y) != null;
+		boolean hasDownRegion = regions.find(baseX, baseY - 1) != null;
 
 		for (int xi = (hasLeftRegion ? -BLEND * 2 : -BLEND); xi < Region.X + (hasRightRegion ? BLEND * 2 : BLEND); ++xi)
 		{
@@ -245,7 +493,7 @@ public class MapImageDumper
 				int xr = xi + BLEND;
 				if (xr >= (hasLeftRegion ? -BLEND : 0) && xr < Region.X + (hasRightRegion ? BLEND : 0))
 				{
-					Region r = regionLoader.findRegionForWorldCoordinates(baseX + xr, baseY + yi);
+					Region r = regions.find(baseX + xr, baseY + yi);
 					if (r != null)
 					{
 						int underlayId = r.getUnderlayId(z, convert(xr), convert(yi));
@@ -264,7 +512,7 @@ public class MapImageDumper
 				int xl = xi - BLEND;
 				if (xl >= (hasLeftRegion ? -BLEND : 0) && xl < Region.X + (hasRightRegion ? BLEND : 0))
 				{
-					Region r = regionLoader.findRegionForWorldCoordinates(baseX + xl, baseY + yi);
+					Region r = regions.find(baseX + xl, baseY + yi);
 					if (r != null)
 					{
 						int underlayId = r.getUnderlayId(z, convert(xl), convert(yi));
@@ -313,7 +561,7 @@ public class MapImageDumper
 
 					if (yi >= 0 && yi < Region.Y)
 					{
-						Region r = regionLoader.findRegionForWorldCoordinates(baseX + xi, baseY + yi);
+						Region r = regions.find(baseX + xi, baseY + yi);
 						if (r != null)
 						{
 							int underlayId = r.getUnderlayId(z, convert(xi), convert(yi));
@@ -891,11 +1139,18 @@ public class MapImageDumper
 		}
 	}
 
-	private void loadRegions(Store store) throws IOException
+	/**
+	 * Load every region, which is required to draw the whole map at once
+	 */
+	private synchronized void loadRegions() throws IOException
 	{
-		regionLoader = new RegionLoader(store);
+		if (regionsLoaded)
+		{
+			return;
+		}
+
 		regionLoader.loadRegions();
-		regionLoader.calculateBounds();
+		regionsLoaded = true;
 
 		logger.info("North most region: {}", regionLoader.getLowestY().getBaseY());
 		logger.info("South most region: {}", regionLoader.getHighestY().getBaseY());
@@ -974,8 +1229,12 @@ public class MapImageDumper
 					BufferedImage spriteImage = new BufferedImage(sprite.getWidth(), sprite.getHeight(), BufferedImage.TYPE_INT_ARGB);
 					spriteImage.setRGB(0, 0, sprite.getWidth(), sprite.getHeight(), sprite.getPixels(), 0, sprite.getWidth());
 
-					// scale image down so it fits
-					Image scaledImage = spriteImage.getScaledInstance(MAPICON_MAX_WIDTH, MAPICON_MAX_HEIGHT, 0);
+					// scale image down so it fits. This is drawn eagerly into a BufferedImage
+					// because tiles may be drawn concurrently.
+					BufferedImage scaledImage = new BufferedImage(MAPICON_MAX_WIDTH, MAPICON_MAX_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+					Graphics2D graphics = scaledImage.createGraphics();
+					graphics.drawImage(spriteImage.getScaledInstance(MAPICON_MAX_WIDTH, MAPICON_MAX_HEIGHT, 0), 0, 0, null);
+					graphics.dispose();
 
 					assert scaledMapIcons.containsKey(sprite.getFrame()) == false;
 					scaledMapIcons.put(sprite.getFrame(), scaledImage);
@@ -984,4 +1243,50 @@ public class MapImageDumper
 		}
 	}
 
+	@FunctionalInterface
+	private interface RegionLookup
+	{
+		Region find(int worldX, int worldY);
+	}
+
+	@FunctionalInterface
+	public interface MapTileConsumer
+	{
+		void accept(int tileX, int tileY, BufferedImage image) throws IOException;
+	}
+
+	/**
+	 * A region which is decoded by the first tile to need it, and dropped once
+	 * each of the tiles which need it has released it
+	 */
+	private class SharedRegion
+	{
+		private final int id;
+		private int users;
+		private boolean loaded;
+		private Region region;
+
+		private SharedRegion(int id)
+		{
+			this.id = id;
+		}
+
+		private synchronized Region get() throws IOException
+		{
+			if (!loaded)
+			{
+				region = regionLoader.loadRegionFromArchive(id);
+				loaded = true;
+			}
+			return region;
+		}
+
+		private synchronized void release()
+		{
+			if (--users == 0)
+			{
+				region = null;
+			}
+		}
+	}
 }
@@ -28,23 +28,23 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import net.runelite.cache.definitions.DefinitionSnapshot;
+import net.runelite.cache.definitions.DefinitionTable;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.IDClass;
 
 public class NpcManager
 {
+	private static final DefinitionSnapshot<NpcDefinition> SNAPSHOT = new DefinitionSnapshot<>(NpcDefinition.class);
+
 	private final Store store;
-	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private final DefinitionTable<NpcDefinition> npcs = new DefinitionTable<>();
 
 	public NpcManager(Store store)
 	{
@@ -53,19 +53,46 @@ public class NpcManager
 
 	public void load() throws IOException
 	{
-		NpcLoader loader = new NpcLoader();
+		add(decode(getArchive()));
+	}
+
+	/**
+	 * Load npcs from a snapshot if it was written for the current archive,
+	 * otherwise decode the archive and write a new snapshot.
+	 *
+	 * @param snapshot snapshot file
+	 * @throws IOException
+	 * @see DefinitionSnapshot
+	 */
+	public void load(File snapshot) throws IOException
+	{
+		Archive archive = getArchive();
+		List<NpcDefinition> defs = SNAPSHOT.read(snapshot, archive.getCrc());
+		if (defs == null)
+		{
+			defs = decode(archive);
+			SNAPSHOT.write(snapshot, archive.getCrc(), defs);
+		}
+		add(defs);
+	}
 
-		Storage storage = store.getStorage();
+	private Archive getArchive()
+	{
 		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.NPC.getId());
+		return index.getArchive(ConfigType.NPC.getId());
+	}
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+	private List<NpcDefinition> decode(Archive archive) throws IOException
+	{
+		NpcLoader loader = new NpcLoader();
+		return store.decodeFiles(archive, f -> loader.load(f.getFileId(), f.getContents()));
+	}
 
-		for (FSFile f : files.getFiles())
+	private void add(List<NpcDefinition> defs)
+	{
+		for (NpcDefinition def : defs)
 		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
-			npcs.put(f.getFileId(), npc);
+			npcs.put(def.id, def);
 		}
 	}
 
@@ -28,23 +28,23 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import net.runelite.cache.definitions.DefinitionSnapshot;
+import net.runelite.cache.definitions.DefinitionTable;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.IDClass;
 
 public class ObjectManager
 {
+	private static final DefinitionSnapshot<ObjectDefinition> SNAPSHOT = new DefinitionSnapshot<>(ObjectDefinition.class);
+
 	private final Store store;
-	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private final DefinitionTable<ObjectDefinition> objects = new DefinitionTable<>();
 
 	public ObjectManager(Store store)
 	{
@@ -53,19 +53,46 @@ public class ObjectManager
 
 	public void load() throws IOException
 	{
-		ObjectLoader loader = new ObjectLoader();
+		add(decode(getArchive()));
+	}
+
+	/**
+	 * Load objects from a snapshot if it was written for the current archive,
+	 * otherwise decode the archive and write a new snapshot.
+	 *
+	 * @param snapshot snapshot file
+	 * @throws IOException
+	 * @see DefinitionSnapshot
+	 */
+	public void load(File snapshot) throws IOException
+	{
+		Archive archive = getArchive();
+		List<ObjectDefinition> defs = SNAPSHOT.read(snapshot, archive.getCrc());
+		if (defs == null)
+		{
+			defs = decode(archive);
+			SNAPSHOT.write(snapshot, archive.getCrc(), defs);
+		}
+		add(defs);
+	}
 
-		Storage storage = store.getStorage();
+	private Archive getArchive()
+	{
 		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
+		return index.getArchive(ConfigType.OBJECT.getId());
+	}
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+	private List<ObjectDefinition> decode(Archive archive) throws IOException
+	{
+		ObjectLoader loader = new ObjectLoader();
+		return store.decodeFiles(archive, f -> loader.load(f.getFileId(), f.getContents()));
+	}
 
-		for (FSFile f : files.getFiles())
+	private void add(List<ObjectDefinition> defs)
+	{
+		for (ObjectDefinition def : defs)
 		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
-			objects.put(f.getFileId(), def);
+			objects.put(def.getId(), def);
 		}
 	}
 
@@ -27,8 +27,7 @@ package net.runelite.cache;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import net.runelite.cache.definitions.DefinitionTable;
 import net.runelite.cache.definitions.OverlayDefinition;
 import net.runelite.cache.definitions.loaders.OverlayLoader;
 import net.runelite.cache.definitions.providers.OverlayProvider;
@@ -42,7 +41,7 @@ import net.runelite.cache.fs.Store;
 public class OverlayManager implements OverlayProvider
 {
 	private final Store store;
-	private final Map<Integer, OverlayDefinition> overlays = new HashMap<>();
+	private final DefinitionTable<OverlayDefinition> overlays = new DefinitionTable<>();
 
 	public OverlayManager(Store store)
 	{
@@ -24,24 +24,26 @@
  */
 package net.runelite.cache;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import net.runelite.cache.definitions.DefinitionSnapshot;
+import net.runelite.cache.definitions.DefinitionTable;
 import net.runelite.cache.definitions.StructDefinition;
 import net.runelite.cache.definitions.loaders.StructLoader;
 import net.runelite.cache.definitions.providers.StructProvider;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 
 public class StructManager implements StructProvider
 {
+	private static final DefinitionSnapshot<StructDefinition> SNAPSHOT = new DefinitionSnapshot<>(StructDefinition.class);
+
 	private final Store store;
-	private final Map<Integer, StructDefinition> structs = new HashMap<>();
+	private final DefinitionTable<StructDefinition> structs = new DefinitionTable<>();
 
 	public StructManager(Store store)
 	{
@@ -50,19 +52,46 @@ public class StructManager implements StructProvider
 
 	public void load() throws IOException
 	{
-		StructLoader loader = new StructLoader();
+		add(decode(getArchive()));
+	}
+
+	/**
+	 * Load structs from a snapshot if it was written for the current archive,
+	 * otherwise decode the archive and write a new snapshot.
+	 *
+	 * @param snapshot snapshot file
+	 * @throws IOException
+	 * @see DefinitionSnapshot
+	 */
+	public void load(File snapshot) throws IOException
+	{
+		Archive archive = getArchive();
+		List<StructDefinition> defs = SNAPSHOT.read(snapshot, archive.getCrc());
+		if (defs == null)
+		{
+			defs = decode(archive);
+			SNAPSHOT.write(snapshot, archive.getCrc(), defs);
+		}
+		add(defs);
+	}
 
-		Storage storage = store.getStorage();
+	private Archive getArchive()
+	{
 		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.STRUCT.getId());
+		return index.getArchive(ConfigType.STRUCT.getId());
+	}
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+	private List<StructDefinition> decode(Archive archive) throws IOException
+	{
+		StructLoader loader = new StructLoader();
+		return store.decodeFiles(archive, f -> loader.load(f.getFileId(), f.getContents()));
+	}
 
-		for (FSFile f : files.getFiles())
+	private void add(List<StructDefinition> defs)
+	{
+		for (StructDefinition def : defs)
 		{
-			StructDefinition def = loader.load(f.getFileId(), f.getContents());
-			structs.put(f.getFileId(), def);
+			structs.put(def.id, def);
 		}
 	}
 
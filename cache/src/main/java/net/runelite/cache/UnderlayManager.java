@@ -27,8 +27,7 @@ package net.runelite.cache;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import net.runelite.cache.definitions.DefinitionTable;
 import net.runelite.cache.definitions.UnderlayDefinition;
 import net.runelite.cache.definitions.loaders.UnderlayLoader;
 import net.runelite.cache.definitions.providers.UnderlayProvider;
@@ -42,7 +41,7 @@ import net.runelite.cache.fs.Store;
 public class UnderlayManager implements UnderlayProvider
 {
 	private final Store store;
-	private final Map<Integer, UnderlayDefinition> underlays = new HashMap<>();
+	private final DefinitionTable<UnderlayDefinition> underlays = new DefinitionTable<>();
 
 	public UnderlayManager(Store store)
 	{
@@ -0,0 +1,869 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A binary snapshot of decoded definitions, tagged with the crc of the archive
+ * they were decoded from. Each field of the definition is stored as a column,
+ * fixed width fields as primitive arrays which are read in bulk, and variable
+ * width fields as a column of lengths followed by their concatenated contents.
+ * <p>
+ * Snapshots are only read back if the archive crc, and the set of fields of the
+ * definition class, match those it was written with.
+ * <p>
+ * Fields are set reflectively unless a setter is given for them with
+ * {@link #intSetter(String, ObjIntConsumer)} or {@link #objectSetter(String, BiConsumer)},
+ * which should be done for the fields which are set on most definitions.
+ *
+ * @param <T> definition type
+ */
+public class DefinitionSnapshot<T>
+{
+	private static final Logger logger = LoggerFactory.getLogger(DefinitionSnapshot.class);
+
+	private static final int MAGIC = 0x524c4453; // RLDS
+	private static final int VERSION = 1;
+
+	private static final byte PARAM_INT = 0;
+	private static final byte PARAM_STRING = 1;
+
+	private enum ColumnType
+	{
+		INT,
+		SHORT,
+		BYTE,
+		BOOLEAN,
+		STRING,
+		INT_ARRAY,
+		SHORT_ARRAY,
+		STRING_ARRAY,
+		PARAMS
+	}
+
+	private class Column
+	{
+		private final Field field;
+		private final ColumnType type;
+		private final Object defaultValue;
+		// short, byte and boolean columns are also set as ints
+		private ObjIntConsumer<T> intSetter;
+		private BiConsumer<T, Object> objectSetter;
+
+		private Column(Field field, ColumnType type, Object defaultValue)
+		{
+			this.field = field;
+			this.type = type;
+			this.defaultValue = defaultValue;
+
+			switch (type)
+			{
+				case INT:
+					intSetter = (def, value) -> set(field, def, value);
+					break;
+				case SHORT:
+					intSetter = (def, value) -> set(field, def, (short) value);
+					break;
+				case BYTE:
+					intSetter = (def, value) -> set(field, def, (byte) value);
+					break;
+				case BOOLEAN:
+					intSetter = (def, value) -> set(field, def, value != 0);
+					break;
+				default:
+					objectSetter = (def, value) -> set(field, def, value);
+					break;
+			}
+		}
+	}
+
+	private final Class<T> type;
+	private final Constructor<T> constructor;
+	private final boolean idConstructor;
+	private final Field idField;
+	private final List<Column> columns = new ArrayList<>();
+	private final int schemaHash;
+	private IntFunction<T> factory = this::newInstance;
+
+	/**
+	 * @param type definition class, which must have an int {@code id} field and
+	 * either a constructor taking the id or a no-args constructor
+	 */
+	public DefinitionSnapshot(Class<T> type)
+	{
+		this.type = type;
+
+		try
+		{
+			idField = type.getDeclaredField("id");
+			idField.setAccessible(true);
+		}
+		catch (NoSuchFieldException ex)
+		{
+			throw new IllegalArgumentException(type + " has no id field", ex);
+		}
+
+		constructor = findConstructor(type);
+		constructor.setAccessible(true);
+		idConstructor = constructor.getParameterCount() == 1;
+
+		List<Field> fields = new ArrayList<>(Arrays.asList(type.getDeclaredFields()));
+		// declared field order is unspecified
+		fields.sort(Comparator.comparing(Field::getName));
+
+		// values equal to those set by the constructor are not stored
+		T prototype = newInstance(0);
+
+		StringBuilder schema = new StringBuilder(type.getName());
+		for (Field field : fields)
+		{
+			int modifiers = field.getModifiers();
+			if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic())
+			{
+				continue;
+			}
+
+			if (Modifier.isFinal(modifiers))
+			{
+				if (field.equals(idField) && idConstructor)
+				{
+					continue;
+				}
+				throw new IllegalArgumentException("unsupported final field " + field);
+			}
+
+			field.setAccessible(true);
+			ColumnType columnType = columnType(field);
+			columns.add(new Column(field, columnType, get(field, prototype)));
+			schema.append(';').append(field.getName()).append(':').append(columnType);
+		}
+
+		schemaHash = schema.toString().hashCode();
+	}
+
+	/**
+	 * Create definitions read from a snapshot with {@code factory} rather
+	 * than reflectively. It is passed the id of the definition.
+	 *
+	 * @param factory
+	 * @return this
+	 */
+	public DefinitionSnapshot<T> factory(IntFunction<T> factory)
+	{
+		this.factory = factory;
+		return this;
+	}
+
+	/**
+	 * Set an int, short, byte or boolean field with {@code setter} rather than
+	 * reflectively. Booleans are passed as 0 or 1.
+	 *
+	 * @param name field name
+	 * @param setter
+	 * @return this
+	 */
+	public DefinitionSnapshot<T> intSetter(String name, ObjIntConsumer<T> setter)
+	{
+		Column column = findColumn(name);
+		if (column.intSetter == null)
+		{
+			throw new IllegalArgumentException(name + " is not an int, short, byte or boolean field");
+		}
+		column.intSetter = setter;
+		return this;
+	}
+
+	/**
+	 * Set a String, array or params field with {@code setter} rather than reflectively.
+	 *
+	 * @param name field name
+	 * @param setter
+	 * @return this
+	 */
+	public DefinitionSnapshot<T> objectSetter(String name, BiConsumer<T, Object> setter)
+	{
+		Column column = findColumn(name);
+		if (column.objectSetter == null)
+		{
+			throw new IllegalArgumentException(name + " is a primitive field");
+		}
+		column.objectSetter = setter;
+		return this;
+	}
+
+	private Column findColumn(String name)
+	{
+		for (Column column : columns)
+		{
+			if (column.field.getName().equals(name))
+			{
+				return column;
+			}
+		}
+		throw new IllegalArgumentException(type + " has no field " + name + " stored in snapshots");
+	}
+
+	private static <T> Constructor<T> findConstructor(Class<T> type)
+	{
+		try
+		{
+			return type.getDeclaredConstructor(int.class);
+		}
+		catch (NoSuchMethodException ex)
+		{
+		}
+
+		try
+		{
+			return type.getDeclaredConstructor();
+		}
+		catch (NoSuchMethodException ex)
+		{
+			throw new IllegalArgumentException(type + " has no usable constructor", ex);
+		}
+	}
+
+	private static ColumnType columnType(Field field)
+	{
+		Class<?> fieldType = field.getType();
+		if (fieldType == int.class)
+		{
+			return ColumnType.INT;
+		}
+		if (fieldType == short.class)
+		{
+			return ColumnType.SHORT;
+		}
+		if (fieldType == byte.class)
+		{
+			return ColumnType.BYTE;
+		}
+		if (fieldType == boolean.class)
+		{
+			return ColumnType.BOOLEAN;
+		}
+		if (fieldType == String.class)
+		{
+			return ColumnType.STRING;
+		}
+		if (fieldType == int[].class)
+		{
+			return ColumnType.INT_ARRAY;
+		}
+		if (fieldType == short[].class)
+		{
+			return ColumnType.SHORT_ARRAY;
+		}
+		if (fieldType == String[].class)
+		{
+			return ColumnType.STRING_ARRAY;
+		}
+		if (fieldType == Map.class)
+		{
+			// params, mapping param ids to integers or strings
+			return ColumnType.PARAMS;
+		}
+		throw new IllegalArgumentException("unsupported field " + field);
+	}
+
+	/**
+	 * Read a snapshot.
+	 *
+	 * @param file snapshot file
+	 * @param crc crc of the archive the definitions are decoded from
+	 * @return the definitions, or null if there is no snapshot or it is stale or unreadable
+	 * @throws IOException
+	 */
+	public List<T> read(File file, int crc) throws IOException
+	{
+		if (!file.isFile())
+		{
+			return null;
+		}
+
+		// read rather than mapped, as a mapped file can't be replaced on Windows until the mapping
+		// is collected. It is read into a direct buffer, which is copied to primitive arrays in bulk.
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			buffer = ByteBuffer.allocateDirect((int) channel.size());
+			while (buffer.hasRemaining() && channel.read(buffer) != -1)
+			{
+			}
+			buffer.flip();
+		}
+
+		try
+		{
+			return read(buffer, crc);
+		}
+		catch (BufferUnderflowException | IllegalArgumentException ex)
+		{
+			logger.warn("Unable to read definition snapshot {}", file, ex);
+			return null;
+		}
+	}
+
+	List<T> read(ByteBuffer buffer, int crc)
+	{
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+		{
+			logger.debug("Snapshot is not a definition snapshot, or is an older version");
+			return null;
+		}
+
+		if (buffer.getInt() != schemaHash)
+		{
+			logger.debug("Snapshot of {} was written with different fields", type.getSimpleName());
+			return null;
+		}
+
+		int snapshotCrc = buffer.getInt();
+		if (snapshotCrc != crc)
+		{
+			logger.debug("Snapshot of {} is stale, crc {} expected {}", type.getSimpleName(), snapshotCrc, crc);
+			return null;
+		}
+
+		int count = buffer.getInt();
+		int[] ids = readInts(buffer, count);
+
+		List<T> definitions = new ArrayList<>(count);
+		for (int id : ids)
+		{
+			definitions.add(factory.apply(id));
+		}
+
+		for (Column column : columns)
+		{
+			readColumn(buffer, column, definitions);
+		}
+
+		if (buffer.hasRemaining())
+		{
+			throw new IllegalArgumentException(buffer.remaining() + " trailing bytes");
+		}
+
+		return definitions;
+	}
+
+	/**
+	 * Write a snapshot. The snapshot is written to a temporary file which then replaces {@code file}.
+	 *
+	 * @param file snapshot file
+	 * @param crc crc of the archive the definitions were decoded from
+	 * @param definitions
+	 * @throws IOException
+	 */
+	public void write(File file, int crc, Collection<T> definitions) throws IOException
+	{
+		File tmpFile = new File(file.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile))))
+		{
+			write(out, crc, new ArrayList<>(definitions));
+		}
+		Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private void write(DataOutputStream out, int crc, List<T> definitions) throws IOException
+	{
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(schemaHash);
+		out.writeInt(crc);
+		out.writeInt(definitions.size());
+
+		for (T def : definitions)
+		{
+			out.writeInt((Integer) get(idField, def));
+		}
+
+		for (Column column : columns)
+		{
+			writeColumn(out, column, definitions);
+		}
+	}
+
+	private T newInstance(int id)
+	{
+		try
+		{
+			return idConstructor ? constructor.newInstance(id) : constructor.newInstance();
+		}
+		catch (InstantiationException | IllegalAccessException | InvocationTargetException ex)
+		{
+			throw new IllegalStateException("unable to create " + type, ex);
+		}
+	}
+
+	private void writeColumn(DataOutputStream out, Column column, List<T> definitions) throws IOException
+	{
+		List<Integer> rows = new ArrayList<>();
+		List<Object> values = new ArrayList<>();
+		for (int i = 0; i < definitions.size(); ++i)
+		{
+			Object value = get(column.field, definitions.get(i));
+			if (!Objects.deepEquals(value, column.defaultValue))
+			{
+				rows.add(i);
+				values.add(value);
+			}
+		}
+
+		out.writeInt(rows.size());
+		for (int row : rows)
+		{
+			out.writeInt(row);
+		}
+
+		switch (column.type)
+		{
+			case INT:
+				for (Object value : values)
+				{
+					out.writeInt((Integer) value);
+				}
+				break;
+			case SHORT:
+				for (Object value : values)
+				{
+					out.writeShort((Short) value);
+				}
+				break;
+			case BYTE:
+				for (Object value : values)
+				{
+					out.writeByte((Byte) value);
+				}
+				break;
+			case BOOLEAN:
+				for (Object value : values)
+				{
+					out.writeBoolean((Boolean) value);
+				}
+				break;
+			case STRING:
+				writeStrings(out, values);
+				break;
+			case INT_ARRAY:
+				writeLengths(out, values);
+				for (Object value : values)
+				{
+					if (value != null)
+					{
+						for (int i : (int[]) value)
+						{
+							out.writeInt(i);
+						}
+					}
+				}
+				break;
+			case SHORT_ARRAY:
+				writeLengths(out, values);
+				for (Object value : values)
+				{
+					if (value != null)
+					{
+						for (short s : (short[]) value)
+						{
+							out.writeShort(s);
+						}
+					}
+				}
+				break;
+			case STRING_ARRAY:
+			{
+				writeLengths(out, values);
+				List<Object> strings = new ArrayList<>();
+				for (Object value : values)
+				{
+					if (value != null)
+					{
+						strings.addAll(Arrays.asList((String[]) value));
+					}
+				}
+				writeStrings(out, strings);
+				break;
+			}
+			case PARAMS:
+			{
+				writeLengths(out, values);
+				List<Map.Entry<?, ?>> entries = new ArrayList<>();
+				for (Object value : values)
+				{
+					if (value != null)
+					{
+						entries.addAll(((Map<?, ?>) value).entrySet());
+					}
+				}
+
+				List<Object> strings = new ArrayList<>();
+				for (Map.Entry<?, ?> entry : entries)
+				{
+					out.writeInt((Integer) entry.getKey());
+				}
+				for (Map.Entry<?, ?> entry : entries)
+				{
+					out.writeByte(entry.getValue() instanceof String ? PARAM_STRING : PARAM_INT);
+				}
+				for (Map.Entry<?, ?> entry : entries)
+				{
+					if (entry.getValue() instanceof String)
+					{
+						strings.add(entry.getValue());
+					}
+					else
+					{
+						out.writeInt((Integer) entry.getValue());
+					}
+				}
+				writeStrings(out, strings);
+				break;
+			}
+		}
+	}
+
+	private void readColumn(ByteBuffer buffer, Column column, List<T> definitions)
+	{
+		int count = buffer.getInt();
+		int[] rows = readInts(buffer, count);
+		for (int row : rows)
+		{
+			if (row < 0 || row >= definitions.size())
+			{
+				throw new IllegalArgumentException("row " + row + " out of bounds");
+			}
+		}
+
+		ObjIntConsumer<T> intSetter = column.intSetter;
+		BiConsumer<T, Object> objectSetter = column.objectSetter;
+		switch (column.type)
+		{
+			case INT:
+			{
+				int[] values = readInts(buffer, count);
+				for (int i = 0; i < count; ++i)
+				{
+					intSetter.accept(definitions.get(rows[i]), values[i]);
+				}
+				break;
+			}
+			case SHORT:
+			{
+				short[] values = readShorts(buffer, count);
+				for (int i = 0; i < count; ++i)
+				{
+					intSetter.accept(definitions.get(rows[i]), values[i]);
+				}
+				break;
+			}
+			case BYTE:
+				for (int i = 0; i < count; ++i)
+				{
+					intSetter.accept(definitions.get(rows[i]), buffer.get());
+				}
+				break;
+			case BOOLEAN:
+				for (int i = 0; i < count; ++i)
+				{
+					intSetter.accept(definitions.get(rows[i]), buffer.get() != 0 ? 1 : 0);
+				}
+				break;
+			case STRING:
+			{
+				String[] values = readStrings(buffer, count);
+				for (int i = 0; i < count; ++i)
+				{
+					objectSetter.accept(definitions.get(rows[i]), values[i]);
+				}
+				break;
+			}
+			case INT_ARRAY:
+			{
+				int[] lengths = readInts(buffer, count);
+				// the arrays are read at once, as there are many small ones
+				int[] values = readInts(buffer, total(lengths));
+				int pos = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					if (lengths[i] == -1)
+					{
+						objectSetter.accept(definitions.get(rows[i]), null);
+						continue;
+					}
+
+					objectSetter.accept(definitions.get(rows[i]), Arrays.copyOfRange(values, pos, pos + lengths[i]));
+					pos += lengths[i];
+				}
+				break;
+			}
+			case SHORT_ARRAY:
+			{
+				int[] lengths = readInts(buffer, count);
+				short[] values = readShorts(buffer, total(lengths));
+				int pos = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					if (lengths[i] == -1)
+					{
+						objectSetter.accept(definitions.get(rows[i]), null);
+						continue;
+					}
+
+					objectSetter.accept(definitions.get(rows[i]), Arrays.copyOfRange(values, pos, pos + lengths[i]));
+					pos += lengths[i];
+				}
+				break;
+			}
+			case STRING_ARRAY:
+			{
+				int[] lengths = readInts(buffer, count);
+				String[] strings = readStrings(buffer, total(lengths));
+				int pos = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					if (lengths[i] == -1)
+					{
+						objectSetter.accept(definitions.get(rows[i]), null);
+						continue;
+					}
+
+					objectSetter.accept(definitions.get(rows[i]), Arrays.copyOfRange(strings, pos, pos + lengths[i]));
+					pos += lengths[i];
+				}
+				break;
+			}
+			case PARAMS:
+			{
+				int[] sizes = readInts(buffer, count);
+				int total = total(sizes);
+				int[] keys = readInts(buffer, total);
+				byte[] types = new byte[total];
+				buffer.get(types);
+
+				int numStrings = 0;
+				for (byte type : types)
+				{
+					if (type == PARAM_STRING)
+					{
+						++numStrings;
+					}
+				}
+
+				int[] ints = readInts(buffer, total - numStrings);
+				String[] strings = readStrings(buffer, numStrings);
+
+				int pos = 0, intPos = 0, stringPos = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					if (sizes[i] == -1)
+					{
+						objectSetter.accept(definitions.get(rows[i]), null);
+						continue;
+					}
+
+					Map<Integer, Object> params = new HashMap<>(sizes[i]);
+					for (int j = 0; j < sizes[i]; ++j, ++pos)
+					{
+						params.put(keys[pos], types[pos] == PARAM_STRING ? strings[stringPos++] : ints[intPos++]);
+					}
+					objectSetter.accept(definitions.get(rows[i]), params);
+				}
+				break;
+			}
+		}
+	}
+
+	private static Object get(Field field, Object def)
+	{
+		try
+		{
+			return field.get(def);
+		}
+		catch (IllegalAccessException ex)
+		{
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void set(Field field, Object def, Object value)
+	{
+		try
+		{
+			field.set(def, value);
+		}
+		catch (IllegalAccessException ex)
+		{
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void writeLengths(DataOutputStream out, List<Object> values) throws IOException
+	{
+		for (Object value : values)
+		{
+			if (value == null)
+			{
+				out.writeInt(-1);
+			}
+			else if (value instanceof Map)
+			{
+				out.writeInt(((Map<?, ?>) value).size());
+			}
+			else
+			{
+				out.writeInt(Array.getLength(value));
+			}
+		}
+	}
+
+	/**
+	 * Strings are written as a column of byte lengths, -1 for null, followed by their utf-8 bytes.
+	 */
+	private static void writeStrings(DataOutputStream out, List<Object> strings) throws IOException
+	{
+		List<byte[]> encoded = new ArrayList<>(strings.size());
+		for (Object s : strings)
+		{
+			byte[] b = s == null ? null : ((String) s).getBytes(StandardCharsets.UTF_8);
+			encoded.add(b);
+			out.writeInt(b == null ? -1 : b.length);
+		}
+
+		for (byte[] b : encoded)
+		{
+			if (b != null)
+			{
+				out.write(b);
+			}
+		}
+	}
+
+	private static String[] readStrings(ByteBuffer buffer, int count)
+	{
+		int[] lengths = readInts(buffer, count);
+		byte[] data = new byte[total(lengths)];
+		buffer.get(data);
+
+		// if every string is ascii, decode them all at once and split them, otherwise
+		// the byte lengths are not char lengths
+		String all = isAscii(data) ? new String(data, StandardCharsets.US_ASCII) : null;
+
+		String[] strings = new String[count];
+		int pos = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			if (lengths[i] != -1)
+			{
+				strings[i] = all != null
+					? all.substring(pos, pos + lengths[i])
+					: new String(data, pos, lengths[i], StandardCharsets.UTF_8);
+				pos += lengths[i];
+			}
+		}
+		return strings;
+	}
+
+	private static boolean isAscii(byte[] data)
+	{
+		for (byte b : data)
+		{
+			if (b < 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int[] readInts(ByteBuffer buffer, int count)
+	{
+		if (count < 0 || count > buffer.remaining() / 4)
+		{
+			throw new BufferUnderflowException();
+		}
+
+		int[] values = new int[count];
+		buffer.asIntBuffer().get(values);
+		buffer.position(buffer.position() + count * 4);
+		return values;
+	}
+
+	private static short[] readShorts(ByteBuffer buffer, int count)
+	{
+		if (count < 0 || count > buffer.remaining() / 2)
+		{
+			throw new BufferUnderflowException();
+		}
+
+		short[] values = new short[count];
+		buffer.asShortBuffer().get(values);
+		buffer.position(buffer.position() + count * 2);
+		return values;
+	}
+
+	private static int total(int[] lengths)
+	{
+		int total = 0;
+		for (int length : lengths)
+		{
+			if (length > 0)
+			{
+				total += length;
+			}
+		}
+		return total;
+	}
+}
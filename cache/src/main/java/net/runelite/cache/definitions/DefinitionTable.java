@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A map of definitions by id. Definition ids are mostly dense, so they are
+ * kept in an array indexed by id, with ids far past the end of the array kept
+ * in a sorted map instead. Lookups by int id do not box, and iteration is in id order.
+ * <p>
+ * Ids must not be negative and values must not be null.
+ *
+ * @param <T> definition type
+ */
+public class DefinitionTable<T> extends AbstractMap<Integer, T>
+{
+	/**
+	 * Ids below this are always stored in the array
+	 */
+	private static final int MIN_DENSE = 1024;
+
+	private Object[] dense = new Object[0];
+	private final TreeMap<Integer, T> sparse = new TreeMap<>();
+	private int size;
+
+	@SuppressWarnings("unchecked")
+	public T get(int id)
+	{
+		if (id >= 0 && id < dense.length)
+		{
+			return (T) dense[id];
+		}
+		return sparse.isEmpty() ? null : sparse.get(id);
+	}
+
+	@Override
+	public T get(Object key)
+	{
+		return key instanceof Integer ? get((int) (Integer) key) : null;
+	}
+
+	@Override
+	public boolean containsKey(Object key)
+	{
+		return get(key) != null;
+	}
+
+	@SuppressWarnings("unchecked")
+	public T put(int id, T value)
+	{
+		if (id < 0)
+		{
+			throw new IllegalArgumentException("negative id " + id);
+		}
+		if (value == null)
+		{
+			throw new NullPointerException("value");
+		}
+
+		if (id >= dense.length && id < denseLimit())
+		{
+			grow(id + 1);
+		}
+
+		T old;
+		if (id < dense.length)
+		{
+			old = (T) dense[id];
+			dense[id] = value;
+		}
+		else
+		{
+			old = sparse.put(id, value);
+		}
+
+		if (old == null)
+		{
+			++size;
+		}
+		return old;
+	}
+
+	@Override
+	public T put(Integer key, T value)
+	{
+		return put((int) key, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	public T remove(int id)
+	{
+		T old;
+		if (id >= 0 && id < dense.length)
+		{
+			old = (T) dense[id];
+			dense[id] = null;
+		}
+		else
+		{
+			old = sparse.remove(id);
+		}
+
+		if (old != null)
+		{
+			--size;
+		}
+		return old;
+	}
+
+	@Override
+	public T remove(Object key)
+	{
+		return key instanceof Integer ? remove((int) (Integer) key) : null;
+	}
+
+	@Override
+	public void clear()
+	{
+		dense = new Object[0];
+		sparse.clear();
+		size = 0;
+	}
+
+	@Override
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Ids below the limit go in the array, which keeps it at least half full
+	 */
+	private int denseLimit()
+	{
+		return Math.max(MIN_DENSE, (size + 1) * 2);
+	}
+
+	private void grow(int minCapacity)
+	{
+		int capacity = Math.min(Math.max(minCapacity, dense.length + (dense.length >> 1)), denseLimit());
+		dense = Arrays.copyOf(dense, Math.max(capacity, minCapacity));
+
+		// move sparse entries which now fit in the array
+		Iterator<Entry<Integer, T>> it = sparse.headMap(dense.length).entrySet().iterator();
+		while (it.hasNext())
+		{
+			Entry<Integer, T> entry = it.next();
+			dense[entry.getKey()] = entry.getValue();
+			it.remove();
+		}
+	}
+
+	@Override
+	public Collection<T> values()
+	{
+		return new AbstractCollection<T>()
+		{
+			@Override
+			public Iterator<T> iterator()
+			{
+				return new TableIterator<T>()
+				{
+					@Override
+					T element(int id, T value)
+					{
+						return value;
+					}
+				};
+			}
+
+			@Override
+			public int size()
+			{
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<Integer, T>> entrySet()
+	{
+		return new AbstractSet<Entry<Integer, T>>()
+		{
+			@Override
+			public Iterator<Entry<Integer, T>> iterator()
+			{
+				return new TableIterator<Entry<Integer, T>>()
+				{
+					@Override
+					Entry<Integer, T> element(int id, T value)
+					{
+						return new SimpleImmutableEntry<>(id, value);
+					}
+				};
+			}
+
+			@Override
+			public int size()
+			{
+				return size;
+			}
+		};
+	}
+
+	/**
+	 * Iterates the array, then the sparse entries, which all have higher ids
+	 */
+	private abstract class TableIterator<E> implements Iterator<E>
+	{
+		private final Object[] array = dense;
+		private final Iterator<Entry<Integer, T>> sparseIterator = sparse.entrySet().iterator();
+		private int index = advance(0);
+
+		abstract E element(int id, T value);
+
+		private int advance(int i)
+		{
+			while (i < array.length && array[i] == null)
+			{
+				++i;
+			}
+			return i;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return index < array.length || sparseIterator.hasNext();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next()
+		{
+			if (index < array.length)
+			{
+				E element = element(index, (T) array[index]);
+				index = advance(index + 1);
+				return element;
+			}
+
+			if (!sparseIterator.hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+
+			Entry<Integer, T> entry = sparseIterator.next();
+			return element(entry.getKey(), entry.getValue());
+		}
+	}
+}
@@ -25,6 +25,7 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import net.runelite.cache.index.FileData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -103,38 +104,48 @@ public class Archive
 			return null;
 		}
 
-		byte[] encryptedData = data;
-
-		Container container = Container.decompress(encryptedData, keys);
-		if (container == null)
-		{
-			logger.warn("Unable to decrypt archive {}", this);
-			return null;
-		}
+		ByteBuffer buffer = decompress(ByteBuffer.wrap(data), keys, null);
+		// the buffer is allocated to the exact size of the data when none is supplied
+		assert buffer.limit() == buffer.capacity();
+		return buffer.array();
+	}
 
-		byte[] decompressedData = container.data;
+	/**
+	 * Decompress the archive into a caller supplied buffer, which is reused if it is large enough.
+	 *
+	 * @param data compressed archive data
+	 * @param keys xtea keys, or null
+	 * @param out output buffer, or null
+	 * @return the buffer holding the decompressed data, from position 0 to its limit
+	 * @throws IOException
+	 * @see ContainerDecoder#decompress(ByteBuffer, int[], ByteBuffer)
+	 */
+	public ByteBuffer decompress(ByteBuffer data, int[] keys, ByteBuffer out) throws IOException
+	{
+		ContainerDecoder decoder = ContainerDecoder.get();
+		ByteBuffer buffer = decoder.decompress(data, keys, out);
 
-		if (this.crc != container.crc)
+		if (this.crc != decoder.getCrc())
 		{
 			logger.warn("crc mismatch for archive {}/{}", index.getId(), this.getArchiveId());
 			throw new IOException("CRC mismatch for " + index.getId() + "/" + this.getArchiveId());
 		}
 
-		if (container.revision != -1 && this.getRevision() != container.revision)
+		if (decoder.getRevision() != -1 && this.getRevision() != decoder.getRevision())
 		{
 			// compressed data doesn't always include a revision, but check it if it does
 			logger.warn("revision mismatch for archive {}/{}, expected {} was {}",
 				index.getId(), this.getArchiveId(),
-				this.getRevision(), container.revision);
+				this.getRevision(), decoder.getRevision());
 			// I've seen this happen with vanilla caches where the
 			// revision in the index data differs from the revision
 			// stored for the archive data on disk... I assume this
 			// is more correct
-			this.setRevision(container.revision);
+			this.setRevision(decoder.getRevision());
 		}
 
-		setCompression(container.compression);
-		return decompressedData;
+		setCompression(decoder.getCompression());
+		return buffer;
 	}
 
 	public ArchiveFiles getFiles(byte[] data) throws IOException
@@ -170,6 +181,10 @@ public class Archive
 	public void setNameHash(int nameHash)
 	{
 		this.nameHash = nameHash;
+		if (index != null)
+		{
+			index.nameHashChanged();
+		}
 	}
 
 	public int getCrc()
@@ -27,12 +27,11 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import net.runelite.cache.fs.jagex.CompressionCodec;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
-import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
-import net.runelite.cache.util.GZip;
 import net.runelite.cache.util.Xtea;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,22 +57,21 @@ public class Container
 
 		byte[] compressedData;
 		int length;
-		switch (compression)
+		if (compression == CompressionType.NONE)
 		{
-			case CompressionType.NONE:
-				compressedData = data;
-				length = compressedData.length;
-				break;
-			case CompressionType.BZ2:
-				compressedData = concat(Ints.toByteArray(data.length), BZip2.compress(data));
-				length = compressedData.length - 4;
-				break;
-			case CompressionType.GZ:
-				compressedData = concat(Ints.toByteArray(data.length), GZip.compress(data));
-				length = compressedData.length - 4;
-				break;
-			default:
+			compressedData = data;
+			length = compressedData.length;
+		}
+		else
+		{
+			CompressionCodec codec = CompressionType.getCodec(compression);
+			if (codec == null)
+			{
 				throw new RuntimeException("Unknown compression type");
+			}
+
+			compressedData = concat(Ints.toByteArray(data.length), codec.compress(data));
+			length = compressedData.length - 4;
 		}
 
 		compressedData = encrypt(compressedData, compressedData.length, keys);
@@ -82,6 +80,12 @@ public class Container
 		stream.writeInt(length);
 
 		stream.writeBytes(compressedData);
+
+		// the crc doesn't include the revision
+		Crc32 crc32 = new Crc32();
+		crc32.update(stream.getArray(), 0, stream.getOffset());
+		this.crc = crc32.getHash();
+
 		if (revision != -1)
 		{
 			stream.writeShort(revision);
@@ -92,117 +96,16 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
-
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
-		if (compressedLength < 0 || compressedLength > 1000000)
-		{
-			throw new RuntimeException("Invalid data");
-		}
-
-		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
-
-		byte[] data;
-		int revision = -1;
-		switch (compression)
-		{
-			case CompressionType.NONE:
-			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
-
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				data = decryptedData;
-
-				break;
-			}
-			case CompressionType.BZ2:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				stream = new InputStream(decryptedData);
+		ContainerDecoder decoder = ContainerDecoder.get();
+		ByteBuffer buffer = decoder.decompress(ByteBuffer.wrap(b), keys, null);
 
-				int decompressedLength = stream.readInt();
-				data = BZip2.decompress(stream.getRemaining(), compressedLength);
-
-				if (data == null)
-				{
-					return null;
-				}
-
-				assert data.length == decompressedLength;
-
-				break;
-			}
-			case CompressionType.GZ:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = GZip.decompress(stream.getRemaining(), compressedLength);
-
-				if (data == null)
-				{
-					return null;
-				}
-
-				assert data.length == decompressedLength;
-
-				break;
-			}
-			default:
-				throw new RuntimeException("Unknown decompression type");
-		}
-
-		Container container = new Container(compression, revision);
-		container.data = data;
-		container.crc = crc32.getHash();
+		Container container = new Container(decoder.getCompression(), decoder.getRevision());
+		// the buffer is allocated to the exact size of the data when none is supplied
+		container.data = buffer.array();
+		container.crc = decoder.getCrc();
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
-	{
-		if (keys == null)
-		{
-			return data;
-		}
-
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
-	}
-
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
 	{
 		if (keys == null)
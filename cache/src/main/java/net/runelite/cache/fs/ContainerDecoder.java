@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import net.runelite.cache.fs.jagex.CompressionCodec;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.util.Xtea;
+
+/**
+ * Decompresses containers from {@link ByteBuffer} slices into reusable output buffers.
+ * Unlike {@link Container#decompress(byte[], int[])} the input is never copied unless it
+ * has to be decrypted, and the decoder's scratch buffer is reused between containers.
+ * Instances are not thread safe, use {@link #get()} to obtain one for the current thread.
+ */
+public class ContainerDecoder
+{
+	private static final ThreadLocal<ContainerDecoder> DECODERS = ThreadLocal.withInitial(ContainerDecoder::new);
+
+	/**
+	 * Buffers larger than this are not kept between containers, so that decoding one
+	 * large archive does not leave every thread which decoded it holding on to it
+	 */
+	static final int MAX_RETAINED_SIZE = 1 << 20;
+
+	private final CRC32 crc32 = new CRC32();
+	private byte[] scratch = new byte[0];
+	private ByteBuffer buffer;
+
+	private int compression;
+	private int revision;
+	private int crc;
+
+	/**
+	 * Get the decoder for the current thread.
+	 *
+	 * @return the decoder
+	 */
+	public static ContainerDecoder get()
+	{
+		return DECODERS.get();
+	}
+
+	/**
+	 * Decompress a container into the decoder's own output buffer. The returned
+	 * buffer is only valid until the next call on this decoder. Buffers larger
+	 * than {@link #MAX_RETAINED_SIZE} are not reused.
+	 *
+	 * @param in container data, read from its position to its limit
+	 * @param keys xtea keys, or null
+	 * @return the decompressed data, from position 0 to its limit
+	 * @throws IOException
+	 * @see #decompress(ByteBuffer, int[], ByteBuffer)
+	 */
+	public ByteBuffer decompress(ByteBuffer in, int[] keys) throws IOException
+	{
+		ByteBuffer out = decompress(in, keys, buffer);
+		buffer = out.capacity() <= MAX_RETAINED_SIZE ? out : null;
+		return out;
+	}
+
+	/**
+	 * Decompress a container into a caller supplied buffer. If the buffer is null,
+	 * not backed by an array, or too small, a new buffer is allocated and returned
+	 * instead, which the caller may pass in again for the next container.
+	 * The position of {@code in} is advanced past the container.
+	 *
+	 * @param in container data, read from its position to its limit
+	 * @param keys xtea keys, or null
+	 * @param out output buffer, or null
+	 * @return the buffer holding the decompressed data, from position 0 to its limit
+	 * @throws IOException
+	 */
+	public ByteBuffer decompress(ByteBuffer in, int[] keys, ByteBuffer out) throws IOException
+	{
+		int start = in.position();
+
+		int compression = in.get(start) & 0xff;
+		int compressedLength = (in.get(start + 1) & 0xff) << 24 | (in.get(start + 2) & 0xff) << 16
+			| (in.get(start + 3) & 0xff) << 8 | in.get(start + 4) & 0xff;
+		if (compressedLength < 0 || compressedLength > 1000000)
+		{
+			throw new RuntimeException("Invalid data");
+		}
+
+		CompressionCodec codec = null;
+		int length = compressedLength;
+		if (compression != CompressionType.NONE)
+		{
+			codec = CompressionType.getCodec(compression);
+			if (codec == null)
+			{
+				throw new RuntimeException("Unknown decompression type");
+			}
+			length += 4; // decompressed length
+		}
+
+		int dataStart = start + 5;
+		int dataEnd = dataStart + length;
+		if (dataEnd > in.limit() || dataEnd < 0)
+		{
+			throw new IOException("Container is truncated");
+		}
+
+		crc32.reset();
+
+		byte[] data;
+		int off;
+		if (keys == null && in.hasArray())
+		{
+			data = in.array();
+			off = in.arrayOffset() + dataStart;
+			crc32.update(data, off - 5, length + 5);
+		}
+		else
+		{
+			if (scratch.length < length + 5)
+			{
+				scratch = new byte[length + 5];
+			}
+
+			data = scratch;
+			off = 5;
+			if (in.hasArray())
+			{
+				System.arraycopy(in.array(), in.arrayOffset() + start, data, 0, length + 5);
+			}
+			else
+			{
+				ByteBuffer src = in.duplicate();
+				src.position(start);
+				src.get(data, 0, length + 5);
+			}
+
+			crc32.update(data, 0, length + 5);
+
+			if (keys != null)
+			{
+				new Xtea(keys).decrypt(data, off, length);
+			}
+		}
+
+		int revision = -1;
+		if (in.limit() - dataEnd >= 2)
+		{
+			revision = (in.get(dataEnd) & 0xff) << 8 | in.get(dataEnd + 1) & 0xff;
+			in.position(dataEnd + 2);
+		}
+		else
+		{
+			in.position(dataEnd);
+		}
+
+		int decompressedLength = codec == null ? length : readInt(data, off);
+		if (decompressedLength < 0 || (codec != null && !codec.isPlausible(data, off + 4, compressedLength, decompressedLength)))
+		{
+			// most likely the keys are wrong, don't allocate a buffer for a garbage length
+			throw new IOException("Invalid decompressed length " + decompressedLength);
+		}
+
+		if (out == null || !out.hasArray() || out.capacity() < decompressedLength)
+		{
+			out = ByteBuffer.allocate(decompressedLength);
+		}
+
+		byte[] outArray = out.array();
+		int outOff = out.arrayOffset();
+		int written;
+		if (codec == null)
+		{
+			System.arraycopy(data, off, outArray, outOff, length);
+			written = length;
+		}
+		else
+		{
+			written = codec.decompress(data, off + 4, compressedLength, outArray, outOff, decompressedLength);
+		}
+
+		if (written != decompressedLength)
+		{
+			throw new IOException("Decompressed " + written + " bytes, expected " + decompressedLength);
+		}
+
+		out.clear();
+		out.limit(decompressedLength);
+
+		if (scratch.length > MAX_RETAINED_SIZE)
+		{
+			scratch = new byte[0];
+		}
+
+		this.compression = compression;
+		this.revision = revision;
+		this.crc = (int) crc32.getValue();
+		return out;
+	}
+
+	/**
+	 * @return compression type of the last decompressed container
+	 */
+	public int getCompression()
+	{
+		return compression;
+	}
+
+	/**
+	 * @return revision of the last decompressed container, or -1 if it had none
+	 */
+	public int getRevision()
+	{
+		return revision;
+	}
+
+	/**
+	 * @return crc of the compressed data of the last decompressed container
+	 */
+	public int getCrc()
+	{
+		return crc;
+	}
+
+	private static int readInt(byte[] b, int off)
+	{
+		return (b[off] & 0xff) << 24 | (b[off + 1] & 0xff) << 16 | (b[off + 2] & 0xff) << 8 | b[off + 3] & 0xff;
+	}
+}
@@ -24,9 +24,11 @@
  */
 package net.runelite.cache.fs;
 
+import io.netty.util.collection.IntObjectHashMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.ToIntFunction;
 import net.runelite.cache.index.ArchiveData;
 import net.runelite.cache.index.FileData;
 import net.runelite.cache.index.IndexData;
@@ -46,7 +48,10 @@ public class Index
 	private int crc;
 	private int compression; // compression method of this index's data in 255
 
-	private final List<Archive> archives = new ArrayList<>();
+	private final ArchiveList archives = new ArchiveList();
+	// built on demand, and rebuilt when the archive list has changed since or an archive is renamed
+	private volatile ArchiveMap archivesById;
+	private volatile ArchiveMap archivesByName;
 
 	public Index(int id)
 	{
@@ -153,33 +158,51 @@ public class Index
 	public Archive addArchive(int id)
 	{
 		Archive archive = new Archive(this, id);
+		ArchiveMap byId = archivesById;
+		boolean current = byId != null && byId.modCount == archives.modCount();
 		this.archives.add(archive);
+		if (current)
+		{
+			// keep the map rather than rebuilding it on the next lookup
+			byId.putIfAbsent(id, archive);
+			byId.modCount = archives.modCount();
+		}
 		return archive;
 	}
 
+	public void removeArchive(Archive archive)
+	{
+		assert archives.contains(archive);
+		archives.remove(archive);
+	}
+
 	public Archive getArchive(int id)
 	{
-		for (Archive a : archives)
+		ArchiveMap byId = archivesById;
+		if (byId == null || byId.modCount != archives.modCount())
 		{
-			if (a.getArchiveId() == id)
-			{
-				return a;
-			}
+			byId = new ArchiveMap(archives, Archive::getArchiveId);
+			archivesById = byId;
 		}
-		return null;
+		return byId.get(id);
 	}
 
 	public Archive findArchiveByName(String name)
 	{
 		int hash = Djb2.hash(name);
-		for (Archive a : archives)
+
+		ArchiveMap byName = archivesByName;
+		if (byName == null || byName.modCount != archives.modCount())
 		{
-			if (a.getNameHash() == hash)
-			{
-				return a;
-			}
+			byName = new ArchiveMap(archives, Archive::getNameHash);
+			archivesByName = byName;
 		}
-		return null;
+		return byName.get(hash);
+	}
+
+	void nameHashChanged()
+	{
+		archivesByName = null;
 	}
 
 	public IndexData toIndexData()
@@ -206,4 +229,48 @@ public class Index
 		}
 		return data;
 	}
+
+	/**
+	 * An archive list which exposes its modification count, so the lookup maps can tell
+	 * when the list has been changed, including by callers adding to or sorting it directly
+	 */
+	private static class ArchiveList extends ArrayList<Archive>
+	{
+		private int modCount()
+		{
+			return modCount;
+		}
+	}
+
+	private static class ArchiveMap
+	{
+		private final IntObjectHashMap<Archive> archives;
+		private int modCount;
+
+		private ArchiveMap(ArchiveList list, ToIntFunction<Archive> key)
+		{
+			archives = new IntObjectHashMap<>(Math.max(list.size(), 1));
+			modCount = list.modCount();
+			for (Archive a : list)
+			{
+				putIfAbsent(key.applyAsInt(a), a);
+			}
+		}
+
+		/**
+		 * The first archive with a given key takes precedence
+		 */
+		private void putIfAbsent(int key, Archive archive)
+		{
+			if (!archives.containsKey(key))
+			{
+				archives.put(key, archive);
+			}
+		}
+
+		private Archive get(int key)
+		{
+			return archives.get(key);
+		}
+	}
 }
@@ -25,6 +25,9 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 public interface Storage extends AutoCloseable
 {
@@ -37,7 +40,84 @@ public interface Storage extends AutoCloseable
 
 	void save(Store store) throws IOException;
 
+	/**
+	 * Save only some of the indexes of a store. Storages which can not save
+	 * indexes individually save the whole store.
+	 *
+	 * @param store store
+	 * @param indexes indexes to save
+	 * @throws IOException
+	 */
+	default void save(Store store, Collection<Index> indexes) throws IOException
+	{
+		save(store);
+	}
+
 	byte[] loadArchive(Archive archive) throws IOException;
 
+	/**
+	 * Load the data of many archives at once.
+	 *
+	 * @param archives archives to load
+	 * @return archive data, in the same order as {@code archives}
+	 * @throws IOException
+	 */
+	default List<byte[]> loadArchives(List<Archive> archives) throws IOException
+	{
+		List<byte[]> data = new ArrayList<>(archives.size());
+		for (Archive archive : archives)
+		{
+			data.add(loadArchive(archive));
+		}
+		return data;
+	}
+
+	/**
+	 * Whether {@link #loadArchive(Archive)} may be called from multiple threads at once
+	 */
+	default boolean isConcurrentLoadSupported()
+	{
+		return false;
+	}
+
 	void saveArchive(Archive archive, byte[] data) throws IOException;
+
+	/**
+	 * Whether {@link #saveArchive(Archive, byte[])} writes the archive out
+	 * immediately, so that it is kept even if the store is never saved
+	 */
+	default boolean isArchiveSaveDurable()
+	{
+		return false;
+	}
+
+	/**
+	 * Remove the data of an archive which has been removed from its index.
+	 * Storages which only keep archive data referenced by the index need not override this.
+	 *
+	 * @param archive archive
+	 * @throws IOException
+	 */
+	default void removeArchive(Archive archive) throws IOException
+	{
+	}
+
+	/**
+	 * Save many archives at once. The archives are written in the given order.
+	 * {@link Store} calls this with the archives it compressed in parallel, before
+	 * saving the index data. The default writes each archive with
+	 * {@link #saveArchive(Archive, byte[])}, which is what the disk and flat
+	 * storages use.
+	 *
+	 * @param archives archives to save
+	 * @param data compressed archive data, in the same order as {@code archives}
+	 * @throws IOException
+	 */
+	default void saveArchives(List<Archive> archives, List<byte[]> data) throws IOException
+	{
+		for (int i = 0; i < archives.size(); ++i)
+		{
+			saveArchive(archives.get(i), data.get(i));
+		}
+	}
 }
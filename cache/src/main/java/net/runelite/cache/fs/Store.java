@@ -29,10 +29,15 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.util.ParallelTasks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +47,8 @@ public final class Store implements Closeable
 
 	private final Storage storage;
 	private final List<Index> indexes = new ArrayList<>();
+	private final Map<Archive, PendingArchive> pendingArchives = new IdentityHashMap<>();
+	private ForkJoinPool executor = ForkJoinPool.commonPool();
 
 	public Store(File folder) throws IOException
 	{
@@ -61,6 +68,21 @@ public final class Store implements Closeable
 		return storage;
 	}
 
+	public ForkJoinPool getExecutor()
+	{
+		return executor;
+	}
+
+	/**
+	 * Set the pool used to decode, and compress, archives and files in parallel
+	 *
+	 * @param executor
+	 */
+	public void setExecutor(ForkJoinPool executor)
+	{
+		this.executor = executor;
+	}
+
 	@Override
 	public void close() throws IOException
 	{
@@ -123,9 +145,166 @@ public final class Store implements Closeable
 
 	public void save() throws IOException
 	{
+		savePendingArchives();
 		storage.save(this);
 	}
 
+	/**
+	 * Update this store to match another store, only loading and writing
+	 * the archives and indexes which differ. Archive contents set on this
+	 * store with {@link #setArchiveContents(Archive, byte[])} are written first.
+	 *
+	 * @param source store to copy from, which must not have unsaved archive contents
+	 * @return the differences which were applied
+	 * @throws IOException
+	 */
+	public StoreDiff update(Store source) throws IOException
+	{
+		synchronized (source)
+		{
+			if (!source.pendingArchives.isEmpty())
+			{
+				throw new IllegalStateException("source store has unsaved archive contents");
+			}
+		}
+
+		// the crcs of pending archives are only known once they are compressed
+		savePendingArchives();
+
+		StoreDiff diff = StoreDiff.diff(this, source);
+		if (diff.isEmpty())
+		{
+			return diff;
+		}
+
+		logger.debug("Updating store: {}", diff);
+
+		for (Archive archive : diff.getRemoved())
+		{
+			storage.removeArchive(archive);
+			archive.getIndex().removeArchive(archive);
+		}
+
+		for (int id : diff.getRemovedIndexes())
+		{
+			removeIndex(findIndex(id));
+		}
+
+		List<Archive> sourceArchives = new ArrayList<>(diff.getAdded().size() + diff.getChanged().size());
+		sourceArchives.addAll(diff.getAdded());
+		sourceArchives.addAll(diff.getChanged());
+
+		List<byte[]> data = source.getStorage().loadArchives(sourceArchives);
+		List<Archive> archives = new ArrayList<>(sourceArchives.size());
+		for (Archive sourceArchive : sourceArchives)
+		{
+			Index index = findIndex(sourceArchive.getIndex().getId());
+			if (index == null)
+			{
+				index = addIndex(sourceArchive.getIndex().getId());
+			}
+
+			Archive archive = index.getArchive(sourceArchive.getArchiveId());
+			if (archive == null)
+			{
+				archive = index.addArchive(sourceArchive.getArchiveId());
+			}
+
+			archive.setNameHash(sourceArchive.getNameHash());
+			archive.setCrc(sourceArchive.getCrc());
+			archive.setRevision(sourceArchive.getRevision());
+			archive.setCompression(sourceArchive.getCompression());
+			archive.setFileData(sourceArchive.getFileData());
+			archive.setHash(sourceArchive.getHash());
+			archives.add(archive);
+		}
+
+		storage.saveArchives(archives, data);
+
+		List<Index> changedIndexes = new ArrayList<>(diff.getChangedIndexes().size());
+		for (int id : diff.getChangedIndexes())
+		{
+			Index sourceIndex = source.findIndex(id);
+			Index index = findIndex(id);
+			if (index == null)
+			{
+				// an index with no archives
+				index = addIndex(id);
+			}
+
+			index.setProtocol(sourceIndex.getProtocol());
+			index.setNamed(sourceIndex.isNamed());
+			index.setCrc(sourceIndex.getCrc());
+			index.setRevision(sourceIndex.getRevision());
+			index.setCompression(sourceIndex.getCompression());
+			// index data stores archive ids as deltas
+			index.getArchives().sort(Comparator.comparing(Archive::getArchiveId));
+			changedIndexes.add(index);
+		}
+
+		storage.save(this, changedIndexes);
+		return diff;
+	}
+
+	/**
+	 * Set the decompressed contents of an archive. The contents are compressed with
+	 * the archive's compression type and revision, and written, on the next {@link #save()}
+	 * or {@link #update(Store)}. Calling the storage's save methods directly does not
+	 * write them.
+	 *
+	 * @param archive archive
+	 * @param contents decompressed archive contents
+	 */
+	public void setArchiveContents(Archive archive, byte[] contents)
+	{
+		setArchiveContents(archive, contents, null);
+	}
+
+	/**
+	 * Set the decompressed contents of an encrypted archive.
+	 *
+	 * @param archive archive
+	 * @param contents decompressed archive contents
+	 * @param keys xtea keys, or null
+	 * @see #setArchiveContents(Archive, byte[])
+	 */
+	public synchronized void setArchiveContents(Archive archive, byte[] contents, int[] keys)
+	{
+		pendingArchives.put(archive, new PendingArchive(contents, keys));
+	}
+
+	/**
+	 * Compress pending archives in parallel, then write them in index and archive order,
+	 * so that they are laid out sequentially by the storage.
+	 */
+	private synchronized void savePendingArchives() throws IOException
+	{
+		if (pendingArchives.isEmpty())
+		{
+			return;
+		}
+
+		List<Archive> archives = new ArrayList<>(pendingArchives.keySet());
+		archives.sort(Comparator.comparing((Archive a) -> a.getIndex().getId())
+			.thenComparing(Archive::getArchiveId));
+
+		logger.debug("Compressing {} archives", archives.size());
+
+		List<byte[]> data = ParallelTasks.map(executor, archives.size(), i ->
+		{
+			Archive archive = archives.get(i);
+			PendingArchive pending = pendingArchives.get(archive);
+
+			Container container = new Container(archive.getCompression(), archive.getRevision());
+			container.compress(pending.contents, pending.keys);
+			archive.setCrc(container.crc);
+			return container.data;
+		});
+
+		storage.saveArchives(archives, data);
+		pendingArchives.clear();
+	}
+
 	public List<Index> getIndexes()
 	{
 		return indexes;
@@ -147,4 +326,51 @@ public final class Store implements Closeable
 		}
 		return null;
 	}
+
+	/**
+	 * Load and decode archives in parallel. If the storage does not support
+	 * concurrent loads the archive data is read up front on the calling thread,
+	 * and only decompression and decoding are done in parallel.
+	 *
+	 * @param archives archives to decode
+	 * @param decoder
+	 * @return the decoded archives, in the same order as {@code archives}
+	 * @throws IOException
+	 */
+	public <T> List<T> decodeArchives(List<Archive> archives, ArchiveDecoder<T> decoder) throws IOException
+	{
+		final List<byte[]> data = storage.isConcurrentLoadSupported() ? null : storage.loadArchives(archives);
+		return ParallelTasks.map(executor, archives.size(), i ->
+		{
+			Archive archive = archives.get(i);
+			return decoder.decode(archive, data != null ? data.get(i) : storage.loadArchive(archive));
+		});
+	}
+
+	/**
+	 * Load an archive and decode each of its files in parallel.
+	 *
+	 * @param archive archive to decode
+	 * @param decoder
+	 * @return the decoded files, in file order
+	 * @throws IOException
+	 */
+	public <T> List<T> decodeFiles(Archive archive, FileDecoder<T> decoder) throws IOException
+	{
+		byte[] archiveData = storage.loadArchive(archive);
+		List<FSFile> files = archive.getFiles(archiveData).getFiles();
+		return ParallelTasks.map(executor, files.size(), i -> decoder.decode(files.get(i)));
+	}
+
+	private static class PendingArchive
+	{
+		private final byte[] contents;
+		private final int[] keys;
+
+		private PendingArchive(byte[] contents, int[] keys)
+		{
+			this.contents = contents;
+			this.keys = keys;
+		}
+	}
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The archive level differences between two stores, or two versions of an index.
+ * Archives are compared by crc, revision and name hash. Added and changed archives
+ * belong to the new store, removed archives to the old one.
+ */
+public class StoreDiff
+{
+	private final List<Archive> added = new ArrayList<>();
+	private final List<Archive> changed = new ArrayList<>();
+	private final List<Archive> removed = new ArrayList<>();
+	private final Set<Integer> changedIndexes = new TreeSet<>();
+	private final Set<Integer> removedIndexes = new TreeSet<>();
+
+	/**
+	 * Compare two stores.
+	 *
+	 * @param from the old store
+	 * @param to the new store
+	 * @return the differences
+	 */
+	public static StoreDiff diff(Store from, Store to)
+	{
+		StoreDiff diff = new StoreDiff();
+
+		for (Index index : to.getIndexes())
+		{
+			diff.compare(from.findIndex(index.getId()), index);
+		}
+
+		for (Index index : from.getIndexes())
+		{
+			if (to.findIndex(index.getId()) == null)
+			{
+				diff.compare(index, null);
+			}
+		}
+
+		return diff;
+	}
+
+	/**
+	 * Compare two versions of an index.
+	 *
+	 * @param from the old index, or null if it did not exist
+	 * @param to the new index, or null if it was removed
+	 * @return the differences
+	 */
+	public static StoreDiff diff(Index from, Index to)
+	{
+		StoreDiff diff = new StoreDiff();
+		diff.compare(from, to);
+		return diff;
+	}
+
+	private void compare(Index from, Index to)
+	{
+		assert from != null || to != null;
+
+		if (to == null)
+		{
+			removed.addAll(from.getArchives());
+			removedIndexes.add(from.getId());
+			return;
+		}
+
+		int count = added.size() + changed.size() + removed.size();
+
+		for (Archive archive : to.getArchives())
+		{
+			Archive existing = from != null ? from.getArchive(archive.getArchiveId()) : null;
+			if (existing == null)
+			{
+				added.add(archive);
+			}
+			else if (isChanged(existing, archive))
+			{
+				changed.add(archive);
+			}
+		}
+
+		if (from != null)
+		{
+			for (Archive archive : from.getArchives())
+			{
+				if (to.getArchive(archive.getArchiveId()) == null)
+				{
+					removed.add(archive);
+				}
+			}
+		}
+
+		if (from == null || count != added.size() + changed.size() + removed.size()
+			|| from.getProtocol() != to.getProtocol()
+			|| from.isNamed() != to.isNamed()
+			|| from.getRevision() != to.getRevision()
+			|| from.getCompression() != to.getCompression())
+		{
+			changedIndexes.add(to.getId());
+		}
+	}
+
+	private static boolean isChanged(Archive from, Archive to)
+	{
+		return from.getCrc() != to.getCrc()
+			|| from.getRevision() != to.getRevision()
+			|| from.getNameHash() != to.getNameHash();
+	}
+
+	/**
+	 * @return archives which only exist in the new store
+	 */
+	public List<Archive> getAdded()
+	{
+		return Collections.unmodifiableList(added);
+	}
+
+	/**
+	 * @return archives of the new store which differ from the old store
+	 */
+	public List<Archive> getChanged()
+	{
+		return Collections.unmodifiableList(changed);
+	}
+
+	/**
+	 * @return archives which only exist in the old store
+	 */
+	public List<Archive> getRemoved()
+	{
+		return Collections.unmodifiableList(removed);
+	}
+
+	/**
+	 * @return ids of the indexes of the new store which have any differences
+	 */
+	public Set<Integer> getChangedIndexes()
+	{
+		return Collections.unmodifiableSet(changedIndexes);
+	}
+
+	/**
+	 * @return ids of the indexes which only exist in the old store
+	 */
+	public Set<Integer> getRemovedIndexes()
+	{
+		return Collections.unmodifiableSet(removedIndexes);
+	}
+
+	public boolean isEmpty()
+	{
+		return changedIndexes.isEmpty() && removedIndexes.isEmpty();
+	}
+
+	@Override
+	public String toString()
+	{
+		return "StoreDiff{" + "added=" + added.size() + ", changed=" + changed.size() + ", removed=" + removed.size()
+			+ ", changedIndexes=" + changedIndexes + ", removedIndexes=" + removedIndexes + '}';
+	}
+}
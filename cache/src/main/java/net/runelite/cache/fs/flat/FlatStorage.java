@@ -35,6 +35,7 @@ import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -210,7 +211,13 @@ public class FlatStorage implements Storage
 	public void save(Store store) throws IOException
 	{
 		store.getIndexes().sort(Comparator.comparing(Index::getId));
-		for (Index idx : store.getIndexes())
+		save(store, store.getIndexes());
+	}
+
+	@Override
+	public void save(Store store, Collection<Index> indexes) throws IOException
+	{
+		for (Index idx : indexes)
 		{
 			String file = idx.getId() + EXTENSION;
 			try (PrintStream br = new PrintStream(openWriter(file)))
@@ -265,4 +272,10 @@ public class FlatStorage implements Storage
 	{
 		data.put((long) archive.getIndex().getId() << 32 | archive.getArchiveId(), bytes);
 	}
+
+	@Override
+	public void removeArchive(Archive archive) throws IOException
+	{
+		data.remove((long) archive.getIndex().getId() << 32 | archive.getArchiveId());
+	}
 }
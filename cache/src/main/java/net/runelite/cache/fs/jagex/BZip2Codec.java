@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.IOException;
+import net.runelite.cache.util.BZip2;
+
+class BZip2Codec implements CompressionCodec
+{
+	@Override
+	public byte[] compress(byte[] data) throws IOException
+	{
+		return BZip2.compress(data);
+	}
+
+	@Override
+	public int decompress(byte[] in, int off, int len, byte[] out, int outOff, int outLen) throws IOException
+	{
+		return BZip2.decompress(in, off, len, out, outOff, outLen);
+	}
+
+	@Override
+	public boolean isPlausible(byte[] in, int off, int len, int decompressedLength)
+	{
+		// block or end of stream magic
+		return len >= 6
+			&& ((in[off] == 0x31 && in[off + 1] == 0x41 && in[off + 2] == 0x59)
+			|| (in[off] == 0x17 && in[off + 1] == 0x72 && in[off + 2] == 0x45));
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.IOException;
+
+/**
+ * A compression algorithm for container data. Codecs only handle the compressed
+ * payload; the container header, decompressed length and revision are written by
+ * {@link net.runelite.cache.fs.Container}. Implementations must be thread safe.
+ *
+ * @see CompressionType#register(int, CompressionCodec)
+ */
+public interface CompressionCodec
+{
+	/**
+	 * Compress data.
+	 *
+	 * @param data data to compress
+	 * @return the compressed data
+	 * @throws IOException
+	 */
+	byte[] compress(byte[] data) throws IOException;
+
+	/**
+	 * Decompress data into a caller supplied buffer.
+	 *
+	 * @param in buffer holding the compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param out output buffer
+	 * @param outOff offset in the output buffer
+	 * @param outLen maximum number of bytes to write
+	 * @return the number of bytes written
+	 * @throws IOException
+	 */
+	int decompress(byte[] in, int off, int len, byte[] out, int outOff, int outLen) throws IOException;
+
+	/**
+	 * Cheaply check whether compressed data could decompress to the given length, before
+	 * an output buffer of that size is allocated. Data decrypted with the wrong keys should
+	 * be rejected here.
+	 *
+	 * @param in buffer holding the compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param decompressedLength length the data claims to decompress to
+	 * @return false if the data is certainly invalid
+	 */
+	default boolean isPlausible(byte[] in, int off, int len, int decompressedLength)
+	{
+		return true;
+	}
+}
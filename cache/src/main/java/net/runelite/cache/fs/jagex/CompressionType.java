@@ -24,9 +24,63 @@
  */
 package net.runelite.cache.fs.jagex;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 public class CompressionType
 {
 	public static final int NONE = 0;
 	public static final int BZ2  = 1;
 	public static final int GZ   = 2;
+
+	private static final AtomicReferenceArray<CompressionCodec> CODECS = new AtomicReferenceArray<>(256);
+
+	static
+	{
+		register(BZ2, new BZip2Codec());
+		register(GZ, new GZipCodec());
+	}
+
+	/**
+	 * Get the codec for a compression type.
+	 *
+	 * @param type compression type
+	 * @return the codec, or null if the type is {@link #NONE} or unknown
+	 */
+	public static CompressionCodec getCodec(int type)
+	{
+		if (type < 0 || type >= CODECS.length())
+		{
+			return null;
+		}
+		return CODECS.get(type);
+	}
+
+	/**
+	 * Register a codec for a compression type, replacing any existing one.
+	 *
+	 * @param type compression type, stored as a single byte in the container header
+	 * @param codec codec
+	 */
+	public static void register(int type, CompressionCodec codec)
+	{
+		if (type == NONE || type < 0 || type >= CODECS.length())
+		{
+			throw new IllegalArgumentException("invalid compression type " + type);
+		}
+		CODECS.set(type, codec);
+	}
+
+	/**
+	 * Remove the codec registered for a compression type.
+	 *
+	 * @param type compression type
+	 */
+	public static void unregister(int type)
+	{
+		if (type == NONE || type < 0 || type >= CODECS.length())
+		{
+			throw new IllegalArgumentException("invalid compression type " + type);
+		}
+		CODECS.set(type, null);
+	}
 }
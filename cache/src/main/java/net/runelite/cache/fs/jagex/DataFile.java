@@ -170,6 +170,23 @@ public class DataFile implements Closeable
 	}
 
 	public DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
+	{
+		return write(indexId, archiveId, compressedData, 0);
+	}
+
+	/**
+	 * Write an archive, reusing the sector chain it was previously written to
+	 * where possible. Sectors are only reused while the existing chain is intact
+	 * and belongs to the same archive; the remainder is appended to the file.
+	 *
+	 * @param indexId index of the archive
+	 * @param archiveId archive id
+	 * @param compressedData archive data
+	 * @param overwriteSector first sector of the archive's existing chain, or 0 to append
+	 * @return
+	 * @throws IOException
+	 */
+	public DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData, int overwriteSector) throws IOException
 	{
 		int sector;
 		int startSector;
@@ -177,25 +194,57 @@ public class DataFile implements Closeable
 		byte[] writeBuffer = new byte[SECTOR_SIZE];
 		ByteBuffer data = ByteBuffer.wrap(compressedData);
 
-		sector = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
-		if (sector == 0)
+		// first sector past the end of the file
+		int end = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
+		if (end == 0)
+		{
+			end = 1;
+		}
+
+		int chainSector = -1; // next sector of the existing chain, or -1 if not reusing it
+		if (overwriteSector > 0 && overwriteSector < end)
+		{
+			chainSector = readChainedSector(overwriteSector, indexId, archiveId, 0);
+		}
+
+		if (chainSector != -1)
+		{
+			sector = overwriteSector;
+		}
+		else
 		{
-			sector = 1;
+			sector = end++;
 		}
 		startSector = sector;
 
+		int dataSize = SECTOR_SIZE - (0xFFFF < archiveId ? 10 : 8);
 		for (int part = 0; data.hasRemaining(); ++part)
 		{
-			int nextSector = sector + 1; // we always just append sectors
-			int dataToWrite;
-
-			if (0xFFFF < archiveId)
+			int nextSector = 0;
+			if (data.remaining() > dataSize)
 			{
-				if (data.remaining() <= 510)
+				int next = -1;
+				if (chainSector > 0 && chainSector < end)
 				{
-					nextSector = 0;
+					next = readChainedSector(chainSector, indexId, archiveId, part + 1);
 				}
 
+				if (next != -1)
+				{
+					nextSector = chainSector;
+					chainSector = next;
+				}
+				else
+				{
+					nextSector = end++;
+					chainSector = -1;
+				}
+			}
+
+			int dataToWrite;
+
+			if (0xFFFF < archiveId)
+			{
 				writeBuffer[0] = (byte) (archiveId >> 24);
 				writeBuffer[1] = (byte) (archiveId >> 16);
 				writeBuffer[2] = (byte) (archiveId >> 8);
@@ -217,11 +266,6 @@ public class DataFile implements Closeable
 			}
 			else
 			{
-				if (data.remaining() <= 512)
-				{
-					nextSector = 0;
-				}
-
 				writeBuffer[0] = (byte) (archiveId >> 8);
 				writeBuffer[1] = (byte) archiveId;
 				writeBuffer[2] = (byte) (part >> 8);
@@ -250,4 +294,58 @@ public class DataFile implements Closeable
 		res.compressedLength = compressedData.length;
 		return res;
 	}
+
+	/**
+	 * Read the header of a sector of an existing archive
+	 *
+	 * @return the next sector of the chain, 0 if this is the last sector,
+	 * or -1 if the sector does not belong to the given archive part
+	 * @throws IOException
+	 */
+	private int readChainedSector(int sector, int indexId, int archiveId, int part) throws IOException
+	{
+		byte[] header = new byte[10];
+		int headerSize = 0xFFFF < archiveId ? 10 : 8;
+
+		dat.seek(SECTOR_SIZE * sector);
+		if (dat.read(header, 0, headerSize) != headerSize)
+		{
+			return -1;
+		}
+
+		int currentArchive;
+		int currentPart;
+		int nextSector;
+		int currentIndex;
+		if (0xFFFF < archiveId)
+		{
+			currentArchive = ((header[0] & 0xFF) << 24)
+				| ((header[1] & 0xFF) << 16)
+				| ((header[2] & 0xFF) << 8)
+				| (header[3] & 0xFF);
+			currentPart = ((header[4] & 0xFF) << 8) | (header[5] & 0xFF);
+			nextSector = ((header[6] & 0xFF) << 16)
+				| ((header[7] & 0xFF) << 8)
+				| (header[8] & 0xFF);
+			currentIndex = header[9] & 0xFF;
+		}
+		else
+		{
+			currentArchive = ((header[0] & 0xFF) << 8)
+				| (header[1] & 0xFF);
+			currentPart = ((header[2] & 0xFF) << 8)
+				| (header[3] & 0xFF);
+			nextSector = ((header[4] & 0xFF) << 16)
+				| ((header[5] & 0xFF) << 8)
+				| (header[6] & 0xFF);
+			currentIndex = header[7] & 0xFF;
+		}
+
+		if (archiveId != currentArchive || (part & 0xFFFF) != currentPart || indexId != currentIndex)
+		{
+			return -1;
+		}
+
+		return nextSector;
+	}
 }
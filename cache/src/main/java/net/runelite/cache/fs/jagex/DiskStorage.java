@@ -28,7 +28,14 @@ import com.google.common.primitives.Ints;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
@@ -45,14 +52,20 @@ public class DiskStorage implements Storage
 {
 	private static final Logger logger = LoggerFactory.getLogger(DiskStorage.class);
 
-	private static final String MAIN_FILE_CACHE_DAT = "main_file_cache.dat2";
-	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
+	static final String MAIN_FILE_CACHE_DAT = "main_file_cache.dat2";
+	static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
+	// exists while a compaction is being moved into place, see compact()
+	static final String COMPACT_COMMIT = "main_file_cache.compact";
+	// locked while a compaction is running or being recovered, so other storages leave its files alone
+	static final String COMPACT_LOCK = "main_file_cache.compact.lock";
+	private static final String TMP = ".tmp";
 
 	private final File folder;
 
-	private final DataFile data;
+	private DataFile data;
 	private final IndexFile index255;
 	private final List<IndexFile> indexFiles = new ArrayList<>();
+	private boolean reuseSectors;
 
 	public DiskStorage(File folder) throws IOException
 	{
@@ -60,6 +73,54 @@ public class DiskStorage implements Storage
 
 		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
 		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+
+		FileLock lock = tryLockCompaction();
+		if (lock == null)
+		{
+			// the compaction files belong to the compaction which is running
+			logger.info("{} is being compacted by another storage", folder);
+			return;
+		}
+
+		try
+		{
+			if (new File(folder, COMPACT_COMMIT).exists())
+			{
+				logger.info("Finishing interrupted compaction of {}", folder);
+				finishCompact();
+			}
+			else
+			{
+				try
+				{
+					deleteCompactFiles();
+				}
+				catch (IOException ex)
+				{
+					logger.warn("Unable to delete the files of an unfinished compaction", ex);
+				}
+			}
+		}
+		finally
+		{
+			lock.channel().close();
+		}
+	}
+
+	public boolean isReuseSectors()
+	{
+		return reuseSectors;
+	}
+
+	/**
+	 * Set whether rewritten archives reuse the sectors of their previous
+	 * version, instead of always being appended to the data file.
+	 *
+	 * @param reuseSectors
+	 */
+	public void setReuseSectors(boolean reuseSectors)
+	{
+		this.reuseSectors = reuseSectors;
 	}
 
 	@Override
@@ -121,6 +182,11 @@ public class DiskStorage implements Storage
 		logger.trace("Loading index {}", index.getId());
 
 		byte[] indexData = readIndex(index.getId());
+		loadIndex(index, indexData);
+	}
+
+	static void loadIndex(Index index, byte[] indexData) throws IOException
+	{
 		Container res = Container.decompress(indexData, null);
 		byte[] data = res.data;
 
@@ -174,9 +240,15 @@ public class DiskStorage implements Storage
 	@Override
 	public void save(Store store) throws IOException
 	{
-		logger.debug("Saving store");
+		save(store, store.getIndexes());
+	}
+
+	@Override
+	public void save(Store store, Collection<Index> indexes) throws IOException
+	{
+		logger.debug("Saving {} indexes", indexes.size());
 
-		for (Index i : store.getIndexes())
+		for (Index i : indexes)
 		{
 			saveIndex(i);
 		}
@@ -190,7 +262,8 @@ public class DiskStorage implements Storage
 		Container container = new Container(index.getCompression(), -1); // index data revision is always -1
 		container.compress(data, null);
 		byte[] compressedData = container.data;
-		DataFileWriteResult res = this.data.write(index255.getIndexFileId(), index.getId(), compressedData);
+		DataFileWriteResult res = this.data.write(index255.getIndexFileId(), index.getId(), compressedData,
+			overwriteSector(index255, index.getId()));
 
 		index255.write(new IndexEntry(index255, index.getId(), res.sector, res.compressedLength));
 
@@ -199,6 +272,12 @@ public class DiskStorage implements Storage
 		index.setCrc(crc.getHash());
 	}
 
+	@Override
+	public boolean isArchiveSaveDurable()
+	{
+		return true;
+	}
+
 	@Override
 	public void saveArchive(Archive a, byte[] archiveData) throws IOException
 	{
@@ -206,7 +285,8 @@ public class DiskStorage implements Storage
 		IndexFile indexFile = getIndex(index.getId());
 		assert indexFile.getIndexFileId() == index.getId();
 
-		DataFileWriteResult res = data.write(index.getId(), a.getArchiveId(), archiveData);
+		DataFileWriteResult res = data.write(index.getId(), a.getArchiveId(), archiveData,
+			overwriteSector(indexFile, a.getArchiveId()));
 		indexFile.write(new IndexEntry(indexFile, a.getArchiveId(), res.sector, res.compressedLength));
 
 		byte compression = archiveData[0];
@@ -226,4 +306,234 @@ public class DiskStorage implements Storage
 		logger.trace("Saved archive {}/{} at sector {}, compressed length {}",
 			index.getId(), a.getArchiveId(), res.sector, res.compressedLength);
 	}
+
+	@Override
+	public void removeArchive(Archive a) throws IOException
+	{
+		Index index = a.getIndex();
+		IndexFile indexFile = getIndex(index.getId());
+
+		// a zero sector marks the entry as empty
+		indexFile.write(new IndexEntry(indexFile, a.getArchiveId(), 0, 0));
+	}
+
+	private int overwriteSector(IndexFile indexFile, int id) throws IOException
+	{
+		if (!reuseSectors)
+		{
+			return 0;
+		}
+
+		IndexEntry entry = indexFile.read(id);
+		return entry != null ? entry.getSector() : 0;
+	}
+
+	/**
+	 * Rewrite the data file so that each archive's sectors are contiguous, in index
+	 * and archive order, dropping sectors which are no longer referenced by any index.
+	 * <p>
+	 * The new data file and index files are written alongside the old ones, and then
+	 * a commit marker is created before they are moved into place. If compaction fails
+	 * before the marker exists the old files are untouched, and if it fails after, the
+	 * move is completed the next time the storage is opened. Leftover files are only
+	 * cleaned up while holding the compaction lock, so a storage opened during a
+	 * compaction leaves them alone.
+	 *
+	 * @return the number of bytes reclaimed
+	 * @throws IOException if the folder is already being compacted, or on error
+	 */
+	public long compact() throws IOException
+	{
+		FileLock lock = tryLockCompaction();
+		if (lock == null)
+		{
+			throw new IOException(folder + " is already being compacted");
+		}
+
+		try
+		{
+			File datFile = new File(folder, MAIN_FILE_CACHE_DAT);
+			long oldLength = datFile.length();
+
+			try
+			{
+				prepareCompact();
+			}
+			catch (IOException | RuntimeException ex)
+			{
+				try
+				{
+					deleteCompactFiles();
+				}
+				catch (IOException ex2)
+				{
+					ex.addSuppressed(ex2);
+				}
+				throw ex;
+			}
+
+			finishCompact();
+
+			long reclaimed = oldLength - datFile.length();
+			logger.debug("Compacted data file, reclaimed {} bytes", reclaimed);
+			return reclaimed;
+		}
+		finally
+		{
+			lock.channel().close();
+		}
+	}
+
+	/**
+	 * Lock the compaction files of the folder, which are released by closing the lock's channel
+	 *
+	 * @return the lock, or null if it is held by another storage
+	 * @throws IOException
+	 */
+	private FileLock tryLockCompaction() throws IOException
+	{
+		FileChannel channel = FileChannel.open(new File(folder, COMPACT_LOCK).toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		try
+		{
+			FileLock lock = channel.tryLock();
+			if (lock != null)
+			{
+				return lock;
+			}
+		}
+		catch (OverlappingFileLockException ex)
+		{
+			// held by another storage in this process
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			channel.close();
+			throw ex;
+		}
+
+		channel.close();
+		return null;
+	}
+
+	/**
+	 * Write the compacted data file and index files next to the current ones, and
+	 * then create the commit marker
+	 */
+	void prepareCompact() throws IOException
+	{
+		List<IndexFile> files = new ArrayList<>();
+		for (int i = 0; i < index255.getIndexCount(); ++i)
+		{
+			files.add(getIndex(i));
+		}
+		files.add(index255);
+
+		File tmpFile = new File(folder, MAIN_FILE_CACHE_DAT + TMP);
+		List<File> written = new ArrayList<>();
+		written.add(tmpFile);
+
+		int entries = 0;
+		try (DataFile out = new DataFile(tmpFile))
+		{
+			out.clear();
+
+			for (IndexFile indexFile : files)
+			{
+				int indexId = indexFile.getIndexFileId();
+				File tmpIndexFile = new File(folder, MAIN_FILE_CACHE_IDX + indexId + TMP);
+				Files.copy(new File(folder, MAIN_FILE_CACHE_IDX + indexId).toPath(), tmpIndexFile.toPath(),
+					StandardCopyOption.REPLACE_EXISTING);
+				written.add(tmpIndexFile);
+
+				try (IndexFile tmpIndex = new IndexFile(indexId, tmpIndexFile))
+				{
+					for (int id = 0, count = indexFile.getIndexCount(); id < count; ++id)
+					{
+						IndexEntry entry = indexFile.read(id);
+						if (entry == null)
+						{
+							continue;
+						}
+
+						byte[] archiveData = data.read(indexId, id, entry.getSector(), entry.getLength());
+						if (archiveData == null)
+						{
+							logger.warn("Dropping unreadable archive {}/{}", indexId, id);
+							tmpIndex.write(new IndexEntry(tmpIndex, id, 0, 0));
+							continue;
+						}
+
+						DataFileWriteResult res = out.write(indexId, id, archiveData);
+						tmpIndex.write(new IndexEntry(tmpIndex, id, res.sector, res.compressedLength));
+						++entries;
+					}
+				}
+			}
+		}
+
+		for (File file : written)
+		{
+			sync(file);
+		}
+
+		File commit = new File(folder, COMPACT_COMMIT);
+		Files.createFile(commit.toPath());
+		sync(commit);
+
+		logger.debug("Wrote compacted data file with {} index entries", entries);
+	}
+
+	/**
+	 * Move the compacted data file and index files written by {@link #prepareCompact()}
+	 * into place, and remove the commit marker. Files which have already been moved are
+	 * skipped, so this can be repeated after being interrupted.
+	 */
+	private void finishCompact() throws IOException
+	{
+		File datFile = new File(folder, MAIN_FILE_CACHE_DAT);
+		File tmpFile = new File(folder, MAIN_FILE_CACHE_DAT + TMP);
+		if (tmpFile.exists())
+		{
+			data.close();
+			Files.move(tmpFile.toPath(), datFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			data = new DataFile(datFile);
+		}
+
+		for (int i = 0; i <= 255; ++i)
+		{
+			File tmpIndexFile = new File(folder, MAIN_FILE_CACHE_IDX + i + TMP);
+			if (!tmpIndexFile.exists())
+			{
+				continue;
+			}
+
+			// the index files are kept open, so their contents are replaced in place
+			IndexFile indexFile = i == 255 ? index255 : getIndex(i);
+			indexFile.replace(Files.readAllBytes(tmpIndexFile.toPath()));
+			Files.delete(tmpIndexFile.toPath());
+		}
+
+		Files.delete(new File(folder, COMPACT_COMMIT).toPath());
+	}
+
+	/**
+	 * Delete the files of a compaction which was never committed
+	 */
+	private void deleteCompactFiles() throws IOException
+	{
+		Files.deleteIfExists(new File(folder, MAIN_FILE_CACHE_DAT + TMP).toPath());
+		for (int i = 0; i <= 255; ++i)
+		{
+			Files.deleteIfExists(new File(folder, MAIN_FILE_CACHE_IDX + i + TMP).toPath());
+		}
+	}
+
+	private static void sync(File file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE))
+		{
+			channel.force(true);
+		}
+	}
 }
@@ -62,6 +62,20 @@ public class IndexFile implements Closeable
 		idx.setLength(0L);
 	}
 
+	/**
+	 * Replace the contents of the index file, and flush them to disk
+	 *
+	 * @param contents new contents
+	 * @throws IOException
+	 */
+	public synchronized void replace(byte[] contents) throws IOException
+	{
+		idx.setLength(contents.length);
+		idx.seek(0L);
+		idx.write(contents);
+		idx.getFD().sync();
+	}
+
 	@Override
 	public int hashCode()
 	{
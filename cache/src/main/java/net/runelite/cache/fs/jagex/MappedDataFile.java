@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read only view of a data file which is memory mapped. Unlike {@link DataFile},
+ * reads do not seek and may be performed concurrently from multiple threads.
+ */
+public class MappedDataFile implements Closeable
+{
+	private static final Logger logger = LoggerFactory.getLogger(MappedDataFile.class);
+
+	private static final int SECTOR_SIZE = 520;
+	// a single mapping can be at most 2gb, so large files are mapped in chunks of whole sectors
+	private static final int SECTORS_PER_CHUNK = Integer.MAX_VALUE / SECTOR_SIZE;
+
+	private final FileChannel channel;
+	private final MappedByteBuffer[] chunks;
+	private final long length;
+
+	public MappedDataFile(File file) throws IOException
+	{
+		this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		this.length = channel.size();
+
+		long chunkSize = (long) SECTORS_PER_CHUNK * SECTOR_SIZE;
+		int numChunks = (int) ((length + chunkSize - 1) / chunkSize);
+		this.chunks = new MappedByteBuffer[numChunks];
+		for (int i = 0; i < numChunks; ++i)
+		{
+			long position = i * chunkSize;
+			chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkSize, length - position));
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		channel.close();
+	}
+
+	/**
+	 * Read the sectors of an archive. This is safe to call from multiple threads.
+	 *
+	 * @param indexId expected index of archive of contents being read
+	 * @param archiveId expected archive of contents being read
+	 * @param sector sector to start reading at
+	 * @param size size of file
+	 * @return
+	 */
+	public byte[] read(int indexId, int archiveId, int sector, int size)
+	{
+		if (sector <= 0L || length / SECTOR_SIZE < (long) sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", length, sector);
+			return null;
+		}
+
+		final int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		byte[] data = new byte[size];
+
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return null;
+			}
+
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
+			long position = (long) sector * SECTOR_SIZE;
+			if (position + headerSize + dataBlockSize > length)
+			{
+				logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+				return null;
+			}
+
+			ByteBuffer chunk = chunks[sector / SECTORS_PER_CHUNK];
+			int offset = (sector % SECTORS_PER_CHUNK) * SECTOR_SIZE;
+
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (headerSize == 10)
+			{
+				currentArchive = chunk.getInt(offset);
+				currentPart = chunk.getShort(offset + 4) & 0xFFFF;
+				nextSector = (chunk.getShort(offset + 6) & 0xFFFF) << 8
+					| chunk.get(offset + 8) & 0xFF;
+				currentIndex = chunk.get(offset + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = chunk.getShort(offset) & 0xFFFF;
+				currentPart = chunk.getShort(offset + 2) & 0xFFFF;
+				nextSector = (chunk.getShort(offset + 4) & 0xFFFF) << 8
+					| chunk.get(offset + 6) & 0xFF;
+				currentIndex = chunk.get(offset + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return null;
+			}
+
+			if (nextSector < 0 || length / SECTOR_SIZE < (long) nextSector)
+			{
+				logger.warn("Invalid next sector");
+				return null;
+			}
+
+			// absolute bulk gets are not available, so copy from a private view of the chunk
+			ByteBuffer view = chunk.duplicate();
+			view.position(offset + headerSize);
+			view.get(data, readBytesCount, dataBlockSize);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return data;
+	}
+}
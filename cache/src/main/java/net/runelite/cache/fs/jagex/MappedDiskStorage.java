@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import java.io.IOException;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read only {@link Storage} backed by memory mapped cache files. {@link #loadArchive(Archive)}
+ * may be called concurrently from multiple threads once the store has been loaded.
+ */
+public class MappedDiskStorage implements Storage
+{
+	private static final Logger logger = LoggerFactory.getLogger(MappedDiskStorage.class);
+
+	private final File folder;
+
+	private final MappedDataFile data;
+	private final MappedIndexFile index255;
+	private MappedIndexFile[] indexFiles = new MappedIndexFile[0];
+
+	public MappedDiskStorage(File folder) throws IOException
+	{
+		this.folder = folder;
+
+		if (new File(folder, DiskStorage.COMPACT_COMMIT).exists())
+		{
+			// the files are in the middle of being replaced, which only DiskStorage can finish
+			new DiskStorage(folder).close();
+		}
+
+		this.data = new MappedDataFile(new File(folder, DiskStorage.MAIN_FILE_CACHE_DAT));
+		this.index255 = new MappedIndexFile(255, new File(folder, DiskStorage.MAIN_FILE_CACHE_IDX + "255"));
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		int count = index255.getIndexCount();
+		indexFiles = new MappedIndexFile[count];
+
+		for (int i = 0; i < count; ++i)
+		{
+			store.addIndex(i);
+
+			File file = new File(folder, DiskStorage.MAIN_FILE_CACHE_IDX + i);
+			if (file.exists())
+			{
+				indexFiles[i] = new MappedIndexFile(i, file);
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		data.close();
+		index255.close();
+		for (MappedIndexFile indexFile : indexFiles)
+		{
+			if (indexFile != null)
+			{
+				indexFile.close();
+			}
+		}
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		for (Index index : store.getIndexes())
+		{
+			logger.trace("Loading index {}", index.getId());
+
+			byte[] indexData = readIndex(index.getId());
+			DiskStorage.loadIndex(index, indexData);
+		}
+	}
+
+	public byte[] readIndex(int indexId)
+	{
+		IndexEntry entry = index255.read(indexId);
+		return data.read(index255.getIndexFileId(), entry.getId(), entry.getSector(), entry.getLength());
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		throw new UnsupportedOperationException("mapped storage is read only");
+	}
+
+	@Override
+	public byte[] loadArchive(Archive archive) throws IOException
+	{
+		Index index = archive.getIndex();
+		MappedIndexFile indexFile = index.getId() < indexFiles.length ? indexFiles[index.getId()] : null;
+		if (indexFile == null)
+		{
+			logger.debug("can't read archive {} from missing index {}", archive.getArchiveId(), index.getId());
+			return null;
+		}
+
+		IndexEntry entry = indexFile.read(archive.getArchiveId());
+		if (entry == null)
+		{
+			logger.debug("can't read archive {} from index {}", archive.getArchiveId(), index.getId());
+			return null;
+		}
+
+		logger.trace("Loading archive {} for index {} from sector {} length {}",
+			archive.getArchiveId(), index.getId(), entry.getSector(), entry.getLength());
+
+		return data.read(index.getId(), entry.getId(), entry.getSector(), entry.getLength());
+	}
+
+	@Override
+	public boolean isConcurrentLoadSupported()
+	{
+		return true;
+	}
+
+	@Override
+	public void saveArchive(Archive archive, byte[] data) throws IOException
+	{
+		throw new UnsupportedOperationException("mapped storage is read only");
+	}
+}
@@ -46,6 +46,17 @@ public class InputStream extends java.io.InputStream
 		this.buffer = ByteBuffer.wrap(buffer);
 	}
 
+	/**
+	 * Create a stream over the remaining bytes of a buffer. The buffer's
+	 * contents are shared, but its position and limit are not modified.
+	 *
+	 * @param buffer buffer to read
+	 */
+	public InputStream(ByteBuffer buffer)
+	{
+		this.buffer = buffer.slice();
+	}
+
 	public byte[] getArray()
 	{
 		assert buffer.hasArray();
@@ -31,8 +31,8 @@ class Graphics3D extends Rasterizer2D
 	public static final int[] SINE = new int[2048]; // sine angles for each of the 2048 units, * 65536 and stored as an int
 	public static final int[] COSINE = new int[2048]; // cosine
 
-	private static int[] field1932 = new int[512];
-	static int[] field1933 = new int[2048];
+	private static final int[] field1932 = new int[512];
+	static final int[] field1933 = new int[2048];
 
 	static
 	{
@@ -71,6 +71,7 @@ class Graphics3D extends Rasterizer2D
 	int Rasterizer3D_clipMidY2;
 	int[] rasterClipY = new int[1024];
 	public int[] colorPalette;
+	final ModelBuffers modelBuffers = new ModelBuffers();
 
 	public Graphics3D(RSTextureProvider textureProvider)
 	{
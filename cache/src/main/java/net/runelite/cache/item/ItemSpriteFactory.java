@@ -26,6 +26,8 @@ package net.runelite.cache.item;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.providers.ItemProvider;
@@ -34,22 +36,94 @@ import net.runelite.cache.definitions.providers.SpriteProvider;
 import net.runelite.cache.definitions.providers.TextureProvider;
 import net.runelite.cache.models.FaceNormal;
 import net.runelite.cache.models.VertexNormal;
+import net.runelite.cache.util.ParallelTasks;
 
+/**
+ * Renders item icons. An instance may be used from multiple threads at once; each thread
+ * renders with its own {@link Graphics3D}, and the color palette and textures are shared.
+ * The providers must be thread safe, and the model provider must return a new
+ * {@link ModelDefinition} on each call, as models are resized and recolored for rendering.
+ */
 public class ItemSpriteFactory
 {
+	private static final double BRIGHTNESS = 0.6d;
+	private static final int[] COLOR_PALETTE = new ColorPalette(BRIGHTNESS, 0, 512).getColorPalette();
+
+	private final ItemProvider itemProvider;
+	private final ModelProvider modelProvider;
+	private final RSTextureProvider rsTextureProvider;
+	private final ThreadLocal<Graphics3D> graphics;
+	private ForkJoinPool executor = ForkJoinPool.commonPool();
+
+	public ItemSpriteFactory(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider)
+	{
+		this.itemProvider = itemProvider;
+		this.modelProvider = modelProvider;
+		this.rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		this.graphics = ThreadLocal.withInitial(this::createGraphics);
+	}
+
+	/**
+	 * Render a single sprite. Callers rendering many sprites should share an instance instead,
+	 * so the textures are only loaded once.
+	 */
 	public static final BufferedImage createSprite(ItemProvider itemProvider, ModelProvider modelProvider,
 		SpriteProvider spriteProvider, TextureProvider textureProvider,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
-		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+		ItemSpriteFactory factory = new ItemSpriteFactory(itemProvider, modelProvider, spriteProvider, textureProvider);
+		SpritePixels spritePixels = factory.createSpritePixels(factory.createGraphics(),
 			itemId, quantity, border, shadowColor, noted);
 		return spritePixels == null ? null : spritePixels.toBufferedImage();
 	}
 
-	private static final SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
-		SpriteProvider spriteProvider, TextureProvider textureProvider,
-		int itemId, int quantity, int border, int shadowColor,
+	public ForkJoinPool getExecutor()
+	{
+		return executor;
+	}
+
+	/**
+	 * Set the pool used to render batches of sprites
+	 *
+	 * @param executor
+	 */
+	public void setExecutor(ForkJoinPool executor)
+	{
+		this.executor = executor;
+	}
+
+	public BufferedImage createSprite(int itemId, int quantity, int border, int shadowColor,
+		boolean noted) throws IOException
+	{
+		SpritePixels spritePixels = createSpritePixels(graphics.get(), itemId, quantity, border, shadowColor, noted);
+		return spritePixels == null ? null : spritePixels.toBufferedImage();
+	}
+
+	/**
+	 * Render the sprites of many items in parallel
+	 *
+	 * @param itemIds items to render
+	 * @param quantity
+	 * @param border
+	 * @param shadowColor
+	 * @return the sprites, in the same order as {@code itemIds}, with null for items which have no model
+	 * @throws IOException
+	 */
+	public List<BufferedImage> createSprites(int[] itemIds, int quantity, int border, int shadowColor) throws IOException
+	{
+		return ParallelTasks.map(executor, itemIds.length, i -> createSprite(itemIds[i], quantity, border, shadowColor, false));
+	}
+
+	private Graphics3D createGraphics()
+	{
+		Graphics3D graphics = new Graphics3D(rsTextureProvider);
+		graphics.colorPalette = COLOR_PALETTE;
+		return graphics;
+	}
+
+	private SpritePixels createSpritePixels(Graphics3D graphics, int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
 		ItemDefinition item = itemProvider.provide(itemId);
@@ -86,8 +160,7 @@ public class ItemSpriteFactory
 		SpritePixels auxSpritePixels = null;
 		if (item.notedTemplate != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.notedID, 10, 1, 0, true);
+			auxSpritePixels = createSpritePixels(graphics, item.notedID, 10, 1, 0, true);
 			if (auxSpritePixels == null)
 			{
 				return null;
@@ -95,8 +168,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.boughtTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.boughtId, quantity, border, shadowColor, false);
+			auxSpritePixels = createSpritePixels(graphics, item.boughtId, quantity, border, shadowColor, false);
 			if (auxSpritePixels == null)
 			{
 				return null;
@@ -104,19 +176,14 @@ public class ItemSpriteFactory
 		}
 		else if (item.placeholderTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.placeholderId, quantity, 0, 0, false);
+			auxSpritePixels = createSpritePixels(graphics, item.placeholderId, quantity, 0, 0, false);
 			if (auxSpritePixels == null)
 			{
 				return null;
 			}
 		}
 
-		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
-
 		SpritePixels spritePixels = new SpritePixels(36, 32);
-		Graphics3D graphics = new Graphics3D(rsTextureProvider);
-		graphics.setBrightness(0.6d);
 		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
 		graphics.reset();
 		graphics.setRasterClipping();
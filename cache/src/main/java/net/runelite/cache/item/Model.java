@@ -26,24 +26,6 @@ package net.runelite.cache.item;
 
 class Model extends Renderable
 {
-	boolean[] field1887 = new boolean[4700];
-	boolean[] field1885 = new boolean[4700];
-	int[] modelViewportYs = new int[4700];
-	int[] modelViewportXs = new int[4700];
-	int[] modelViewportZs = new int[4700];
-	int[] yViewportBuffer = new int[4700];
-	int[] field1839 = new int[4700];
-	int[] field1869 = new int[4700];
-	int[] field1871 = new int[1600];
-	int[][] field1868 = new int[1600][512];
-	int[] field1872 = new int[12];
-	int[][] field1874 = new int[12][2000];
-	int[] field1857 = new int[2000];
-	int[] field1863 = new int[2000];
-	int[] field1877 = new int[12];
-	int[] field1831 = new int[10];
-	int[] field1837 = new int[10];
-	int[] xViewportBuffer = new int[10];
 	static int[] Model_sine;
 	static int[] Model_cosine;
 	static int[] field1890;
@@ -135,6 +117,14 @@ class Model extends Renderable
 
 	public final void rotateAndProject(Graphics3D graphics, int rotation_1, int yRotation, int zRotation, int xRotation, int xOffset, int yOffset, int zOffset)
 	{
+		int[] modelViewportYs = graphics.modelBuffers.modelViewportYs;
+		int[] modelViewportXs = graphics.modelBuffers.modelViewportXs;
+		int[] modelViewportZs = graphics.modelBuffers.modelViewportZs;
+		int[] yViewportBuffer = graphics.modelBuffers.yViewportBuffer;
+		int[] field1839 = graphics.modelBuffers.field1839;
+		int[] field1869 = graphics.modelBuffers.field1869;
+		int[] field1871 = graphics.modelBuffers.field1871;
+
 		field1871[0] = -1;
 		// (re?)Calculate magnitude as necessary
 		if (this.boundsType != 2 && this.boundsType != 1)
@@ -221,6 +211,22 @@ class Model extends Renderable
 
 	private void method0(Graphics3D graphics, boolean var1, boolean var3, int var4)
 	{
+		boolean[] field1887 = graphics.modelBuffers.field1887;
+		boolean[] field1885 = graphics.modelBuffers.field1885;
+		int[] modelViewportYs = graphics.modelBuffers.modelViewportYs;
+		int[] modelViewportXs = graphics.modelBuffers.modelViewportXs;
+		int[] modelViewportZs = graphics.modelBuffers.modelViewportZs;
+		int[] yViewportBuffer = graphics.modelBuffers.yViewportBuffer;
+		int[] field1839 = graphics.modelBuffers.field1839;
+		int[] field1869 = graphics.modelBuffers.field1869;
+		int[] field1871 = graphics.modelBuffers.field1871;
+		int[][] field1868 = graphics.modelBuffers.field1868;
+		int[] field1872 = graphics.modelBuffers.field1872;
+		int[][] field1874 = graphics.modelBuffers.field1874;
+		int[] field1857 = graphics.modelBuffers.field1857;
+		int[] field1863 = graphics.modelBuffers.field1863;
+		int[] field1877 = graphics.modelBuffers.field1877;
+
 		if (this.diameter < 1600)
 		{
 			for (int var5 = 0; var5 < this.diameter; ++var5)
@@ -497,6 +503,14 @@ class Model extends Renderable
 
 	private void method2706(Graphics3D graphics, int var1)
 	{
+		boolean[] field1887 = graphics.modelBuffers.field1887;
+		boolean[] field1885 = graphics.modelBuffers.field1885;
+		int[] modelViewportYs = graphics.modelBuffers.modelViewportYs;
+		int[] modelViewportXs = graphics.modelBuffers.modelViewportXs;
+		int[] yViewportBuffer = graphics.modelBuffers.yViewportBuffer;
+		int[] field1839 = graphics.modelBuffers.field1839;
+		int[] field1869 = graphics.modelBuffers.field1869;
+
 		if (field1885[var1])
 		{
 			this.method2707(graphics, var1);
@@ -560,6 +574,15 @@ class Model extends Renderable
 
 	private void method2707(Graphics3D graphics, int var1)
 	{
+		int[] modelViewportYs = graphics.modelBuffers.modelViewportYs;
+		int[] modelViewportXs = graphics.modelBuffers.modelViewportXs;
+		int[] yViewportBuffer = graphics.modelBuffers.yViewportBuffer;
+		int[] field1839 = graphics.modelBuffers.field1839;
+		int[] field1869 = graphics.modelBuffers.field1869;
+		int[] field1831 = graphics.modelBuffers.field1831;
+		int[] field1837 = graphics.modelBuffers.field1837;
+		int[] xViewportBuffer = graphics.modelBuffers.xViewportBuffer;
+
 		int var2 = graphics.centerX;
 		int var3 = graphics.centerY;
 		int var4 = 0;
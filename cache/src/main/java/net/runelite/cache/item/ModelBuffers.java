@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+/**
+ * Scratch buffers used by {@link Model} while projecting and drawing, owned by
+ * the {@link Graphics3D} doing the drawing so they are reused between models
+ */
+class ModelBuffers
+{
+	final boolean[] field1887 = new boolean[4700];
+	final boolean[] field1885 = new boolean[4700];
+	final int[] modelViewportYs = new int[4700];
+	final int[] modelViewportXs = new int[4700];
+	final int[] modelViewportZs = new int[4700];
+	final int[] yViewportBuffer = new int[4700];
+	final int[] field1839 = new int[4700];
+	final int[] field1869 = new int[4700];
+	final int[] field1871 = new int[1600];
+	final int[][] field1868 = new int[1600][512];
+	final int[] field1872 = new int[12];
+	final int[][] field1874 = new int[12][2000];
+	final int[] field1857 = new int[2000];
+	final int[] field1863 = new int[2000];
+	final int[] field1877 = new int[12];
+	final int[] field1831 = new int[10];
+	final int[] field1837 = new int[10];
+	final int[] xViewportBuffer = new int[10];
+}
@@ -24,14 +24,19 @@
  */
 package net.runelite.cache.item;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import net.runelite.cache.definitions.TextureDefinition;
 import net.runelite.cache.definitions.providers.SpriteProvider;
 import net.runelite.cache.definitions.providers.TextureProvider;
 
 public class RSTextureProvider
 {
+	// generating texture pixels modifies the sprites they are built from, which may be shared
+	private static final Object GENERATE_LOCK = new Object();
+
 	private final SpriteProvider spriteProvider;
 	TextureDefinition[] textures;
+	private final AtomicReferenceArray<int[]> pixels;
 	int maxSize;
 	int size;
 	double brightness;
@@ -62,20 +67,39 @@ public class RSTextureProvider
 		{
 			textures[textureDefinition.getId()] = textureDefinition;
 		}
+		pixels = new AtomicReferenceArray<>(textures.length);
 	}
 
+	/**
+	 * Get the pixels of a texture, generating them on first use. This is safe to
+	 * call concurrently.
+	 *
+	 * @param var1 texture id
+	 * @return
+	 */
 	public int[] load(int var1)
 	{
+		int[] texturePixels = pixels.get(var1);
+		if (texturePixels != null)
+		{
+			return texturePixels;
+		}
+
 		TextureDefinition var2 = this.textures[var1];
 		if (var2 != null)
 		{
-			if (var2.pixels != null)
+			synchronized (GENERATE_LOCK)
 			{
-				return var2.pixels;
+				if (var2.pixels == null)
+				{
+					var2.method2680(this.brightness, this.width, spriteProvider);
+				}
+
+				texturePixels = var2.pixels;
 			}
 
-			boolean var3 = var2.method2680(this.brightness, this.width, spriteProvider);
-			return var2.pixels;
+			pixels.set(var1, texturePixels);
+			return texturePixels;
 		}
 
 		return null;
@@ -25,9 +25,15 @@
 package net.runelite.cache.region;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.LocationsDefinition;
 import net.runelite.cache.definitions.MapDefinition;
@@ -37,6 +43,7 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.ParallelTasks;
 import net.runelite.cache.util.XteaKeyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,16 +70,68 @@ public class RegionLoader
 		keyManager.loadKeys();
 	}
 
+	/**
+	 * Load every region and keep them in this loader. Regions are decoded in parallel
+	 * on the store's executor.
+	 *
+	 * @throws IOException
+	 */
 	public void loadRegions() throws IOException
 	{
-		for (int i = 0; i < MAX_REGION; ++i)
+		forEachRegion(this::addRegion);
+	}
+
+	private synchronized void addRegion(Region region)
+	{
+		regions.put(region.getRegionID(), region);
+	}
+
+	/**
+	 * Decode every region in parallel on the store's executor and pass each one to
+	 * {@code consumer} as it is decoded. The regions are not kept by this loader,
+	 * but the bounds are updated as regions are decoded. {@code consumer} may be
+	 * called concurrently from multiple threads.
+	 *
+	 * @param consumer
+	 * @throws IOException
+	 */
+	public void forEachRegion(Consumer<Region> consumer) throws IOException
+	{
+		ParallelTasks.run(store.getExecutor(), () -> stream(true).forEach(region ->
 		{
-			Region region = this.loadRegionFromArchive(i);
-			if (region != null)
-			{
-				regions.put(i, region);
-			}
-		}
+			updateBounds(region);
+			consumer.accept(region);
+		}));
+	}
+
+	/**
+	 * A stream of all regions, which are decoded lazily as the stream is consumed.
+	 * The bounds of this loader are not updated.
+	 *
+	 * @param parallel whether the stream is parallel
+	 * @return
+	 */
+	public Stream<Region> stream(boolean parallel)
+	{
+		return StreamSupport.stream(new RegionSpliterator(0, MAX_REGION), parallel);
+	}
+
+	public Spliterator<Region> spliterator()
+	{
+		return new RegionSpliterator(0, MAX_REGION);
+	}
+
+	/**
+	 * Whether a region exists, without decoding it
+	 *
+	 * @param i region id
+	 * @return
+	 */
+	public boolean hasRegion(int i)
+	{
+		int x = i >> 8;
+		int y = i & 0xFF;
+		return index.findArchiveByName("m" + x + "_" + y) != null;
 	}
 
 	public Region loadRegionFromArchive(int i) throws IOException
@@ -80,7 +139,6 @@ public class RegionLoader
 		int x = i >> 8;
 		int y = i & 0xFF;
 
-		Storage storage = store.getStorage();
 		Archive map = index.findArchiveByName("m" + x + "_" + y);
 		Archive land = index.findArchiveByName("l" + x + "_" + y);
 
@@ -91,7 +149,8 @@ public class RegionLoader
 			return null;
 		}
 
-		byte[] data = map.decompress(storage.loadArchive(map));
+		// the map and landscape share one output buffer
+		ByteBuffer data = map.decompress(ByteBuffer.wrap(loadArchive(map)), null, null);
 
 		MapDefinition mapDef = new MapLoader().load(x, y, data);
 
@@ -103,7 +162,7 @@ public class RegionLoader
 		{
 			try
 			{
-				data = land.decompress(storage.loadArchive(land), keys);
+				data = land.decompress(ByteBuffer.wrap(loadArchive(land)), keys, data);
 				LocationsDefinition locDef = new LocationsLoader().load(x, y, data);
 				region.loadLocations(locDef);
 			}
@@ -116,29 +175,48 @@ public class RegionLoader
 		return region;
 	}
 
-	public void calculateBounds()
+	private byte[] loadArchive(Archive archive) throws IOException
+	{
+		Storage storage = store.getStorage();
+		if (storage.isConcurrentLoadSupported())
+		{
+			return storage.loadArchive(archive);
+		}
+
+		synchronized (storage)
+		{
+			return storage.loadArchive(archive);
+		}
+	}
+
+	public synchronized void calculateBounds()
 	{
 		for (Region region : regions.values())
 		{
-			if (lowestX == null || region.getBaseX() < lowestX.getBaseX())
-			{
-				lowestX = region;
-			}
+			updateBounds(region);
+		}
+	}
 
-			if (highestX == null || region.getBaseX() > highestX.getBaseX())
-			{
-				highestX = region;
-			}
+	private synchronized void updateBounds(Region region)
+	{
+		if (lowestX == null || region.getBaseX() < lowestX.getBaseX())
+		{
+			lowestX = region;
+		}
 
-			if (lowestY == null || region.getBaseY() < lowestY.getBaseY())
-			{
-				lowestY = region;
-			}
+		if (highestX == null || region.getBaseX() > highestX.getBaseX())
+		{
+			highestX = region;
+		}
 
-			if (highestY == null || region.getBaseY() > highestY.getBaseY())
-			{
-				highestY = region;
-			}
+		if (lowestY == null || region.getBaseY() < lowestY.getBaseY())
+		{
+			lowestY = region;
+		}
+
+		if (highestY == null || region.getBaseY() > highestY.getBaseY())
+		{
+			highestY = region;
 		}
 	}
 
@@ -154,23 +232,88 @@ public class RegionLoader
 		return regions.get((x << 8) | y);
 	}
 
-	public Region getLowestX()
+	public synchronized Region getLowestX()
 	{
 		return lowestX;
 	}
 
-	public Region getLowestY()
+	public synchronized Region getLowestY()
 	{
 		return lowestY;
 	}
 
-	public Region getHighestX()
+	public synchronized Region getHighestX()
 	{
 		return highestX;
 	}
 
-	public Region getHighestY()
+	public synchronized Region getHighestY()
 	{
 		return highestY;
 	}
+
+	private class RegionSpliterator implements Spliterator<Region>
+	{
+		private static final int MIN_SPLIT = 256;
+
+		private int index;
+		private final int end;
+
+		RegionSpliterator(int index, int end)
+		{
+			this.index = index;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Region> action)
+		{
+			while (index < end)
+			{
+				Region region;
+				try
+				{
+					region = loadRegionFromArchive(index++);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+
+				if (region != null)
+				{
+					action.accept(region);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Spliterator<Region> trySplit()
+		{
+			int remaining = end - index;
+			if (remaining < MIN_SPLIT)
+			{
+				return null;
+			}
+
+			int mid = index + remaining / 2;
+			Spliterator<Region> prefix = new RegionSpliterator(index, mid);
+			index = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize()
+		{
+			return end - index;
+		}
+
+		@Override
+		public int characteristics()
+		{
+			return ORDERED | DISTINCT | NONNULL;
+		}
+	}
 }
@@ -29,6 +29,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.util.Arrays;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
@@ -83,4 +84,34 @@ public class BZip2
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompresses headerless bzip2 data into a caller supplied buffer. The missing
+	 * header is streamed in front of the data rather than copied into a new array.
+	 *
+	 * @param bytes buffer holding the compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param out output buffer
+	 * @param outOff offset in the output buffer
+	 * @param outLen maximum number of bytes to write
+	 * @return the number of bytes written
+	 * @throws IOException if the data is not valid bzip2 data, or does not fit in {@code outLen} bytes
+	 */
+	public static int decompress(byte[] bytes, int off, int len, byte[] out, int outOff, int outLen) throws IOException
+	{
+		InputStream in = new SequenceInputStream(
+			new ByteArrayInputStream(BZIP_HEADER),
+			new ByteArrayInputStream(bytes, off, len));
+
+		try (InputStream is = new BZip2CompressorInputStream(in))
+		{
+			int n = IOUtils.readFully(is, out, outOff, outLen);
+			if (n == outLen && is.read() != -1)
+			{
+				throw new IOException("Decompressed data is longer than " + outLen + " bytes");
+			}
+			return n;
+		}
+	}
 }
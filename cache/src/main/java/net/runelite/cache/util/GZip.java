@@ -27,11 +27,16 @@ package net.runelite.cache.util;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +45,11 @@ public class GZip
 {
 	private static final Logger logger = LoggerFactory.getLogger(GZip.class);
 
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		InputStream is = new ByteArrayInputStream(bytes);
@@ -64,4 +74,147 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompresses gzip data into a caller supplied buffer, without any intermediate copies.
+	 * The crc and length in the gzip trailer are checked against the decompressed data.
+	 *
+	 * @param inflater inflater to use, it must be created with {@code nowrap} set. It is reset before use.
+	 * @param bytes buffer holding the gzip data
+	 * @param off offset of the gzip data
+	 * @param len length of the gzip data
+	 * @param out output buffer
+	 * @param outOff offset in the output buffer
+	 * @param outLen maximum number of bytes to write
+	 * @return the number of bytes written
+	 * @throws IOException if the data is not valid gzip data, does not fit in {@code outLen}
+	 * bytes, or does not match its trailer
+	 */
+	public static int decompress(Inflater inflater, byte[] bytes, int off, int len, byte[] out, int outOff, int outLen) throws IOException
+	{
+		int headerLength = readHeader(bytes, off, len);
+
+		inflater.reset();
+		inflater.setInput(bytes, off + headerLength, len - headerLength);
+
+		int written = 0;
+		try
+		{
+			while (!inflater.finished())
+			{
+				int n;
+				if (written < outLen)
+				{
+					n = inflater.inflate(out, outOff + written, outLen - written);
+				}
+				else
+				{
+					// the output is full, but the stream might still be about to end. With no room
+					// for output the inflater can only reach the end of the stream, or stop short of it.
+					inflater.inflate(out, outOff + outLen, 0);
+					if (!inflater.finished())
+					{
+						throw new IOException("Decompressed data is longer than " + outLen + " bytes");
+					}
+					break;
+				}
+
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+				{
+					throw new EOFException("Unexpected end of gzip data");
+				}
+				written += n;
+			}
+		}
+		catch (DataFormatException ex)
+		{
+			throw new IOException(ex);
+		}
+
+		readTrailer(bytes, off + len - inflater.getRemaining(), inflater.getRemaining(), out, outOff, written);
+		return written;
+	}
+
+	private static void readTrailer(byte[] b, int off, int len, byte[] out, int outOff, int outLen) throws IOException
+	{
+		if (len < 8)
+		{
+			throw new EOFException("Truncated gzip trailer");
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(out, outOff, outLen);
+
+		if (readIntLE(b, off) != (int) crc.getValue())
+		{
+			throw new ZipException("Corrupt gzip trailer");
+		}
+		// the length is stored modulo 2^32
+		if (readIntLE(b, off + 4) != outLen)
+		{
+			throw new ZipException("Corrupt gzip trailer");
+		}
+	}
+
+	private static int readIntLE(byte[] b, int off)
+	{
+		return (b[off] & 0xff) | (b[off + 1] & 0xff) << 8 | (b[off + 2] & 0xff) << 16 | (b[off + 3] & 0xff) << 24;
+	}
+
+	private static int readHeader(byte[] b, int off, int len) throws IOException
+	{
+		if (len < 10 || (b[off] & 0xff) != 0x1f || (b[off + 1] & 0xff) != 0x8b)
+		{
+			throw new IOException("Not in gzip format");
+		}
+
+		if (b[off + 2] != 8)
+		{
+			throw new IOException("Unsupported compression method");
+		}
+
+		int flags = b[off + 3] & 0xff;
+		int pos = 10;
+
+		if ((flags & FEXTRA) != 0)
+		{
+			if (pos + 2 > len)
+			{
+				throw new EOFException("Truncated gzip header");
+			}
+			pos += 2 + ((b[off + pos] & 0xff) | (b[off + pos + 1] & 0xff) << 8);
+		}
+		if ((flags & FNAME) != 0)
+		{
+			pos = skipString(b, off, len, pos);
+		}
+		if ((flags & FCOMMENT) != 0)
+		{
+			pos = skipString(b, off, len, pos);
+		}
+		if ((flags & FHCRC) != 0)
+		{
+			pos += 2;
+		}
+
+		if (pos > len)
+		{
+			throw new EOFException("Truncated gzip header");
+		}
+
+		return pos;
+	}
+
+	private static int skipString(byte[] b, int off, int len, int pos) throws IOException
+	{
+		while (pos < len)
+		{
+			if (b[off + pos++] == 0)
+			{
+				return pos;
+			}
+		}
+
+		throw new EOFException("Truncated gzip header");
+	}
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Runs parallel stream work on a given pool, rather than the common pool, and
+ * rethrows its failures as the {@link IOException} they were thrown as.
+ */
+public final class ParallelTasks
+{
+	@FunctionalInterface
+	public interface IndexedTask<T>
+	{
+		T run(int i) throws IOException;
+	}
+
+	private ParallelTasks()
+	{
+	}
+
+	/**
+	 * Run {@code task} for each index in {@code [0, count)} in parallel and wait for them
+	 *
+	 * @param pool
+	 * @param count
+	 * @param task
+	 * @return the results, in index order
+	 * @throws IOException the first exception thrown by a task
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> List<T> map(ForkJoinPool pool, int count, IndexedTask<T> task) throws IOException
+	{
+		Object[] results = new Object[count];
+		run(pool, () -> IntStream.range(0, count).parallel().forEach(i ->
+		{
+			try
+			{
+				results[i] = task.run(i);
+			}
+			catch (IOException ex)
+			{
+				throw new UncheckedIOException(ex);
+			}
+		}));
+		return (List<T>) Arrays.asList(results);
+	}
+
+	/**
+	 * Run {@code task}, which is usually a parallel stream, on {@code pool} and wait for it
+	 *
+	 * @param pool
+	 * @param task a task which throws {@link UncheckedIOException} for io errors
+	 * @throws IOException the cause of an {@link UncheckedIOException} thrown by the task
+	 */
+	public static void run(ForkJoinPool pool, Runnable task) throws IOException
+	{
+		try
+		{
+			pool.submit(task).get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) cause).getCause();
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error)
+			{
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.definitions.DefinitionSnapshot;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.savers.ItemSaver;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.jagex.CompressionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares decoding a gzipped item archive with {@link ItemLoader}, which is
+ * what {@link ItemManager} does without a snapshot, with reading the same items
+ * from {@link ItemManager}'s snapshot, and from a snapshot which sets every field
+ * reflectively.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DefinitionSnapshotBenchmark
+{
+	private static final int ITEMS = 25000;
+	private static final int CRC = 1;
+
+	private final DefinitionSnapshot<ItemDefinition> reflectiveSnapshot = new DefinitionSnapshot<>(ItemDefinition.class);
+	private byte[] archive;
+	private int[] fileIds;
+	private File file;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		Random random = new Random(42L);
+		ItemSaver saver = new ItemSaver();
+		List<ItemDefinition> items = new ArrayList<>(ITEMS);
+		ArchiveFiles archiveFiles = new ArchiveFiles();
+		fileIds = new int[ITEMS];
+		for (int i = 0; i < ITEMS; ++i)
+		{
+			ItemDefinition def = createItem(i, random);
+			items.add(def);
+
+			FSFile f = new FSFile(i);
+			f.setContents(saver.save(def));
+			archiveFiles.addFile(f);
+			fileIds[i] = i;
+		}
+
+		Container container = new Container(CompressionType.GZ, -1);
+		container.compress(archiveFiles.saveContents(), null);
+		archive = container.data;
+
+		file = File.createTempFile("items", ".snapshot");
+		ItemManager.SNAPSHOT.write(file, CRC, items);
+
+		System.out.printf("%narchive: %d bytes, snapshot: %d bytes%n", archive.length, file.length());
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		Files.delete(file.toPath());
+	}
+
+	private static ItemDefinition createItem(int id, Random random)
+	{
+		ItemDefinition def = new ItemDefinition(id);
+		def.name = "Item " + id;
+		def.cost = random.nextInt(100000);
+		def.members = random.nextBoolean();
+		def.isTradeable = random.nextBoolean();
+		def.inventoryModel = random.nextInt(40000);
+		def.zoom2d = 500 + random.nextInt(2000);
+		def.xan2d = random.nextInt(2048);
+		def.yan2d = random.nextInt(2048);
+		def.xOffset2d = random.nextInt(20) - 10;
+		def.yOffset2d = random.nextInt(20) - 10;
+		if (random.nextInt(3) == 0)
+		{
+			def.colorFind = new short[]{(short) random.nextInt(), (short) random.nextInt()};
+			def.colorReplace = new short[]{(short) random.nextInt(), (short) random.nextInt()};
+		}
+		if (random.nextInt(4) == 0)
+		{
+			def.maleModel0 = random.nextInt(40000);
+			def.femaleModel0 = random.nextInt(40000);
+			def.interfaceOptions[1] = "Wear";
+		}
+		if (random.nextInt(2) == 0)
+		{
+			def.notedTemplate = 799;
+			def.notedID = id + 1;
+		}
+		if (random.nextInt(5) == 0)
+		{
+			Map<Integer, Object> params = new HashMap<>();
+			params.put(random.nextInt(1000), random.nextInt());
+			params.put(random.nextInt(1000), "param");
+			def.params = params;
+		}
+		return def;
+	}
+
+	@Benchmark
+	public List<ItemDefinition> itemLoader() throws IOException
+	{
+		Container container = Container.decompress(archive, null);
+
+		ArchiveFiles archiveFiles = new ArchiveFiles();
+		for (int fileId : fileIds)
+		{
+			archiveFiles.addFile(new FSFile(fileId));
+		}
+		archiveFiles.loadContents(container.data);
+
+		ItemLoader loader = new ItemLoader();
+		List<ItemDefinition> items = new ArrayList<>(fileIds.length);
+		for (FSFile f : archiveFiles.getFiles())
+		{
+			items.add(loader.load(f.getFileId(), f.getContents()));
+		}
+		return items;
+	}
+
+	@Benchmark
+	public List<ItemDefinition> snapshot() throws IOException
+	{
+		return ItemManager.SNAPSHOT.read(file, CRC);
+	}
+
+	@Benchmark
+	public List<ItemDefinition> reflectiveSnapshot() throws IOException
+	{
+		return reflectiveSnapshot.read(file, CRC);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(DefinitionSnapshotBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
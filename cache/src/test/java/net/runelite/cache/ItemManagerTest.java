@@ -27,7 +27,15 @@ package net.runelite.cache;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.fs.Store;
+import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -60,4 +68,73 @@ public class ItemManagerTest
 		logger.info("Dumped to {}, java {}", dumpDir, javaDir);
 	}
 
+	@Test
+	public void testSnapshot() throws IOException
+	{
+		// give every field a value other than its default, so a setter assigning the wrong field is noticed
+		List<ItemDefinition> items = new ArrayList<>();
+		for (int i = 0; i < 10; ++i)
+		{
+			ItemDefinition def = new ItemDefinition(i);
+			int value = i * 100;
+			for (Field field : ItemDefinition.class.getDeclaredFields())
+			{
+				if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers()))
+				{
+					continue;
+				}
+
+				Class<?> type = field.getType();
+				++value;
+				try
+				{
+					if (type == int.class)
+					{
+						field.setInt(def, value);
+					}
+					else if (type == boolean.class)
+					{
+						field.setBoolean(def, true);
+					}
+					else if (type == String.class)
+					{
+						field.set(def, "s" + value);
+					}
+					else if (type == short[].class)
+					{
+						field.set(def, new short[]{(short) value});
+					}
+					else if (type == int[].class)
+					{
+						field.set(def, new int[]{value});
+					}
+					else if (type == String[].class)
+					{
+						field.set(def, new String[]{"s" + value});
+					}
+					else if (type == Map.class)
+					{
+						field.set(def, Collections.singletonMap(value, "s" + value));
+					}
+					else
+					{
+						Assert.fail("unhandled field " + field);
+					}
+				}
+				catch (IllegalAccessException ex)
+				{
+					throw new AssertionError(ex);
+				}
+			}
+			items.add(def);
+		}
+
+		File file = folder.newFile();
+		ItemManager.SNAPSHOT.write(file, 1, items);
+		Assert.assertEquals(items, ItemManager.SNAPSHOT.read(file, 1));
+
+		// the file can be replaced after it is read
+		ItemManager.SNAPSHOT.write(file, 2, items.subList(0, 1));
+		Assert.assertEquals(items.subList(0, 1), ItemManager.SNAPSHOT.read(file, 2));
+	}
 }
@@ -27,10 +27,29 @@ package net.runelite.cache;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.imageio.ImageIO;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.Djb2;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -97,4 +116,221 @@ public class MapImageDumperTest
 			}
 		}
 	}
+
+	@Test
+	@Ignore
+	public void dumpMapTiles() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			MapImageDumper dumper = new MapImageDumper(store);
+			dumper.load();
+
+			for (int i = 0; i < Region.Z; ++i)
+			{
+				dumper.writeMapTiles(outDir, i, 8, null);
+			}
+
+			logger.info("Wrote tiles to {}", outDir);
+		}
+	}
+
+	@Test
+	public void testFindChangedRegions() throws IOException
+	{
+		try (Store previous = new Store(folder.newFolder()); Store current = new Store(folder.newFolder()))
+		{
+			Index previousMaps = previous.addIndex(IndexType.MAPS.getNumber());
+			Index currentMaps = current.addIndex(IndexType.MAPS.getNumber());
+			for (int region : new int[]{50 << 8 | 50, 60 << 8 | 60, 0})
+			{
+				addMapArchives(previousMaps, region, 1);
+				addMapArchives(currentMaps, region, 1);
+			}
+
+			assertTrue(MapImageDumper.findChangedRegions(previous, current).isEmpty());
+
+			// a changed location archive, a region added at the edge of the map, and a removed region
+			currentMaps.findArchiveByName("l50_50").setCrc(2);
+			addMapArchives(currentMaps, 70 << 8 | 0, 1);
+			currentMaps.removeArchive(currentMaps.findArchiveByName("m0_0"));
+			currentMaps.removeArchive(currentMaps.findArchiveByName("l0_0"));
+
+			Set<Integer> expected = new HashSet<>();
+			for (int x = -1; x <= 1; ++x)
+			{
+				for (int y = -1; y <= 1; ++y)
+				{
+					expected.add((50 + x) << 8 | (50 + y));
+					if (y >= 0)
+					{
+						expected.add((70 + x) << 8 | y);
+						if (x >= 0)
+						{
+							expected.add(x << 8 | y);
+						}
+					}
+				}
+			}
+			assertEquals(expected, MapImageDumper.findChangedRegions(previous, current));
+		}
+	}
+
+	@Test
+	public void testDrawMapTiles() throws IOException
+	{
+		try (Store store = new Store(folder.newFolder()))
+		{
+			int[] regionIds = {50 << 8 | 50, 51 << 8 | 51, 52 << 8 | 51};
+			createStore(store, regionIds);
+
+			MapImageDumper dumper = new MapImageDumper(store);
+			dumper.load();
+
+			Map<Integer, BufferedImage> tiles = new HashMap<>();
+			dumper.drawMapTiles(0, 2, null, (tileX, tileY, image) ->
+			{
+				synchronized (tiles)
+				{
+					tiles.put(tileX << 16 | tileY, image);
+				}
+			});
+			assertEquals(new HashSet<>(Arrays.asList(25 << 16 | 25, 26 << 16 | 25)), tiles.keySet());
+
+			// the top of a tile is north, and each region matches drawing it on its own
+			RegionLoader regionLoader = new RegionLoader(store);
+			BufferedImage tile = tiles.get(25 << 16 | 25);
+			int size = tile.getWidth() / 2;
+			assertRegion(dumper, regionLoader, tile, 0, size, regionIds[0]);
+			assertRegion(dumper, regionLoader, tile, size, 0, regionIds[1]);
+			assertEquals(0, tile.getRGB(0, 0) & 0xFFFFFF);
+			assertEquals(0, tile.getRGB(2 * size - 1, 2 * size - 1) & 0xFFFFFF);
+			assertRegion(dumper, regionLoader, tiles.get(26 << 16 | 25), 0, 0, regionIds[2]);
+
+			// the eastern edge of 51_51 is blended with 52_51, which is in the next tile
+			assertNotEquals(tile.getRGB(size + size / 2, size / 2), tile.getRGB(2 * size - 1, size / 2));
+
+			tiles.clear();
+			dumper.drawMapTiles(0, 2, id -> id == regionIds[2], (tileX, tileY, image) -> tiles.put(tileX << 16 | tileY, image));
+			assertEquals(Collections.singleton(26 << 16 | 25), tiles.keySet());
+		}
+	}
+
+	@Test
+	public void testDrawMapTilesDecodesRegionsOnce() throws IOException
+	{
+		Map<Archive, Integer> loads = new ConcurrentHashMap<>();
+		DiskStorage storage = new DiskStorage(folder.newFolder())
+		{
+			@Override
+			public byte[] loadArchive(Archive archive) throws IOException
+			{
+				loads.merge(archive, 1, Integer::sum);
+				return super.loadArchive(archive);
+			}
+		};
+
+		try (Store store = new Store(storage))
+		{
+			int[] regionIds = {50 << 8 | 50, 51 << 8 | 51, 52 << 8 | 51};
+			createStore(store, regionIds);
+
+			MapImageDumper dumper = new MapImageDumper(store);
+			dumper.load();
+			loads.clear();
+
+			// 51_51 borders each of the three tiles
+			Set<Integer> tiles = ConcurrentHashMap.newKeySet();
+			dumper.drawMapTiles(0, 1, null, (tileX, tileY, image) -> tiles.add(tileX << 16 | tileY));
+			assertEquals(3, tiles.size());
+
+			Index maps = store.getIndex(IndexType.MAPS);
+			for (int regionId : regionIds)
+			{
+				Archive map = maps.findArchiveByName("m" + (regionId >> 8) + "_" + (regionId & 0xFF));
+				assertEquals(Integer.valueOf(1), loads.get(map));
+			}
+		}
+	}
+
+	private static void assertRegion(MapImageDumper dumper, RegionLoader regionLoader, BufferedImage tile, int drawX, int drawY, int regionId) throws IOException
+	{
+		BufferedImage region = dumper.drawRegion(regionLoader.loadRegionFromArchive(regionId), 0);
+		int size = region.getWidth();
+		assertNotEquals(0, region.getRGB(size / 2, size / 2) & 0xFFFFFF);
+		int[] expected = region.getRGB(0, 0, size, size, null, 0, size);
+		int[] actual = tile.getRGB(drawX, drawY, size, size, null, 0, size);
+		assertTrue(Arrays.equals(expected, actual));
+	}
+
+	/**
+	 * Create a store with the configs {@link MapImageDumper} loads and two underlays. The
+	 * last region is covered in the second underlay, and the others in the first.
+	 */
+	private static void createStore(Store store, int[] regionIds) throws IOException
+	{
+		Index configs = store.addIndex(IndexType.CONFIGS.getNumber());
+		addArchive(store, configs, ConfigType.UNDERLAY.getId(), new byte[]{1, (byte) 0xC0, 0x40, 0x20, 0}, new byte[]{1, 0x20, 0x40, (byte) 0xC0, 0});
+		addArchive(store, configs, ConfigType.OVERLAY.getId(), new byte[]{0});
+		addArchive(store, configs, ConfigType.OBJECT.getId(), new byte[]{0});
+		addArchive(store, configs, ConfigType.AREA.getId(), new byte[]{0});
+		addArchive(store, store.addIndex(IndexType.TEXTURES.getNumber()), 0, new byte[6]);
+		store.addIndex(IndexType.SPRITES.getNumber());
+
+		Index maps = store.addIndex(IndexType.MAPS.getNumber());
+		for (int regionId : regionIds)
+		{
+			// every tile of the ground plane has the underlay, the other planes are empty
+			byte[] map = new byte[Region.X * Region.Y * 2 + Region.X * Region.Y * (Region.Z - 1)];
+			for (int i = 0; i < Region.X * Region.Y; ++i)
+			{
+				map[i * 2] = (byte) (regionId == regionIds[regionIds.length - 1] ? 83 : 82);
+			}
+
+			int x = regionId >> 8;
+			int y = regionId & 0xFF;
+			addArchive(store, maps, maps.getArchives().size(), map).setNameHash(Djb2.hash("m" + x + "_" + y));
+			addArchive(store, maps, maps.getArchives().size(), new byte[0]).setNameHash(Djb2.hash("l" + x + "_" + y));
+		}
+	}
+
+	private static Archive addArchive(Store store, Index index, int id, byte[]... contents) throws IOException
+	{
+		Archive archive = index.addArchive(id);
+		archive.setCompression(CompressionType.GZ);
+
+		ArchiveFiles files = new ArchiveFiles();
+		FileData[] fileData = new FileData[contents.length];
+		for (int i = 0; i < contents.length; ++i)
+		{
+			FSFile file = new FSFile(i);
+			file.setContents(contents[i]);
+			files.addFile(file);
+			fileData[i] = new FileData();
+			fileData[i].setId(i);
+		}
+		archive.setFileData(fileData);
+
+		Container container = new Container(CompressionType.GZ, -1);
+		container.compress(files.saveContents(), null);
+		store.getStorage().saveArchive(archive, container.data);
+		return archive;
+	}
+
+	private static void addMapArchives(Index index, int regionId, int crc)
+	{
+		int x = regionId >> 8;
+		int y = regionId & 0xFF;
+		for (String prefix : new String[]{"m", "l"})
+		{
+			Archive archive = index.addArchive(index.getArchives().size() + regionId * 2);
+			archive.setNameHash(Djb2.hash(prefix + x + "_" + y));
+			archive.setCrc(crc);
+		}
+	}
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import net.runelite.cache.StoreLocation;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DefinitionSnapshotTest
+{
+	private static final int CRC = 0x12345678;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testItems() throws IOException
+	{
+		Random random = new Random(42L);
+		List<ItemDefinition> items = new ArrayList<>();
+		for (int i = 0; i < 500; ++i)
+		{
+			ItemDefinition def = new ItemDefinition(i * 3);
+			def.name = i % 7 == 0 ? null : "Item é " + i;
+			def.cost = random.nextInt();
+			def.members = random.nextBoolean();
+			def.inventoryModel = random.nextInt(30000);
+			if (i % 2 == 0)
+			{
+				def.colorFind = new short[]{(short) random.nextInt(), (short) random.nextInt()};
+				def.colorReplace = new short[]{(short) random.nextInt(), (short) random.nextInt()};
+			}
+			if (i % 5 == 0)
+			{
+				def.countCo = new int[0];
+			}
+			def.options[i % 5] = i % 3 == 0 ? null : "Option " + i;
+			if (i % 4 == 0)
+			{
+				def.params = params(random);
+			}
+			items.add(def);
+		}
+
+		DefinitionSnapshot<ItemDefinition> snapshot = new DefinitionSnapshot<>(ItemDefinition.class);
+		File file = folder.newFile();
+		snapshot.write(file, CRC, items);
+
+		Assert.assertEquals(items, snapshot.read(file, CRC));
+	}
+
+	@Test
+	public void testObjects() throws IOException
+	{
+		Random random = new Random(43L);
+		List<ObjectDefinition> objects = new ArrayList<>();
+		for (int i = 0; i < 100; ++i)
+		{
+			ObjectDefinition def = new ObjectDefinition();
+			def.setId(i);
+			def.setName("Object " + i);
+			def.setObjectModels(new int[]{random.nextInt(), random.nextInt()});
+			def.setShadow(i % 3 != 0);
+			def.setParams(i % 2 == 0 ? params(random) : null);
+			objects.add(def);
+		}
+
+		DefinitionSnapshot<ObjectDefinition> snapshot = new DefinitionSnapshot<>(ObjectDefinition.class);
+		File file = folder.newFile();
+		snapshot.write(file, CRC, objects);
+
+		Assert.assertEquals(objects, snapshot.read(file, CRC));
+	}
+
+	@Test
+	public void testSetters() throws IOException
+	{
+		List<NpcDefinition> npcs = new ArrayList<>();
+		for (int i = 0; i < 10; ++i)
+		{
+			NpcDefinition def = new NpcDefinition(i);
+			def.name = "Npc é " + i;
+			def.combatLevel = i;
+			def.models = new int[]{i, i + 1};
+			npcs.add(def);
+		}
+
+		DefinitionSnapshot<NpcDefinition> snapshot = new DefinitionSnapshot<>(NpcDefinition.class)
+			.factory(NpcDefinition::new)
+			.objectSetter("name", (def, value) -> def.name = (String) value)
+			.intSetter("combatLevel", (def, value) -> def.combatLevel = value)
+			.objectSetter("models", (def, value) -> def.models = (int[]) value);
+		File file = folder.newFile();
+		snapshot.write(file, CRC, npcs);
+
+		Assert.assertEquals(npcs, snapshot.read(file, CRC));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetterType()
+	{
+		new DefinitionSnapshot<>(NpcDefinition.class)
+			.objectSetter("combatLevel", (def, value) -> def.combatLevel = (Integer) value);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetterMissingField()
+	{
+		new DefinitionSnapshot<>(NpcDefinition.class)
+			.intSetter("missing", (def, value) ->
+			{
+			});
+	}
+
+	@Test
+	public void testStale() throws IOException
+	{
+		List<StructDefinition> structs = new ArrayList<>();
+		structs.add(new StructDefinition(1));
+
+		DefinitionSnapshot<StructDefinition> snapshot = new DefinitionSnapshot<>(StructDefinition.class);
+		File file = folder.newFile();
+		snapshot.write(file, CRC, structs);
+
+		Assert.assertNull(snapshot.read(file, CRC + 1));
+		Assert.assertNull(new DefinitionSnapshot<>(NpcDefinition.class).read(file, CRC));
+		Assert.assertNull(snapshot.read(new File(folder.getRoot(), "missing"), CRC));
+	}
+
+	@Test
+	public void testTruncated() throws IOException
+	{
+		List<NpcDefinition> npcs = new ArrayList<>();
+		for (int i = 0; i < 10; ++i)
+		{
+			NpcDefinition def = new NpcDefinition(i);
+			def.models = new int[]{i, i + 1};
+			npcs.add(def);
+		}
+
+		DefinitionSnapshot<NpcDefinition> snapshot = new DefinitionSnapshot<>(NpcDefinition.class);
+		File file = folder.newFile();
+		snapshot.write(file, CRC, npcs);
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(raf.length() - 3);
+		}
+
+		Assert.assertNull(snapshot.read(file, CRC));
+	}
+
+	private static Map<Integer, Object> params(Random random)
+	{
+		Map<Integer, Object> params = new HashMap<>();
+		for (int i = 0, count = random.nextInt(4); i < count; ++i)
+		{
+			params.put(random.nextInt(1000), random.nextBoolean() ? "param " + i : random.nextInt());
+		}
+		return params;
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares looking up and iterating item definitions in a {@link HashMap} with a
+ * {@link DefinitionTable}. Ids are dense, as they are for the cache's item definitions,
+ * and looked up in random order. The retained size of each structure, excluding the
+ * definitions themselves, is printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DefinitionTableBenchmark
+{
+	private static final int ITEMS = 30000;
+
+	private List<ItemDefinition> items;
+	private Map<Integer, ItemDefinition> map;
+	private DefinitionTable<ItemDefinition> table;
+	private int[] lookups;
+
+	@Setup
+	public void setup()
+	{
+		items = new ArrayList<>(ITEMS);
+		for (int i = 0; i < ITEMS; ++i)
+		{
+			ItemDefinition def = new ItemDefinition(i);
+			def.cost = i;
+			items.add(def);
+		}
+		Collections.shuffle(items, new Random(42L));
+
+		map = newMap();
+		table = newTable();
+
+		Random random = new Random(43L);
+		lookups = new int[ITEMS];
+		for (int i = 0; i < lookups.length; ++i)
+		{
+			lookups[i] = random.nextInt(ITEMS);
+		}
+
+		System.out.printf("%nHashMap: %d bytes, DefinitionTable: %d bytes%n",
+			retainedSize(this::newMap), retainedSize(this::newTable));
+	}
+
+	private Map<Integer, ItemDefinition> newMap()
+	{
+		Map<Integer, ItemDefinition> map = new HashMap<>();
+		for (ItemDefinition def : items)
+		{
+			map.put(def.id, def);
+		}
+		return map;
+	}
+
+	private DefinitionTable<ItemDefinition> newTable()
+	{
+		DefinitionTable<ItemDefinition> table = new DefinitionTable<>();
+		for (ItemDefinition def : items)
+		{
+			table.put(def.id, def);
+		}
+		return table;
+	}
+
+	private static long retainedSize(Supplier<?> supplier)
+	{
+		final int copies = 20;
+		Object[] retained = new Object[copies];
+
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		long before = runtime.totalMemory() - runtime.freeMemory();
+		for (int i = 0; i < copies; ++i)
+		{
+			retained[i] = supplier.get();
+		}
+		System.gc();
+		long after = runtime.totalMemory() - runtime.freeMemory();
+
+		return retained.length > 0 ? (after - before) / copies : 0;
+	}
+
+	@Benchmark
+	public int hashMapGet()
+	{
+		int sum = 0;
+		for (int id : lookups)
+		{
+			sum += map.get(id).cost;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int tableGet()
+	{
+		int sum = 0;
+		for (int id : lookups)
+		{
+			sum += table.get(id).cost;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int hashMapValues()
+	{
+		int sum = 0;
+		for (ItemDefinition def : map.values())
+		{
+			sum += def.cost;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int tableValues()
+	{
+		int sum = 0;
+		for (ItemDefinition def : table.values())
+		{
+			sum += def.cost;
+		}
+		return sum;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(DefinitionTableBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
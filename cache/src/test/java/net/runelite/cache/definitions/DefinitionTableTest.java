@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DefinitionTableTest
+{
+	@Test
+	public void testDenseAndSparse()
+	{
+		DefinitionTable<String> table = new DefinitionTable<>();
+		table.put(5, "five");
+		table.put(0, "zero");
+		table.put(1_000_000, "million");
+		table.put(2000, "two thousand");
+
+		Assert.assertEquals(4, table.size());
+		Assert.assertEquals("zero", table.get(0));
+		Assert.assertEquals("five", table.get(5));
+		Assert.assertEquals("two thousand", table.get(2000));
+		Assert.assertEquals("million", table.get(1_000_000));
+		Assert.assertEquals("million", table.get((Object) 1_000_000));
+		Assert.assertNull(table.get(1));
+		Assert.assertNull(table.get(-1));
+		Assert.assertNull(table.get(999_999));
+
+		List<Integer> ids = new ArrayList<>(table.keySet());
+		Assert.assertEquals("[0, 5, 2000, 1000000]", ids.toString());
+		Assert.assertEquals("[zero, five, two thousand, million]", new ArrayList<>(table.values()).toString());
+
+		Assert.assertEquals("five", table.put(5, "5"));
+		Assert.assertEquals(4, table.size());
+		Assert.assertEquals("5", table.remove(5));
+		Assert.assertNull(table.remove(5));
+		Assert.assertEquals(3, table.size());
+	}
+
+	@Test
+	public void testMatchesMap()
+	{
+		Random random = new Random(42L);
+		DefinitionTable<Integer> table = new DefinitionTable<>();
+		Map<Integer, Integer> map = new HashMap<>();
+
+		for (int i = 0; i < 20000; ++i)
+		{
+			// mostly dense ids, with some far out of range
+			int id = random.nextInt(10) == 0 ? random.nextInt(Integer.MAX_VALUE) : random.nextInt(30000);
+			Integer value = i;
+			if (random.nextInt(5) == 0)
+			{
+				Assert.assertEquals(map.remove(id), table.remove(id));
+			}
+			else
+			{
+				Assert.assertEquals(map.put(id, value), table.put(id, value));
+			}
+			Assert.assertEquals(map.size(), table.size());
+		}
+
+		for (Map.Entry<Integer, Integer> entry : map.entrySet())
+		{
+			Assert.assertEquals(entry.getValue(), table.get((int) entry.getKey()));
+		}
+
+		Assert.assertEquals(new ArrayList<>(new TreeMap<>(map).entrySet()), new ArrayList<>(table.entrySet()));
+		Assert.assertEquals(map, table);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeId()
+	{
+		new DefinitionTable<String>().put(-1, "negative");
+	}
+}
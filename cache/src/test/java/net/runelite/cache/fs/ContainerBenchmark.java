@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link Container#decompress(byte[], int[])} with {@link ContainerDecoder}
+ * decompressing into a reused buffer, for every unencrypted archive of the models and
+ * maps indexes. Run with the gc profiler, which {@link #main(String[])} enables, to
+ * compare the allocation rates ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ContainerBenchmark
+{
+	@Param({"MODELS", "MAPS"})
+	private IndexType indexType;
+
+	private final List<byte[]> archives = new ArrayList<>();
+	private final ContainerDecoder decoder = new ContainerDecoder();
+
+	@Setup
+	public void setup() throws IOException
+	{
+		try (Store store = new Store(new DiskStorage(StoreLocation.LOCATION)))
+		{
+			store.load();
+
+			Storage storage = store.getStorage();
+			for (Archive archive : store.getIndex(indexType).getArchives())
+			{
+				byte[] data = storage.loadArchive(archive);
+				if (data == null)
+				{
+					continue;
+				}
+
+				try
+				{
+					Container.decompress(data, null);
+				}
+				catch (IOException | RuntimeException ex)
+				{
+					// encrypted landscape archives
+					continue;
+				}
+
+				archives.add(data);
+			}
+		}
+	}
+
+	@Benchmark
+	public long container() throws IOException
+	{
+		long total = 0;
+		for (byte[] data : archives)
+		{
+			total += Container.decompress(data, null).data.length;
+		}
+		return total;
+	}
+
+	@Benchmark
+	public long decoder() throws IOException
+	{
+		long total = 0;
+		for (byte[] data : archives)
+		{
+			total += decoder.decompress(ByteBuffer.wrap(data), null).limit();
+		}
+		return total;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ContainerBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.build()).run();
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import net.runelite.cache.fs.jagex.CompressionType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class ContainerDecoderTest
+{
+	private static final int[] KEYS = new int[]
+	{
+		4, 8, 15, 16
+	};
+
+	@Test
+	public void testDecompress() throws IOException
+	{
+		for (int compression : new int[]{CompressionType.NONE, CompressionType.BZ2, CompressionType.GZ})
+		{
+			for (int[] keys : new int[][]{null, KEYS})
+			{
+				byte[] data = randomData(4096);
+
+				Container container = new Container(compression, 42);
+				container.compress(data, keys);
+
+				ContainerDecoder decoder = new ContainerDecoder();
+				ByteBuffer out = decoder.decompress(ByteBuffer.wrap(container.data), keys, null);
+
+				Container expected = Container.decompress(container.data, keys);
+				assertArrayEquals(expected.data, toArray(out));
+				assertArrayEquals(data, toArray(out));
+				assertEquals(expected.crc, decoder.getCrc());
+				assertEquals(42, decoder.getRevision());
+				assertEquals(compression, decoder.getCompression());
+			}
+		}
+	}
+
+	@Test
+	public void testReuseBuffer() throws IOException
+	{
+		ContainerDecoder decoder = new ContainerDecoder();
+		ByteBuffer out = ByteBuffer.allocate(8192);
+
+		for (int size : new int[]{4096, 100, 8192})
+		{
+			byte[] data = randomData(size);
+
+			Container container = new Container(CompressionType.GZ, -1);
+			container.compress(data, null);
+
+			ByteBuffer result = decoder.decompress(ByteBuffer.wrap(container.data), null, out);
+			assertSame(out, result);
+			assertArrayEquals(data, toArray(result));
+			assertEquals(-1, decoder.getRevision());
+		}
+
+	}
+
+	@Test
+	public void testLargeBufferNotRetained() throws IOException
+	{
+		ContainerDecoder decoder = new ContainerDecoder();
+
+		Container small = new Container(CompressionType.GZ, -1);
+		small.compress(randomData(4096), null);
+		Container large = new Container(CompressionType.GZ, -1);
+		large.compress(new byte[ContainerDecoder.MAX_RETAINED_SIZE + 1], null);
+
+		ByteBuffer out = decoder.decompress(ByteBuffer.wrap(small.data), null);
+		assertSame(out, decoder.decompress(ByteBuffer.wrap(small.data), null));
+
+		ByteBuffer largeOut = decoder.decompress(ByteBuffer.wrap(large.data), null);
+		assertEquals(ContainerDecoder.MAX_RETAINED_SIZE + 1, largeOut.limit());
+		assertNotSame(largeOut, decoder.decompress(ByteBuffer.wrap(large.data), null));
+	}
+
+	@Test
+	public void testDirectSlice() throws IOException
+	{
+		byte[] data = randomData(1024);
+
+		Container container = new Container(CompressionType.BZ2, 7);
+		container.compress(data, KEYS);
+
+		// container in the middle of a larger, direct, buffer
+		ByteBuffer in = ByteBuffer.allocateDirect(container.data.length + 16);
+		in.position(8);
+		in.put(container.data);
+		in.position(8);
+		in.limit(8 + container.data.length);
+
+		ContainerDecoder decoder = new ContainerDecoder();
+		ByteBuffer out = decoder.decompress(in.slice(), KEYS, null);
+		assertArrayEquals(data, toArray(out));
+		assertEquals(7, decoder.getRevision());
+	}
+
+	@Test(expected = IOException.class)
+	public void testWrongKeys() throws IOException
+	{
+		byte[] data = randomData(1024);
+
+		Container container = new Container(CompressionType.GZ, -1);
+		container.compress(data, KEYS);
+
+		ContainerDecoder decoder = new ContainerDecoder();
+		decoder.decompress(ByteBuffer.wrap(container.data), new int[]{1, 2, 3, 4}, null);
+	}
+
+	private static byte[] randomData(int size)
+	{
+		// half random, half zeros, so the data actually compresses
+		Random random = new Random(size);
+		byte[] data = new byte[size];
+		for (int i = 0; i < size; i += 2)
+		{
+			data[i] = (byte) random.nextInt();
+		}
+		return data;
+	}
+
+	private static byte[] toArray(ByteBuffer buffer)
+	{
+		byte[] b = new byte[buffer.remaining()];
+		buffer.duplicate().get(b);
+		return b;
+	}
+}
@@ -26,12 +26,26 @@ package net.runelite.cache.fs;
 
 import java.io.IOException;
 import java.util.Random;
+import net.runelite.cache.fs.jagex.CompressionCodec;
+import net.runelite.cache.fs.jagex.CompressionType;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.After;
 import org.junit.Test;
 
 public class ContainerTest
 {
+	private static final int CUSTOM = 3;
+
+	@After
+	public void after()
+	{
+		if (CompressionType.getCodec(CUSTOM) != null)
+		{
+			CompressionType.unregister(CUSTOM);
+		}
+	}
 
 	@Test
 	public void testCompress() throws IOException
@@ -52,4 +66,45 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testCustomCodec() throws IOException
+	{
+		// reverses the data
+		CompressionType.register(CUSTOM, new CompressionCodec()
+		{
+			@Override
+			public byte[] compress(byte[] data)
+			{
+				byte[] out = new byte[data.length];
+				for (int i = 0; i < data.length; ++i)
+				{
+					out[i] = data[data.length - 1 - i];
+				}
+				return out;
+			}
+
+			@Override
+			public int decompress(byte[] in, int off, int len, byte[] out, int outOff, int outLen)
+			{
+				for (int i = 0; i < len; ++i)
+				{
+					out[outOff + i] = in[off + len - 1 - i];
+				}
+				return len;
+			}
+		});
+
+		byte[] data = new byte[]{1, 2, 3, 4, 5};
+
+		Container container = new Container(CUSTOM, 42);
+		container.compress(data, null);
+		assertArrayEquals(new byte[]{3, 0, 0, 0, 5, 0, 0, 0, 5, 5, 4, 3, 2, 1, 0, 42}, container.data);
+
+		Container decompressed = Container.decompress(container.data, null);
+		assertArrayEquals(data, decompressed.data);
+		assertEquals(CUSTOM, decompressed.compression);
+		assertEquals(42, decompressed.revision);
+		assertEquals(container.crc, decompressed.crc);
+	}
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import net.runelite.cache.util.Djb2;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class IndexTest
+{
+	@Test
+	public void testGetArchive()
+	{
+		Index index = new Index(0);
+		Archive a = index.addArchive(3);
+		Archive b = index.addArchive(7);
+
+		assertSame(a, index.getArchive(3));
+		assertSame(b, index.getArchive(7));
+		assertNull(index.getArchive(5));
+
+		index.removeArchive(a);
+		assertNull(index.getArchive(3));
+		assertSame(b, index.getArchive(7));
+	}
+
+	@Test
+	public void testFindArchiveByName()
+	{
+		Index index = new Index(0);
+		Archive m = index.addArchive(0);
+		m.setNameHash(Djb2.hash("m50_50"));
+		Archive l = index.addArchive(1);
+		l.setNameHash(Djb2.hash("l50_50"));
+
+		assertSame(m, index.findArchiveByName("m50_50"));
+		assertSame(l, index.findArchiveByName("l50_50"));
+		assertNull(index.findArchiveByName("m50_51"));
+
+		// renaming an archive after a lookup must be visible
+		l.setNameHash(Djb2.hash("l50_51"));
+		assertNull(index.findArchiveByName("l50_50"));
+		assertSame(l, index.findArchiveByName("l50_51"));
+
+		// with duplicate names, the first archive wins
+		Archive dup = index.addArchive(2);
+		dup.setNameHash(m.getNameHash());
+		assertSame(m, index.findArchiveByName("m50_50"));
+
+		index.removeArchive(m);
+		assertSame(dup, index.findArchiveByName("m50_50"));
+	}
+
+	@Test
+	public void testSortArchives()
+	{
+		Index index = new Index(0);
+		Archive b = index.addArchive(7);
+		b.setNameHash(Djb2.hash("m50_50"));
+		Archive a = index.addArchive(3);
+		Archive dup = index.addArchive(3);
+		dup.setNameHash(b.getNameHash());
+
+		assertSame(a, index.getArchive(3));
+		assertSame(b, index.findArchiveByName("m50_50"));
+
+		index.getArchives().sort(Comparator.comparing(Archive::getArchiveId));
+		assertEquals(Arrays.asList(a, dup, b), index.getArchives());
+		assertSame(a, index.getArchive(3));
+		assertSame(dup, index.findArchiveByName("m50_50"));
+	}
+
+	@Test
+	public void testArchivesChangedDirectly()
+	{
+		Index index = new Index(0);
+		Archive a = index.addArchive(3);
+		assertSame(a, index.getArchive(3));
+
+		Archive b = new Archive(index, 7);
+		b.setNameHash(Djb2.hash("m50_50"));
+		index.getArchives().add(b);
+		assertSame(b, index.getArchive(7));
+		assertSame(b, index.findArchiveByName("m50_50"));
+
+		index.getArchives().remove(a);
+		assertNull(index.getArchive(3));
+
+		index.getArchives().clear();
+		assertNull(index.getArchive(7));
+		assertNull(index.findArchiveByName("m50_50"));
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StoreDiffTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testDiff()
+	{
+		Index from = new Index(0);
+		Index to = new Index(0);
+
+		for (int i = 0; i < 10; ++i)
+		{
+			from.addArchive(i).setCrc(i);
+			to.addArchive(i).setCrc(i);
+		}
+
+		from.addArchive(10);
+		to.getArchive(3).setCrc(42);
+		to.getArchive(4).setRevision(1);
+		to.getArchive(5).setNameHash(7);
+		to.addArchive(11);
+
+		StoreDiff diff = StoreDiff.diff(from, to);
+		assertEquals(Collections.singletonList(to.getArchive(11)), diff.getAdded());
+		assertEquals(Arrays.asList(to.getArchive(3), to.getArchive(4), to.getArchive(5)), diff.getChanged());
+		assertEquals(Collections.singletonList(from.getArchive(10)), diff.getRemoved());
+		assertEquals(Collections.singleton(0), diff.getChangedIndexes());
+
+		assertTrue(StoreDiff.diff(from, from).isEmpty());
+		assertEquals(11, StoreDiff.diff(null, from).getAdded().size());
+		assertEquals(11, StoreDiff.diff(from, null).getRemoved().size());
+	}
+
+	@Test
+	public void testUpdate() throws IOException
+	{
+		File sourceRoot = folder.newFolder();
+		File targetRoot = folder.newFolder();
+
+		try (Store source = new Store(sourceRoot); Store target = new Store(targetRoot))
+		{
+			Index sourceIndex = source.addIndex(0);
+			for (int i = 0; i < 8; ++i)
+			{
+				addArchive(source, sourceIndex, i, i);
+			}
+			source.save();
+
+			assertEquals(8, target.update(source).getAdded().size());
+
+			// change one archive, remove one, and add one
+			addArchive(source, sourceIndex, 2, 100);
+			sourceIndex.removeArchive(sourceIndex.getArchive(5));
+			addArchive(source, sourceIndex, 9, 9);
+			source.save();
+
+			long length = new File(targetRoot, "main_file_cache.dat2").length();
+
+			StoreDiff diff = target.update(source);
+			assertEquals(1, diff.getAdded().size());
+			assertEquals(1, diff.getChanged().size());
+			assertEquals(1, diff.getRemoved().size());
+			assertTrue(StoreDiff.diff(target, source).isEmpty());
+
+			// only the changed archives and the index are appended
+			long grown = new File(targetRoot, "main_file_cache.dat2").length() - length;
+			assertTrue(grown <= 4 * 520);
+
+			try (Store reloaded = new Store(targetRoot))
+			{
+				reloaded.load();
+				assertEquals(source, reloaded);
+
+				Index index = reloaded.findIndex(0);
+				assertNull(index.getArchive(5));
+				assertNull(reloaded.getStorage().loadArchive(new Archive(index, 5)));
+				assertArrayEquals(new byte[]{100}, index.getArchive(2).decompress(reloaded.getStorage().loadArchive(index.getArchive(2))));
+				assertArrayEquals(new byte[]{9}, index.getArchive(9).decompress(reloaded.getStorage().loadArchive(index.getArchive(9))));
+			}
+		}
+	}
+
+	private static void addArchive(Store store, Index index, int id, int contents) throws IOException
+	{
+		Archive archive = index.getArchive(id);
+		if (archive == null)
+		{
+			archive = index.addArchive(id);
+		}
+		archive.setCompression(CompressionType.GZ);
+		archive.setFileData(new FileData[]{new FileData()});
+
+		Container container = new Container(CompressionType.GZ, -1);
+		container.compress(new byte[]{(byte) contents}, null);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+}
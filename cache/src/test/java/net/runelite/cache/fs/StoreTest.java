@@ -26,8 +26,13 @@ package net.runelite.cache.fs;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.fs.jagex.CompressionType;
 import net.runelite.cache.index.FileData;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -148,4 +153,161 @@ public class StoreTest
 			}
 		}
 	}
+
+	@Test
+	public void testDecodeArchives() throws IOException
+	{
+		File root = folder.newFolder();
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try (Store store = new Store(root))
+		{
+			store.setExecutor(pool);
+			Index index = store.addIndex(0);
+
+			for (int i = 0; i < 64; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[i + 1]);
+
+				ArchiveFiles files = new ArchiveFiles();
+				for (int j = 0; j <= i; ++j)
+				{
+					FileData fileData = archive.getFileData()[j] = new FileData();
+					fileData.setId(j);
+
+					FSFile file = new FSFile(j);
+					file.setContents(new byte[]{(byte) i, (byte) j});
+					files.addFile(file);
+				}
+
+				Container container = new Container(CompressionType.GZ, -1);
+				container.compress(files.saveContents(), null);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			List<Integer> fileCounts = store.decodeArchives(index.getArchives(),
+				(archive, data) -> archive.getFiles(data).getFiles().size());
+			for (int i = 0; i < 64; ++i)
+			{
+				Assert.assertEquals(i + 1, (int) fileCounts.get(i));
+			}
+
+			List<byte[]> contents = store.decodeFiles(index.getArchive(63), FSFile::getContents);
+			Assert.assertEquals(64, contents.size());
+			for (int j = 0; j < 64; ++j)
+			{
+				Assert.assertTrue(Arrays.equals(new byte[]{63, (byte) j}, contents.get(j)));
+			}
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testSaveArchiveContents() throws IOException
+	{
+		File root = folder.newFolder();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		int[] keys = new int[]{1, 2, 3, 4};
+
+		try (Store store = new Store(root))
+		{
+			store.setExecutor(pool);
+			Index index = store.addIndex(0);
+
+			for (int i = 0; i < 64; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setCompression(i % 2 == 0 ? CompressionType.GZ : CompressionType.BZ2);
+				archive.setRevision(i);
+				archive.setFileData(new FileData[]{new FileData()});
+
+				store.setArchiveContents(archive, new byte[]{(byte) i, 1, 2, 3}, i == 7 ? keys : null);
+			}
+
+			store.save();
+
+			try (Store store2 = new Store(root))
+			{
+				store2.load();
+
+				Assert.assertEquals(store, store2);
+
+				Index index2 = store2.findIndex(0);
+				for (int i = 0; i < 64; ++i)
+				{
+					Archive archive = index2.getArchive(i);
+					byte[] data = archive.decompress(store2.getStorage().loadArchive(archive), i == 7 ? keys : null);
+					Assert.assertArrayEquals(new byte[]{(byte) i, 1, 2, 3}, data);
+					Assert.assertEquals(index.getArchive(i).getCrc(), archive.getCrc());
+				}
+			}
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testSaveArchiveContentsFlat() throws IOException
+	{
+		File root = folder.newFolder();
+
+		try (Store store = new Store(new FlatStorage(root)))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 8; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setCompression(CompressionType.GZ);
+				archive.setFileData(new FileData[]{new FileData()});
+				store.setArchiveContents(archive, new byte[]{(byte) i});
+			}
+			store.save();
+
+			try (Store store2 = new Store(new FlatStorage(root)))
+			{
+				store2.load();
+				Assert.assertEquals(store, store2);
+
+				Archive archive = store2.findIndex(0).getArchive(5);
+				Assert.assertArrayEquals(new byte[]{5}, archive.decompress(store2.getStorage().loadArchive(archive)));
+			}
+		}
+	}
+
+	@Test
+	public void testUpdateSavesArchiveContents() throws IOException
+	{
+		try (Store source = new Store(folder.newFolder()); Store target = new Store(folder.newFolder()))
+		{
+			Archive sourceArchive = source.addIndex(0).addArchive(0);
+			sourceArchive.setFileData(new FileData[]{new FileData()});
+			source.setArchiveContents(sourceArchive, new byte[]{1});
+			source.save();
+
+			Archive targetArchive = target.addIndex(0).addArchive(0);
+			targetArchive.setFileData(new FileData[]{new FileData()});
+			target.setArchiveContents(targetArchive, new byte[]{1});
+
+			// the pending archive is written first, so it is identical to the source
+			Assert.assertTrue(target.update(source).isEmpty());
+			Assert.assertEquals(sourceArchive.getCrc(), targetArchive.getCrc());
+
+			source.setArchiveContents(sourceArchive, new byte[]{2});
+			try
+			{
+				target.update(source);
+				Assert.fail();
+			}
+			catch (IllegalStateException ex)
+			{
+				// expected
+			}
+		}
+	}
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads every archive of a synthetic cache whose archives have been rewritten several
+ * times in random order, before and after {@link DiskStorage#compact()}. The bytes
+ * reclaimed by compaction are logged during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DataFileCompactionBenchmark
+{
+	private static final Logger logger = LoggerFactory.getLogger(DataFileCompactionBenchmark.class);
+
+	private static final int ARCHIVES = 4096;
+	private static final int REWRITES = 4;
+
+	@Param({"false", "true"})
+	private boolean compacted;
+
+	private File folder;
+	private Store store;
+	private List<Archive> archives;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		folder = Files.createTempDirectory("cache").toFile();
+
+		Random random = new Random(42L);
+		try (Store store = new Store(folder))
+		{
+			Index index = store.addIndex(0);
+			List<Archive> archives = new ArrayList<>();
+			for (int i = 0; i < ARCHIVES; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[]{new FileData()});
+				archives.add(archive);
+			}
+
+			for (int pass = 0; pass < REWRITES; ++pass)
+			{
+				Collections.shuffle(archives, random);
+				for (Archive archive : archives)
+				{
+					byte[] data = new byte[random.nextInt(16384)];
+					random.nextBytes(data);
+
+					Container container = new Container(CompressionType.NONE, -1);
+					container.compress(data, null);
+					store.getStorage().saveArchive(archive, container.data);
+				}
+			}
+
+			store.save();
+		}
+
+		if (compacted)
+		{
+			try (DiskStorage storage = new DiskStorage(folder))
+			{
+				long length = new File(folder, DiskStorage.MAIN_FILE_CACHE_DAT).length();
+				long reclaimed = storage.compact();
+				logger.info("Compaction reclaimed {} of {} bytes", reclaimed, length);
+			}
+		}
+
+		store = new Store(folder);
+		store.load();
+		archives = store.findIndex(0).getArchives();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		store.close();
+		for (File file : folder.listFiles())
+		{
+			file.delete();
+		}
+		folder.delete();
+	}
+
+	@Benchmark
+	public long readAll() throws IOException
+	{
+		long total = 0;
+		for (Archive archive : archives)
+		{
+			total += store.getStorage().loadArchive(archive).length;
+		}
+		return total;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(DataFileCompactionBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -167,4 +167,47 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testOverwrite() throws IOException
+	{
+		File file = folder.newFile();
+		DataFile df = new DataFile(file);
+
+		byte[] b = new byte[2000];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		DataFileWriteResult res = df.write(2, 0x10000, b);
+		DataFileWriteResult other = df.write(2, 0x10001, b);
+		long length = file.length();
+
+		// shorter, fits in the existing chain
+		byte[] b2 = new byte[1500];
+		System.arraycopy(b, 0, b2, 0, b2.length);
+		DataFileWriteResult res2 = df.write(2, 0x10000, b2, res.sector);
+		Assert.assertEquals(res.sector, res2.sector);
+		Assert.assertEquals(length, file.length());
+		Assert.assertArrayEquals(b2, df.read(2, 0x10000, res2.sector, res2.compressedLength));
+
+		// longer, reuses the now three sector chain and appends the other three
+		byte[] b3 = new byte[3000];
+		DataFileWriteResult res3 = df.write(2, 0x10000, b3, res.sector);
+		Assert.assertEquals(res.sector, res3.sector);
+		Assert.assertEquals(sectors(length) + 3, sectors(file.length()));
+		Assert.assertArrayEquals(b3, df.read(2, 0x10000, res3.sector, res3.compressedLength));
+
+		// another archive's chain is never reused
+		DataFileWriteResult res4 = df.write(2, 0x10000, b, other.sector);
+		Assert.assertNotEquals(other.sector, res4.sector);
+		Assert.assertArrayEquals(b, df.read(2, 0x10001, other.sector, other.compressedLength));
+		Assert.assertArrayEquals(b, df.read(2, 0x10000, res4.sector, res4.compressedLength));
+	}
+
+	private static long sectors(long length)
+	{
+		return (length + 519) / 520;
+	}
 }
@@ -25,6 +25,12 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
@@ -99,4 +105,188 @@ public class DiskStorageTest
 		}
 	}
 
+	@Test
+	public void testCompact() throws Exception
+	{
+		File file = folder.newFolder();
+		createFragmentedCache(file);
+
+		long reclaimed;
+		long length = new File(file, DiskStorage.MAIN_FILE_CACHE_DAT).length();
+		try (DiskStorage storage = new DiskStorage(file))
+		{
+			reclaimed = storage.compact();
+		}
+
+		assertTrue(reclaimed > 0);
+		assertEquals(length - reclaimed, new File(file, DiskStorage.MAIN_FILE_CACHE_DAT).length());
+		// 16 archives of 2 sectors, and the index, after the unused first sector
+		assertEquals((1 + 16 * 2 + 1) * 520, new File(file, DiskStorage.MAIN_FILE_CACHE_DAT).length(), 520);
+
+		assertFragmentedCache(file);
+	}
+
+	@Test
+	public void testCompactFailure() throws Exception
+	{
+		File file = folder.newFolder();
+		createFragmentedCache(file);
+		long length = new File(file, DiskStorage.MAIN_FILE_CACHE_DAT).length();
+
+		// fail after the new data file and the first index file have been written
+		File blocker = new File(file, DiskStorage.MAIN_FILE_CACHE_IDX + "255.tmp");
+		assertTrue(new File(blocker, "file").mkdirs());
+
+		try (DiskStorage storage = new DiskStorage(file))
+		{
+			storage.compact();
+			fail("expected IOException");
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+
+		assertFalse(new File(file, DiskStorage.MAIN_FILE_CACHE_DAT + ".tmp").exists());
+		assertFalse(new File(file, DiskStorage.MAIN_FILE_CACHE_IDX + "0.tmp").exists());
+		assertFalse(new File(file, DiskStorage.COMPACT_COMMIT).exists());
+		assertEquals(length, new File(file, DiskStorage.MAIN_FILE_CACHE_DAT).length());
+		assertFragmentedCache(file);
+	}
+
+	@Test
+	public void testCompactInterrupted() throws Exception
+	{
+		File file = folder.newFolder();
+		createFragmentedCache(file);
+		long length = new File(file, DiskStorage.MAIN_FILE_CACHE_DAT).length();
+
+		// stop after the commit marker is written, as if the process died
+		try (DiskStorage storage = new DiskStorage(file))
+		{
+			storage.prepareCompact();
+		}
+		assertTrue(new File(file, DiskStorage.COMPACT_COMMIT).exists());
+		assertEquals(length, new File(file, DiskStorage.MAIN_FILE_CACHE_DAT).length());
+
+		// and again part way through moving the files, after the data file was moved
+		Files.move(new File(file, DiskStorage.MAIN_FILE_CACHE_DAT + ".tmp").toPath(),
+			new File(file, DiskStorage.MAIN_FILE_CACHE_DAT).toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		// opening the storage finishes the compaction
+		assertFragmentedCache(file);
+		assertFalse(new File(file, DiskStorage.COMPACT_COMMIT).exists());
+		assertFalse(new File(file, DiskStorage.MAIN_FILE_CACHE_IDX + "0.tmp").exists());
+		assertTrue(new File(file, DiskStorage.MAIN_FILE_CACHE_DAT).length() < length);
+	}
+
+	@Test
+	public void testCompactLocked() throws Exception
+	{
+		File file = folder.newFolder();
+		createFragmentedCache(file);
+		File tmp = new File(file, DiskStorage.MAIN_FILE_CACHE_DAT + ".tmp");
+
+		// another storage is compacting, so its files are left alone
+		try (FileChannel channel = FileChannel.open(new File(file, DiskStorage.COMPACT_LOCK).toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			FileLock lock = channel.lock())
+		{
+			assertTrue(tmp.createNewFile());
+			try (DiskStorage storage = new DiskStorage(file))
+			{
+				assertTrue(tmp.exists());
+				try
+				{
+					storage.compact();
+					fail();
+				}
+				catch (IOException ex)
+				{
+					// expected
+				}
+			}
+			assertTrue(tmp.exists());
+		}
+
+		// once the compaction is over the leftover files are deleted
+		try (DiskStorage storage = new DiskStorage(file))
+		{
+			assertFalse(tmp.exists());
+		}
+		assertFragmentedCache(file);
+	}
+
+	@Test
+	public void testReuseSectors() throws Exception
+	{
+		File file = folder.newFolder();
+		DiskStorage storage = new DiskStorage(file);
+		storage.setReuseSectors(true);
+
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0);
+			archive.setFileData(new FileData[]{new FileData()});
+
+			long length = 0;
+			for (int pass = 0; pass < 4; ++pass)
+			{
+				Container container = new Container(CompressionType.NONE, -1);
+				container.compress(new byte[2000], null);
+				storage.saveArchive(archive, container.data);
+				store.save();
+
+				if (pass == 0)
+				{
+					length = new File(file, DiskStorage.MAIN_FILE_CACHE_DAT).length();
+				}
+			}
+
+			assertEquals(length, new File(file, DiskStorage.MAIN_FILE_CACHE_DAT).length());
+		}
+	}
+
+	private static void createFragmentedCache(File file) throws IOException
+	{
+		try (Store store = new Store(file))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 16; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[]{new FileData()});
+			}
+
+			// every save leaks the previous sectors of the archives
+			for (int pass = 0; pass < 4; ++pass)
+			{
+				for (Archive archive : index.getArchives())
+				{
+					Container container = new Container(CompressionType.NONE, -1);
+					container.compress(new byte[1000 + archive.getArchiveId() + pass], null);
+					store.getStorage().saveArchive(archive, container.data);
+				}
+				store.save();
+			}
+		}
+	}
+
+	private static void assertFragmentedCache(File file) throws IOException
+	{
+		try (Store store = new Store(file))
+		{
+			store.load();
+
+			Index index = store.findIndex(0);
+			assertEquals(16, index.getArchives().size());
+			for (Archive archive : index.getArchives())
+			{
+				byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+				assertEquals(1000 + archive.getArchiveId() + 3, data.length);
+			}
+		}
+	}
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedDiskStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private static byte[] contents(int archiveId)
+	{
+		// vary the length so that archives span a varying number of sectors
+		byte[] b = new byte[(archiveId * 397) % 4000 + 1];
+		new Random(archiveId).nextBytes(b);
+		return b;
+	}
+
+	@Test
+	public void testLoadArchive() throws Exception
+	{
+		File file = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(file)))
+		{
+			for (int i = 0; i < 2; ++i)
+			{
+				Index index = store.addIndex(i);
+				index.setProtocol(7); // required for archive ids above 0xFFFF
+				for (int id : new int[]{0, 1, 2, 100, 0x1FFFF})
+				{
+					Archive archive = index.addArchive(id);
+					FileData[] fileData = new FileData[]{new FileData()};
+					archive.setFileData(fileData);
+
+					Container container = new Container(CompressionType.GZ, -1);
+					container.compress(contents(id), null);
+					store.getStorage().saveArchive(archive, container.data);
+				}
+			}
+
+			store.save();
+		}
+
+		try (Store store = new Store(new MappedDiskStorage(file)))
+		{
+			store.load();
+			assertEquals(2, store.getIndexes().size());
+
+			List<Archive> archives = store.getIndexes().stream()
+				.flatMap(i -> i.getArchives().stream())
+				.collect(Collectors.toList());
+			assertEquals(10, archives.size());
+
+			archives.parallelStream().forEach(archive ->
+			{
+				try
+				{
+					byte[] data = store.getStorage().loadArchive(archive);
+					assertArrayEquals(contents(archive.getArchiveId()), archive.decompress(data));
+				}
+				catch (Exception ex)
+				{
+					throw new RuntimeException(ex);
+				}
+			});
+
+			Archive missing = new Archive(store.findIndex(0), 50);
+			assertNull(store.getStorage().loadArchive(missing));
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.ItemManager;
+import net.runelite.cache.SpriteManager;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.TextureManager;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Store;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Renders every item in the store, creating a factory per item as
+ * {@link ItemSpriteFactory#createSprite(net.runelite.cache.definitions.providers.ItemProvider, ModelProvider, net.runelite.cache.definitions.providers.SpriteProvider, net.runelite.cache.definitions.providers.TextureProvider, int, int, int, int, boolean)}
+ * does, with a single factory, and with a single factory rendering in parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ItemSpriteFactoryBenchmark
+{
+	private ItemManager itemManager;
+	private SpriteManager spriteManager;
+	private TextureManager textureManager;
+	private ModelProvider modelProvider;
+	private ItemSpriteFactory factory;
+	private int[] itemIds;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			itemManager = new ItemManager(store);
+			itemManager.load();
+
+			spriteManager = new SpriteManager(store);
+			spriteManager.load();
+
+			textureManager = new TextureManager(store);
+			textureManager.load();
+
+			// models are modified when rendered, so each render decodes its own
+			Map<Integer, byte[]> models = new HashMap<>();
+			for (Archive archive : store.getIndex(IndexType.MODELS).getArchives())
+			{
+				models.put(archive.getArchiveId(), archive.decompress(store.getStorage().loadArchive(archive)));
+			}
+			modelProvider = modelId ->
+			{
+				byte[] data = models.get(modelId);
+				return data == null ? null : new ModelLoader().load(modelId, data);
+			};
+		}
+
+		itemIds = itemManager.getItems().stream()
+			.filter(item -> item.name != null && !item.name.equalsIgnoreCase("null"))
+			.mapToInt(ItemDefinition::getId)
+			.toArray();
+
+		factory = new ItemSpriteFactory(itemManager, modelProvider, spriteManager, textureManager);
+	}
+
+	@Benchmark
+	public int factoryPerItem() throws IOException
+	{
+		int count = 0;
+		for (int itemId : itemIds)
+		{
+			if (ItemSpriteFactory.createSprite(itemManager, modelProvider, spriteManager, textureManager,
+				itemId, 1, 1, 3153952, false) != null)
+			{
+				++count;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int sharedFactory() throws IOException
+	{
+		int count = 0;
+		for (int itemId : itemIds)
+		{
+			if (factory.createSprite(itemId, 1, 1, 3153952, false) != null)
+			{
+				++count;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int batch() throws IOException
+	{
+		return factory.createSprites(itemIds, 1, 1, 3153952).size();
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ItemSpriteFactoryBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
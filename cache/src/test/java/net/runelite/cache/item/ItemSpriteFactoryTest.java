@@ -27,6 +27,10 @@ package net.runelite.cache.item;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import javax.imageio.ImageIO;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
@@ -36,11 +40,16 @@ import net.runelite.cache.StoreLocation;
 import net.runelite.cache.TextureManager;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
 import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -115,4 +124,142 @@ public class ItemSpriteFactoryTest
 
 		log.info("Dumped {} item images to {}", count, outDir);
 	}
+
+	private final ItemProvider itemProvider = itemId ->
+	{
+		ItemDefinition item = new ItemDefinition(itemId);
+		item.inventoryModel = 0;
+		item.xan2d = itemId * 96 % 2048;
+		item.yan2d = itemId * 160 % 2048;
+		item.zoom2d = 800 + itemId * 20;
+		return item;
+	};
+	private final ModelProvider modelProvider = modelId -> createCube();
+	private final SpriteProvider spriteProvider = (spriteId, frameId) -> null;
+	private final TextureProvider textureProvider = () -> new TextureDefinition[0];
+
+	/**
+	 * Compare against cube.png, which holds the sprites of items 0-63 in rows
+	 * of 8, as rendered by the single threaded renderer this replaced
+	 */
+	@Test
+	public void testCreateSpritesGolden() throws IOException
+	{
+		BufferedImage golden;
+		try (InputStream in = ItemSpriteFactoryTest.class.getResourceAsStream("cube.png"))
+		{
+			golden = ImageIO.read(in);
+		}
+
+		int[] itemIds = new int[64];
+		for (int i = 0; i < itemIds.length; ++i)
+		{
+			itemIds[i] = i;
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try
+		{
+			ItemSpriteFactory factory = new ItemSpriteFactory(itemProvider, modelProvider, spriteProvider, textureProvider);
+			factory.setExecutor(pool);
+
+			List<BufferedImage> sprites = factory.createSprites(itemIds, 1, 1, 3153952);
+			for (int i = 0; i < itemIds.length; ++i)
+			{
+				BufferedImage sprite = sprites.get(i);
+				int width = sprite.getWidth();
+				int height = sprite.getHeight();
+				Assert.assertEquals(golden.getWidth(), width * 8);
+				Assert.assertEquals(golden.getHeight(), height * 8);
+
+				int[] expected = golden.getRGB(i % 8 * width, i / 8 * height, width, height, null, 0, width);
+				Assert.assertArrayEquals("item " + i, expected, getPixels(sprite));
+
+				BufferedImage single = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+					itemIds[i], 1, 1, 3153952, false);
+				Assert.assertArrayEquals("item " + i, expected, getPixels(single));
+			}
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testCreateSprites() throws IOException
+	{
+		int[] itemIds = new int[64];
+		for (int i = 0; i < itemIds.length; ++i)
+		{
+			itemIds[i] = i;
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try
+		{
+			ItemSpriteFactory factory = new ItemSpriteFactory(itemProvider, modelProvider, spriteProvider, textureProvider);
+			factory.setExecutor(pool);
+
+			// render twice, so contexts are reused for different items
+			for (int pass = 0; pass < 2; ++pass)
+			{
+				List<BufferedImage> sprites = factory.createSprites(itemIds, 1, 1, 3153952);
+				Assert.assertEquals(itemIds.length, sprites.size());
+
+				for (int i = 0; i < itemIds.length; ++i)
+				{
+					BufferedImage expected = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+						itemIds[i], 1, 1, 3153952, false);
+					int[] expectedPixels = getPixels(expected);
+
+					Assert.assertTrue(Arrays.stream(expectedPixels).anyMatch(p -> p != 0));
+					Assert.assertArrayEquals(expectedPixels, getPixels(sprites.get(i)));
+				}
+			}
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	private static int[] getPixels(BufferedImage image)
+	{
+		return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+	}
+
+	private static ModelDefinition createCube()
+	{
+		ModelDefinition def = new ModelDefinition();
+		def.vertexCount = 8;
+		def.vertexPositionsX = new int[def.vertexCount];
+		def.vertexPositionsY = new int[def.vertexCount];
+		def.vertexPositionsZ = new int[def.vertexCount];
+		for (int i = 0; i < def.vertexCount; ++i)
+		{
+			def.vertexPositionsX[i] = (i & 1) != 0 ? 64 : -64;
+			def.vertexPositionsY[i] = (i & 2) != 0 ? 64 : -64;
+			def.vertexPositionsZ[i] = (i & 4) != 0 ? 64 : -64;
+		}
+
+		int[][] faces = {
+			{0, 2, 1}, {1, 2, 3}, {4, 5, 6}, {5, 7, 6},
+			{0, 1, 4}, {1, 5, 4}, {2, 6, 3}, {3, 6, 7},
+			{0, 4, 2}, {2, 4, 6}, {1, 3, 5}, {3, 7, 5}
+		};
+		def.faceCount = faces.length;
+		def.faceVertexIndices1 = new int[def.faceCount];
+		def.faceVertexIndices2 = new int[def.faceCount];
+		def.faceVertexIndices3 = new int[def.faceCount];
+		def.faceColors = new short[def.faceCount];
+		for (int i = 0; i < def.faceCount; ++i)
+		{
+			def.faceVertexIndices1[i] = faces[i][0];
+			def.faceVertexIndices2[i] = faces[i][1];
+			def.faceVertexIndices3[i] = faces[i][2];
+			def.faceColors[i] = (short) (i * 5000);
+		}
+		return def;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.Djb2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures {@link RegionLoader#loadRegions()}, and the archive name lookups it does
+ * for every possible region, both with the name index and with the linear scan
+ * {@link Index#findArchiveByName(String)} used to do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RegionLoaderBenchmark
+{
+	private static final int MAX_REGION = 32768;
+
+	@Param({"true", "false"})
+	private boolean indexed;
+
+	private Store store;
+	private Index index;
+	private RegionLoader regionLoader;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		store = new Store(StoreLocation.LOCATION);
+		store.load();
+		index = store.getIndex(IndexType.MAPS);
+		if (!indexed)
+		{
+			index = linearCopy(index);
+			store.getIndexes().set(store.getIndexes().indexOf(store.getIndex(IndexType.MAPS)), index);
+		}
+		regionLoader = new RegionLoader(store);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		store.close();
+	}
+
+	@Benchmark
+	public int loadRegions() throws IOException
+	{
+		regionLoader.loadRegions();
+		return regionLoader.getRegions().size();
+	}
+
+	@Benchmark
+	public int lookups()
+	{
+		int found = 0;
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			int x = i >> 8;
+			int y = i & 0xFF;
+			if (index.findArchiveByName("m" + x + "_" + y) != null)
+			{
+				++found;
+			}
+			if (index.findArchiveByName("l" + x + "_" + y) != null)
+			{
+				++found;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Copy an index into one which finds archives by name the way it was done
+	 * before the name index, by scanning every archive
+	 */
+	private static Index linearCopy(Index index)
+	{
+		Index copy = new Index(index.getId())
+		{
+			@Override
+			public Archive findArchiveByName(String name)
+			{
+				int hash = Djb2.hash(name);
+				for (Archive a : getArchives())
+				{
+					if (a.getNameHash() == hash)
+					{
+						return a;
+					}
+				}
+				return null;
+			}
+		};
+		copy.setProtocol(index.getProtocol());
+		copy.setNamed(index.isNamed());
+		copy.setRevision(index.getRevision());
+		copy.setCrc(index.getCrc());
+		copy.setCompression(index.getCompression());
+		for (Archive archive : index.getArchives())
+		{
+			Archive a = copy.addArchive(archive.getArchiveId());
+			a.setNameHash(archive.getNameHash());
+			a.setCrc(archive.getCrc());
+			a.setRevision(archive.getRevision());
+			a.setCompression(archive.getCompression());
+			a.setFileData(archive.getFileData());
+		}
+		return copy;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(RegionLoaderBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
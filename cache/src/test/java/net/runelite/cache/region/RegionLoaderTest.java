@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.util.Djb2;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RegionLoaderTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private static void addRegion(Store store, Index index, int x, int y) throws IOException
+	{
+		// a map of only empty tiles, and no locations
+		byte[] terrain = new byte[Region.Z * Region.X * Region.Y];
+		for (String name : new String[]{"m" + x + "_" + y, "l" + x + "_" + y})
+		{
+			Archive archive = index.addArchive(index.getArchives().size());
+			archive.setNameHash(Djb2.hash(name));
+			archive.setFileData(new FileData[]{new FileData()});
+
+			Container container = new Container(CompressionType.GZ, -1);
+			container.compress(terrain, null);
+			store.getStorage().saveArchive(archive, container.data);
+		}
+	}
+
+	@Test
+	public void testLoadRegions() throws IOException
+	{
+		try (Store store = new Store(folder.newFolder()))
+		{
+			for (int i = 0; i <= IndexType.MAPS.getNumber(); ++i)
+			{
+				store.addIndex(i);
+			}
+
+			Index index = store.getIndex(IndexType.MAPS);
+			addRegion(store, index, 50, 50);
+			addRegion(store, index, 48, 53);
+			addRegion(store, index, 52, 49);
+
+			RegionLoader regionLoader = new RegionLoader(store);
+
+			AtomicInteger streamed = new AtomicInteger();
+			regionLoader.forEachRegion(region -> streamed.incrementAndGet());
+			assertEquals(3, streamed.get());
+			assertEquals(0, regionLoader.getRegions().size());
+
+			assertEquals(48 << 6, regionLoader.getLowestX().getBaseX());
+			assertEquals(52 << 6, regionLoader.getHighestX().getBaseX());
+			assertEquals(49 << 6, regionLoader.getLowestY().getBaseY());
+			assertEquals(53 << 6, regionLoader.getHighestY().getBaseY());
+
+			regionLoader.loadRegions();
+			assertEquals(3, regionLoader.getRegions().size());
+			assertNotNull(regionLoader.findRegionForWorldCoordinates(50 << 6, 50 << 6));
+			assertNull(regionLoader.findRegionForWorldCoordinates(51 << 6, 50 << 6));
+
+			assertEquals(3, regionLoader.stream(false).count());
+		}
+	}
+}
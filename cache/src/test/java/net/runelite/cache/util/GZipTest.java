@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Inflater;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+public class GZipTest
+{
+	private final Inflater inflater = new Inflater(true);
+
+	@Test
+	public void testDecompress() throws IOException
+	{
+		byte[] data = randomData(4096);
+		byte[] compressed = GZip.compress(data);
+
+		byte[] out = new byte[data.length + 16];
+		assertEquals(data.length, GZip.decompress(inflater, compressed, 0, compressed.length, out, 8, data.length));
+		assertArrayEquals(data, Arrays.copyOfRange(out, 8, 8 + data.length));
+
+		// a larger output buffer than needed
+		assertEquals(data.length, GZip.decompress(inflater, compressed, 0, compressed.length, out, 0, out.length));
+	}
+
+	@Test
+	public void testCorruptTrailer() throws IOException
+	{
+		byte[] data = randomData(4096);
+		byte[] compressed = GZip.compress(data);
+		byte[] out = new byte[data.length];
+
+		// the crc is the first 4 bytes of the trailer, and the length the last 4
+		for (int i = compressed.length - 8; i < compressed.length; ++i)
+		{
+			byte[] corrupt = compressed.clone();
+			corrupt[i] ^= 1;
+			assertThrows(corrupt, corrupt.length, out);
+		}
+
+		assertThrows(compressed, compressed.length - 1, out);
+	}
+
+	@Test
+	public void testOutputTooSmall() throws IOException
+	{
+		byte[] data = randomData(4096);
+		byte[] compressed = GZip.compress(data);
+		assertThrows(compressed, compressed.length, new byte[data.length - 1]);
+	}
+
+	@Test
+	public void testExactOutput() throws IOException
+	{
+		// stored blocks, and a stream whose end is reached well after its last output
+		Random random = new Random(42);
+		byte[] incompressible = new byte[70000];
+		random.nextBytes(incompressible);
+		for (byte[] data : new byte[][]{incompressible, new byte[100000], new byte[1]})
+		{
+			byte[] compressed = GZip.compress(data);
+			byte[] out = new byte[data.length];
+			assertEquals(data.length, GZip.decompress(inflater, compressed, 0, compressed.length, out, 0, out.length));
+			assertArrayEquals(data, out);
+
+			assertThrows(compressed, compressed.length, new byte[data.length - 1]);
+		}
+	}
+
+	private void assertThrows(byte[] compressed, int len, byte[] out)
+	{
+		try
+		{
+			GZip.decompress(inflater, compressed, 0, len, out, 0, out.length);
+			fail("expected IOException");
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+	}
+
+	private static byte[] randomData(int size)
+	{
+		Random random = new Random(size);
+		byte[] data = new byte[size];
+		for (int i = 0; i < size; i += 2)
+		{
+			data[i] = (byte) random.nextInt();
+		}
+		return data;
+	}
+}
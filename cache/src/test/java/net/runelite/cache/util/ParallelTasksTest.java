@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ParallelTasksTest
+{
+	@Test
+	public void testMap() throws IOException
+	{
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try
+		{
+			assertEquals(Arrays.asList(0, 2, 4, 6, 8), ParallelTasks.map(pool, 5, i -> i * 2));
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testIOException() throws IOException
+	{
+		ParallelTasks.map(ForkJoinPool.commonPool(), 100, i ->
+		{
+			if (i == 42)
+			{
+				throw new IOException();
+			}
+			return i;
+		});
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testRuntimeException() throws IOException
+	{
+		ParallelTasks.run(ForkJoinPool.commonPool(), () ->
+		{
+			throw new IllegalStateException();
+		});
+	}
+}
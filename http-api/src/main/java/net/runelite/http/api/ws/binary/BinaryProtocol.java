@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.api.ws.binary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.ws.WebsocketMessage;
+import net.runelite.http.api.ws.messages.LoginResponse;
+import net.runelite.http.api.ws.messages.party.Join;
+import net.runelite.http.api.ws.messages.party.Part;
+import net.runelite.http.api.ws.messages.party.PartyChatMessage;
+import net.runelite.http.api.ws.messages.party.UserJoin;
+import net.runelite.http.api.ws.messages.party.UserPart;
+import net.runelite.http.api.ws.messages.party.UserSync;
+
+/**
+ * A compact binary encoding of websocket messages, used in place of json once
+ * both ends have agreed on it in the {@link net.runelite.http.api.ws.messages.Handshake}.
+ * <p>
+ * A frame is a table of the UUIDs used in the frame, followed by one or more messages,
+ * each written as its type id, its length, and then the output of the type's codec.
+ * Messages of unknown types are skipped.
+ * <p>
+ * Type ids below {@link #FIRST_USER_ID} are reserved for the messages in this module.
+ */
+@Slf4j
+public class BinaryProtocol
+{
+	public static final int VERSION = 1;
+	public static final int FIRST_USER_ID = 32;
+
+	private final Map<Class<?>, Registration<?>> byType = new ConcurrentHashMap<>();
+	private final Map<Integer, Registration<?>> byId = new ConcurrentHashMap<>();
+
+	private final BinaryWriter message = new BinaryWriter();
+	private final BinaryWriter body = new BinaryWriter();
+	private final BinaryWriter frame = new BinaryWriter();
+
+	public BinaryProtocol()
+	{
+		register(1, LoginResponse.class, CoreMessageCodecs.LOGIN_RESPONSE);
+		register(2, Join.class, CoreMessageCodecs.JOIN);
+		register(3, Part.class, CoreMessageCodecs.PART);
+		register(4, UserJoin.class, CoreMessageCodecs.USER_JOIN);
+		register(5, UserPart.class, CoreMessageCodecs.USER_PART);
+		register(6, UserSync.class, CoreMessageCodecs.USER_SYNC);
+		register(7, PartyChatMessage.class, CoreMessageCodecs.PARTY_CHAT_MESSAGE);
+	}
+
+	public synchronized <T extends WebsocketMessage> void register(int id, Class<T> type, MessageCodec<T> codec)
+	{
+		if (id <= 0)
+		{
+			throw new IllegalArgumentException("message ids must be positive");
+		}
+
+		Registration<?> existing = byId.get(id);
+		if (existing != null && existing.type != type)
+		{
+			throw new IllegalArgumentException("message id " + id + " is already used by " + existing.type.getSimpleName());
+		}
+
+		Registration<?> previous = byType.get(type);
+		if (previous != null)
+		{
+			byId.remove(previous.id);
+		}
+
+		Registration<T> registration = new Registration<>(id, type, codec);
+		byType.put(type, registration);
+		byId.put(id, registration);
+	}
+
+	public synchronized void unregister(Class<? extends WebsocketMessage> type)
+	{
+		Registration<?> registration = byType.remove(type);
+		if (registration != null)
+		{
+			byId.remove(registration.id);
+		}
+	}
+
+	/**
+	 * Check if every message has a registered codec
+	 */
+	public boolean canEncode(Collection<? extends WebsocketMessage> messages)
+	{
+		for (WebsocketMessage message : messages)
+		{
+			if (!byType.containsKey(message.getClass()))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Encode messages into one frame
+	 *
+	 * @param messages
+	 * @return the frame
+	 * @throws IllegalArgumentException if a message has no registered codec
+	 */
+	public synchronized byte[] encode(Collection<? extends WebsocketMessage> messages)
+	{
+		message.clear();
+		body.clear();
+
+		for (WebsocketMessage m : messages)
+		{
+			Registration<?> registration = byType.get(m.getClass());
+			if (registration == null)
+			{
+				throw new IllegalArgumentException("no codec for " + m.getClass().getSimpleName());
+			}
+
+			message.rewind();
+			registration.encode(m, message);
+
+			body.writeVarInt(registration.id);
+			body.writeVarInt(message.size());
+			body.writeBytes(message.buffer(), 0, message.size());
+		}
+
+		// the uuid table is only complete once every message has been encoded
+		frame.clear();
+		frame.writeUUIDTable(message);
+		frame.writeBytes(body.buffer(), 0, body.size());
+		return frame.toByteArray();
+	}
+
+	/**
+	 * Decode the messages in a frame
+	 *
+	 * @param data
+	 * @return the messages, without those of unknown types or which their codec dropped
+	 * @throws IllegalArgumentException if the frame is malformed
+	 */
+	public synchronized List<WebsocketMessage> decode(byte[] data)
+	{
+		BinaryReader in = new BinaryReader(data);
+		in.readUUIDTable();
+
+		List<WebsocketMessage> messages = new ArrayList<>();
+		while (in.remaining() > 0)
+		{
+			int id = in.readVarInt();
+			int length = in.readVarInt();
+			if (length < 0 || length > in.remaining())
+			{
+				throw new IllegalArgumentException("message truncated");
+			}
+
+			int end = in.getOffset() + length;
+			Registration<?> registration = byId.get(id);
+			if (registration == null)
+			{
+				log.debug("Skipping message with unknown id {}", id);
+				in.setOffset(end);
+				continue;
+			}
+
+			in.setLimit(end);
+			WebsocketMessage message = registration.codec.decode(in);
+			// skip anything the codec didn't read, such as fields added in a later version
+			in.setOffset(end);
+			in.setLimit(data.length);
+
+			if (message != null)
+			{
+				messages.add(message);
+			}
+		}
+		return messages;
+	}
+
+	/**
+	 * Reset the state of every codec, eg. when the connection changes or a
+	 * new member joins and can't know the previous messages
+	 */
+	public synchronized void reset()
+	{
+		for (Registration<?> registration : byType.values())
+		{
+			registration.codec.reset();
+		}
+	}
+
+	private static class Registration<T extends WebsocketMessage>
+	{
+		private final int id;
+		private final Class<T> type;
+		private final MessageCodec<T> codec;
+
+		private Registration(int id, Class<T> type, MessageCodec<T> codec)
+		{
+			this.id = id;
+			this.type = type;
+			this.codec = codec;
+		}
+
+		private void encode(WebsocketMessage message, BinaryWriter out)
+		{
+			codec.encode(type.cast(message), out);
+		}
+	}
+}
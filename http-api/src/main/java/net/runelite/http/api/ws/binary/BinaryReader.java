@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.api.ws.binary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Reads a binary websocket frame written by {@link BinaryWriter}. Reads past the
+ * end of the current message throw {@link IllegalArgumentException}.
+ */
+public class BinaryReader
+{
+	private final byte[] buffer;
+	private int offset;
+	private int limit;
+
+	private UUID[] uuids = new UUID[0];
+
+	BinaryReader(byte[] buffer)
+	{
+		this.buffer = buffer;
+		this.limit = buffer.length;
+	}
+
+	public int readByte()
+	{
+		check(1);
+		return buffer[offset++] & 0xFF;
+	}
+
+	public boolean readBoolean()
+	{
+		return readByte() != 0;
+	}
+
+	public int readVarInt()
+	{
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7)
+		{
+			int b = readByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+
+		throw new IllegalArgumentException("varint too long");
+	}
+
+	public int readSignedVarInt()
+	{
+		int i = readVarInt();
+		return (i >>> 1) ^ -(i & 1);
+	}
+
+	public long readLong()
+	{
+		check(8);
+		long l = 0;
+		for (int i = 0; i < 8; ++i)
+		{
+			l = (l << 8) | (buffer[offset++] & 0xFF);
+		}
+		return l;
+	}
+
+	public UUID readUUID()
+	{
+		int index = readVarInt();
+		if (index == 0)
+		{
+			return null;
+		}
+
+		if (index > uuids.length)
+		{
+			throw new IllegalArgumentException("uuid " + index + " is not in the frame's table");
+		}
+
+		return uuids[index - 1];
+	}
+
+	public String readString()
+	{
+		int length = readVarInt();
+		if (length == 0)
+		{
+			return null;
+		}
+
+		--length;
+		check(length);
+		String s = new String(buffer, offset, length, StandardCharsets.UTF_8);
+		offset += length;
+		return s;
+	}
+
+	void readUUIDTable()
+	{
+		int count = readVarInt();
+		// each uuid is 16 bytes, so this bounds the allocation by the frame size
+		check(count * 16L);
+		uuids = new UUID[count];
+		for (int i = 0; i < count; ++i)
+		{
+			uuids[i] = new UUID(readLong(), readLong());
+		}
+	}
+
+	int getOffset()
+	{
+		return offset;
+	}
+
+	void setOffset(int offset)
+	{
+		this.offset = offset;
+	}
+
+	int getLimit()
+	{
+		return limit;
+	}
+
+	void setLimit(int limit)
+	{
+		this.limit = limit;
+	}
+
+	int remaining()
+	{
+		return limit - offset;
+	}
+
+	private void check(long len)
+	{
+		if (len < 0 || offset + len > limit)
+		{
+			throw new IllegalArgumentException("message truncated");
+		}
+	}
+}
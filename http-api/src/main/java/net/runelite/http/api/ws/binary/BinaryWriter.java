@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.api.ws.binary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * A growable buffer for writing binary websocket frames.
+ */
+public class BinaryWriter
+{
+	private byte[] buffer = new byte[64];
+	private int offset;
+
+	// UUIDs written to the current frame, which are written once in the frame header
+	private long[] uuids = new long[8];
+	private int uuidCount;
+
+	public void writeByte(int b)
+	{
+		ensure(1);
+		buffer[offset++] = (byte) b;
+	}
+
+	public void writeBoolean(boolean b)
+	{
+		writeByte(b ? 1 : 0);
+	}
+
+	/**
+	 * Write an unsigned variable length int, 7 bits per byte
+	 */
+	public void writeVarInt(int i)
+	{
+		ensure(5);
+		while ((i & ~0x7F) != 0)
+		{
+			buffer[offset++] = (byte) ((i & 0x7F) | 0x80);
+			i >>>= 7;
+		}
+		buffer[offset++] = (byte) i;
+	}
+
+	/**
+	 * Write a zigzag encoded variable length int, so small negative values stay small
+	 */
+	public void writeSignedVarInt(int i)
+	{
+		writeVarInt((i << 1) ^ (i >> 31));
+	}
+
+	public void writeLong(long l)
+	{
+		ensure(8);
+		for (int shift = 56; shift >= 0; shift -= 8)
+		{
+			buffer[offset++] = (byte) (l >>> shift);
+		}
+	}
+
+	/**
+	 * Write a nullable UUID. UUIDs are collected into a table in the frame header,
+	 * so each is written in full only once per frame.
+	 */
+	public void writeUUID(UUID uuid)
+	{
+		if (uuid == null)
+		{
+			writeVarInt(0);
+			return;
+		}
+
+		long most = uuid.getMostSignificantBits();
+		long least = uuid.getLeastSignificantBits();
+		int i = 0;
+		while (i < uuidCount && (uuids[i * 2] != most || uuids[i * 2 + 1] != least))
+		{
+			++i;
+		}
+
+		if (i == uuidCount)
+		{
+			if (uuidCount * 2 == uuids.length)
+			{
+				uuids = Arrays.copyOf(uuids, uuids.length * 2);
+			}
+			uuids[uuidCount * 2] = most;
+			uuids[uuidCount * 2 + 1] = least;
+			++uuidCount;
+		}
+
+		writeVarInt(i + 1);
+	}
+
+	/**
+	 * Write a nullable string as its UTF-8 length plus one, followed by the bytes
+	 */
+	public void writeString(String s)
+	{
+		if (s == null)
+		{
+			writeVarInt(0);
+			return;
+		}
+
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(bytes.length + 1);
+		writeBytes(bytes, 0, bytes.length);
+	}
+
+	void writeBytes(byte[] b, int off, int len)
+	{
+		ensure(len);
+		System.arraycopy(b, off, buffer, offset, len);
+		offset += len;
+	}
+
+	public int size()
+	{
+		return offset;
+	}
+
+	byte[] buffer()
+	{
+		return buffer;
+	}
+
+	byte[] toByteArray()
+	{
+		return Arrays.copyOf(buffer, offset);
+	}
+
+	/**
+	 * Write the UUID table of another writer
+	 */
+	void writeUUIDTable(BinaryWriter other)
+	{
+		writeVarInt(other.uuidCount);
+		for (int i = 0; i < other.uuidCount * 2; ++i)
+		{
+			writeLong(other.uuids[i]);
+		}
+	}
+
+	/**
+	 * Empty the buffer, keeping the UUID table, for the next message within the current frame
+	 */
+	void rewind()
+	{
+		offset = 0;
+	}
+
+	/**
+	 * Empty the buffer and the UUID table, to start a new frame
+	 */
+	void clear()
+	{
+		offset = 0;
+		uuidCount = 0;
+	}
+
+	private void ensure(int len)
+	{
+		if (offset + len > buffer.length)
+		{
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, offset + len));
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.api.ws.binary;
+
+import java.util.UUID;
+import net.runelite.http.api.ws.messages.LoginResponse;
+import net.runelite.http.api.ws.messages.party.Join;
+import net.runelite.http.api.ws.messages.party.Part;
+import net.runelite.http.api.ws.messages.party.PartyChatMessage;
+import net.runelite.http.api.ws.messages.party.UserJoin;
+import net.runelite.http.api.ws.messages.party.UserPart;
+import net.runelite.http.api.ws.messages.party.UserSync;
+
+/**
+ * Codecs for the messages in this module
+ */
+final class CoreMessageCodecs
+{
+	static final MessageCodec<LoginResponse> LOGIN_RESPONSE = new MessageCodec<LoginResponse>()
+	{
+		@Override
+		public void encode(LoginResponse message, BinaryWriter out)
+		{
+			out.writeString(message.getUsername());
+		}
+
+		@Override
+		public LoginResponse decode(BinaryReader in)
+		{
+			LoginResponse message = new LoginResponse();
+			message.setUsername(in.readString());
+			return message;
+		}
+	};
+
+	static final MessageCodec<Join> JOIN = new MessageCodec<Join>()
+	{
+		@Override
+		public void encode(Join message, BinaryWriter out)
+		{
+			out.writeUUID(message.getPartyId());
+			out.writeString(message.getName());
+		}
+
+		@Override
+		public Join decode(BinaryReader in)
+		{
+			return new Join(in.readUUID(), in.readString());
+		}
+	};
+
+	static final MessageCodec<Part> PART = new MessageCodec<Part>()
+	{
+		@Override
+		public void encode(Part message, BinaryWriter out)
+		{
+		}
+
+		@Override
+		public Part decode(BinaryReader in)
+		{
+			return new Part();
+		}
+	};
+
+	static final MessageCodec<UserJoin> USER_JOIN = new MessageCodec<UserJoin>()
+	{
+		@Override
+		public void encode(UserJoin message, BinaryWriter out)
+		{
+			out.writeUUID(message.getMemberId());
+			out.writeUUID(message.getPartyId());
+			out.writeString(message.getName());
+		}
+
+		@Override
+		public UserJoin decode(BinaryReader in)
+		{
+			return new UserJoin(in.readUUID(), in.readUUID(), in.readString());
+		}
+	};
+
+	static final MessageCodec<UserPart> USER_PART = new MessageCodec<UserPart>()
+	{
+		@Override
+		public void encode(UserPart message, BinaryWriter out)
+		{
+			out.writeUUID(message.getMemberId());
+		}
+
+		@Override
+		public UserPart decode(BinaryReader in)
+		{
+			return new UserPart(in.readUUID());
+		}
+	};
+
+	static final MessageCodec<UserSync> USER_SYNC = new MessageCodec<UserSync>()
+	{
+		@Override
+		public void encode(UserSync message, BinaryWriter out)
+		{
+			out.writeUUID(message.getMemberId());
+		}
+
+		@Override
+		public UserSync decode(BinaryReader in)
+		{
+			UserSync message = new UserSync();
+			message.setMemberId(in.readUUID());
+			return message;
+		}
+	};
+
+	static final MessageCodec<PartyChatMessage> PARTY_CHAT_MESSAGE = new MessageCodec<PartyChatMessage>()
+	{
+		@Override
+		public void encode(PartyChatMessage message, BinaryWriter out)
+		{
+			out.writeUUID(message.getMemberId());
+			out.writeString(message.getValue());
+		}
+
+		@Override
+		public PartyChatMessage decode(BinaryReader in)
+		{
+			UUID memberId = in.readUUID();
+			PartyChatMessage message = new PartyChatMessage(in.readString());
+			message.setMemberId(memberId);
+			return message;
+		}
+	};
+
+	private CoreMessageCodecs()
+	{
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.api.ws.binary;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import net.runelite.http.api.ws.messages.party.PartyMemberMessage;
+
+/**
+ * A codec for messages carrying a member's position, which writes each position as
+ * the change from the member's previous position on the connection. Every
+ * {@link #KEYFRAME_INTERVAL}th position, and the first after a {@link #reset()},
+ * is written in full, and receivers drop deltas for which they have no base.
+ *
+ * @param <T> message type
+ */
+public abstract class DeltaPositionCodec<T extends PartyMemberMessage> implements MessageCodec<T>
+{
+	static final int KEYFRAME_INTERVAL = 8;
+
+	private static final int FLAG_DELTA = 1;
+
+	private final Map<UUID, Position> sent = new HashMap<>();
+	private final Map<UUID, Position> received = new HashMap<>();
+
+	protected abstract int getX(T message);
+
+	protected abstract int getY(T message);
+
+	protected abstract int getPlane(T message);
+
+	protected abstract T create(int x, int y, int plane);
+
+	@Override
+	public void encode(T message, BinaryWriter out)
+	{
+		UUID memberId = message.getMemberId();
+		int x = getX(message);
+		int y = getY(message);
+		int plane = getPlane(message);
+
+		out.writeUUID(memberId);
+
+		Position last = memberId != null ? sent.get(memberId) : null;
+		if (last != null && last.updates < KEYFRAME_INTERVAL)
+		{
+			out.writeVarInt(plane << 1 | FLAG_DELTA);
+			out.writeSignedVarInt(x - last.x);
+			out.writeSignedVarInt(y - last.y);
+			last.set(x, y);
+			++last.updates;
+			return;
+		}
+
+		out.writeVarInt(plane << 1);
+		out.writeVarInt(x);
+		out.writeVarInt(y);
+
+		if (memberId != null)
+		{
+			sent.put(memberId, new Position(x, y));
+		}
+	}
+
+	@Override
+	public T decode(BinaryReader in)
+	{
+		UUID memberId = in.readUUID();
+		int header = in.readVarInt();
+		int plane = header >>> 1;
+
+		int x, y;
+		if ((header & FLAG_DELTA) != 0)
+		{
+			int dx = in.readSignedVarInt();
+			int dy = in.readSignedVarInt();
+			Position last = memberId != null ? received.get(memberId) : null;
+			if (last == null)
+			{
+				// the base was sent before we joined or reconnected
+				return null;
+			}
+
+			x = last.x + dx;
+			y = last.y + dy;
+			last.set(x, y);
+		}
+		else
+		{
+			x = in.readVarInt();
+			y = in.readVarInt();
+			if (memberId != null)
+			{
+				received.put(memberId, new Position(x, y));
+			}
+		}
+
+		T message = create(x, y, plane);
+		message.setMemberId(memberId);
+		return message;
+	}
+
+	@Override
+	public void reset()
+	{
+		sent.clear();
+		received.clear();
+	}
+
+	private static class Position
+	{
+		private int x;
+		private int y;
+		private int updates;
+
+		private Position(int x, int y)
+		{
+			this.x = x;
+			this.y = y;
+		}
+
+		private void set(int x, int y)
+		{
+			this.x = x;
+			this.y = y;
+		}
+	}
+}
@@ -27,9 +27,23 @@ package net.runelite.http.api.ws.messages;
 import java.util.UUID;
 import net.runelite.http.api.ws.WebsocketMessage;
 
+/**
+ * Sent by the client when connecting. The client offers the binary protocol
+ * by setting {@link #binaryVersion}, which the server accepts by replying with a
+ * handshake with the same version, after which either end may send binary frames.
+ * <p>
+ * Party messages are relayed as they were sent, so the server accepts the binary
+ * protocol only while every member of the party offers the same version. It sends
+ * every member a new handshake whenever that changes, eg. when a member which
+ * only speaks json joins or leaves, and drops binary frames sent while the protocol
+ * isn't accepted. Clients reset their codec state on each handshake, since members
+ * may have missed messages sent before it.
+ * @see net.runelite.http.api.ws.binary.BinaryProtocol
+ */
 public class Handshake extends WebsocketMessage
 {
 	private UUID session;
+	private Integer binaryVersion;
 
 	public UUID getSession()
 	{
@@ -40,4 +54,14 @@ public class Handshake extends WebsocketMessage
 	{
 		this.session = session;
 	}
+
+	public Integer getBinaryVersion()
+	{
+		return binaryVersion;
+	}
+
+	public void setBinaryVersion(Integer binaryVersion)
+	{
+		this.binaryVersion = binaryVersion;
+	}
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.api.ws;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import net.runelite.http.api.ws.messages.Handshake;
+import okhttp3.HttpUrl;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.ByteString;
+
+/**
+ * A local websocket server which puts every connection in one party and relays
+ * every frame to each member, including its sender, as text or binary as it was
+ * received.
+ * <p>
+ * Handshakes are not relayed. Like the party server, it accepts the binary
+ * protocol only while every member offers the same version, sends each member a
+ * new handshake whenever that changes, and drops binary frames sent while it
+ * isn't accepted.
+ */
+public class WebsocketEchoServer implements AutoCloseable
+{
+	private static final Gson GSON = WebsocketGsonFactory.build();
+
+	private final MockWebServer server = new MockWebServer();
+	private final AtomicLong textBytes = new AtomicLong();
+	private final AtomicLong binaryBytes = new AtomicLong();
+	private final AtomicLong droppedFrames = new AtomicLong();
+
+	/**
+	 * members, and the binary version each offered
+	 */
+	private final Map<WebSocket, Integer> members = new LinkedHashMap<>();
+	private Integer binaryVersion;
+
+	private final WebSocketListener echo = new WebSocketListener()
+	{
+		@Override
+		public void onMessage(WebSocket webSocket, String text)
+		{
+			textBytes.addAndGet(ByteString.encodeUtf8(text).size());
+
+			if (isHandshake(text))
+			{
+				Handshake handshake = GSON.fromJson(text, Handshake.class);
+				join(webSocket, handshake.getBinaryVersion());
+				return;
+			}
+
+			synchronized (WebsocketEchoServer.this)
+			{
+				for (WebSocket member : members.keySet())
+				{
+					member.send(text);
+				}
+			}
+		}
+
+		@Override
+		public void onMessage(WebSocket webSocket, ByteString bytes)
+		{
+			binaryBytes.addAndGet(bytes.size());
+
+			synchronized (WebsocketEchoServer.this)
+			{
+				if (binaryVersion == null || !members.containsKey(webSocket))
+				{
+					// some member can't decode it, and the sender will switch to json when it gets our handshake
+					droppedFrames.incrementAndGet();
+					return;
+				}
+
+				for (WebSocket member : members.keySet())
+				{
+					member.send(bytes);
+				}
+			}
+		}
+
+		@Override
+		public void onClosing(WebSocket webSocket, int code, String reason)
+		{
+			part(webSocket);
+			webSocket.close(code, null);
+		}
+
+		@Override
+		public void onFailure(WebSocket webSocket, Throwable t, Response response)
+		{
+			part(webSocket);
+		}
+	};
+
+	public WebsocketEchoServer()
+	{
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request)
+			{
+				return new MockResponse().withWebSocketUpgrade(echo);
+			}
+		});
+	}
+
+	public void start() throws Exception
+	{
+		server.start();
+	}
+
+	public HttpUrl url()
+	{
+		return server.url("/ws");
+	}
+
+	/**
+	 * @return the payload bytes of the text frames received
+	 */
+	public long getTextBytes()
+	{
+		return textBytes.get();
+	}
+
+	/**
+	 * @return the payload bytes of the binary frames received
+	 */
+	public long getBinaryBytes()
+	{
+		return binaryBytes.get();
+	}
+
+	/**
+	 * @return the number of binary frames which were not relayed
+	 */
+	public long getDroppedFrames()
+	{
+		return droppedFrames.get();
+	}
+
+	@Override
+	public void close() throws Exception
+	{
+		server.shutdown();
+	}
+
+	private synchronized void join(WebSocket webSocket, Integer offer)
+	{
+		members.put(webSocket, offer);
+		update(webSocket);
+	}
+
+	private synchronized void part(WebSocket webSocket)
+	{
+		if (members.containsKey(webSocket))
+		{
+			members.remove(webSocket);
+			update(null);
+		}
+	}
+
+	/**
+	 * Work out the version every member offers, and tell the members if it changed
+	 *
+	 * @param joined a new member, which is always told
+	 */
+	private void update(WebSocket joined)
+	{
+		Integer version = null;
+		boolean first = true;
+		for (Integer offer : members.values())
+		{
+			if (first)
+			{
+				version = offer;
+				first = false;
+			}
+			else if (!Objects.equals(version, offer))
+			{
+				version = null;
+			}
+		}
+
+		boolean changed = !Objects.equals(version, binaryVersion);
+		binaryVersion = version;
+
+		Handshake handshake = new Handshake();
+		handshake.setBinaryVersion(version);
+		String json = GSON.toJson(handshake, WebsocketMessage.class);
+
+		for (WebSocket member : members.keySet())
+		{
+			if (changed || member == joined)
+			{
+				member.send(json);
+			}
+		}
+	}
+
+	private static boolean isHandshake(String text)
+	{
+		JsonElement element = new JsonParser().parse(text);
+		if (!element.isJsonObject())
+		{
+			return false;
+		}
+
+		JsonElement type = ((JsonObject) element).get("type");
+		return type != null && Handshake.class.getSimpleName().equals(type.getAsString());
+	}
+}
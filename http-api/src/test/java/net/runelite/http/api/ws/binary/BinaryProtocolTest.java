@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.api.ws.binary;
+
+import com.google.gson.Gson;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import net.runelite.http.api.RuneLiteAPI;
+import net.runelite.http.api.ws.WebsocketEchoServer;
+import net.runelite.http.api.ws.WebsocketMessage;
+import net.runelite.http.api.ws.messages.Handshake;
+import net.runelite.http.api.ws.messages.LoginResponse;
+import net.runelite.http.api.ws.messages.party.Join;
+import net.runelite.http.api.ws.messages.party.Part;
+import net.runelite.http.api.ws.messages.party.PartyChatMessage;
+import net.runelite.http.api.ws.messages.party.UserJoin;
+import net.runelite.http.api.ws.messages.party.UserPart;
+import net.runelite.http.api.ws.messages.party.UserSync;
+import static net.runelite.http.api.ws.binary.PartyMessages.LocationUpdate;
+import static net.runelite.http.api.ws.binary.PartyMessages.SkillUpdate;
+import static net.runelite.http.api.ws.binary.PartyMessages.TilePing;
+import static net.runelite.http.api.ws.binary.PartyMessages.WorldPoint;
+import static net.runelite.http.api.ws.binary.PartyMessages.member;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class BinaryProtocolTest
+{
+	private static final UUID MEMBER = UUID.fromString("a3c2f1e4-5b6d-4e7f-8a9b-0c1d2e3f4a5b");
+	private static final UUID PARTY = UUID.fromString("0f1e2d3c-4b5a-4968-8776-655443322110");
+
+	@Test
+	public void testCoreMessages()
+	{
+		LoginResponse loginResponse = new LoginResponse();
+		loginResponse.setUsername("Zezima");
+		UserSync userSync = member(new UserSync(), MEMBER);
+		PartyChatMessage chat = member(new PartyChatMessage("hello é"), MEMBER);
+
+		BinaryProtocol protocol = new BinaryProtocol();
+		List<WebsocketMessage> decoded = protocol.decode(protocol.encode(Arrays.asList(
+			loginResponse,
+			new Join(PARTY, "Zezima"),
+			new Part(),
+			new UserJoin(MEMBER, PARTY, "Zezima"),
+			new UserPart(MEMBER),
+			userSync,
+			chat,
+			member(new PartyChatMessage(null), null))));
+
+		assertEquals(8, decoded.size());
+		assertEquals("Zezima", ((LoginResponse) decoded.get(0)).getUsername());
+		assertEquals(PARTY, ((Join) decoded.get(1)).getPartyId());
+		assertEquals("Zezima", ((Join) decoded.get(1)).getName());
+		assertTrue(decoded.get(2) instanceof Part);
+		UserJoin userJoin = (UserJoin) decoded.get(3);
+		assertEquals(MEMBER, userJoin.getMemberId());
+		assertEquals(PARTY, userJoin.getPartyId());
+		assertEquals("Zezima", userJoin.getName());
+		assertEquals(MEMBER, ((UserPart) decoded.get(4)).getMemberId());
+		assertEquals(MEMBER, ((UserSync) decoded.get(5)).getMemberId());
+		assertTrue(decoded.get(5).isParty());
+		assertEquals(chat.getValue(), ((PartyChatMessage) decoded.get(6)).getValue());
+		assertEquals(MEMBER, ((PartyChatMessage) decoded.get(6)).getMemberId());
+		assertEquals(null, ((PartyChatMessage) decoded.get(7)).getValue());
+		assertEquals(null, ((PartyChatMessage) decoded.get(7)).getMemberId());
+	}
+
+	@Test
+	public void testUUIDTable()
+	{
+		BinaryProtocol protocol = PartyMessages.protocol();
+		SkillUpdate hp = member(new SkillUpdate(PartyMessages.Skill.HITPOINTS, 80, 99), MEMBER);
+		SkillUpdate prayer = member(new SkillUpdate(PartyMessages.Skill.PRAYER, 43, 70), MEMBER);
+
+		byte[] one = protocol.encode(Collections.singletonList(hp));
+		byte[] two = protocol.encode(Arrays.asList(hp, prayer));
+
+		// the member id is written once per frame
+		assertTrue(two.length - one.length < 16);
+
+		List<WebsocketMessage> decoded = protocol.decode(two);
+		assertEquals(hp, decoded.get(0));
+		assertEquals(prayer, decoded.get(1));
+		assertEquals(MEMBER, ((SkillUpdate) decoded.get(1)).getMemberId());
+	}
+
+	@Test
+	public void testDeltaPosition()
+	{
+		BinaryProtocol sender = PartyMessages.protocol();
+		BinaryProtocol receiver = PartyMessages.protocol();
+
+		int keyframe = 0;
+		for (int i = 0; i < 40; ++i)
+		{
+			WorldPoint point = new WorldPoint(3200 + i * 3 - (i % 7) * 11, 3400 - i, i / 13);
+			byte[] frame = sender.encode(Collections.singletonList(member(new LocationUpdate(point), MEMBER)));
+
+			if (i == 0)
+			{
+				keyframe = frame.length;
+			}
+			else if (i % (DeltaPositionCodec.KEYFRAME_INTERVAL + 1) == 0)
+			{
+				assertEquals(keyframe, frame.length);
+			}
+			else
+			{
+				assertTrue(frame.length < keyframe);
+			}
+
+			LocationUpdate decoded = (LocationUpdate) receiver.decode(frame).get(0);
+			assertEquals(point, decoded.getWorldPoint());
+			assertEquals(MEMBER, decoded.getMemberId());
+		}
+	}
+
+	@Test
+	public void testDeltaWithoutBase()
+	{
+		BinaryProtocol sender = PartyMessages.protocol();
+		sender.encode(Collections.singletonList(member(new LocationUpdate(new WorldPoint(3200, 3200, 0)), MEMBER)));
+		byte[] delta = sender.encode(Collections.singletonList(member(new LocationUpdate(new WorldPoint(3201, 3200, 0)), MEMBER)));
+
+		// a receiver which missed the keyframe drops the delta
+		BinaryProtocol receiver = PartyMessages.protocol();
+		assertTrue(receiver.decode(delta).isEmpty());
+
+		sender.reset();
+		byte[] keyframe = sender.encode(Collections.singletonList(member(new LocationUpdate(new WorldPoint(3202, 3200, 0)), MEMBER)));
+		assertEquals(new WorldPoint(3202, 3200, 0), ((LocationUpdate) receiver.decode(keyframe).get(0)).getWorldPoint());
+	}
+
+	@Test
+	public void testUnknownTypeSkipped()
+	{
+		BinaryProtocol sender = PartyMessages.protocol();
+		BinaryProtocol receiver = PartyMessages.protocol();
+		receiver.unregister(TilePing.class);
+
+		SkillUpdate hp = member(new SkillUpdate(PartyMessages.Skill.HITPOINTS, 80, 99), MEMBER);
+		TilePing ping = member(new TilePing(new WorldPoint(3200, 3200, 0)), MEMBER);
+		SkillUpdate prayer = member(new SkillUpdate(PartyMessages.Skill.PRAYER, 43, 70), MEMBER);
+
+		List<WebsocketMessage> decoded = receiver.decode(sender.encode(Arrays.asList(ping, hp, ping, prayer)));
+		assertEquals(Arrays.asList(hp, prayer), decoded);
+		assertEquals(MEMBER, ((SkillUpdate) decoded.get(0)).getMemberId());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTruncated()
+	{
+		BinaryProtocol protocol = new BinaryProtocol();
+		byte[] frame = protocol.encode(Collections.singletonList(new UserJoin(MEMBER, PARTY, "Zezima")));
+		protocol.decode(Arrays.copyOf(frame, frame.length - 1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDuplicateId()
+	{
+		PartyMessages.protocol().register(PartyMessages.SKILL_UPDATE, TilePing.class, PartyMessages.TILE_PING_CODEC);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnregisteredType()
+	{
+		new BinaryProtocol().encode(Collections.singletonList(new TilePing(new WorldPoint(0, 0, 0))));
+	}
+
+	@Test
+	public void testEchoServer() throws Exception
+	{
+		Gson gson = PartyMessages.gson();
+		BinaryProtocol protocol = PartyMessages.protocol();
+		BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+
+		try (WebsocketEchoServer server = new WebsocketEchoServer())
+		{
+			server.start();
+
+			WebSocket webSocket = RuneLiteAPI.CLIENT.newWebSocket(new Request.Builder().url(server.url()).build(), new WebSocketListener()
+			{
+				@Override
+				public void onMessage(WebSocket webSocket, String text)
+				{
+					received.add(text);
+				}
+
+				@Override
+				public void onMessage(WebSocket webSocket, ByteString bytes)
+				{
+					received.add(bytes);
+				}
+			});
+
+			Handshake handshake = new Handshake();
+			handshake.setSession(MEMBER);
+			handshake.setBinaryVersion(BinaryProtocol.VERSION);
+			webSocket.send(gson.toJson(handshake, WebsocketMessage.class));
+
+			Handshake reply = (Handshake) gson.fromJson((String) received.poll(5, TimeUnit.SECONDS), WebsocketMessage.class);
+			assertEquals(Integer.valueOf(BinaryProtocol.VERSION), reply.getBinaryVersion());
+			long handshakeBytes = server.getTextBytes();
+
+			BinaryProtocol receiver = PartyMessages.protocol();
+			for (int tick = 0; tick < 50; ++tick)
+			{
+				List<WebsocketMessage> messages = PartyMessages.tick(MEMBER, tick);
+				for (WebsocketMessage message : messages)
+				{
+					webSocket.send(gson.toJson(message, WebsocketMessage.class));
+					WebsocketMessage echoed = gson.fromJson((String) received.poll(5, TimeUnit.SECONDS), WebsocketMessage.class);
+					assertEquals(message, echoed);
+				}
+
+				webSocket.send(ByteString.of(protocol.encode(messages)));
+				ByteString echoed = (ByteString) received.poll(5, TimeUnit.SECONDS);
+				assertNotNull(echoed);
+				assertEquals(messages, receiver.decode(echoed.toByteArray()));
+			}
+
+			long jsonBytes = server.getTextBytes() - handshakeBytes;
+			long binaryBytes = server.getBinaryBytes();
+			assertTrue(binaryBytes * 8 < jsonBytes);
+
+			webSocket.close(1000, null);
+		}
+	}
+
+	@Test
+	public void testMixedParty() throws Exception
+	{
+		Gson gson = PartyMessages.gson();
+		UUID other = UUID.fromString("5e4d3c2b-1a09-4f8e-9d7c-6b5a49382716");
+
+		try (WebsocketEchoServer server = new WebsocketEchoServer())
+		{
+			server.start();
+
+			Member binary = new Member(server, MEMBER, BinaryProtocol.VERSION);
+			assertEquals(Integer.valueOf(BinaryProtocol.VERSION), binary.handshake().getBinaryVersion());
+
+			// binary until a member which only speaks json joins
+			int tick = 0;
+			for (; tick < 5; ++tick)
+			{
+				binary.send(PartyMessages.tick(MEMBER, tick));
+				assertEquals(PartyMessages.tick(MEMBER, tick), binary.receiveBinary());
+			}
+
+			Member json = new Member(server, other, null);
+			assertNull(json.handshake().getBinaryVersion());
+			assertNull(binary.handshake().getBinaryVersion());
+
+			// a frame sent before the sender saw the new handshake is not relayed to the json member
+			binary.webSocket.send(ByteString.of(binary.protocol.encode(PartyMessages.tick(MEMBER, tick))));
+
+			for (; tick < 15; ++tick)
+			{
+				List<WebsocketMessage> messages = PartyMessages.tick(MEMBER, tick);
+				binary.send(messages);
+				for (WebsocketMessage message : messages)
+				{
+					assertEquals(message, gson.fromJson(json.receiveText(), WebsocketMessage.class));
+					assertEquals(message, gson.fromJson(binary.receiveText(), WebsocketMessage.class));
+				}
+			}
+			assertEquals(1, server.getDroppedFrames());
+
+			// binary again once it leaves, starting with full positions
+			json.webSocket.close(1000, null);
+			assertEquals(Integer.valueOf(BinaryProtocol.VERSION), binary.handshake().getBinaryVersion());
+
+			for (; tick < 30; ++tick)
+			{
+				binary.send(PartyMessages.tick(MEMBER, tick));
+				assertEquals(PartyMessages.tick(MEMBER, tick), binary.receiveBinary());
+			}
+
+			assertTrue(json.received.isEmpty());
+			binary.webSocket.close(1000, null);
+		}
+	}
+
+	/**
+	 * A party member which, like WSClient, sends binary frames only while the server
+	 * accepts them and resets its codecs on every handshake
+	 */
+	private static class Member extends WebSocketListener
+	{
+		private final Gson gson = PartyMessages.gson();
+		private final BinaryProtocol protocol = PartyMessages.protocol();
+		private final BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+		private final WebSocket webSocket;
+		private boolean binary;
+
+		private Member(WebsocketEchoServer server, UUID session, Integer binaryVersion)
+		{
+			webSocket = RuneLiteAPI.CLIENT.newWebSocket(new Request.Builder().url(server.url()).build(), this);
+
+			Handshake handshake = new Handshake();
+			handshake.setSession(session);
+			handshake.setBinaryVersion(binaryVersion);
+			webSocket.send(gson.toJson(handshake, WebsocketMessage.class));
+		}
+
+		private Handshake handshake() throws InterruptedException
+		{
+			Handshake handshake = (Handshake) gson.fromJson(receiveText(), WebsocketMessage.class);
+			protocol.reset();
+			binary = Objects.equals(handshake.getBinaryVersion(), BinaryProtocol.VERSION);
+			return handshake;
+		}
+
+		private void send(List<WebsocketMessage> messages)
+		{
+			if (binary)
+			{
+				webSocket.send(ByteString.of(protocol.encode(messages)));
+				return;
+			}
+
+			for (WebsocketMessage message : messages)
+			{
+				webSocket.send(gson.toJson(message, WebsocketMessage.class));
+			}
+		}
+
+		private String receiveText() throws InterruptedException
+		{
+			Object frame = received.poll(5, TimeUnit.SECONDS);
+			assertTrue("expected a text frame, got " + frame, frame instanceof String);
+			return (String) frame;
+		}
+
+		private List<WebsocketMessage> receiveBinary() throws InterruptedException
+		{
+			Object frame = received.poll(5, TimeUnit.SECONDS);
+			assertTrue("expected a binary frame, got " + frame, frame instanceof ByteString);
+			return protocol.decode(((ByteString) frame).toByteArray());
+		}
+
+		@Override
+		public void onMessage(WebSocket webSocket, String text)
+		{
+			received.add(text);
+		}
+
+		@Override
+		public void onMessage(WebSocket webSocket, ByteString bytes)
+		{
+			received.add(bytes);
+		}
+	}
+}
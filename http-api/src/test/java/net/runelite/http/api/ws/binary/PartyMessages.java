@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.api.ws.binary;
+
+import com.google.gson.Gson;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import lombok.Value;
+import net.runelite.http.api.ws.WebsocketGsonFactory;
+import net.runelite.http.api.ws.WebsocketMessage;
+import net.runelite.http.api.ws.messages.party.PartyMemberMessage;
+
+/**
+ * Copies of the party plugin's messages, which json encode the same, and codecs for them
+ */
+final class PartyMessages
+{
+	static final int LOCATION_UPDATE = BinaryProtocol.FIRST_USER_ID;
+	static final int SKILL_UPDATE = BinaryProtocol.FIRST_USER_ID + 1;
+	static final int TILE_PING = BinaryProtocol.FIRST_USER_ID + 2;
+
+	enum Skill
+	{
+		HITPOINTS,
+		PRAYER
+	}
+
+	@Value
+	static class WorldPoint
+	{
+		private final int x;
+		private final int y;
+		private final int plane;
+	}
+
+	@Value
+	static class LocationUpdate extends PartyMemberMessage
+	{
+		private final WorldPoint worldPoint;
+	}
+
+	@Value
+	static class SkillUpdate extends PartyMemberMessage
+	{
+		private final Skill skill;
+		private final int value;
+		private final int max;
+	}
+
+	@Value
+	static class TilePing extends PartyMemberMessage
+	{
+		private final WorldPoint point;
+	}
+
+	static class LocationUpdateCodec extends DeltaPositionCodec<LocationUpdate>
+	{
+		@Override
+		protected int getX(LocationUpdate message)
+		{
+			return message.getWorldPoint().getX();
+		}
+
+		@Override
+		protected int getY(LocationUpdate message)
+		{
+			return message.getWorldPoint().getY();
+		}
+
+		@Override
+		protected int getPlane(LocationUpdate message)
+		{
+			return message.getWorldPoint().getPlane();
+		}
+
+		@Override
+		protected LocationUpdate create(int x, int y, int plane)
+		{
+			return new LocationUpdate(new WorldPoint(x, y, plane));
+		}
+	}
+
+	static final MessageCodec<SkillUpdate> SKILL_UPDATE_CODEC = new MessageCodec<SkillUpdate>()
+	{
+		@Override
+		public void encode(SkillUpdate message, BinaryWriter out)
+		{
+			out.writeUUID(message.getMemberId());
+			out.writeVarInt(message.getSkill().ordinal());
+			out.writeVarInt(message.getValue());
+			out.writeVarInt(message.getMax());
+		}
+
+		@Override
+		public SkillUpdate decode(BinaryReader in)
+		{
+			UUID memberId = in.readUUID();
+			SkillUpdate message = new SkillUpdate(Skill.values()[in.readVarInt()], in.readVarInt(), in.readVarInt());
+			message.setMemberId(memberId);
+			return message;
+		}
+	};
+
+	static final MessageCodec<TilePing> TILE_PING_CODEC = new MessageCodec<TilePing>()
+	{
+		@Override
+		public void encode(TilePing message, BinaryWriter out)
+		{
+			WorldPoint point = message.getPoint();
+			out.writeUUID(message.getMemberId());
+			out.writeVarInt(point.getX());
+			out.writeVarInt(point.getY());
+			out.writeVarInt(point.getPlane());
+		}
+
+		@Override
+		public TilePing decode(BinaryReader in)
+		{
+			UUID memberId = in.readUUID();
+			TilePing message = new TilePing(new WorldPoint(in.readVarInt(), in.readVarInt(), in.readVarInt()));
+			message.setMemberId(memberId);
+			return message;
+		}
+	};
+
+	static BinaryProtocol protocol()
+	{
+		BinaryProtocol protocol = new BinaryProtocol();
+		protocol.register(LOCATION_UPDATE, LocationUpdate.class, new LocationUpdateCodec());
+		protocol.register(SKILL_UPDATE, SkillUpdate.class, SKILL_UPDATE_CODEC);
+		protocol.register(TILE_PING, TilePing.class, TILE_PING_CODEC);
+		return protocol;
+	}
+
+	static Gson gson()
+	{
+		return WebsocketGsonFactory.build(WebsocketGsonFactory.factory(Arrays.asList(
+			LocationUpdate.class, SkillUpdate.class, TilePing.class)));
+	}
+
+	/**
+	 * The messages a member walking east sends in one tick: its location, hitpoints and prayer
+	 */
+	static List<WebsocketMessage> tick(UUID memberId, int tick)
+	{
+		List<WebsocketMessage> messages = new ArrayList<>(3);
+		messages.add(member(new LocationUpdate(new WorldPoint(3200 + tick, 3200, 0)), memberId));
+		messages.add(member(new SkillUpdate(Skill.HITPOINTS, 99 - tick % 20, 99), memberId));
+		messages.add(member(new SkillUpdate(Skill.PRAYER, 70 - tick % 30, 70), memberId));
+		return messages;
+	}
+
+	static <T extends PartyMemberMessage> T member(T message, UUID memberId)
+	{
+		message.setMemberId(memberId);
+		return message;
+	}
+
+	private PartyMessages()
+	{
+	}
+}
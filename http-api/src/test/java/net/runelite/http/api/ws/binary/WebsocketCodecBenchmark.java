@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.api.ws.binary;
+
+import com.google.gson.Gson;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.runelite.http.api.ws.WebsocketMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Encodes and decodes one tick of party messages, a location update and two skill
+ * updates, as one json frame per message and as a single binary frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WebsocketCodecBenchmark
+{
+	private Gson gson;
+	private BinaryProtocol sender;
+	private BinaryProtocol receiver;
+	private List<WebsocketMessage> messages;
+	private List<String> json;
+	private byte[] frame;
+
+	@Setup
+	public void setup()
+	{
+		gson = PartyMessages.gson();
+		sender = PartyMessages.protocol();
+		receiver = PartyMessages.protocol();
+		messages = PartyMessages.tick(UUID.randomUUID(), 7);
+
+		json = new ArrayList<>();
+		for (WebsocketMessage message : messages)
+		{
+			json.add(gson.toJson(message, WebsocketMessage.class));
+		}
+		// a keyframe, so it decodes without a base
+		frame = PartyMessages.protocol().encode(messages);
+	}
+
+	@Benchmark
+	public void jsonEncode(Blackhole bh)
+	{
+		for (WebsocketMessage message : messages)
+		{
+			bh.consume(gson.toJson(message, WebsocketMessage.class));
+		}
+	}
+
+	@Benchmark
+	public byte[] binaryEncode()
+	{
+		return sender.encode(messages);
+	}
+
+	@Benchmark
+	public void jsonDecode(Blackhole bh)
+	{
+		for (String s : json)
+		{
+			bh.consume(gson.fromJson(s, WebsocketMessage.class));
+		}
+	}
+
+	@Benchmark
+	public List<WebsocketMessage> binaryDecode()
+	{
+		return receiver.decode(frame);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(WebsocketCodecBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -28,8 +28,10 @@ import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.imageio.ImageIO;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.ConfigType;
 import net.runelite.cache.IndexType;
@@ -62,6 +64,7 @@ import net.runelite.http.service.cache.beans.IndexEntry;
 import net.runelite.http.service.util.exception.NotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -76,6 +79,29 @@ public class CacheController
 	@Autowired
 	private CacheService cacheService;
 
+	private final com.google.common.cache.Cache<ItemImageKey, byte[]> itemImageCache = CacheService.byteArrayCache(16L * 1024 * 1024);
+
+	private CacheEntry itemSpriteFactoryCache;
+	private ItemSpriteFactory itemSpriteFactory;
+
+	@Value
+	private static class ItemImageKey
+	{
+		private int cacheId;
+		private int itemId;
+		private int quantity;
+		private int border;
+		private int shadowColor;
+	}
+
+	@Scheduled(fixedDelay = 10 * 60 * 1000)
+	public void logStats()
+	{
+		Map<String, CacheMetrics> metrics = cacheService.getCacheMetrics();
+		metrics.put("itemImages", CacheMetrics.of(itemImageCache));
+		metrics.forEach((name, m) -> log.debug("{} cache: {}", name, m));
+	}
+
 	@GetMapping("/")
 	public List<Cache> listCaches()
 	{
@@ -163,22 +189,16 @@ public class CacheController
 			throw new NotFoundException();
 		}
 
-		IndexEntry indexEntry = cacheService.findIndexForCache(cache, indexId);
-		if (indexEntry == null)
-		{
-			throw new NotFoundException();
-		}
-
-		ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(indexEntry, archiveId);
-		if (archiveEntry == null)
+		byte[] archiveData = cacheService.getArchive(cache, indexId, archiveId);
+		if (archiveData == null)
 		{
 			throw new NotFoundException();
 		}
 
-		return cacheService.getArchive(archiveEntry);
+		return archiveData;
 	}
 
-	private ArchiveEntry findConfig(ConfigType config)
+	private ArchiveFiles findConfig(ConfigType config) throws IOException
 	{
 		CacheEntry cache = cacheService.findMostRecent();
 		if (cache == null)
@@ -186,31 +206,19 @@ public class CacheController
 			throw new NotFoundException();
 		}
 
-		IndexEntry indexEntry = cacheService.findIndexForCache(cache, IndexType.CONFIGS.getNumber());
-		if (indexEntry == null)
-		{
-			throw new NotFoundException();
-		}
-
-		ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(indexEntry, config.getId());
-		if (archiveEntry == null)
+		ArchiveFiles archiveFiles = cacheService.getArchiveFiles(cache, IndexType.CONFIGS.getNumber(), config.getId());
+		if (archiveFiles == null)
 		{
 			throw new NotFoundException();
 		}
 
-		return archiveEntry;
+		return archiveFiles;
 	}
 
 	@GetMapping("item/{itemId}")
 	public ItemDefinition getItem(@PathVariable int itemId) throws IOException
 	{
-		ArchiveEntry archiveEntry = findConfig(ConfigType.ITEM);
-
-		ArchiveFiles archiveFiles = cacheService.getArchiveFiles(archiveEntry);
-		if (archiveFiles == null)
-		{
-			throw new NotFoundException();
-		}
+		ArchiveFiles archiveFiles = findConfig(ConfigType.ITEM);
 
 		FSFile file = archiveFiles.findFile(itemId);
 		if (file == null)
@@ -231,6 +239,37 @@ public class CacheController
 	) throws IOException
 	{
 		final CacheEntry cache = cacheService.findMostRecent();
+		if (cache == null)
+		{
+			throw new NotFoundException();
+		}
+
+		ItemImageKey key = new ItemImageKey(cache.getId(), itemId, quantity, border, shadowColor);
+		byte[] png = itemImageCache.getIfPresent(key);
+		if (png != null)
+		{
+			return ResponseEntity.ok(png);
+		}
+
+		BufferedImage itemImage = getItemSpriteFactory(cache).createSprite(itemId, quantity, border, shadowColor, false);
+		ByteArrayOutputStream bao = new ByteArrayOutputStream();
+		ImageIO.write(itemImage, "png", bao);
+		png = bao.toByteArray();
+		itemImageCache.put(key, png);
+		return ResponseEntity.ok(png);
+	}
+
+	/**
+	 * Get the sprite factory for a cache, which is shared by requests so the
+	 * textures are only loaded once per cache
+	 */
+	private synchronized ItemSpriteFactory getItemSpriteFactory(CacheEntry cache)
+	{
+		if (itemSpriteFactory != null && itemSpriteFactoryCache.getId() == cache.getId())
+		{
+			return itemSpriteFactory;
+		}
+
 		ItemProvider itemProvider = new ItemProvider()
 		{
 			@Override
@@ -252,9 +291,7 @@ public class CacheController
 			@Override
 			public ModelDefinition provide(int modelId) throws IOException
 			{
-				IndexEntry indexEntry = cacheService.findIndexForCache(cache, IndexType.MODELS.getNumber());
-				ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(indexEntry, modelId);
-				byte[] archiveData = Container.decompress(cacheService.getArchive(archiveEntry), null).data;
+				byte[] archiveData = Container.decompress(cacheService.getArchive(cache, IndexType.MODELS.getNumber(), modelId), null).data;
 				return new ModelLoader().load(modelId, archiveData);
 			}
 		};
@@ -265,9 +302,7 @@ public class CacheController
 			{
 				try
 				{
-					IndexEntry indexEntry = cacheService.findIndexForCache(cache, IndexType.SPRITES.getNumber());
-					ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(indexEntry, spriteId);
-					byte[] archiveData = Container.decompress(cacheService.getArchive(archiveEntry), null).data;
+					byte[] archiveData = Container.decompress(cacheService.getArchive(cache, IndexType.SPRITES.getNumber(), spriteId), null).data;
 					SpriteDefinition[] defs = new SpriteLoader().load(spriteId, archiveData);
 					return defs[frameId];
 				}
@@ -286,9 +321,7 @@ public class CacheController
 			{
 				try
 				{
-					IndexEntry indexEntry = cacheService.findIndexForCache(cache, IndexType.TEXTURES.getNumber());
-					ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(indexEntry, 0);
-					ArchiveFiles archiveFiles = cacheService.getArchiveFiles(archiveEntry);
+					ArchiveFiles archiveFiles = cacheService.getArchiveFiles(cache, IndexType.TEXTURES.getNumber(), 0);
 					TextureLoader loader = new TextureLoader();
 					TextureDefinition[] defs = new TextureDefinition[archiveFiles.getFiles().size()];
 					int i = 0;
@@ -307,11 +340,9 @@ public class CacheController
 			}
 		};
 
-		BufferedImage itemImage = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider2,
-			itemId, quantity, border, shadowColor, false);
-		ByteArrayOutputStream bao = new ByteArrayOutputStream();
-		ImageIO.write(itemImage, "png", bao);
-		return ResponseEntity.ok(bao.toByteArray());
+		itemSpriteFactory = new ItemSpriteFactory(itemProvider, modelProvider, spriteProvider, textureProvider2);
+		itemSpriteFactoryCache = cache;
+		return itemSpriteFactory;
 	}
 
 	@GetMapping("object/{objectId}")
@@ -319,13 +350,7 @@ public class CacheController
 		@PathVariable int objectId
 	) throws IOException
 	{
-		ArchiveEntry archiveEntry = findConfig(ConfigType.OBJECT);
-
-		ArchiveFiles archiveFiles = cacheService.getArchiveFiles(archiveEntry);
-		if (archiveFiles == null)
-		{
-			throw new NotFoundException();
-		}
+		ArchiveFiles archiveFiles = findConfig(ConfigType.OBJECT);
 
 		FSFile file = archiveFiles.findFile(objectId);
 		if (file == null)
@@ -342,13 +367,7 @@ public class CacheController
 		@PathVariable int npcId
 	) throws IOException
 	{
-		ArchiveEntry archiveEntry = findConfig(ConfigType.NPC);
-
-		ArchiveFiles archiveFiles = cacheService.getArchiveFiles(archiveEntry);
-		if (archiveFiles == null)
-		{
-			throw new NotFoundException();
-		}
+		ArchiveFiles archiveFiles = findConfig(ConfigType.NPC);
 
 		FSFile file = archiveFiles.findFile(npcId);
 		if (file == null)
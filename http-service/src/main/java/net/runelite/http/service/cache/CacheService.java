@@ -24,6 +24,10 @@
  */
 package net.runelite.http.service.cache;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Iterables;
 import com.google.common.io.BaseEncoding;
 import com.google.common.io.ByteStreams;
@@ -42,7 +46,10 @@ import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.ConfigType;
 import net.runelite.cache.IndexType;
@@ -78,14 +85,64 @@ public class CacheService
 
 	private final MinioClient minioClient;
 
+	// new caches are stored by the cache updater, so this can't be invalidated when they are added
+	private final Supplier<CacheEntry> mostRecent = Suppliers.memoizeWithExpiration(this::findMostRecentUncached,
+		1, TimeUnit.MINUTES);
+	// raw archive data, keyed by cache, index and archive
+	private final Cache<ArchiveKey, byte[]> archiveCache;
+	// decompressed and split archives
+	private final Cache<ArchiveKey, ArchiveFiles> archiveFilesCache;
+
 	@Autowired
 	public CacheService(
 		@Value("${minio.endpoint}") String minioEndpoint,
 		@Value("${minio.accesskey}") String accessKey,
-		@Value("${minio.secretkey}") String secretKey
+		@Value("${minio.secretkey}") String secretKey,
+		@Value("${runelite.cache.memory:134217728}") long cacheMemory
 	) throws InvalidEndpointException, InvalidPortException
 	{
 		this.minioClient = new MinioClient(minioEndpoint, accessKey, secretKey);
+
+		// the archives are usually much smaller than their decoded contents
+		this.archiveCache = byteArrayCache(cacheMemory / 4);
+		this.archiveFilesCache = archiveFilesCache(cacheMemory - cacheMemory / 4);
+	}
+
+	/**
+	 * build a cache bounded by the total length of the arrays it holds
+	 *
+	 * @param maximumWeight maximum number of bytes held
+	 * @param <K>
+	 * @return
+	 */
+	static <K> Cache<K, byte[]> byteArrayCache(long maximumWeight)
+	{
+		return CacheBuilder.newBuilder()
+			.maximumWeight(maximumWeight)
+			.weigher((K k, byte[] v) -> v.length)
+			.recordStats()
+			.build();
+	}
+
+	static Cache<ArchiveKey, ArchiveFiles> archiveFilesCache(long maximumWeight)
+	{
+		return CacheBuilder.newBuilder()
+			.maximumWeight(maximumWeight)
+			.weigher((ArchiveKey k, ArchiveFiles v) -> weigh(v))
+			.recordStats()
+			.build();
+	}
+
+	/*
+	 * Caches are never modified once stored, and a new cache gets a new id,
+	 * so entries keyed by cache id never go stale.
+	 */
+	@lombok.Value
+	static class ArchiveKey
+	{
+		private int cacheId;
+		private int indexId;
+		private int archiveId;
 	}
 
 	@Bean
@@ -122,6 +179,104 @@ public class CacheService
 		}
 	}
 
+	/**
+	 * retrieve archive from storage, caching it in memory
+	 *
+	 * @param cache
+	 * @param indexId
+	 * @param archiveId
+	 * @return the archive, or null if it does not exist
+	 */
+	public byte[] getArchive(CacheEntry cache, int indexId, int archiveId)
+	{
+		ArchiveKey key = new ArchiveKey(cache.getId(), indexId, archiveId);
+		byte[] archiveData = archiveCache.getIfPresent(key);
+		if (archiveData != null)
+		{
+			return archiveData;
+		}
+
+		ArchiveEntry archiveEntry = findArchive(cache, indexId, archiveId);
+		if (archiveEntry == null)
+		{
+			return null;
+		}
+
+		archiveData = getArchive(archiveEntry);
+		if (archiveData != null)
+		{
+			archiveCache.put(key, archiveData);
+		}
+		return archiveData;
+	}
+
+	/**
+	 * retrieve and split an archive, caching it in memory. The returned
+	 * files are shared, and must not be modified.
+	 *
+	 * @param cache
+	 * @param indexId
+	 * @param archiveId
+	 * @return the archive files, or null if the archive does not exist
+	 * @throws IOException
+	 */
+	public ArchiveFiles getArchiveFiles(CacheEntry cache, int indexId, int archiveId) throws IOException
+	{
+		ArchiveKey key = new ArchiveKey(cache.getId(), indexId, archiveId);
+		ArchiveFiles archiveFiles = archiveFilesCache.getIfPresent(key);
+		if (archiveFiles != null)
+		{
+			return archiveFiles;
+		}
+
+		ArchiveEntry archiveEntry = findArchive(cache, indexId, archiveId);
+		if (archiveEntry == null)
+		{
+			return null;
+		}
+
+		archiveFiles = getArchiveFiles(archiveEntry);
+		if (archiveFiles != null)
+		{
+			archiveFilesCache.put(key, archiveFiles);
+		}
+		return archiveFiles;
+	}
+
+	public Map<String, CacheMetrics> getCacheMetrics()
+	{
+		Map<String, CacheMetrics> metrics = new LinkedHashMap<>();
+		metrics.put("archives", CacheMetrics.of(archiveCache));
+		metrics.put("archiveFiles", CacheMetrics.of(archiveFilesCache));
+		return metrics;
+	}
+
+	private ArchiveEntry findArchive(CacheEntry cache, int indexId, int archiveId)
+	{
+		try (Connection con = sql2o.open())
+		{
+			CacheDAO cacheDao = new CacheDAO();
+			IndexEntry indexEntry = cacheDao.findIndexForCache(con, cache, indexId);
+			if (indexEntry == null)
+			{
+				return null;
+			}
+
+			return cacheDao.findArchiveForIndex(con, indexEntry, archiveId);
+		}
+	}
+
+	static int weigh(ArchiveFiles archiveFiles)
+	{
+		int weight = 0;
+		for (FSFile file : archiveFiles.getFiles())
+		{
+			// rough per file overhead
+			weight += 64 + file.getSize();
+		}
+		return weight;
+	}
+
 	public ArchiveFiles getArchiveFiles(ArchiveEntry archiveEntry) throws IOException
 	{
 		CacheDAO cacheDao = new CacheDAO();
@@ -174,7 +329,18 @@ public class CacheService
 		}
 	}
 
+	/**
+	 * find the most recent cache. This is cached for a minute, so a cache
+	 * added by the cache updater may not be returned until then.
+	 *
+	 * @return
+	 */
 	public CacheEntry findMostRecent()
+	{
+		return mostRecent.get();
+	}
+
+	private CacheEntry findMostRecentUncached()
 	{
 		try (Connection con = sql2o.open())
 		{
@@ -239,9 +405,7 @@ public class CacheService
 			return Collections.emptyList();
 		}
 
-		IndexEntry indexEntry = findIndexForCache(cache, IndexType.CONFIGS.getNumber());
-		ArchiveEntry archiveEntry = findArchiveForIndex(indexEntry, ConfigType.ITEM.getId());
-		ArchiveFiles archiveFiles = getArchiveFiles(archiveEntry);
+		ArchiveFiles archiveFiles = getArchiveFiles(cache, IndexType.CONFIGS.getNumber(), ConfigType.ITEM.getId());
 		final ItemLoader itemLoader = new ItemLoader();
 		final List<ItemDefinition> result = new ArrayList<>(archiveFiles.getFiles().size());
 		for (FSFile file : archiveFiles.getFiles())
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import com.google.common.cache.Cache;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.http.service.cache.CacheService.ArchiveKey;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class CacheServiceTest
+{
+	@Test
+	public void testWeigh()
+	{
+		ArchiveFiles archiveFiles = new ArchiveFiles();
+		for (int i = 0; i < 3; ++i)
+		{
+			FSFile file = new FSFile(i);
+			file.setContents(new byte[100 * (i + 1)]);
+			archiveFiles.addFile(file);
+		}
+
+		assertEquals(3 * 64 + 100 + 200 + 300, CacheService.weigh(archiveFiles));
+	}
+
+	@Test
+	public void testByteArrayCacheEviction()
+	{
+		Cache<ArchiveKey, byte[]> cache = CacheService.byteArrayCache(100_000);
+		for (int i = 0; i < 100; ++i)
+		{
+			cache.put(new ArchiveKey(1, 2, i), new byte[4000]);
+		}
+
+		long weight = cache.asMap().values().stream()
+			.mapToLong(v -> v.length)
+			.sum();
+		assertTrue(weight <= 100_000);
+		assertTrue(cache.size() > 0);
+		assertEquals(100 - cache.size(), cache.stats().evictionCount());
+
+		// a single entry larger than the cache is not retained
+		cache.put(new ArchiveKey(1, 2, 100), new byte[200_000]);
+		assertNull(cache.getIfPresent(new ArchiveKey(1, 2, 100)));
+	}
+
+	@Test
+	public void testArchiveFilesCacheEviction()
+	{
+		Cache<ArchiveKey, ArchiveFiles> cache = CacheService.archiveFilesCache(100_000);
+		for (int i = 0; i < 100; ++i)
+		{
+			ArchiveFiles archiveFiles = new ArchiveFiles();
+			FSFile file = new FSFile(0);
+			file.setContents(new byte[3936]);
+			archiveFiles.addFile(file);
+			cache.put(new ArchiveKey(1, 2, i), archiveFiles);
+		}
+
+		long weight = cache.asMap().values().stream()
+			.mapToLong(CacheService::weigh)
+			.sum();
+		assertTrue(weight <= 100_000);
+		assertTrue(cache.size() > 0);
+		assertEquals(100 - cache.size(), cache.stats().evictionCount());
+	}
+
+	@Test
+	public void testNewCacheDoesNotSeeOldArchives()
+	{
+		Cache<ArchiveKey, byte[]> cache = CacheService.byteArrayCache(1000);
+		byte[] data = {1, 2, 3};
+		cache.put(new ArchiveKey(1, 2, 3), data);
+
+		assertArrayEquals(data, cache.getIfPresent(new ArchiveKey(1, 2, 3)));
+		assertNull(cache.getIfPresent(new ArchiveKey(2, 2, 3)));
+		assertEquals(1, cache.stats().hitCount());
+		assertEquals(1, cache.stats().missCount());
+	}
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * The camera and viewport state needed to project local coordinates onto the canvas,
+ * read from the client once. Overlays projecting many points per frame should take a
+ * snapshot at the start of rendering and project everything through it, rather than
+ * having each projection read the camera from the client again.
+ */
+@Getter
+public final class CameraSnapshot
+{
+	private static final int MIN_LOCAL = Perspective.LOCAL_TILE_SIZE;
+	private static final int MAX_LOCAL = (Perspective.SCENE_SIZE - 2) * Perspective.LOCAL_TILE_SIZE;
+	private static final int NEAR_CLIP = 50;
+
+	private final int cameraX;
+	private final int cameraY;
+	private final int cameraZ;
+	private final int cameraPitch;
+	private final int cameraYaw;
+	private final int scale;
+	private final int viewportWidth;
+	private final int viewportHeight;
+	private final int viewportXOffset;
+	private final int viewportYOffset;
+
+	@Getter(AccessLevel.NONE)
+	private final int pitchSin, pitchCos, yawSin, yawCos;
+
+	private CameraSnapshot(Client client)
+	{
+		cameraX = client.getCameraX();
+		cameraY = client.getCameraY();
+		cameraZ = client.getCameraZ();
+		cameraPitch = client.getCameraPitch();
+		cameraYaw = client.getCameraYaw();
+		scale = client.getScale();
+		viewportWidth = client.getViewportWidth();
+		viewportHeight = client.getViewportHeight();
+		viewportXOffset = client.getViewportXOffset();
+		viewportYOffset = client.getViewportYOffset();
+
+		pitchSin = Perspective.SINE[cameraPitch];
+		pitchCos = Perspective.COSINE[cameraPitch];
+		yawSin = Perspective.SINE[cameraYaw];
+		yawCos = Perspective.COSINE[cameraYaw];
+	}
+
+	/**
+	 * Read the current camera state of the client
+	 *
+	 * @param client the game client
+	 * @return the snapshot
+	 */
+	public static CameraSnapshot of(@Nonnull Client client)
+	{
+		return new CameraSnapshot(client);
+	}
+
+	/**
+	 * Translates three-dimensional local coordinates to their corresponding coordinates
+	 * on the game screen.
+	 *
+	 * @param x ground coordinate on the x axis
+	 * @param y ground coordinate on the y axis
+	 * @param z height
+	 * @return the point on screen, or null if it is outside of the scene or behind the camera
+	 * @see Perspective#localToCanvas(Client, int, int, int)
+	 */
+	@Nullable
+	public Point localToCanvas(int x, int y, int z)
+	{
+		if (x < MIN_LOCAL || y < MIN_LOCAL || x > MAX_LOCAL || y > MAX_LOCAL)
+		{
+			return null;
+		}
+
+		x -= cameraX;
+		y -= cameraY;
+		z -= cameraZ;
+
+		final int
+			x1 = x * yawCos + y * yawSin >> 16,
+			y1 = y * yawCos - x * yawSin >> 16,
+			y2 = z * pitchCos - y1 * pitchSin >> 16,
+			z1 = y1 * pitchCos + z * pitchSin >> 16;
+
+		if (z1 < NEAR_CLIP)
+		{
+			return null;
+		}
+
+		return new Point(
+			viewportWidth / 2 + x1 * scale / z1 + viewportXOffset,
+			viewportHeight / 2 + y2 * scale / z1 + viewportYOffset);
+	}
+
+	/**
+	 * Translates many three-dimensional local coordinates to the game screen. Points which are
+	 * outside of the scene or behind the camera are set to {@link Integer#MIN_VALUE}.
+	 *
+	 * @param count number of points
+	 * @param x3d ground coordinates on the x axis
+	 * @param y3d ground coordinates on the y axis
+	 * @param z3d heights
+	 * @param x2d output canvas x coordinates
+	 * @param y2d output canvas y coordinates
+	 * @return the number of points which were projected onto the screen
+	 */
+	public int localToCanvas(int count, int[] x3d, int[] y3d, int[] z3d, int[] x2d, int[] y2d)
+	{
+		final int
+			cameraX = this.cameraX,
+			cameraY = this.cameraY,
+			cameraZ = this.cameraZ,
+			pitchSin = this.pitchSin,
+			pitchCos = this.pitchCos,
+			yawSin = this.yawSin,
+			yawCos = this.yawCos,
+			scale = this.scale,
+			viewportX = viewportWidth / 2 + viewportXOffset,
+			viewportY = viewportHeight / 2 + viewportYOffset;
+
+		int visible = 0;
+		for (int i = 0; i < count; i++)
+		{
+			final int
+				lx = x3d[i],
+				ly = y3d[i],
+				x = lx - cameraX,
+				y = ly - cameraY,
+				z = z3d[i] - cameraZ,
+				x1 = x * yawCos + y * yawSin >> 16,
+				y1 = y * yawCos - x * yawSin >> 16,
+				y2 = z * pitchCos - y1 * pitchSin >> 16,
+				z1 = y1 * pitchCos + z * pitchSin >> 16;
+
+			if (z1 < NEAR_CLIP || lx < MIN_LOCAL || ly < MIN_LOCAL || lx > MAX_LOCAL || ly > MAX_LOCAL)
+			{
+				x2d[i] = Integer.MIN_VALUE;
+				y2d[i] = Integer.MIN_VALUE;
+			}
+			else
+			{
+				x2d[i] = viewportX + x1 * scale / z1;
+				y2d[i] = viewportY + y2 * scale / z1;
+				visible++;
+			}
+		}
+		return visible;
+	}
+
+	/**
+	 * Translates a model's vertices onto the game screen. Vertices behind the camera are
+	 * set to {@link Integer#MIN_VALUE}.
+	 *
+	 * @param count number of vertices
+	 * @param x3dCenter local x coordinate of the model
+	 * @param y3dCenter local y coordinate of the model
+	 * @param z3dCenter height of the model
+	 * @param rotate model orientation
+	 * @param x3d vertex x coordinates, relative to the model
+	 * @param y3d vertex y coordinates, relative to the model
+	 * @param z3d vertex heights, relative to the model
+	 * @param x2d output canvas x coordinates
+	 * @param y2d output canvas y coordinates
+	 */
+	public void modelToCanvas(int count, int x3dCenter, int y3dCenter, int z3dCenter, int rotate,
+		int[] x3d, int[] y3d, int[] z3d, int[] x2d, int[] y2d)
+	{
+		final int
+			pitchSin = this.pitchSin,
+			pitchCos = this.pitchCos,
+			yawSin = this.yawSin,
+			yawCos = this.yawCos,
+			rotateSin = Perspective.SINE[rotate],
+			rotateCos = Perspective.COSINE[rotate],
+			cx = x3dCenter - cameraX,
+			cy = y3dCenter - cameraY,
+			cz = z3dCenter - cameraZ,
+			scale = this.scale,
+			viewportX = viewportWidth / 2 + viewportXOffset,
+			viewportY = viewportHeight / 2 + viewportYOffset;
+
+		for (int i = 0; i < count; i++)
+		{
+			int x = x3d[i];
+			int y = y3d[i];
+
+			if (rotate != 0)
+			{
+				int x0 = x;
+				x = x0 * rotateCos + y * rotateSin >> 16;
+				y = y * rotateCos - x0 * rotateSin >> 16;
+			}
+
+			x += cx;
+			y += cy;
+			final int z = z3d[i] + cz;
+
+			final int
+				x1 = x * yawCos + y * yawSin >> 16,
+				y1 = y * yawCos - x * yawSin >> 16,
+				y2 = z * pitchCos - y1 * pitchSin >> 16,
+				z1 = y1 * pitchCos + z * pitchSin >> 16;
+
+			if (z1 < NEAR_CLIP)
+			{
+				x2d[i] = Integer.MIN_VALUE;
+				y2d[i] = Integer.MIN_VALUE;
+			}
+			else
+			{
+				x2d[i] = viewportX + x1 * scale / z1;
+				y2d[i] = viewportY + y2 * scale / z1;
+			}
+		}
+	}
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Shape;
+import java.lang.ref.WeakReference;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.geometry.RectangleUnion;
+import net.runelite.api.geometry.Shapes;
+import net.runelite.api.geometry.SimplePolygon;
+import net.runelite.api.model.Jarvis;
+
+/**
+ * Computes model clickboxes for {@link Perspective#getClickbox(Client, Model, int, LocalPoint)}.
+ * Each thread has its own calculator, whose scratch arrays are reused between calls, and
+ * which caches recent clickboxes of non-clickable models by model, orientation, location and camera.
+ * The cache holds the models weakly, so it doesn't keep models of a previous scene alive.
+ */
+final class ClickboxCalculator
+{
+	private static final ThreadLocal<ClickboxCalculator> CALCULATORS = ThreadLocal.withInitial(ClickboxCalculator::new);
+
+	private static final int CACHE_SIZE = 64; // must be a power of 2
+	private static final int RADIUS = 5;
+
+	// cache key layout
+	private static final int KEY_VERTEX_HASH = 0;
+	private static final int KEY_ORIENTATION = 1;
+	private static final int KEY_X = 2;
+	private static final int KEY_Y = 3;
+	private static final int KEY_Z = 4;
+	private static final int KEY_CAMERA_X = 5;
+	private static final int KEY_CAMERA_Y = 6;
+	private static final int KEY_CAMERA_Z = 7;
+	private static final int KEY_CAMERA_PITCH = 8;
+	private static final int KEY_CAMERA_YAW = 9;
+	private static final int KEY_SCALE = 10;
+	private static final int KEY_VIEWPORT_WIDTH = 11;
+	private static final int KEY_VIEWPORT_HEIGHT = 12;
+	private static final int KEY_VIEWPORT_X = 13;
+	private static final int KEY_VIEWPORT_Y = 14;
+	private static final int KEY_SIZE = 15;
+
+	private final Entry[] cache = new Entry[CACHE_SIZE];
+	private final int[] key = new int[KEY_SIZE];
+
+	// bounding box
+	private final int[] xa = new int[8];
+	private final int[] ya = new int[8];
+	private final int[] za = new int[8];
+	private final int[] x2d8 = new int[8];
+	private final int[] y2d8 = new int[8];
+	private final SimplePolygon hull = new SimplePolygon();
+
+	// model vertices and triangle bounds, grown as needed
+	private int[] x2d = new int[0];
+	private int[] y2d = new int[0];
+	private int[] rectX1 = new int[0];
+	private int[] rectY1 = new int[0];
+	private int[] rectX2 = new int[0];
+	private int[] rectY2 = new int[0];
+	private long[] rectOrder = new long[0];
+
+	private static final class Entry
+	{
+		private final int[] key = new int[KEY_SIZE];
+		private WeakReference<Model> model;
+		private WeakReference<int[]> verticesX;
+		private WeakReference<int[]> trianglesX;
+		private Shape clickbox;
+	}
+
+	private ClickboxCalculator()
+	{
+		for (int i = 0; i < CACHE_SIZE; i++)
+		{
+			cache[i] = new Entry();
+		}
+	}
+
+	static ClickboxCalculator get()
+	{
+		return CALCULATORS.get();
+	}
+
+	/**
+	 * @return the clickbox, which may be shared with later callers and must not be modified
+	 */
+	Shape getClickbox(Client client, Model model, int orientation, LocalPoint point)
+	{
+		int x = point.getX();
+		int y = point.getY();
+		int z = Perspective.getTileHeight(client, point, client.getPlane());
+
+		if (model.getExtremeX() == -1)
+		{
+			// dynamic models don't get stored when they render where this normally happens
+			model.calculateBoundsCylinder();
+			model.calculateExtreme(0);
+		}
+
+		final CameraSnapshot camera = CameraSnapshot.of(client);
+		if (model.isClickable())
+		{
+			// only the bounding box is needed, which is cheaper to compute than the cache key
+			return calculate(camera, model, orientation, x, y, z);
+		}
+
+		final int[] key = this.key;
+		key[KEY_VERTEX_HASH] = hashVertices(model);
+		key[KEY_ORIENTATION] = orientation;
+		key[KEY_X] = x;
+		key[KEY_Y] = y;
+		key[KEY_Z] = z;
+		key[KEY_CAMERA_X] = camera.getCameraX();
+		key[KEY_CAMERA_Y] = camera.getCameraY();
+		key[KEY_CAMERA_Z] = camera.getCameraZ();
+		key[KEY_CAMERA_PITCH] = camera.getCameraPitch();
+		key[KEY_CAMERA_YAW] = camera.getCameraYaw();
+		key[KEY_SCALE] = camera.getScale();
+		key[KEY_VIEWPORT_WIDTH] = camera.getViewportWidth();
+		key[KEY_VIEWPORT_HEIGHT] = camera.getViewportHeight();
+		key[KEY_VIEWPORT_X] = camera.getViewportXOffset();
+		key[KEY_VIEWPORT_Y] = camera.getViewportYOffset();
+
+		int hash = System.identityHashCode(model);
+		for (int k : key)
+		{
+			hash = hash * 31 + k;
+		}
+		hash ^= hash >>> 16;
+
+		final Entry entry = cache[hash & (CACHE_SIZE - 1)];
+		if (entry.model != null
+			&& entry.model.get() == model
+			&& entry.verticesX.get() == model.getVerticesX()
+			&& entry.trianglesX.get() == model.getTrianglesX()
+			&& equals(entry.key, key))
+		{
+			return entry.clickbox;
+		}
+
+		final Shape clickbox = calculate(camera, model, orientation, x, y, z);
+
+		entry.model = new WeakReference<>(model);
+		entry.verticesX = new WeakReference<>(model.getVerticesX());
+		entry.trianglesX = new WeakReference<>(model.getTrianglesX());
+		System.arraycopy(key, 0, entry.key, 0, KEY_SIZE);
+		entry.clickbox = clickbox;
+		return clickbox;
+	}
+
+	/**
+	 * Clear the cache, releasing the cached models
+	 */
+	void clear()
+	{
+		for (Entry entry : cache)
+		{
+			entry.model = null;
+			entry.verticesX = null;
+			entry.trianglesX = null;
+			entry.clickbox = null;
+		}
+	}
+
+	private Shape calculate(CameraSnapshot camera, Model model, int orientation, int x, int y, int z)
+	{
+		if (!calculateAABB(camera, model, orientation, x, y, z))
+		{
+			return null;
+		}
+
+		if (model.isClickable())
+		{
+			// the hull is reused, so return a copy
+			SimplePolygon bounds = new SimplePolygon(new int[hull.size()], new int[hull.size()], hull.size());
+			hull.copyTo(bounds.getX(), bounds.getY(), 0);
+			return bounds;
+		}
+
+		Shapes<SimplePolygon> bounds2d = calculate2DBounds(camera, model, orientation, x, y, z);
+		if (bounds2d == null)
+		{
+			return null;
+		}
+
+		for (SimplePolygon poly : bounds2d.getShapes())
+		{
+			poly.intersectWithConvex(hull);
+		}
+
+		return bounds2d;
+	}
+
+	/**
+	 * Computes the convex hull of the model's bounding box on the canvas into {@link #hull}
+	 */
+	private boolean calculateAABB(CameraSnapshot camera, Model m, int jauOrient, int x, int y, int z)
+	{
+		int ex = m.getExtremeX();
+
+		int x1 = m.getCenterX();
+		int y1 = m.getCenterZ();
+		int z1 = m.getCenterY();
+
+		int ey = m.getExtremeZ();
+		int ez = m.getExtremeY();
+
+		int x2 = x1 + ex;
+		int y2 = y1 + ey;
+		int z2 = z1 + ez;
+
+		x1 -= ex;
+		y1 -= ey;
+		z1 -= ez;
+
+		final int[] xa = this.xa, ya = this.ya, za = this.za;
+		for (int i = 0; i < 8; i++)
+		{
+			xa[i] = (i & 1) == 0 ? x1 : x2;
+			ya[i] = (i & 2) == 0 ? y1 : y2;
+			za[i] = (i & 4) == 0 ? z1 : z2;
+		}
+
+		camera.modelToCanvas(8, x, y, z, jauOrient, xa, ya, za, x2d8, y2d8);
+
+		return Jarvis.convexHull(x2d8, y2d8, 8, hull);
+	}
+
+	private Shapes<SimplePolygon> calculate2DBounds(CameraSnapshot camera, Model m, int jauOrient, int x, int y, int z)
+	{
+		final int vertexCount = m.getVerticesCount();
+		if (x2d.length < vertexCount)
+		{
+			x2d = new int[vertexCount];
+			y2d = new int[vertexCount];
+		}
+		final int[] x2d = this.x2d, y2d = this.y2d;
+
+		camera.modelToCanvas(vertexCount,
+			x, y, z,
+			jauOrient,
+			m.getVerticesX(), m.getVerticesZ(), m.getVerticesY(),
+			x2d, y2d);
+
+		final int[] trianglesX = m.getTrianglesX();
+		final int[] trianglesY = m.getTrianglesY();
+		final int[] trianglesZ = m.getTrianglesZ();
+		final int triangleCount = m.getTrianglesCount();
+
+		if (rectX1.length < triangleCount)
+		{
+			rectX1 = new int[triangleCount];
+			rectY1 = new int[triangleCount];
+			rectX2 = new int[triangleCount];
+			rectY2 = new int[triangleCount];
+			rectOrder = new long[triangleCount * 2];
+		}
+
+		int vpX1 = camera.getViewportXOffset();
+		// the top edge has always been culled against the x offset, keep the clickboxes the same
+		int vpY1 = camera.getViewportXOffset();
+		int vpX2 = vpX1 + camera.getViewportWidth();
+		int vpY2 = vpY1 + camera.getViewportHeight();
+
+		int rects = 0;
+		for (int tri = 0; tri < triangleCount; tri++)
+		{
+			final int a = trianglesX[tri], b = trianglesY[tri], c = trianglesZ[tri];
+			final int xa = x2d[a], xb = x2d[b], xc = x2d[c];
+			final int ya = y2d[a], yb = y2d[b], yc = y2d[c];
+
+			if (xa == Integer.MIN_VALUE || xb == Integer.MIN_VALUE || xc == Integer.MIN_VALUE
+				|| ya == Integer.MIN_VALUE || yb == Integer.MIN_VALUE || yc == Integer.MIN_VALUE)
+			{
+				continue;
+			}
+
+			int minX = Math.min(xa, Math.min(xb, xc)) - RADIUS;
+			int minY = Math.min(ya, Math.min(yb, yc)) - RADIUS;
+			int maxX = Math.max(xa, Math.max(xb, xc)) + RADIUS;
+			int maxY = Math.max(ya, Math.max(yb, yc)) + RADIUS;
+
+			if (vpX1 > maxX || vpX2 < minX || vpY1 > maxY || vpY2 < minY)
+			{
+				continue;
+			}
+
+			rectX1[rects] = minX;
+			rectY1[rects] = minY;
+			rectX2[rects] = maxX;
+			rectY2[rects] = maxY;
+			++rects;
+		}
+
+		return RectangleUnion.union(rectX1, rectY1, rectX2, rectY2, rects, rectOrder);
+	}
+
+	private static int hashVertices(Model model)
+	{
+		final int count = model.getVerticesCount();
+		final int[] vx = model.getVerticesX();
+		final int[] vy = model.getVerticesY();
+		final int[] vz = model.getVerticesZ();
+
+		// separate hashes for each axis, which don't depend on each other and so are computed in parallel
+		int hx = count, hy = model.getTrianglesCount(), hz = 0;
+		for (int i = 0; i < count; i++)
+		{
+			hx = hx * 31 + vx[i];
+			hy = hy * 31 + vy[i];
+			hz = hz * 31 + vz[i];
+		}
+		return (hx * 31 + hy) * 31 + hz;
+	}
+
+	private static boolean equals(int[] a, int[] b)
+	{
+		for (int i = 0; i < KEY_SIZE; i++)
+		{
+			if (a[i] != b[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
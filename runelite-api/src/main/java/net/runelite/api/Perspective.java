@@ -30,16 +30,10 @@ import java.awt.Polygon;
 import java.awt.Shape;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import static net.runelite.api.Constants.TILE_FLAG_BRIDGE;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.geometry.RectangleUnion;
-import net.runelite.api.geometry.Shapes;
-import net.runelite.api.geometry.SimplePolygon;
-import net.runelite.api.model.Jarvis;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 
@@ -118,103 +112,40 @@ public class Perspective
 	{
 		if (x >= 128 && y >= 128 && x <= 13056 && y <= 13056)
 		{
-			x -= client.getCameraX();
-			y -= client.getCameraY();
-			z -= client.getCameraZ();
-
-			int cameraPitch = client.getCameraPitch();
-			int cameraYaw = client.getCameraYaw();
-
-			int pitchSin = SINE[cameraPitch];
-			int pitchCos = COSINE[cameraPitch];
-			int yawSin = SINE[cameraYaw];
-			int yawCos = COSINE[cameraYaw];
-
-			int var8 = yawCos * x + y * yawSin >> 16;
-			y = yawCos * y - yawSin * x >> 16;
-			x = var8;
-			var8 = pitchCos * z - y * pitchSin >> 16;
-			y = z * pitchSin + y * pitchCos >> 16;
-
-			if (y >= 50)
-			{
-				int pointX = client.getViewportWidth() / 2 + x * client.getScale() / y;
-				int pointY = client.getViewportHeight() / 2 + var8 * client.getScale() / y;
-				return new Point(
-					pointX + client.getViewportXOffset(),
-					pointY + client.getViewportYOffset());
-			}
+			return CameraSnapshot.of(client).localToCanvas(x, y, z);
 		}
 
 		return null;
 	}
 
+	/**
+	 * Translates two-dimensional ground coordinates within the 3D world to
+	 * their corresponding coordinates on the game screen, using a camera
+	 * snapshot instead of reading the camera from the client.
+	 *
+	 * @param client the game client
+	 * @param camera camera snapshot
+	 * @param point ground coordinate
+	 * @param plane ground plane on the z axis
+	 * @param zOffset distance from ground on the z axis
+	 * @return a {@link Point} on screen corresponding to the position in
+	 * 3D-space
+	 */
+	@Nullable
+	public static Point localToCanvas(@Nonnull Client client, @Nonnull CameraSnapshot camera, @Nonnull LocalPoint point, int plane, int zOffset)
+	{
+		final int tileHeight = getTileHeight(client, point, plane);
+		return camera.localToCanvas(point.getX(), point.getY(), tileHeight - zOffset);
+	}
+
 	/**
 	 * Translates a model's vertices into 2d space
+	 *
+	 * @see CameraSnapshot#modelToCanvas(int, int, int, int, int, int[], int[], int[], int[], int[])
 	 */
 	public static void modelToCanvas(Client client, int end, int x3dCenter, int y3dCenter, int z3dCenter, int rotate, int[] x3d, int[] y3d, int[] z3d, int[] x2d, int[] y2d)
 	{
-		final int
-			cameraPitch = client.getCameraPitch(),
-			cameraYaw = client.getCameraYaw(),
-
-			pitchSin = SINE[cameraPitch],
-			pitchCos = COSINE[cameraPitch],
-			yawSin = SINE[cameraYaw],
-			yawCos = COSINE[cameraYaw],
-			rotateSin = SINE[rotate],
-			rotateCos = COSINE[rotate],
-
-			cx = x3dCenter - client.getCameraX(),
-			cy = y3dCenter - client.getCameraY(),
-			cz = z3dCenter - client.getCameraZ(),
-
-			viewportXMiddle = client.getViewportWidth() / 2,
-			viewportYMiddle = client.getViewportHeight() / 2,
-			viewportXOffset = client.getViewportXOffset(),
-			viewportYOffset = client.getViewportYOffset(),
-
-			zoom3d = client.getScale();
-
-		for (int i = 0; i < end; i++)
-		{
-			int x = x3d[i];
-			int y = y3d[i];
-			int z = z3d[i];
-
-			if (rotate != 0)
-			{
-				int x0 = x;
-				x = x0 * rotateCos + y * rotateSin >> 16;
-				y = y * rotateCos - x0 * rotateSin >> 16;
-			}
-
-			x += cx;
-			y += cy;
-			z += cz;
-
-			final int
-				x1 = x * yawCos + y * yawSin >> 16,
-				y1 = y * yawCos - x * yawSin >> 16,
-				y2 = z * pitchCos - y1 * pitchSin >> 16,
-				z1 = y1 * pitchCos + z * pitchSin >> 16;
-
-			int viewX, viewY;
-
-			if (z1 < 50)
-			{
-				viewX = Integer.MIN_VALUE;
-				viewY = Integer.MIN_VALUE;
-			}
-			else
-			{
-				viewX = (viewportXMiddle + x1 * zoom3d / z1) + viewportXOffset;
-				viewY = (viewportYMiddle + y2 * zoom3d / z1) + viewportYOffset;
-			}
-
-			x2d[i] = viewX;
-			y2d[i] = viewY;
-		}
+		CameraSnapshot.of(client).modelToCanvas(end, x3dCenter, y3dCenter, z3dCenter, rotate, x3d, y3d, z3d, x2d, y2d);
 	}
 
 	/**
@@ -364,6 +295,20 @@ public class Perspective
 		return getCanvasTileAreaPoly(client, localLocation, 1);
 	}
 
+	/**
+	 * Calculates a tile polygon using a camera snapshot.
+	 *
+	 * @param client the game client
+	 * @param camera camera snapshot
+	 * @param localLocation local location of the tile
+	 * @return a {@link Polygon} on screen corresponding to the given
+	 * localLocation.
+	 */
+	public static Polygon getCanvasTilePoly(@Nonnull Client client, @Nonnull CameraSnapshot camera, @Nonnull LocalPoint localLocation)
+	{
+		return getCanvasTileAreaPoly(client, camera, localLocation, 1);
+	}
+
 	/**
 	 * Returns a polygon representing an area.
 	 *
@@ -373,6 +318,20 @@ public class Perspective
 	 * @return a polygon representing the tiles in the area
 	 */
 	public static Polygon getCanvasTileAreaPoly(@Nonnull Client client, @Nonnull LocalPoint localLocation, int size)
+	{
+		return getCanvasTileAreaPoly(client, CameraSnapshot.of(client), localLocation, size);
+	}
+
+	/**
+	 * Returns a polygon representing an area, using a camera snapshot.
+	 *
+	 * @param client the game client
+	 * @param camera camera snapshot
+	 * @param localLocation the center location of the AoE
+	 * @param size the size of the area (ie. 3x3 AoE evaluates to size 3)
+	 * @return a polygon representing the tiles in the area
+	 */
+	public static Polygon getCanvasTileAreaPoly(@Nonnull Client client, @Nonnull CameraSnapshot camera, @Nonnull LocalPoint localLocation, int size)
 	{
 		final int plane = client.getPlane();
 
@@ -409,23 +368,18 @@ public class Perspective
 		final int neHeight = getHeight(client, neX, neY, tilePlane);
 		final int seHeight = getHeight(client, seX, seY, tilePlane);
 
-		Point p1 = localToCanvas(client, swX, swY, swHeight);
-		Point p2 = localToCanvas(client, nwX, nwY, nwHeight);
-		Point p3 = localToCanvas(client, neX, neY, neHeight);
-		Point p4 = localToCanvas(client, seX, seY, seHeight);
+		final int[] xs = {swX, nwX, neX, seX};
+		final int[] ys = {swY, nwY, neY, seY};
+		final int[] zs = {swHeight, nwHeight, neHeight, seHeight};
+		final int[] x2d = new int[4];
+		final int[] y2d = new int[4];
 
-		if (p1 == null || p2 == null || p3 == null || p4 == null)
+		if (camera.localToCanvas(4, xs, ys, zs, x2d, y2d) != 4)
 		{
 			return null;
 		}
 
-		Polygon poly = new Polygon();
-		poly.addPoint(p1.getX(), p1.getY());
-		poly.addPoint(p2.getX(), p2.getY());
-		poly.addPoint(p3.getX(), p3.getY());
-		poly.addPoint(p4.getX(), p4.getY());
-
-		return poly;
+		return new Polygon(x2d, y2d, 4);
 	}
 
 	/**
@@ -445,6 +399,30 @@ public class Perspective
 		@Nonnull LocalPoint localLocation,
 		@Nullable String text,
 		int zOffset)
+	{
+		return getCanvasTextLocation(client, CameraSnapshot.of(client), graphics, localLocation, text, zOffset);
+	}
+
+	/**
+	 * Calculates text position and centers depending on string length,
+	 * using a camera snapshot.
+	 *
+	 * @param client the game client
+	 * @param camera camera snapshot
+	 * @param graphics the game graphics
+	 * @param localLocation local location of the tile
+	 * @param text string for width measurement
+	 * @param zOffset offset from ground plane
+	 * @return a {@link Point} on screen corresponding to the given
+	 * localLocation.
+	 */
+	public static Point getCanvasTextLocation(
+		@Nonnull Client client,
+		@Nonnull CameraSnapshot camera,
+		@Nonnull Graphics2D graphics,
+		@Nonnull LocalPoint localLocation,
+		@Nullable String text,
+		int zOffset)
 	{
 		if (text == null)
 		{
@@ -453,7 +431,7 @@ public class Perspective
 
 		int plane = client.getPlane();
 
-		Point p = localToCanvas(client, localLocation, plane, zOffset);
+		Point p = localToCanvas(client, camera, localLocation, plane, zOffset);
 
 		if (p == null)
 		{
@@ -565,7 +543,8 @@ public class Perspective
 	 * @param model       the model to calculate a clickbox for
 	 * @param orientation the orientation of the model (0-2048, where 0 is north)
 	 * @param point       the coordinate of the tile
-	 * @return the clickable area of the model
+	 * @return the clickable area of the model. The area may be shared with other
+	 * callers asking for the same model in the same place, and must not be modified.
 	 */
 	@Nullable
 	public static Shape getClickbox(@Nonnull Client client, Model model, int orientation, LocalPoint point)
@@ -575,164 +554,7 @@ public class Perspective
 			return null;
 		}
 
-		int x = point.getX();
-		int y = point.getY();
-		int z = getTileHeight(client, point, client.getPlane());
-
-		SimplePolygon bounds = calculateAABB(client, model, orientation, x, y, z);
-
-		if (bounds == null)
-		{
-			return null;
-		}
-
-		if (model.isClickable())
-		{
-			return bounds;
-		}
-
-		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, model, orientation, x, y, z);
-		if (bounds2d == null)
-		{
-			return null;
-		}
-
-		for (SimplePolygon poly : bounds2d.getShapes())
-		{
-			poly.intersectWithConvex(bounds);
-		}
-
-		return bounds2d;
-	}
-
-	private static SimplePolygon calculateAABB(Client client, Model m, int jauOrient, int x, int y, int z)
-	{
-		int ex = m.getExtremeX();
-		if (ex == -1)
-		{
-			// dynamic models don't get stored when they render where this normally happens
-			m.calculateBoundsCylinder();
-			m.calculateExtreme(0);
-			ex = m.getExtremeX();
-		}
-
-		int x1 = m.getCenterX();
-		int y1 = m.getCenterZ();
-		int z1 = m.getCenterY();
-
-		int ey = m.getExtremeZ();
-		int ez = m.getExtremeY();
-
-		int x2 = x1 + ex;
-		int y2 = y1 + ey;
-		int z2 = z1 + ez;
-
-		x1 -= ex;
-		y1 -= ey;
-		z1 -= ez;
-
-		int[] xa = new int[]{
-			x1, x2, x1, x2,
-			x1, x2, x1, x2
-		};
-		int[] ya = new int[]{
-			y1, y1, y2, y2,
-			y1, y1, y2, y2
-		};
-		int[] za = new int[]{
-			z1, z1, z1, z1,
-			z2, z2, z2, z2
-		};
-
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
-
-		modelToCanvas(client, 8, x, y, z, jauOrient, xa, ya, za, x2d, y2d);
-
-		return Jarvis.convexHull(x2d, y2d);
-	}
-
-	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z)
-	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
-
-		Perspective.modelToCanvas(client,
-			m.getVerticesCount(),
-			x, y, z,
-			jauOrient,
-			m.getVerticesX(), m.getVerticesZ(), m.getVerticesY(),
-			x2d, y2d);
-
-		final int radius = 5;
-
-		int[][] tris = new int[][]{
-			m.getTrianglesX(),
-			m.getTrianglesY(),
-			m.getTrianglesZ()
-		};
-
-		int vpX1 = client.getViewportXOffset();
-		int vpY1 = client.getViewportXOffset();
-		int vpX2 = vpX1 + client.getViewportWidth();
-		int vpY2 = vpY1 + client.getViewportHeight();
-
-		List<RectangleUnion.Rectangle> rects = new ArrayList<>(m.getTrianglesCount());
-
-		nextTri:
-		for (int tri = 0; tri < m.getTrianglesCount(); tri++)
-		{
-			int
-				minX = Integer.MAX_VALUE,
-				minY = Integer.MAX_VALUE,
-				maxX = Integer.MIN_VALUE,
-				maxY = Integer.MIN_VALUE;
-
-			for (int[] vertex : tris)
-			{
-				final int idx = vertex[tri];
-				final int xs = x2d[idx];
-				final int ys = y2d[idx];
-
-				if (xs == Integer.MIN_VALUE || ys == Integer.MIN_VALUE)
-				{
-					continue nextTri;
-				}
-
-				if (xs < minX)
-				{
-					minX = xs;
-				}
-				if (xs > maxX)
-				{
-					maxX = xs;
-				}
-				if (ys < minY)
-				{
-					minY = ys;
-				}
-				if (ys > maxY)
-				{
-					maxY = ys;
-				}
-			}
-
-			minX -= radius;
-			minY -= radius;
-			maxX += radius;
-			maxY += radius;
-
-			if (vpX1 > maxX || vpX2 < minX || vpY1 > maxY || vpY2 < minY)
-			{
-				continue;
-			}
-
-			RectangleUnion.Rectangle r = new RectangleUnion.Rectangle(minX, minY, maxX, maxY);
-
-			rects.add(r);
-		}
-
-		return RectangleUnion.union(rects);
+		return ClickboxCalculator.get().getClickbox(client, model, orientation, point);
 	}
 
 	/**
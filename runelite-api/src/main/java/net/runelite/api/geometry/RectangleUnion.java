@@ -25,11 +25,10 @@
 package net.runelite.api.geometry;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 import javax.annotation.Nullable;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +36,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RectangleUnion
 {
+	private static final ThreadLocal<Sweep> SWEEPS = ThreadLocal.withInitial(Sweep::new);
+
 	private RectangleUnion()
 	{
 	}
@@ -51,223 +52,483 @@ public class RectangleUnion
 
 	/**
 	 * Returns a polygon representing the union of all of the passed rectangles.
-	 * the passed List will be modified
 	 */
 	@Nullable
-	public static Shapes<SimplePolygon> union(List<Rectangle> lefts)
+	public static Shapes<SimplePolygon> union(List<Rectangle> rects)
+	{
+		int count = rects.size();
+		int[] x1s = new int[count];
+		int[] y1s = new int[count];
+		int[] x2s = new int[count];
+		int[] y2s = new int[count];
+		for (int i = 0; i < count; i++)
+		{
+			Rectangle r = rects.get(i);
+			x1s[i] = r.x1;
+			y1s[i] = r.y1;
+			x2s[i] = r.x2;
+			y2s[i] = r.y2;
+		}
+		return union(x1s, y1s, x2s, y2s, count, null);
+	}
+
+	/**
+	 * Returns a polygon representing the union of the first {@code count} rectangles
+	 * described by the passed arrays of their corners. Rectangles with no height are ignored.
+	 *
+	 * @param order scratch space of at least {@code 2 * count} longs, or null to allocate it if needed
+	 */
+	@Nullable
+	public static Shapes<SimplePolygon> union(int[] x1s, int[] y1s, int[] x2s, int[] y2s, int count, @Nullable long[] order)
 	{
 		// https://stackoverflow.com/a/35362615/2977136
-		if (lefts.size() == 0)
+		if (count == 0)
 		{
 			return null;
 		}
 
-		boolean trace = log.isTraceEnabled();
+		Shapes<SimplePolygon> out = new Shapes<>(new ArrayList<>());
+		Sweep sweep = SWEEPS.get();
 
-		// Sort all of the rectangles so they are ordered by their left edge
-		lefts.sort(Comparator.comparing(Rectangle::getX1));
+		int n = sweep.filter(y1s, y2s, count);
+		if (n == 0)
+		{
+			return out;
+		}
 
-		// Again, but for the right edge
-		// this should be relatively fast if the rectangles are similar sizes because timsort deals with partially
-		// presorted data well
-		List<Rectangle> rights = new ArrayList<>(lefts);
-		rights.sort(Comparator.comparing(Rectangle::getX2));
+		int cover = covering(x1s, y1s, x2s, y2s, sweep.rects, n);
+		if (cover != -1)
+		{
+			// the sweep would produce exactly this rectangle, in this vertex order
+			SimplePolygon rect = new SimplePolygon();
+			rect.pushRight(x1s[cover], y1s[cover]);
+			rect.pushLeft(x1s[cover], y2s[cover]);
+			rect.pushRight(x2s[cover], y1s[cover]);
+			rect.pushLeft(x2s[cover], y2s[cover]);
+			out.getShapes().add(rect);
+			return out;
+		}
 
-		// ranges of our scan line with how many rectangles it is occluding
-		Segments segments = new Segments();
-		Shapes<SimplePolygon> out = new Shapes<>(new ArrayList<>());
-		ChangingState cs = new ChangingState(out);
+		sweep.sweep(x1s, y1s, x2s, y2s, n, order, out);
+		return out;
+	}
 
-		// Walk a beam left to right, colliding with any vertical edges of rectangles
-		for (int l = 0, r = 0; ; )
+	/**
+	 * Finds a rectangle which contains all of the others, with all of their left and right
+	 * edges strictly inside of it, so that nothing else contributes to the union
+	 *
+	 * @return the index of the rectangle, or -1
+	 */
+	private static int covering(int[] x1s, int[] y1s, int[] x2s, int[] y2s, int[] rects, int n)
+	{
+		int cover = rects[0];
+		for (int i = 1; i < n; i++)
 		{
-			Rectangle lr = null, rr = null;
-			if (l < lefts.size())
-			{
-				lr = lefts.get(l);
-			}
-			if (r < rights.size())
+			if (x1s[rects[i]] < x1s[cover])
 			{
-				rr = rights.get(r);
-			}
-			if (lr == null && rr == null)
-			{
-				break;
+				cover = rects[i];
 			}
+		}
 
-			// get the next edge, preferring + edges
-			Rectangle rect;
-			boolean remove = lr == null || (rr != null && rr.x2 < lr.x1);
-			if (remove)
+		final int cx1 = x1s[cover], cy1 = y1s[cover], cx2 = x2s[cover], cy2 = y2s[cover];
+		for (int i = 0; i < n; i++)
+		{
+			int rect = rects[i];
+			if (rect != cover && (x1s[rect] <= cx1 || x2s[rect] >= cx2 || y1s[rect] < cy1 || y2s[rect] > cy2))
 			{
-				cs.delta = -1;
-				cs.x = rr.x2;
-				r++;
-				rect = rr;
+				return -1;
 			}
-			else
+		}
+		return cover;
+	}
+
+	/**
+	 * The state of a sweep of a beam left to right across the rectangles. The beam is split at every
+	 * distinct y coordinate of the rectangles into spans, which are addressed by the rank of the y
+	 * coordinate they start at, so that the spans an edge covers are a range of an array. The arrays
+	 * are kept between unions.
+	 */
+	private static class Sweep
+	{
+		// the largest range of coordinates which is counting sorted, relative to the number of rectangles
+		private static final int COUNTING_RANGE = 8;
+
+		// rectangles with height, then the same ordered by their left and by their right edge
+		private int[] rects = new int[0], byLeft = new int[0], byRight = new int[0];
+		// ranks of the top and bottom edges of each rectangle, by index in the caller's arrays
+		private int[] rank1 = new int[0], rank2 = new int[0];
+		private int[] counts = new int[0];
+		private long[] yOrder = new long[0];
+
+		// the y coordinate of each rank, and how many rectangles are occluding the span starting there
+		private int[] ys = new int[0], occlusion = new int[0];
+		// the polygon under construction which has an end at each rank, and which end it is
+		private Chunk[] chunks = new Chunk[0];
+		private boolean[] lefts = new boolean[0];
+		private int spans;
+
+		private Shapes<SimplePolygon> out;
+		private boolean trace;
+		private int x;
+		private int first;
+
+		/**
+		 * Collects the rectangles which have height into {@link #rects}
+		 *
+		 * @return the number of rectangles
+		 */
+		int filter(int[] y1s, int[] y2s, int count)
+		{
+			if (rects.length < count)
 			{
-				cs.delta = 1;
-				cs.x = lr.x1;
-				l++;
-				rect = lr;
+				rects = new int[count];
+				byLeft = new int[count];
+				byRight = new int[count];
+				rank1 = new int[count];
+				rank2 = new int[count];
 			}
-			if (trace)
+
+			int n = 0;
+			for (int i = 0; i < count; i++)
 			{
-				log.trace("{}{}", remove ? "-" : "+", rect);
+				if (y1s[i] < y2s[i])
+				{
+					rects[n++] = i;
+				}
 			}
+			return n;
+		}
 
-			int y1 = rect.y1;
-			int y2 = rect.y2;
+		void sweep(int[] x1s, int[] y1s, int[] x2s, int[] y2s, int n, long[] order, Shapes<SimplePolygon> out)
+		{
+			this.out = out;
+			this.trace = log.isTraceEnabled();
 
-			// Find or create the y1 edge
-			Segment n = segments.findLE(y1);
-			if (n == null)
+			// Order the rectangles by their left edge, and then by their right edge. Both sorts are stable, so
+			// rectangles with equal edges are in their original order, and in left edge order, respectively
+			if (!countingSort(x1s, rects, byLeft, n) || !countingSort(x2s, byLeft, byRight, n))
 			{
-				n = segments.insertAfter(null, y1);
+				sortX(x1s, x2s, n, order);
 			}
-			if (n.y != y1)
+			if (!countingRank(y1s, y2s, n))
 			{
-				n = segments.insertAfter(n, y1);
-				n.value = n.previous.value;
+				sortRank(y1s, y2s, n);
 			}
 
-			for (; ; )
+			try
 			{
-				// create the y2 edge if the next edge is past
-				if (n.next == null || n.next.y > y2)
+				// Walk a beam left to right, colliding with any vertical edges of rectangles
+				for (int l = 0, r = 0; l < n || r < n; )
 				{
-					segments.insertAfter(n, y2);
-				}
-				cs.touch(n);
-				n = n.next;
-				if (n.y == y2)
-				{
-					cs.finish(n);
+					int lr = l < n ? byLeft[l] : -1;
+					int rr = r < n ? byRight[r] : -1;
 
+					// get the next edge, preferring + edges
+					int rect, delta;
+					boolean remove = lr == -1 || (rr != -1 && x2s[rr] < x1s[lr]);
+					if (remove)
+					{
+						delta = -1;
+						x = x2s[rr];
+						r++;
+						rect = rr;
+					}
+					else
+					{
+						delta = 1;
+						x = x1s[lr];
+						l++;
+						rect = lr;
+					}
 					if (trace)
 					{
-						for (Segment s = segments.first; s != null; s = s.next)
-						{
-							String chunk = "";
-							if (s.chunk != null)
-							{
-								chunk = (s.left ? ">" : "[") + System.identityHashCode(s.chunk) + (s.left ? "]" : "<");
-							}
-							log.trace("{} = {} {}", s.y, s.value, chunk);
-						}
-						log.trace("");
+						log.trace("{}{}", remove ? "-" : "+", new Rectangle(x1s[rect], y1s[rect], x2s[rect], y2s[rect]));
 					}
-					break;
+
+					edge(rank1[rect], rank2[rect], delta);
 				}
+
+				assert allZero();
+			}
+			finally
+			{
+				this.out = null;
+				Arrays.fill(chunks, 0, spans, null);
 			}
 		}
 
-		assert segments.allZero();
+		/**
+		 * Stably sorts {@code src} by {@code keys} into {@code dst}, if the keys are in a small enough range
+		 */
+		private boolean countingSort(int[] keys, int[] src, int[] dst, int n)
+		{
+			int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+			for (int i = 0; i < n; i++)
+			{
+				int key = keys[src[i]];
+				min = Math.min(min, key);
+				max = Math.max(max, key);
+			}
 
-		return out;
-	}
+			long range = (long) max - min + 1;
+			if (range > (long) n * COUNTING_RANGE + 1024)
+			{
+				return false;
+			}
 
-	@RequiredArgsConstructor
-	private static class ChangingState
-	{
-		final Shapes<SimplePolygon> out;
+			final int[] counts = counts((int) range + 1);
+			for (int i = 0; i < n; i++)
+			{
+				counts[keys[src[i]] - min + 1]++;
+			}
+			for (int i = 1; i < range; i++)
+			{
+				counts[i] += counts[i - 1];
+			}
+			for (int i = 0; i < n; i++)
+			{
+				int rect = src[i];
+				dst[counts[keys[rect] - min]++] = rect;
+			}
+			return true;
+		}
+
+		private void sortX(int[] x1s, int[] x2s, int n, long[] order)
+		{
+			if (order == null || order.length < n * 2)
+			{
+				order = new long[n * 2];
+			}
+
+			// pack the edge above the index, so that the sort keeps rectangles with equal edges in order
+			for (int i = 0; i < n; i++)
+			{
+				order[i] = (long) x1s[rects[i]] << 32 | i;
+			}
+			Arrays.sort(order, 0, n);
+			for (int i = 0; i < n; i++)
+			{
+				byLeft[i] = rects[(int) order[i]];
+				order[i] = (long) x2s[byLeft[i]] << 32 | i;
+			}
+			Arrays.sort(order, 0, n);
+			for (int i = 0; i < n; i++)
+			{
+				byRight[i] = byLeft[(int) order[i]];
+			}
+		}
+
+		/**
+		 * Ranks the distinct y coordinates of the rectangles' edges, if they are in a small enough range
+		 */
+		private boolean countingRank(int[] y1s, int[] y2s, int n)
+		{
+			int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+			for (int i = 0; i < n; i++)
+			{
+				min = Math.min(min, y1s[rects[i]]);
+				max = Math.max(max, y2s[rects[i]]);
+			}
+
+			long range = (long) max - min + 1;
+			if (range > (long) n * COUNTING_RANGE + 1024)
+			{
+				return false;
+			}
 
-		int x;
-		int delta;
+			final int[] counts = counts((int) range);
+			for (int i = 0; i < n; i++)
+			{
+				int rect = rects[i];
+				counts[y1s[rect] - min] = 1;
+				counts[y2s[rect] - min] = 1;
+			}
 
-		Segment first;
+			int spans = 0;
+			for (int i = 0; i < range; i++)
+			{
+				if (counts[i] != 0)
+				{
+					counts[i] = spans++;
+				}
+			}
+			allocate(spans);
+			for (int i = 0; i < n; i++)
+			{
+				int rect = rects[i];
+				int r1 = rank1[rect] = counts[y1s[rect] - min];
+				int r2 = rank2[rect] = counts[y2s[rect] - min];
+				ys[r1] = y1s[rect];
+				ys[r2] = y2s[rect];
+			}
+			return true;
+		}
 
-		void touch(Segment s)
+		private void sortRank(int[] y1s, int[] y2s, int n)
 		{
-			int oldValue = s.value;
-			s.value += delta;
-			if (oldValue <= 0 ^ s.value <= 0)
+			if (yOrder.length < n * 2)
+			{
+				yOrder = new long[n * 2];
+			}
+
+			for (int i = 0; i < n; i++)
 			{
-				if (first == null)
+				int rect = rects[i];
+				yOrder[i * 2] = (long) y1s[rect] << 32 | rect << 1;
+				yOrder[i * 2 + 1] = (long) y2s[rect] << 32 | rect << 1 | 1;
+			}
+			Arrays.sort(yOrder, 0, n * 2);
+
+			allocate(n * 2);
+			int spans = 0;
+			for (int i = 0; i < n * 2; i++)
+			{
+				int y = (int) (yOrder[i] >> 32);
+				if (spans == 0 || ys[spans - 1] != y)
 				{
-					first = s;
+					ys[spans++] = y;
+				}
+
+				int edge = (int) yOrder[i];
+				if ((edge & 1) == 0)
+				{
+					rank1[edge >>> 1] = spans - 1;
+				}
+				else
+				{
+					rank2[edge >>> 1] = spans - 1;
 				}
 			}
+			this.spans = spans;
+		}
+
+		private int[] counts(int size)
+		{
+			if (counts.length < size)
+			{
+				counts = new int[Math.max(size, counts.length * 2)];
+			}
 			else
 			{
-				finish(s);
+				Arrays.fill(counts, 0, size, 0);
 			}
+			return counts;
 		}
 
-		void finish(Segment s)
+		private void allocate(int spans)
 		{
-			if (first == null)
+			if (ys.length < spans)
 			{
-				return;
+				ys = new int[spans];
+				occlusion = new int[spans];
+				chunks = new Chunk[spans];
+				lefts = new boolean[spans];
 			}
+			else
+			{
+				Arrays.fill(occlusion, 0, spans, 0);
+			}
+			this.spans = spans;
+		}
 
-			if (first.chunk != null && s.chunk != null)
+		/**
+		 * Moves the beam over an edge from rank {@code r1} to {@code r2}, adding {@code delta} to the
+		 * occlusion of the spans in between
+		 */
+		private void edge(int r1, int r2, int delta)
+		{
+			// spans which change visibility are those at 0 for an added edge and 1 for a removed one,
+			// and no span under the edge can be below that
+			final int changing = delta > 0 ? 0 : 1;
+			final int[] occlusion = this.occlusion;
+
+			for (int p = r1; p < r2; )
+			{
+				if (occlusion[p] != changing)
+				{
+					occlusion[p++] += delta;
+					continue;
+				}
+
+				// a run of spans changing visibility, ended by one which isn't or the edge's end
+				first = p;
+				do
+				{
+					occlusion[p++] += delta;
+				}
+				while (p < r2 && occlusion[p] == changing);
+				finish(p);
+			}
+		}
+
+		/**
+		 * Ends the run of spans from {@link #first} which changed visibility at rank {@code s}, pushing
+		 * the run's ends onto the polygons at those ranks, creating, closing or joining them as needed
+		 */
+		private void finish(int s)
+		{
+			final int first = this.first;
+			final Chunk firstChunk = chunks[first];
+			final Chunk sChunk = chunks[s];
+
+			if (firstChunk != null && sChunk != null)
 			{
 				push(first);
 				push(s);
 
-				if (first.chunk == s.chunk)
+				if (firstChunk == sChunk)
 				{
-					Chunk c = first.chunk;
-					first.chunk = null;
-					s.chunk = null;
-					c.left = null;
-					c.right = null;
-					out.getShapes().add(c);
+					chunks[first] = null;
+					chunks[s] = null;
+					out.getShapes().add(firstChunk);
 				}
 				else
 				{
 					Chunk leftChunk, rightChunk;
-					if (!s.left)
+					if (!lefts[s])
 					{
-						leftChunk = s.chunk;
-						rightChunk = first.chunk;
+						leftChunk = sChunk;
+						rightChunk = firstChunk;
 					}
 					else
 					{
-						leftChunk = first.chunk;
-						rightChunk = s.chunk;
+						leftChunk = firstChunk;
+						rightChunk = sChunk;
 					}
 
-					log.trace("Joining {} onto {}", System.identityHashCode(rightChunk), System.identityHashCode(leftChunk));
-					if (first.left == s.left)
+					if (trace)
+					{
+						log.trace("Joining {} onto {}", System.identityHashCode(rightChunk), System.identityHashCode(leftChunk));
+					}
+					if (lefts[first] == lefts[s])
 					{
-						log.trace("reverse");
-						if (first.left)
-						{
-							leftChunk.reverse();
-						}
-						else
-						{
-							rightChunk.reverse();
-						}
+						reverse(lefts[first] ? leftChunk : rightChunk);
 					}
-					log.trace("{} {}", first.y, s.y);
 					rightChunk.appendTo(leftChunk);
 
-					first.chunk = null;
-					s.chunk = null;
-					leftChunk.right.chunk = null;
-					rightChunk.left.chunk = null;
+					chunks[first] = null;
+					chunks[s] = null;
+					chunks[leftChunk.right] = null;
+					chunks[rightChunk.left] = null;
 					leftChunk.right = rightChunk.right;
-					leftChunk.left.chunk = leftChunk;
-					leftChunk.right.chunk = leftChunk;
+					chunks[leftChunk.left] = leftChunk;
+					chunks[leftChunk.right] = leftChunk;
 				}
 			}
-			else if (first.chunk == null && s.chunk == null)
+			else if (firstChunk == null && sChunk == null)
 			{
-				first.chunk = new Chunk();
-				first.chunk.right = first;
-				first.left = false;
-				s.chunk = first.chunk;
-				first.chunk.left = s;
-				s.left = true;
+				Chunk chunk = new Chunk();
+				chunk.right = first;
+				lefts[first] = false;
+				chunks[first] = chunk;
+				chunk.left = s;
+				lefts[s] = true;
+				chunks[s] = chunk;
 
 				push(first);
 				push(s);
 			}
-			else if (first.chunk == null)
+			else if (firstChunk == null)
 			{
 				push(s);
 				move(first, s);
@@ -279,114 +540,52 @@ public class RectangleUnion
 				move(s, first);
 				push(s);
 			}
-
-			first = null;
 		}
 
-		private void move(Segment dst, Segment src)
+		private void reverse(Chunk chunk)
 		{
-			dst.chunk = src.chunk;
-			dst.left = src.left;
-			src.chunk = null;
-			if (dst.left)
-			{
-				assert dst.chunk.left == src;
-				dst.chunk.left = dst;
-			}
-			else
-			{
-				assert dst.chunk.right == src;
-				dst.chunk.right = dst;
-			}
+			chunk.reverse();
+			int tr = chunk.left;
+			chunk.left = chunk.right;
+			chunk.right = tr;
+			lefts[chunk.right] = false;
+			lefts[chunk.left] = true;
 		}
 
-		private void push(Segment s)
+		private void move(int dst, int src)
 		{
-			if (s.left)
+			Chunk chunk = chunks[dst] = chunks[src];
+			lefts[dst] = lefts[src];
+			chunks[src] = null;
+			if (lefts[dst])
 			{
-				s.chunk.pushLeft(x, s.y);
-				assert s.chunk.left == s;
+				assert chunk.left == src;
+				chunk.left = dst;
 			}
 			else
 			{
-				s.chunk.pushRight(x, s.y);
-				assert s.chunk.right == s;
-			}
-		}
-	}
-
-	@NoArgsConstructor
-	private static class Segment
-	{
-		Segment next, previous;
-
-		Chunk chunk;
-		boolean left;
-		int y;
-		int value;
-	}
-
-	@NoArgsConstructor
-	private static class Segments
-	{
-		Segment first;
-
-		Segment findLE(int y)
-		{
-			Segment s = first;
-			if (s == null || s.y > y)
-			{
-				return null;
-			}
-			for (; ; )
-			{
-				if (s.y == y)
-				{
-					return s;
-				}
-
-				Segment n = s.next;
-				if (n == null || n.y > y)
-				{
-					return s;
-				}
-
-				s = n;
+				assert chunk.right == src;
+				chunk.right = dst;
 			}
 		}
 
-		Segment insertAfter(Segment before, int y)
+		private void push(int s)
 		{
-			Segment n = new Segment();
-			n.y = y;
-			if (before != null)
+			if (lefts[s])
 			{
-				if (before.next != null)
-				{
-					n.next = before.next;
-					n.next.previous = n;
-				}
-				n.value = before.value;
-				before.next = n;
-				n.previous = before;
+				chunks[s].pushLeft(x, ys[s]);
 			}
 			else
 			{
-				if (first != null)
-				{
-					n.next = first;
-					first.previous = n;
-				}
-				first = n;
+				chunks[s].pushRight(x, ys[s]);
 			}
-			return n;
 		}
 
-		boolean allZero()
+		private boolean allZero()
 		{
-			for (Segment s = first; s != null; s = s.next)
+			for (int i = 0; i < spans; i++)
 			{
-				if (s.value != 0 || s.chunk != null)
+				if (occlusion[i] != 0 || chunks[i] != null)
 				{
 					return false;
 				}
@@ -395,21 +594,11 @@ public class RectangleUnion
 		}
 	}
 
+	/**
+	 * A polygon under construction, with the ranks its two ends are at
+	 */
 	private static class Chunk extends SimplePolygon
 	{
-		Segment left, right;
-
-		@Override
-		public void reverse()
-		{
-			super.reverse();
-			assert right.left == false;
-			assert left.left == true;
-			Segment tr = left;
-			left = right;
-			right = tr;
-			right.left = false;
-			left.left = true;
-		}
+		int left, right;
 	}
 }
@@ -65,7 +65,7 @@ public class SimplePolygon implements Shape
 		left--;
 		if (left < 0)
 		{
-			expandLeft(GROW);
+			expandLeft(Math.max(GROW, x.length));
 		}
 		x[left] = xCoord;
 		y[left] = yCoord;
@@ -93,7 +93,7 @@ public class SimplePolygon implements Shape
 		right++;
 		if (right >= x.length)
 		{
-			expandRight(GROW);
+			expandRight(Math.max(GROW, x.length));
 		}
 		x[right] = xCoord;
 		y[right] = yCoord;
@@ -114,6 +114,15 @@ public class SimplePolygon implements Shape
 		y = ny;
 	}
 
+	/**
+	 * Remove all vertices, keeping the backing arrays
+	 */
+	public void clear()
+	{
+		left = x.length / 2;
+		right = left - 1;
+	}
+
 	public int getX(int index)
 	{
 		return x[left + index];
@@ -152,7 +161,10 @@ public class SimplePolygon implements Shape
 		{
 			return;
 		}
-		other.expandRight(size);
+		if (other.right + size >= other.x.length)
+		{
+			other.expandRight(Math.max(size, other.x.length));
+		}
 		copyTo(other.x, other.y, other.right + 1);
 		other.right += size;
 	}
@@ -179,8 +191,19 @@ public class SimplePolygon implements Shape
 	public void intersectWithConvex(SimplePolygon convex)
 	{
 		// Sutherland-Hodgman
-		int[] tx = new int[size()];
-		int[] ty = new int[tx.length];
+		int[] tx = null;
+		int[] ty = null;
+
+		// clipping only shrinks the polygon, so its original bounds contain it throughout
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+		for (int i = left; i <= right; i++)
+		{
+			minX = Math.min(minX, x[i]);
+			minY = Math.min(minY, y[i]);
+			maxX = Math.max(maxX, x[i]);
+			maxY = Math.max(maxY, y[i]);
+		}
 
 		int cx1 = convex.x[convex.right];
 		int cy1 = convex.y[convex.right];
@@ -191,6 +214,34 @@ public class SimplePolygon implements Shape
 				return;
 			}
 
+			int cx2 = convex.x[ci];
+			int cy2 = convex.y[ci];
+
+			// which side of the edge each corner of the bounds is on. If they are all on one side
+			// the polygon is either entirely kept or entirely removed
+			int inside = side(cx1, cy1, cx2, cy2, minX, minY)
+				+ side(cx1, cy1, cx2, cy2, maxX, minY)
+				+ side(cx1, cy1, cx2, cy2, minX, maxY)
+				+ side(cx1, cy1, cx2, cy2, maxX, maxY);
+			if (inside == 4)
+			{
+				cx1 = cx2;
+				cy1 = cy2;
+				continue;
+			}
+			if (inside == 0)
+			{
+				this.left = 0;
+				this.right = -1;
+				return;
+			}
+
+			if (tx == null || tx.length < x.length)
+			{
+				tx = new int[x.length];
+				ty = new int[tx.length];
+			}
+
 			int tRight = this.right;
 			int tLeft = this.left;
 
@@ -204,9 +255,6 @@ public class SimplePolygon implements Shape
 			tx = tmpX;
 			ty = tmpY;
 
-			int cx2 = convex.x[ci];
-			int cy2 = convex.y[ci];
-
 			int tx1 = tx[tRight];
 			int ty1 = ty[tRight];
 
@@ -245,6 +293,15 @@ public class SimplePolygon implements Shape
 		}
 	}
 
+	/**
+	 * @return 1 if the point is strictly inside of the edge, the side the polygon is kept on, else 0
+	 */
+	private static int side(int cx1, int cy1, int cx2, int cy2, int px, int py)
+	{
+		long p = (long) (cx2 - cx1) * (py - cy1) - (long) (cy2 - cy1) * (px - cx1);
+		return p < 0 ? 1 : 0;
+	}
+
 	@Override
 	public Rectangle getBounds()
 	{
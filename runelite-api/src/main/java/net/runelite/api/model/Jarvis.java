@@ -78,7 +78,19 @@ public class Jarvis
 	 */
 	public static SimplePolygon convexHull(int[] xs, int[] ys)
 	{
-		int length = xs.length;
+		SimplePolygon out = new SimplePolygon(new int[16], new int[16], 0);
+		return convexHull(xs, ys, xs.length, out) ? out : null;
+	}
+
+	/**
+	 * Computes the convex hull of the first {@code length} passed points into {@code out},
+	 * replacing its contents. Invalid points are removed from the arrays.
+	 *
+	 * @return true if the hull was computed, false if there are fewer than 3 valid points
+	 */
+	public static boolean convexHull(int[] xs, int[] ys, int length, SimplePolygon out)
+	{
+		out.clear();
 
 		// remove any invalid entries
 		{
@@ -107,7 +119,7 @@ public class Jarvis
 
 		if (length < 3)
 		{
-			return null;
+			return false;
 		}
 
 		// find the left most point
@@ -116,8 +128,6 @@ public class Jarvis
 		// current point we are on
 		int current = left;
 
-		SimplePolygon out = new SimplePolygon(new int[16], new int[16], 0);
-
 		do
 		{
 			int cx = xs[current];
@@ -126,7 +136,7 @@ public class Jarvis
 
 			if (out.size() > length)
 			{
-				return null;
+				return false;
 			}
 
 			// the next point - all points are to the right of the
@@ -150,7 +160,7 @@ public class Jarvis
 		}
 		while (current != left);
 
-		return out;
+		return true;
 	}
 
 	private static int square(int x)
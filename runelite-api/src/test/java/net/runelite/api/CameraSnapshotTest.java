@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Polygon;
+import java.util.Random;
+import net.runelite.api.coords.LocalPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class CameraSnapshotTest
+{
+	private final ClickboxFixture fixture = new ClickboxFixture();
+	private final Random random = new Random(42L);
+
+	@Test
+	public void testLocalToCanvas()
+	{
+		final int count = 2048;
+		int[] x3d = new int[count];
+		int[] y3d = new int[count];
+		int[] z3d = new int[count];
+		int[] x2d = new int[count];
+		int[] y2d = new int[count];
+
+		for (int yaw = 0; yaw < 2048; yaw += 256)
+		{
+			fixture.cameraYaw = yaw;
+			fixture.cameraPitch = 128 + random.nextInt(256);
+			CameraSnapshot camera = CameraSnapshot.of(fixture.client);
+
+			for (int i = 0; i < count; i++)
+			{
+				// include points outside of the scene and behind the camera
+				x3d[i] = ClickboxFixture.LOCATION.getX() + random.nextInt(8192) - 4096;
+				y3d[i] = ClickboxFixture.LOCATION.getY() + random.nextInt(8192) - 4096;
+				z3d[i] = -random.nextInt(1024);
+			}
+
+			int visible = camera.localToCanvas(count, x3d, y3d, z3d, x2d, y2d);
+
+			int expectedVisible = 0;
+			for (int i = 0; i < count; i++)
+			{
+				Point expected = reference(fixture.client, x3d[i], y3d[i], z3d[i]);
+				assertEquals(expected, camera.localToCanvas(x3d[i], y3d[i], z3d[i]));
+				assertEquals(expected, Perspective.localToCanvas(fixture.client, x3d[i], y3d[i], z3d[i]));
+
+				if (expected == null)
+				{
+					assertEquals(Integer.MIN_VALUE, x2d[i]);
+					assertEquals(Integer.MIN_VALUE, y2d[i]);
+				}
+				else
+				{
+					assertEquals(expected.getX(), x2d[i]);
+					assertEquals(expected.getY(), y2d[i]);
+					++expectedVisible;
+				}
+			}
+			assertEquals(expectedVisible, visible);
+		}
+	}
+
+	@Test
+	public void testModelToCanvas()
+	{
+		Model model = ClickboxFixture.sphere(8, 16, 300, false);
+		int count = model.getVerticesCount();
+		int[] x2d = new int[count];
+		int[] y2d = new int[count];
+
+		for (int rotate = 0; rotate < 2048; rotate += 256)
+		{
+			CameraSnapshot.of(fixture.client).modelToCanvas(count,
+				ClickboxFixture.LOCATION.getX(), ClickboxFixture.LOCATION.getY(), 0,
+				rotate,
+				model.getVerticesX(), model.getVerticesZ(), model.getVerticesY(),
+				x2d, y2d);
+
+			for (int i = 0; i < count; i++)
+			{
+				int x = model.getVerticesX()[i];
+				int y = model.getVerticesZ()[i];
+				int rx = x * Perspective.COSINE[rotate] + y * Perspective.SINE[rotate] >> 16;
+				int ry = y * Perspective.COSINE[rotate] - x * Perspective.SINE[rotate] >> 16;
+				if (rotate == 0)
+				{
+					rx = x;
+					ry = y;
+				}
+
+				Point expected = reference(fixture.client,
+					ClickboxFixture.LOCATION.getX() + rx,
+					ClickboxFixture.LOCATION.getY() + ry,
+					model.getVerticesY()[i]);
+				assertNotNull(expected);
+				assertEquals(expected.getX(), x2d[i]);
+				assertEquals(expected.getY(), y2d[i]);
+			}
+		}
+
+		// behind the camera
+		fixture.cameraYaw = 1024;
+		CameraSnapshot.of(fixture.client).modelToCanvas(count,
+			ClickboxFixture.LOCATION.getX(), ClickboxFixture.LOCATION.getY(), 0,
+			0,
+			model.getVerticesX(), model.getVerticesZ(), model.getVerticesY(),
+			x2d, y2d);
+		assertEquals(Integer.MIN_VALUE, x2d[0]);
+		assertEquals(Integer.MIN_VALUE, y2d[0]);
+	}
+
+	@Test
+	public void testTilePoly()
+	{
+		CameraSnapshot camera = CameraSnapshot.of(fixture.client);
+		LocalPoint lp = ClickboxFixture.LOCATION;
+
+		Polygon poly = Perspective.getCanvasTileAreaPoly(fixture.client, camera, lp, 3);
+		assertNotNull(poly);
+		assertEquals(4, poly.npoints);
+
+		int half = 3 * Perspective.LOCAL_TILE_SIZE / 2;
+		int[][] corners = {
+			{lp.getX() - half, lp.getY() - half},
+			{lp.getX() + half, lp.getY() - half},
+			{lp.getX() + half, lp.getY() + half},
+			{lp.getX() - half, lp.getY() + half},
+		};
+		for (int i = 0; i < 4; i++)
+		{
+			Point expected = reference(fixture.client, corners[i][0], corners[i][1], 0);
+			assertEquals(expected.getX(), poly.xpoints[i]);
+			assertEquals(expected.getY(), poly.ypoints[i]);
+		}
+
+		// the south west corner is outside of the scene
+		assertNull(Perspective.getCanvasTilePoly(fixture.client, camera, LocalPoint.fromScene(0, 0)));
+	}
+
+	/**
+	 * The projection as it was done by {@link Perspective#localToCanvas(Client, int, int, int)}
+	 * before camera snapshots
+	 */
+	private static Point reference(Client client, int x, int y, int z)
+	{
+		if (x >= 128 && y >= 128 && x <= 13056 && y <= 13056)
+		{
+			x -= client.getCameraX();
+			y -= client.getCameraY();
+			z -= client.getCameraZ();
+
+			int cameraPitch = client.getCameraPitch();
+			int cameraYaw = client.getCameraYaw();
+
+			int pitchSin = Perspective.SINE[cameraPitch];
+			int pitchCos = Perspective.COSINE[cameraPitch];
+			int yawSin = Perspective.SINE[cameraYaw];
+			int yawCos = Perspective.COSINE[cameraYaw];
+
+			int var8 = yawCos * x + y * yawSin >> 16;
+			y = yawCos * y - yawSin * x >> 16;
+			x = var8;
+			var8 = pitchCos * z - y * pitchSin >> 16;
+			y = z * pitchSin + y * pitchCos >> 16;
+
+			if (y >= 50)
+			{
+				int pointX = client.getViewportWidth() / 2 + x * client.getScale() / y;
+				int pointY = client.getViewportHeight() / 2 + var8 * client.getScale() / y;
+				return new Point(
+					pointX + client.getViewportXOffset(),
+					pointY + client.getViewportYOffset());
+			}
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Shape;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.geometry.Shapes;
+import net.runelite.api.geometry.SimplePolygon;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ClickboxCalculatorTest
+{
+	private final ClickboxFixture fixture = new ClickboxFixture();
+
+	@Test
+	public void testMatchesReference()
+	{
+		for (boolean clickable : new boolean[]{false, true})
+		{
+			Model model = ClickboxFixture.sphere(12, 24, 150, clickable);
+			for (int yaw = 0; yaw < 2048; yaw += 128)
+			{
+				for (int orientation = 0; orientation < 2048; orientation += 512)
+				{
+					fixture.cameraYaw = yaw;
+					fixture.cameraX = ClickboxFixture.LOCATION.getX() + (Perspective.SINE[yaw] * 1600 >> 16);
+					fixture.cameraY = ClickboxFixture.LOCATION.getY() - (Perspective.COSINE[yaw] * 1600 >> 16);
+
+					Shape expected = ReferencePerspective.getClickbox(fixture.client, model, orientation, ClickboxFixture.LOCATION);
+					Shape actual = Perspective.getClickbox(fixture.client, model, orientation, ClickboxFixture.LOCATION);
+					assertEquals(points(expected), points(actual));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCache()
+	{
+		Model model = ClickboxFixture.sphere(12, 24, 150, false);
+
+		Shape first = Perspective.getClickbox(fixture.client, model, 0, ClickboxFixture.LOCATION);
+		assertNotNull(first);
+		assertSame(first, Perspective.getClickbox(fixture.client, model, 0, ClickboxFixture.LOCATION));
+
+		// camera moves
+		fixture.cameraZ -= 10;
+		Shape moved = Perspective.getClickbox(fixture.client, model, 0, ClickboxFixture.LOCATION);
+		assertNotSame(first, moved);
+
+		// different orientation
+		assertNotSame(moved, Perspective.getClickbox(fixture.client, model, 512, ClickboxFixture.LOCATION));
+
+		// the model is animated in place
+		model.getVerticesY()[0] -= 100;
+		Shape animated = Perspective.getClickbox(fixture.client, model, 0, ClickboxFixture.LOCATION);
+		assertNotSame(moved, animated);
+		assertEquals(points(ReferencePerspective.getClickbox(fixture.client, model, 0, ClickboxFixture.LOCATION)), points(animated));
+	}
+
+	@Test
+	public void testCacheDoesNotRetainModels()
+	{
+		Model model = ClickboxFixture.sphere(12, 24, 150, false);
+		assertNotNull(Perspective.getClickbox(fixture.client, model, 0, ClickboxFixture.LOCATION));
+
+		WeakReference<Model> ref = new WeakReference<>(model);
+		model = null;
+		for (int i = 0; i < 10 && ref.get() != null; ++i)
+		{
+			System.gc();
+		}
+		// the fixture models can't be printed by assertNull
+		assertTrue("model was retained", ref.get() == null);
+	}
+
+	private static List<List<Point>> points(Shape shape)
+	{
+		List<List<Point>> points = new ArrayList<>();
+		if (shape instanceof SimplePolygon)
+		{
+			points.add(((SimplePolygon) shape).toRuneLitePointList());
+		}
+		else
+		{
+			for (SimplePolygon poly : ((Shapes<SimplePolygon>) shape).getShapes())
+			{
+				points.add(poly.toRuneLitePointList());
+			}
+		}
+		return points;
+	}
+}
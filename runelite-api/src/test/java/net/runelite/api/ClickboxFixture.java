@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.lang.reflect.Proxy;
+import net.runelite.api.coords.LocalPoint;
+
+/**
+ * Synthetic models and a client with a controllable camera, for clickbox tests and benchmarks
+ */
+class ClickboxFixture
+{
+	static final LocalPoint LOCATION = LocalPoint.fromScene(52, 52);
+
+	int cameraX = LOCATION.getX();
+	int cameraY = LOCATION.getY() - 1600;
+	int cameraZ = -900;
+	int cameraPitch = 300;
+	int cameraYaw = 0;
+	int scale = 512;
+
+	private final int[][][] tileHeights = new int[Constants.MAX_Z][Constants.SCENE_SIZE + 1][Constants.SCENE_SIZE + 1];
+	private final byte[][][] tileSettings = new byte[Constants.MAX_Z][Constants.SCENE_SIZE][Constants.SCENE_SIZE];
+
+	final Client client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class}, (proxy, method, args) ->
+	{
+		switch (method.getName())
+		{
+			case "getPlane":
+				return 0;
+			case "getTileHeights":
+				return tileHeights;
+			case "getTileSettings":
+				return tileSettings;
+			case "getCameraX":
+				return cameraX;
+			case "getCameraY":
+				return cameraY;
+			case "getCameraZ":
+				return cameraZ;
+			case "getCameraPitch":
+				return cameraPitch;
+			case "getCameraYaw":
+				return cameraYaw;
+			case "getScale":
+				return scale;
+			case "getViewportWidth":
+				return 765;
+			case "getViewportHeight":
+				return 503;
+			case "getViewportXOffset":
+				return 4;
+			case "getViewportYOffset":
+				return 22;
+			default:
+				throw new UnsupportedOperationException(method.getName());
+		}
+	});
+
+	/**
+	 * Create a model of a sphere made of {@code rings} rings of {@code segments} vertices each,
+	 * standing on the ground
+	 */
+	static Model sphere(int rings, int segments, int radius, boolean clickable)
+	{
+		int vertexCount = rings * segments;
+		int[] vx = new int[vertexCount];
+		int[] vy = new int[vertexCount];
+		int[] vz = new int[vertexCount];
+		for (int r = 0; r < rings; r++)
+		{
+			double phi = Math.PI * (r + 0.5) / rings;
+			for (int s = 0; s < segments; s++)
+			{
+				double theta = 2 * Math.PI * s / segments;
+				int i = r * segments + s;
+				vx[i] = (int) (radius * Math.sin(phi) * Math.cos(theta));
+				vz[i] = (int) (radius * Math.sin(phi) * Math.sin(theta));
+				// y is height, and negative is up
+				vy[i] = (int) (radius * Math.cos(phi)) - radius;
+			}
+		}
+
+		int triangleCount = (rings - 1) * segments * 2;
+		int[] ta = new int[triangleCount];
+		int[] tb = new int[triangleCount];
+		int[] tc = new int[triangleCount];
+		int t = 0;
+		for (int r = 0; r < rings - 1; r++)
+		{
+			for (int s = 0; s < segments; s++)
+			{
+				int a = r * segments + s;
+				int b = r * segments + (s + 1) % segments;
+				int c = a + segments;
+				int d = b + segments;
+				ta[t] = a;
+				tb[t] = b;
+				tc[t++] = c;
+				ta[t] = b;
+				tb[t] = d;
+				tc[t++] = c;
+			}
+		}
+
+		return (Model) Proxy.newProxyInstance(Model.class.getClassLoader(), new Class<?>[]{Model.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getVerticesCount":
+					return vertexCount;
+				case "getVerticesX":
+					return vx;
+				case "getVerticesY":
+					return vy;
+				case "getVerticesZ":
+					return vz;
+				case "getTrianglesCount":
+					return triangleCount;
+				case "getTrianglesX":
+					return ta;
+				case "getTrianglesY":
+					return tb;
+				case "getTrianglesZ":
+					return tc;
+				case "getCenterX":
+				case "getCenterZ":
+					return 0;
+				case "getCenterY":
+					return -radius;
+				case "getExtremeX":
+				case "getExtremeY":
+				case "getExtremeZ":
+					return radius;
+				case "isClickable":
+					return clickable;
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "equals":
+					return proxy == args[0];
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Projects points around the local player onto the canvas one at a time through the client,
+ * one at a time through a {@link CameraSnapshot}, and in a single batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProjectionBenchmark
+{
+	@Param({"100", "1000", "10000"})
+	private int count;
+
+	private ClickboxFixture fixture;
+	private int[] x3d, y3d, z3d, x2d, y2d;
+
+	@Setup
+	public void setup()
+	{
+		fixture = new ClickboxFixture();
+
+		Random random = new Random(42L);
+		x3d = new int[count];
+		y3d = new int[count];
+		z3d = new int[count];
+		x2d = new int[count];
+		y2d = new int[count];
+		for (int i = 0; i < count; i++)
+		{
+			x3d[i] = ClickboxFixture.LOCATION.getX() + random.nextInt(3200) - 1600;
+			y3d[i] = ClickboxFixture.LOCATION.getY() + random.nextInt(3200);
+			z3d[i] = -random.nextInt(512);
+		}
+	}
+
+	@Benchmark
+	public void perPoint(Blackhole bh)
+	{
+		for (int i = 0; i < count; i++)
+		{
+			bh.consume(Perspective.localToCanvas(fixture.client, x3d[i], y3d[i], z3d[i]));
+		}
+	}
+
+	@Benchmark
+	public void perPointSnapshot(Blackhole bh)
+	{
+		CameraSnapshot camera = CameraSnapshot.of(fixture.client);
+		for (int i = 0; i < count; i++)
+		{
+			bh.consume(camera.localToCanvas(x3d[i], y3d[i], z3d[i]));
+		}
+	}
+
+	@Benchmark
+	public int batch()
+	{
+		return CameraSnapshot.of(fixture.client).localToCanvas(count, x3d, y3d, z3d, x2d, y2d);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ProjectionBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2017, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import static net.runelite.api.Constants.TILE_FLAG_BRIDGE;
+import static net.runelite.api.Perspective.COSINE;
+import static net.runelite.api.Perspective.LOCAL_COORD_BITS;
+import static net.runelite.api.Perspective.LOCAL_TILE_SIZE;
+import static net.runelite.api.Perspective.SCENE_SIZE;
+import static net.runelite.api.Perspective.SINE;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.geometry.ReferenceGeometry;
+import net.runelite.api.geometry.Shapes;
+import net.runelite.api.geometry.SimplePolygon;
+
+/**
+ * {@link Perspective#getClickbox} and the projection and hull code it used before
+ * {@link ClickboxCalculator}, which the calculator must give identical clickboxes to.
+ * Only the calls into rewritten code are changed, to the copies here and in
+ * {@link ReferenceGeometry}. As before, viewport culling uses the x offset for
+ * the top edge of the viewport.
+ */
+class ReferencePerspective
+{
+	private ReferencePerspective()
+	{
+	}
+
+	/**
+	 * Translates a model's vertices into 2d space
+	 */
+	public static void modelToCanvas(Client client, int end, int x3dCenter, int y3dCenter, int z3dCenter, int rotate, int[] x3d, int[] y3d, int[] z3d, int[] x2d, int[] y2d)
+	{
+		final int
+			cameraPitch = client.getCameraPitch(),
+			cameraYaw = client.getCameraYaw(),
+
+			pitchSin = SINE[cameraPitch],
+			pitchCos = COSINE[cameraPitch],
+			yawSin = SINE[cameraYaw],
+			yawCos = COSINE[cameraYaw],
+			rotateSin = SINE[rotate],
+			rotateCos = COSINE[rotate],
+
+			cx = x3dCenter - client.getCameraX(),
+			cy = y3dCenter - client.getCameraY(),
+			cz = z3dCenter - client.getCameraZ(),
+
+			viewportXMiddle = client.getViewportWidth() / 2,
+			viewportYMiddle = client.getViewportHeight() / 2,
+			viewportXOffset = client.getViewportXOffset(),
+			viewportYOffset = client.getViewportYOffset(),
+
+			zoom3d = client.getScale();
+
+		for (int i = 0; i < end; i++)
+		{
+			int x = x3d[i];
+			int y = y3d[i];
+			int z = z3d[i];
+
+			if (rotate != 0)
+			{
+				int x0 = x;
+				x = x0 * rotateCos + y * rotateSin >> 16;
+				y = y * rotateCos - x0 * rotateSin >> 16;
+			}
+
+			x += cx;
+			y += cy;
+			z += cz;
+
+			final int
+				x1 = x * yawCos + y * yawSin >> 16,
+				y1 = y * yawCos - x * yawSin >> 16,
+				y2 = z * pitchCos - y1 * pitchSin >> 16,
+				z1 = y1 * pitchCos + z * pitchSin >> 16;
+
+			int viewX, viewY;
+
+			if (z1 < 50)
+			{
+				viewX = Integer.MIN_VALUE;
+				viewY = Integer.MIN_VALUE;
+			}
+			else
+			{
+				viewX = (viewportXMiddle + x1 * zoom3d / z1) + viewportXOffset;
+				viewY = (viewportYMiddle + y2 * zoom3d / z1) + viewportYOffset;
+			}
+
+			x2d[i] = viewX;
+			y2d[i] = viewY;
+		}
+	}
+
+	/**
+	 * Calculates the above ground height of a tile point.
+	 *
+	 * @param client the game client
+	 * @param point the local ground coordinate
+	 * @param plane the client plane/ground level
+	 * @return the offset from the ground of the tile
+	 */
+	public static int getTileHeight(@Nonnull Client client, @Nonnull LocalPoint point, int plane)
+	{
+		int sceneX = point.getSceneX();
+		int sceneY = point.getSceneY();
+		if (sceneX >= 0 && sceneY >= 0 && sceneX < SCENE_SIZE && sceneY < SCENE_SIZE)
+		{
+			byte[][][] tileSettings = client.getTileSettings();
+			int[][][] tileHeights = client.getTileHeights();
+
+			int z1 = plane;
+			if (plane < Constants.MAX_Z - 1 && (tileSettings[1][sceneX][sceneY] & TILE_FLAG_BRIDGE) == TILE_FLAG_BRIDGE)
+			{
+				z1 = plane + 1;
+			}
+
+			int x = point.getX() & (LOCAL_TILE_SIZE - 1);
+			int y = point.getY() & (LOCAL_TILE_SIZE - 1);
+			int var8 = x * tileHeights[z1][sceneX + 1][sceneY] + (LOCAL_TILE_SIZE - x) * tileHeights[z1][sceneX][sceneY] >> LOCAL_COORD_BITS;
+			int var9 = tileHeights[z1][sceneX][sceneY + 1] * (LOCAL_TILE_SIZE - x) + x * tileHeights[z1][sceneX + 1][sceneY + 1] >> LOCAL_COORD_BITS;
+			return (LOCAL_TILE_SIZE - y) * var8 + y * var9 >> LOCAL_COORD_BITS;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Get the on-screen clickable area of {@code model} as though it's for the
+	 * object on the tile at ({@code localX}, {@code localY}) and rotated to
+	 * angle {@code orientation}.
+	 * @param client      the game client
+	 * @param model       the model to calculate a clickbox for
+	 * @param orientation the orientation of the model (0-2048, where 0 is north)
+	 * @param point       the coordinate of the tile
+	 * @return the clickable area of the model
+	 */
+	@Nullable
+	public static Shape getClickbox(@Nonnull Client client, Model model, int orientation, LocalPoint point)
+	{
+		if (model == null)
+		{
+			return null;
+		}
+
+		int x = point.getX();
+		int y = point.getY();
+		int z = getTileHeight(client, point, client.getPlane());
+
+		SimplePolygon bounds = calculateAABB(client, model, orientation, x, y, z);
+
+		if (bounds == null)
+		{
+			return null;
+		}
+
+		if (model.isClickable())
+		{
+			return bounds;
+		}
+
+		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, model, orientation, x, y, z);
+		if (bounds2d == null)
+		{
+			return null;
+		}
+
+		for (SimplePolygon poly : bounds2d.getShapes())
+		{
+			ReferenceGeometry.intersectWithConvex(poly, bounds);
+		}
+
+		return bounds2d;
+	}
+
+	private static SimplePolygon calculateAABB(Client client, Model m, int jauOrient, int x, int y, int z)
+	{
+		int ex = m.getExtremeX();
+		if (ex == -1)
+		{
+			// dynamic models don't get stored when they render where this normally happens
+			m.calculateBoundsCylinder();
+			m.calculateExtreme(0);
+			ex = m.getExtremeX();
+		}
+
+		int x1 = m.getCenterX();
+		int y1 = m.getCenterZ();
+		int z1 = m.getCenterY();
+
+		int ey = m.getExtremeZ();
+		int ez = m.getExtremeY();
+
+		int x2 = x1 + ex;
+		int y2 = y1 + ey;
+		int z2 = z1 + ez;
+
+		x1 -= ex;
+		y1 -= ey;
+		z1 -= ez;
+
+		int[] xa = new int[]{
+			x1, x2, x1, x2,
+			x1, x2, x1, x2
+		};
+		int[] ya = new int[]{
+			y1, y1, y2, y2,
+			y1, y1, y2, y2
+		};
+		int[] za = new int[]{
+			z1, z1, z1, z1,
+			z2, z2, z2, z2
+		};
+
+		int[] x2d = new int[8];
+		int[] y2d = new int[8];
+
+		modelToCanvas(client, 8, x, y, z, jauOrient, xa, ya, za, x2d, y2d);
+
+		return Jarvis.convexHull(x2d, y2d);
+	}
+
+	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z)
+	{
+		int[] x2d = new int[m.getVerticesCount()];
+		int[] y2d = new int[m.getVerticesCount()];
+
+		modelToCanvas(client,
+			m.getVerticesCount(),
+			x, y, z,
+			jauOrient,
+			m.getVerticesX(), m.getVerticesZ(), m.getVerticesY(),
+			x2d, y2d);
+
+		final int radius = 5;
+
+		int[][] tris = new int[][]{
+			m.getTrianglesX(),
+			m.getTrianglesY(),
+			m.getTrianglesZ()
+		};
+
+		int vpX1 = client.getViewportXOffset();
+		int vpY1 = client.getViewportXOffset();
+		int vpX2 = vpX1 + client.getViewportWidth();
+		int vpY2 = vpY1 + client.getViewportHeight();
+
+		List<ReferenceGeometry.Rectangle> rects = new ArrayList<>(m.getTrianglesCount());
+
+		nextTri:
+		for (int tri = 0; tri < m.getTrianglesCount(); tri++)
+		{
+			int
+				minX = Integer.MAX_VALUE,
+				minY = Integer.MAX_VALUE,
+				maxX = Integer.MIN_VALUE,
+				maxY = Integer.MIN_VALUE;
+
+			for (int[] vertex : tris)
+			{
+				final int idx = vertex[tri];
+				final int xs = x2d[idx];
+				final int ys = y2d[idx];
+
+				if (xs == Integer.MIN_VALUE || ys == Integer.MIN_VALUE)
+				{
+					continue nextTri;
+				}
+
+				if (xs < minX)
+				{
+					minX = xs;
+				}
+				if (xs > maxX)
+				{
+					maxX = xs;
+				}
+				if (ys < minY)
+				{
+					minY = ys;
+				}
+				if (ys > maxY)
+				{
+					maxY = ys;
+				}
+			}
+
+			minX -= radius;
+			minY -= radius;
+			maxX += radius;
+			maxY += radius;
+
+			if (vpX1 > maxX || vpX2 < minX || vpY1 > maxY || vpY2 < minY)
+			{
+				continue;
+			}
+
+			ReferenceGeometry.Rectangle r = new ReferenceGeometry.Rectangle(minX, minY, maxX, maxY);
+
+			rects.add(r);
+		}
+
+		return ReferenceGeometry.union(rects);
+	}
+
+	private static class Jarvis
+	{
+		/**
+		 * Computes and returns the convex hull of the passed points.
+		 * <p>
+		 * The size of the list must be at least 3, otherwise this method will
+		 * return null.
+		 *
+		 * @return a shape the points part of the convex hull
+		 */
+		public static SimplePolygon convexHull(int[] xs, int[] ys)
+		{
+			int length = xs.length;
+
+			// remove any invalid entries
+			{
+				int i = 0, offset = 0;
+				for (; i < length; i++)
+				{
+					if (xs[i] == Integer.MIN_VALUE)
+					{
+						offset++;
+						i++;
+						break;
+					}
+				}
+				for (; i < length; i++)
+				{
+					if (xs[i] == Integer.MIN_VALUE)
+					{
+						offset++;
+						continue;
+					}
+					xs[i - offset] = xs[i];
+					ys[i - offset] = ys[i];
+				}
+				length -= offset;
+			}
+
+			if (length < 3)
+			{
+				return null;
+			}
+
+			// find the left most point
+			int left = findLeftMost(xs, ys, length);
+
+			// current point we are on
+			int current = left;
+
+			SimplePolygon out = new SimplePolygon(new int[16], new int[16], 0);
+
+			do
+			{
+				int cx = xs[current];
+				int cy = ys[current];
+				out.pushRight(cx, cy);
+
+				if (out.size() > length)
+				{
+					return null;
+				}
+
+				// the next point - all points are to the right of the
+				// line between current and next
+				int next = 0;
+				int nx = xs[next];
+				int ny = ys[next];
+
+				for (int i = 1; i < length; i++)
+				{
+					long cp = crossProduct(cx, cy, xs[i], ys[i], nx, ny);
+					if (cp > 0 || (cp == 0 && square(cx - xs[i]) + square(cy - ys[i]) > square(cx - nx) + square(cy - ny)))
+					{
+						next = i;
+						nx = xs[next];
+						ny = ys[next];
+					}
+				}
+
+				current = next;
+			}
+			while (current != left);
+
+			return out;
+		}
+
+		private static int square(int x)
+		{
+			return x * x;
+		}
+
+		private static int findLeftMost(int[] xs, int[] ys, int length)
+		{
+			int idx = 0;
+			int x = xs[idx];
+			int y = ys[idx];
+
+			for (int i = 1; i < length; i++)
+			{
+				int ix = xs[i];
+				if (ix < x || ix == x && ys[i] < y)
+				{
+					idx = i;
+					x = xs[idx];
+					y = ys[idx];
+				}
+			}
+
+			return idx;
+		}
+
+		private static long crossProduct(int px, int py, int qx, int qy, int rx, int ry)
+		{
+			long val = (long) (qy - py) * (rx - qx)
+				- (long) (qx - px) * (ry - qy);
+			return val;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.model.Jarvis;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Unions the bounding rectangles of a model's worth of small triangles, and clips the union with a
+ * hull, with the current and the {@link ReferenceGeometry reference} implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RectangleUnionBenchmark
+{
+	private static final int WIDTH = 600;
+	private static final int HEIGHT = 400;
+
+	@Param({"100", "1000", "10000"})
+	private int triangles;
+
+	private int[] x1s, y1s, x2s, y2s;
+	private long[] order;
+	private List<SimplePolygon> polygons;
+	private SimplePolygon hull;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42L);
+
+		// triangles spread over an ellipse, sized so that they overlap their neighbours
+		int size = (int) Math.sqrt(WIDTH * HEIGHT / (double) triangles) * 2 + 2;
+		x1s = new int[triangles];
+		y1s = new int[triangles];
+		x2s = new int[triangles];
+		y2s = new int[triangles];
+		order = new long[triangles * 2];
+		for (int i = 0; i < triangles; i++)
+		{
+			double angle = random.nextDouble() * 2 * Math.PI;
+			double distance = Math.sqrt(random.nextDouble()) / 2;
+			x1s[i] = WIDTH / 2 + (int) (Math.cos(angle) * distance * WIDTH);
+			y1s[i] = HEIGHT / 2 + (int) (Math.sin(angle) * distance * HEIGHT);
+			x2s[i] = x1s[i] + 1 + random.nextInt(size);
+			y2s[i] = y1s[i] + 1 + random.nextInt(size);
+		}
+
+		polygons = RectangleUnion.union(x1s, y1s, x2s, y2s, triangles, null).getShapes();
+		hull = Jarvis.convexHull(
+			new int[]{WIDTH / 8, WIDTH * 7 / 8, WIDTH, WIDTH * 7 / 8, WIDTH / 8, 0},
+			new int[]{0, 0, HEIGHT / 2, HEIGHT, HEIGHT, HEIGHT / 2});
+	}
+
+	@Benchmark
+	public Shapes<SimplePolygon> referenceUnion()
+	{
+		return ReferenceGeometry.union(ReferenceGeometry.rectangles(x1s, y1s, x2s, y2s, triangles));
+	}
+
+	@Benchmark
+	public Shapes<SimplePolygon> union()
+	{
+		return RectangleUnion.union(x1s, y1s, x2s, y2s, triangles, order);
+	}
+
+	@Benchmark
+	public List<SimplePolygon> referenceClip()
+	{
+		List<SimplePolygon> clipped = copy(polygons);
+		for (SimplePolygon polygon : clipped)
+		{
+			ReferenceGeometry.intersectWithConvex(polygon, hull);
+		}
+		return clipped;
+	}
+
+	@Benchmark
+	public List<SimplePolygon> clip()
+	{
+		List<SimplePolygon> clipped = copy(polygons);
+		for (SimplePolygon polygon : clipped)
+		{
+			polygon.intersectWithConvex(hull);
+		}
+		return clipped;
+	}
+
+	private static List<SimplePolygon> copy(List<SimplePolygon> polygons)
+	{
+		List<SimplePolygon> copies = new ArrayList<>(polygons.size());
+		for (SimplePolygon polygon : polygons)
+		{
+			int[] x = new int[polygon.size()];
+			int[] y = new int[polygon.size()];
+			polygon.copyTo(x, y, 0);
+			copies.add(new SimplePolygon(x, y, x.length));
+		}
+		return copies;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(RectangleUnionBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -35,7 +35,11 @@ import java.util.List;
 import java.util.Random;
 import javax.imageio.ImageIO;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Point;
 import org.junit.Assert;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
 
 @Slf4j
 public class RectangleUnionTest
@@ -43,6 +47,7 @@ public class RectangleUnionTest
 	private static final int ITERATIONS = 100;
 	private static final int WIDTH = 1000;
 	private static final int MAX_RECTS = 50;
+	private static final int PROPERTY_ITERATIONS = 2000;
 
 	// @Test
 	public void test() throws IOException
@@ -112,4 +117,106 @@ public class RectangleUnionTest
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testMatchesReference()
+	{
+		for (int iteration = 0; iteration < PROPERTY_ITERATIONS; iteration++)
+		{
+			Random rand = new Random(iteration);
+			int count = 1 + rand.nextInt(iteration % 10 == 0 ? 2000 : 64);
+			// small ranges produce many shared edges
+			int range = 8 + rand.nextInt(iteration % 2 == 0 ? 64 : WIDTH);
+			int maxSize = 1 + rand.nextInt(range);
+			// coordinates too far apart to be counting sorted
+			int scale = iteration % 3 == 0 ? 100_003 : 1;
+
+			int[] x1s = new int[count];
+			int[] y1s = new int[count];
+			int[] x2s = new int[count];
+			int[] y2s = new int[count];
+			for (int i = 0; i < count; i++)
+			{
+				x1s[i] = (rand.nextInt(range) - range / 2) * scale;
+				y1s[i] = (rand.nextInt(range) - range / 2) * scale;
+				x2s[i] = x1s[i] + rand.nextInt(maxSize) * scale;
+				y2s[i] = y1s[i] + (1 + rand.nextInt(maxSize)) * scale;
+			}
+
+			assertMatchesReference("iteration " + iteration, x1s, y1s, x2s, y2s, count);
+		}
+	}
+
+	@Test
+	public void testCovering()
+	{
+		for (int iteration = 0; iteration < PROPERTY_ITERATIONS; iteration++)
+		{
+			Random rand = new Random(iteration);
+			int count = 1 + rand.nextInt(32);
+
+			int[] x1s = new int[count];
+			int[] y1s = new int[count];
+			int[] x2s = new int[count];
+			int[] y2s = new int[count];
+			x1s[0] = y1s[0] = 0;
+			x2s[0] = y2s[0] = 100;
+			for (int i = 1; i < count; i++)
+			{
+				// mostly inside of the first rectangle, sometimes touching or crossing its edges
+				x1s[i] = rand.nextInt(104) - 2;
+				y1s[i] = rand.nextInt(104) - 2;
+				x2s[i] = x1s[i] + rand.nextInt(100 - Math.max(0, x1s[i]) + 2);
+				y2s[i] = y1s[i] + 1 + rand.nextInt(100 - Math.max(0, y1s[i]) + 2);
+			}
+
+			// the covering rectangle is not always first
+			int swap = rand.nextInt(count);
+			swap(x1s, 0, swap);
+			swap(y1s, 0, swap);
+			swap(x2s, 0, swap);
+			swap(y2s, 0, swap);
+
+			assertMatchesReference("iteration " + iteration, x1s, y1s, x2s, y2s, count);
+		}
+	}
+
+	@Test
+	public void testNoHeight()
+	{
+		int[] x1s = {0, 5, 20, 10};
+		int[] y1s = {0, 5, 5, 30};
+		int[] x2s = {10, 15, 30, 40};
+		int[] y2s = {10, 15, 5, 10};
+
+		assertNull(RectangleUnion.union(x1s, y1s, x2s, y2s, 0, null));
+		assertEquals(0, RectangleUnion.union(new int[]{2}, new int[]{3}, new int[]{4}, new int[]{3}, 1, null).getShapes().size());
+		// the last two rectangles have no height, and are skipped
+		assertEquals(points(ReferenceGeometry.union(ReferenceGeometry.rectangles(x1s, y1s, x2s, y2s, 2))),
+			points(RectangleUnion.union(x1s, y1s, x2s, y2s, 4, null)));
+	}
+
+	private static void assertMatchesReference(String message, int[] x1s, int[] y1s, int[] x2s, int[] y2s, int count)
+	{
+		Shapes<SimplePolygon> expected = ReferenceGeometry.union(ReferenceGeometry.rectangles(x1s, y1s, x2s, y2s, count));
+		Shapes<SimplePolygon> actual = RectangleUnion.union(x1s, y1s, x2s, y2s, count, null);
+		assertEquals(message, points(expected), points(actual));
+	}
+
+	private static List<List<Point>> points(Shapes<SimplePolygon> shapes)
+	{
+		List<List<Point>> points = new ArrayList<>();
+		for (SimplePolygon polygon : shapes.getShapes())
+		{
+			points.add(polygon.toRuneLitePointList());
+		}
+		return points;
+	}
+
+	private static void swap(int[] a, int i, int j)
+	{
+		int t = a[i];
+		a[i] = a[j];
+		a[j] = t;
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.geometry;
+
+import java.util.Random;
+import net.runelite.api.model.Jarvis;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class SimplePolygonTest
+{
+	private static final int ITERATIONS = 5000;
+
+	@Test
+	public void testIntersectWithConvexMatchesReference()
+	{
+		for (int iteration = 0; iteration < ITERATIONS; iteration++)
+		{
+			Random rand = new Random(iteration);
+
+			SimplePolygon polygon = star(rand, 3 + rand.nextInt(iteration % 10 == 0 ? 500 : 24));
+
+			// hulls which are around, across, or away from the polygon
+			int spread = 50 + rand.nextInt(800);
+			int offset = rand.nextInt(600) - 300;
+			int[] hx = new int[3 + rand.nextInt(12)];
+			int[] hy = new int[hx.length];
+			for (int i = 0; i < hx.length; i++)
+			{
+				hx[i] = offset + rand.nextInt(spread) - spread / 2;
+				hy[i] = offset + rand.nextInt(spread) - spread / 2;
+			}
+			SimplePolygon convex = Jarvis.convexHull(hx, hy);
+			if (convex == null)
+			{
+				continue;
+			}
+
+			SimplePolygon expected = copy(polygon);
+			ReferenceGeometry.intersectWithConvex(expected, convex);
+			polygon.intersectWithConvex(convex);
+
+			assertEquals("iteration " + iteration, expected.toRuneLitePointList(), polygon.toRuneLitePointList());
+		}
+	}
+
+	@Test
+	public void testGrow()
+	{
+		SimplePolygon polygon = new SimplePolygon();
+		for (int i = 0; i < 1000; i++)
+		{
+			polygon.pushLeft(-i, i);
+			polygon.pushRight(i, -i);
+		}
+
+		assertEquals(2000, polygon.size());
+		for (int i = 0; i < 1000; i++)
+		{
+			assertEquals(i - 999, polygon.getX(i));
+			assertEquals(999 - i, polygon.getY(i));
+			assertEquals(i, polygon.getX(1000 + i));
+			assertEquals(-i, polygon.getY(1000 + i));
+		}
+	}
+
+	/**
+	 * A star shaped polygon of {@code count} vertices at random distances around a point
+	 */
+	private static SimplePolygon star(Random rand, int count)
+	{
+		int cx = rand.nextInt(200) - 100;
+		int cy = rand.nextInt(200) - 100;
+		int radius = 10 + rand.nextInt(300);
+
+		SimplePolygon polygon = new SimplePolygon();
+		for (int i = 0; i < count; i++)
+		{
+			double angle = 2 * Math.PI * i / count;
+			int r = radius / 4 + rand.nextInt(radius);
+			polygon.pushRight(cx + (int) (Math.cos(angle) * r), cy + (int) (Math.sin(angle) * r));
+		}
+		return polygon;
+	}
+
+	private static SimplePolygon copy(SimplePolygon polygon)
+	{
+		int[] x = new int[polygon.size()];
+		int[] y = new int[polygon.size()];
+		polygon.copyTo(x, y, 0);
+		return new SimplePolygon(x, y, x.length);
+	}
+}
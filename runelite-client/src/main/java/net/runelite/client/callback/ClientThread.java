@@ -25,29 +25,51 @@
 package net.runelite.client.callback;
 
 import com.google.inject.Inject;
+import java.time.Duration;
 import java.util.Iterator;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
+import net.runelite.client.util.InvocationStats;
+import net.runelite.client.util.InvocationTimings;
 
 @Singleton
 @Slf4j
 public class ClientThread
 {
-	private ConcurrentLinkedQueue<BooleanSupplier> invokes = new ConcurrentLinkedQueue<>();
+	private static final InvokePriority[] PRIORITIES = InvokePriority.values();
+	private static final Duration DEFAULT_FRAME_BUDGET = Duration.ofMillis(4);
+
+	/**
+	 * Names invokes are timed under, which are used as the timing keys rather than
+	 * the classes so that the timings don't keep plugin classes loaded
+	 */
+	private static final ClassValue<String> OWNERS = new ClassValue<String>()
+	{
+		@Override
+		protected String computeValue(Class<?> type)
+		{
+			String name = type.getName();
+			// lambdas are named after the class which declares them
+			int lambda = name.indexOf("$$Lambda$");
+			return lambda != -1 ? name.substring(0, lambda) : name;
+		}
+	};
+
+	private final Queue<QueuedInvoke>[] invokes = createLanes();
+	private final InvocationStats[] lag = createLag();
+	private final InvocationTimings timings = new InvocationTimings();
+	private volatile long frameBudgetNanos = DEFAULT_FRAME_BUDGET.toNanos();
 
 	@Inject
 	private Client client;
 
 	public void invoke(Runnable r)
 	{
-		invoke(() ->
-		{
-			r.run();
-			return true;
-		});
+		invoke(new RunnableInvoke(r));
 	}
 
 	/**
@@ -55,17 +77,27 @@ public class ClientThread
 	 * If r returns false, r will be ran again, at a later point
 	 */
 	public void invoke(BooleanSupplier r)
+	{
+		invoke(r, InvokePriority.NORMAL);
+	}
+
+	/**
+	 * Will run r on the game thread, immediately if this is the game thread, otherwise as
+	 * if by {@link #invokeLater(BooleanSupplier, InvokePriority)}.
+	 * If r returns false, r will be ran again, at a later point
+	 */
+	public void invoke(BooleanSupplier r, InvokePriority priority)
 	{
 		if (client.isClientThread())
 		{
 			if (!r.getAsBoolean())
 			{
-				invokes.add(r);
+				invokeLater(r, priority);
 			}
 			return;
 		}
 
-		invokeLater(r);
+		invokeLater(r, priority);
 	}
 
 	/**
@@ -74,42 +106,179 @@ public class ClientThread
 	 */
 	public void invokeLater(Runnable r)
 	{
-		invokeLater(() ->
-		{
-			r.run();
-			return true;
-		});
+		invokeLater(new RunnableInvoke(r));
 	}
 
 	public void invokeLater(BooleanSupplier r)
 	{
-		invokes.add(r);
+		invokeLater(r, InvokePriority.NORMAL);
+	}
+
+	public void invokeLater(Runnable r, InvokePriority priority)
+	{
+		invokeLater(new RunnableInvoke(r), priority);
+	}
+
+	/**
+	 * Will run r on the game thread after this method returns, in the given priority's lane.
+	 * If r returns false, r will be ran again, at a later point
+	 */
+	public void invokeLater(BooleanSupplier r, InvokePriority priority)
+	{
+		invokes[priority.ordinal()].add(new QueuedInvoke(r, System.nanoTime()));
+	}
+
+	/**
+	 * Get the time budgeted invokes may run for each frame. The time is counted from
+	 * the start of the frame's invokes, so it includes time spent on unbudgeted invokes.
+	 */
+	public Duration getFrameBudget()
+	{
+		return Duration.ofNanos(frameBudgetNanos);
+	}
+
+	public void setFrameBudget(Duration frameBudget)
+	{
+		this.frameBudgetNanos = frameBudget.toNanos();
+	}
+
+	/**
+	 * Get the number of invokes waiting in a lane. This walks the queue, so is linear in its size.
+	 */
+	public int getQueueSize(InvokePriority priority)
+	{
+		return invokes[priority.ordinal()].size();
+	}
+
+	/**
+	 * Get the time invokes of a priority spent queued before they were first run
+	 */
+	public InvocationStats getLag(InvokePriority priority)
+	{
+		return lag[priority.ordinal()];
+	}
+
+	/**
+	 * Get the timings of invokes, keyed by the class which queued them. Timing is disabled by default.
+	 *
+	 * @return timings
+	 */
+	public InvocationTimings getTimings()
+	{
+		return timings;
 	}
 
 	void invoke()
 	{
 		assert client.isClientThread();
-		Iterator<BooleanSupplier> ir = invokes.iterator();
-		for (; ir.hasNext(); )
+		final boolean timed = timings.isEnabled();
+		final long frameStart = System.nanoTime();
+		final long budget = frameBudgetNanos;
+
+		for (InvokePriority priority : PRIORITIES)
 		{
-			BooleanSupplier r = ir.next();
-			boolean remove = true;
-			try
-			{
-				remove = r.getAsBoolean();
-			}
-			catch (ThreadDeath d)
-			{
-				throw d;
-			}
-			catch (Throwable e)
-			{
-				log.warn("Exception in invoke", e);
-			}
-			if (remove)
+			boolean ran = false;
+			Iterator<QueuedInvoke> ir = invokes[priority.ordinal()].iterator();
+			for (; ir.hasNext(); )
 			{
-				ir.remove();
+				final long start = System.nanoTime();
+				if (ran && priority.isBudgeted() && start - frameStart >= budget)
+				{
+					// carried over to the next frame
+					break;
+				}
+
+				QueuedInvoke invoke = ir.next();
+				if (!invoke.started)
+				{
+					invoke.started = true;
+					lag[priority.ordinal()].record(start - invoke.queued);
+				}
+
+				BooleanSupplier r = invoke.supplier;
+				boolean remove = true;
+				try
+				{
+					remove = r.getAsBoolean();
+				}
+				catch (ThreadDeath d)
+				{
+					throw d;
+				}
+				catch (Throwable e)
+				{
+					log.warn("Exception in invoke", e);
+				}
+				ran = true;
+				if (timed)
+				{
+					Class<?> type = r instanceof RunnableInvoke ? ((RunnableInvoke) r).runnable.getClass() : r.getClass();
+					timings.record(OWNERS.get(type), ClientThread::createStats, System.nanoTime() - start);
+				}
+				if (remove)
+				{
+					ir.remove();
+				}
 			}
 		}
 	}
+
+	private static InvocationStats createStats(Object key)
+	{
+		return new InvocationStats((String) key, "invoke");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Queue<QueuedInvoke>[] createLanes()
+	{
+		Queue<QueuedInvoke>[] lanes = new Queue[PRIORITIES.length];
+		for (int i = 0; i < lanes.length; ++i)
+		{
+			lanes[i] = new ConcurrentLinkedQueue<>();
+		}
+		return lanes;
+	}
+
+	private static InvocationStats[] createLag()
+	{
+		InvocationStats[] lag = new InvocationStats[PRIORITIES.length];
+		for (int i = 0; i < lag.length; ++i)
+		{
+			lag[i] = new InvocationStats(PRIORITIES[i].name(), "queue lag");
+		}
+		return lag;
+	}
+
+	private static class QueuedInvoke
+	{
+		private final BooleanSupplier supplier;
+		private final long queued;
+		/**
+		 * Only read and written on the client thread
+		 */
+		private boolean started;
+
+		private QueuedInvoke(BooleanSupplier supplier, long queued)
+		{
+			this.supplier = supplier;
+			this.queued = queued;
+		}
+	}
+
+	private static class RunnableInvoke implements BooleanSupplier
+	{
+		private final Runnable runnable;
+
+		private RunnableInvoke(Runnable runnable)
+		{
+			this.runnable = runnable;
+		}
+
+		@Override
+		public boolean getAsBoolean()
+		{
+			runnable.run();
+			return true;
+		}
+	}
 }
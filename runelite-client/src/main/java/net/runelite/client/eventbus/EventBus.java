@@ -26,9 +26,6 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Multimap;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -36,7 +33,13 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
@@ -44,6 +47,8 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.InvocationStats;
+import net.runelite.client.util.InvocationTimings;
 import net.runelite.client.util.ReflectUtil;
 
 @Slf4j
@@ -65,6 +70,18 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final SubscriberMethod lamda;
+		// timings are keyed by this rather than the subscriber, so they don't keep unregistered objects alive
+		@EqualsAndHashCode.Exclude
+		private final TimingKey timingKey;
+
+		Subscriber(Object object, Method method, float priority, SubscriberMethod lamda)
+		{
+			this.object = object;
+			this.method = method;
+			this.priority = priority;
+			this.lamda = lamda;
+			this.timingKey = new TimingKey(object.getClass().getName(), method.getParameterTypes()[0].getSimpleName());
+		}
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -79,8 +96,37 @@ public class EventBus
 		}
 	}
 
+	@Value
+	private static class TimingKey
+	{
+		private final String owner;
+		private final String event;
+	}
+
+	/**
+	 * Lambda factories for the subscriber methods of each class, so that
+	 * registering an object of a class a second time does not spin new lambda classes
+	 */
+	private static final ClassValue<Map<Method, MethodHandle>> LAMBDA_FACTORIES = new ClassValue<Map<Method, MethodHandle>>()
+	{
+		@Override
+		protected Map<Method, MethodHandle> computeValue(Class<?> type)
+		{
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparing(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
+
 	private final Consumer<Throwable> exceptionHandler;
-	private ImmutableMultimap<Class, Subscriber> subscribers = ImmutableMultimap.of();
+	private final InvocationTimings timings = new InvocationTimings();
+	/**
+	 * Subscribers for each event type, in the order they are called. The arrays are
+	 * never modified, registration replaces the arrays of the event types it affects.
+	 */
+	private final Map<Class<?>, Subscriber[]> subscribers = new ConcurrentHashMap<>();
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -99,15 +145,7 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class, Subscriber> builder = ImmutableMultimap.builder();
-
-		if (subscribers != null)
-		{
-			builder.putAll(subscribers);
-		}
-
-		builder.orderValuesBy(Comparator.comparing(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final Map<Class<?>, List<Subscriber>> added = new HashMap<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -145,18 +183,25 @@ public class EventBus
 
 				try
 				{
-					final MethodHandles.Lookup caller = ReflectUtil.privateLookupIn(clazz);
-					final MethodType subscription = MethodType.methodType(void.class, parameterClazz);
-					final MethodHandle target = caller.findVirtual(clazz, method.getName(), subscription);
-					final CallSite site = LambdaMetafactory.metafactory(
-						caller,
-						"invoke",
-						MethodType.methodType(SubscriberMethod.class, clazz),
-						subscription.changeParameterType(0, Object.class),
-						target,
-						subscription);
-
-					final MethodHandle factory = site.getTarget();
+					final Map<Method, MethodHandle> factories = LAMBDA_FACTORIES.get(clazz);
+					MethodHandle factory = factories.get(method);
+					if (factory == null)
+					{
+						final MethodHandles.Lookup caller = ReflectUtil.privateLookupIn(clazz);
+						final MethodType subscription = MethodType.methodType(void.class, parameterClazz);
+						final MethodHandle target = caller.findVirtual(clazz, method.getName(), subscription);
+						final CallSite site = LambdaMetafactory.metafactory(
+							caller,
+							"invoke",
+							MethodType.methodType(SubscriberMethod.class, clazz),
+							subscription.changeParameterType(0, Object.class),
+							target,
+							subscription);
+
+						factory = site.getTarget();
+						factories.put(method, factory);
+					}
+
 					lambda = (SubscriberMethod) factory.bindTo(object).invokeExact();
 				}
 				catch (Throwable e)
@@ -165,12 +210,24 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				added.computeIfAbsent(parameterClazz, k -> new ArrayList<>()).add(subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		for (Map.Entry<Class<?>, List<Subscriber>> entry : added.entrySet())
+		{
+			final Subscriber[] existing = subscribers.getOrDefault(entry.getKey(), EMPTY);
+			final List<Subscriber> newSubscribers = entry.getValue();
+			final Subscriber[] merged = Arrays.copyOf(existing, existing.length + newSubscribers.size());
+			for (int i = 0; i < newSubscribers.size(); ++i)
+			{
+				merged[existing.length + i] = newSubscribers.get(i);
+			}
+			// stable, so subscribers with equal order are called in registration order
+			Arrays.sort(merged, SUBSCRIBER_ORDER);
+			subscribers.put(entry.getKey(), merged);
+		}
 	}
 
 	/**
@@ -180,14 +237,6 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		if (subscribers == null)
-		{
-			return;
-		}
-
-		final Multimap<Class, Subscriber> map = HashMultimap.create();
-		map.putAll(subscribers);
-
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
 			for (final Method method : clazz.getDeclaredMethods())
@@ -200,11 +249,27 @@ public class EventBus
 				}
 
 				final Class<?> parameterClazz = method.getParameterTypes()[0];
-				map.remove(parameterClazz, new Subscriber(object, method, sub.priority(), null));
+				final Subscriber[] existing = subscribers.get(parameterClazz);
+				if (existing == null)
+				{
+					continue;
+				}
+
+				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), null);
+				final Subscriber[] remaining = Arrays.stream(existing)
+					.filter(s -> !s.equals(subscriber))
+					.toArray(Subscriber[]::new);
+
+				if (remaining.length == 0)
+				{
+					subscribers.remove(parameterClazz);
+				}
+				else if (remaining.length != existing.length)
+				{
+					subscribers.put(parameterClazz, remaining);
+				}
 			}
 		}
-
-		subscribers = ImmutableMultimap.copyOf(map);
 	}
 
 	/**
@@ -215,7 +280,19 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] eventSubscribers = subscribers.get(event.getClass());
+		if (eventSubscribers == null)
+		{
+			return;
+		}
+
+		if (timings.isEnabled())
+		{
+			postTimed(eventSubscribers, event);
+			return;
+		}
+
+		for (final Subscriber subscriber : eventSubscribers)
 		{
 			try
 			{
@@ -227,4 +304,37 @@ public class EventBus
 			}
 		}
 	}
+
+	private void postTimed(final Subscriber[] eventSubscribers, final Object event)
+	{
+		for (final Subscriber subscriber : eventSubscribers)
+		{
+			final long start = System.nanoTime();
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Exception e)
+			{
+				exceptionHandler.accept(e);
+			}
+			timings.record(subscriber.timingKey, EventBus::createStats, System.nanoTime() - start);
+		}
+	}
+
+	private static InvocationStats createStats(Object key)
+	{
+		final TimingKey timingKey = (TimingKey) key;
+		return new InvocationStats(timingKey.owner, timingKey.event);
+	}
+
+	/**
+	 * Get the per subscriber class, per event type, timings of this bus. Timing is disabled by default.
+	 *
+	 * @return timings
+	 */
+	public InvocationTimings getTimings()
+	{
+		return timings;
+	}
 }
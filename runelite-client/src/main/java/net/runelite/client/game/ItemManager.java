@@ -55,6 +55,7 @@ import net.runelite.api.SpritePixels;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.PostItemComposition;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.callback.InvokePriority;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.util.AsyncBufferedImage;
 import net.runelite.http.api.item.ItemClient;
@@ -395,7 +396,9 @@ public class ItemManager
 	}
 
 	/**
-	 * Loads item sprite from game, makes transparent, and generates image
+	 * Loads item sprite from game, makes transparent, and generates image.
+	 * Images requested off the client thread are loaded at low priority, so
+	 * that bulk loads are spread over several frames.
 	 *
 	 * @param itemId
 	 * @return
@@ -418,7 +421,7 @@ public class ItemManager
 			sprite.toBufferedImage(img);
 			img.loaded();
 			return true;
-		});
+		}, InvokePriority.LOW);
 		return img;
 	}
 
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.chatfilter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * Finds filtered words and patterns in a message in a single pass. Words are
+ * matched case insensitively with an Aho-Corasick automaton, and patterns are
+ * merged into a single alternation. Censoring stars every character covered by
+ * a match in one buffer.
+ */
+class ChatFilter
+{
+	private static final Pattern BACKREFERENCE = Pattern.compile("\\\\[1-9]|\\\\k<");
+
+	/**
+	 * Sorted transition characters for each state
+	 */
+	private final char[][] keys;
+	/**
+	 * Next state for each transition
+	 */
+	private final int[][] next;
+	/**
+	 * Longest proper suffix of each state which is also a state
+	 */
+	private final int[] fail;
+	/**
+	 * Length of the longest word ending at each state, or 0
+	 */
+	private final int[] matchLength;
+
+	private final List<Pattern> patterns;
+
+	/**
+	 * @param words words to filter, matched case insensitively
+	 * @param patterns patterns to filter
+	 */
+	ChatFilter(List<String> words, List<Pattern> patterns)
+	{
+		// build the trie
+		List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+		List<Integer> depths = new ArrayList<>();
+		List<Boolean> terminal = new ArrayList<>();
+		trie.add(new TreeMap<>());
+		depths.add(0);
+		terminal.add(false);
+
+		for (String word : words)
+		{
+			if (word.isEmpty())
+			{
+				continue;
+			}
+
+			int state = 0;
+			for (int i = 0; i < word.length(); ++i)
+			{
+				char c = fold(word.charAt(i));
+				Integer child = trie.get(state).get(c);
+				if (child == null)
+				{
+					child = trie.size();
+					trie.add(new TreeMap<>());
+					depths.add(i + 1);
+					terminal.add(false);
+					trie.get(state).put(c, child);
+				}
+				state = child;
+			}
+			terminal.set(state, true);
+		}
+
+		int states = trie.size();
+		keys = new char[states][];
+		next = new int[states][];
+		fail = new int[states];
+		matchLength = new int[states];
+
+		for (int state = 0; state < states; ++state)
+		{
+			Map<Character, Integer> children = trie.get(state);
+			keys[state] = new char[children.size()];
+			next[state] = new int[children.size()];
+			int i = 0;
+			for (Map.Entry<Character, Integer> entry : children.entrySet())
+			{
+				keys[state][i] = entry.getKey();
+				next[state][i] = entry.getValue();
+				++i;
+			}
+		}
+
+		// compute failure links breadth first, so that each state's failure
+		// state, which is shallower, is complete before it is used
+		int[] queue = new int[states];
+		int head = 0, tail = 0;
+		queue[tail++] = 0;
+		while (head < tail)
+		{
+			int state = queue[head++];
+			matchLength[state] = terminal.get(state) ? depths.get(state) : matchLength[fail[state]];
+
+			for (int i = 0; i < keys[state].length; ++i)
+			{
+				int child = next[state][i];
+				fail[child] = state == 0 ? 0 : step(fail[state], keys[state][i]);
+				queue[tail++] = child;
+			}
+		}
+
+		this.patterns = mergePatterns(patterns);
+	}
+
+	/**
+	 * Merge patterns into a single alternation. Patterns with backreferences are
+	 * kept separate, since merging renumbers their groups.
+	 */
+	private static List<Pattern> mergePatterns(List<Pattern> patterns)
+	{
+		List<Pattern> merged = new ArrayList<>();
+		List<Pattern> mergeable = new ArrayList<>();
+		for (Pattern pattern : patterns)
+		{
+			if (BACKREFERENCE.matcher(pattern.pattern()).find())
+			{
+				merged.add(pattern);
+			}
+			else
+			{
+				mergeable.add(pattern);
+			}
+		}
+
+		if (mergeable.size() == 1)
+		{
+			merged.add(mergeable.get(0));
+		}
+		else if (!mergeable.isEmpty())
+		{
+			String alternation = mergeable.stream()
+				.map(p -> "(?:" + p.pattern() + ")")
+				.collect(Collectors.joining("|"));
+			try
+			{
+				merged.add(Pattern.compile(alternation, Pattern.CASE_INSENSITIVE));
+			}
+			catch (PatternSyntaxException ex)
+			{
+				// a pattern which only compiles on its own, eg. one ending in a comment
+				merged.addAll(mergeable);
+			}
+		}
+
+		return merged;
+	}
+
+	private int step(int state, char c)
+	{
+		while (true)
+		{
+			int i = Arrays.binarySearch(keys[state], c);
+			if (i >= 0)
+			{
+				return next[state][i];
+			}
+			if (state == 0)
+			{
+				return 0;
+			}
+			state = fail[state];
+		}
+	}
+
+	/**
+	 * Test if any word or pattern is found in the message
+	 *
+	 * @param message message
+	 * @return true if there is a match
+	 */
+	boolean matches(String message)
+	{
+		int state = 0;
+		for (int i = 0; i < message.length(); ++i)
+		{
+			state = step(state, fold(message.charAt(i)));
+			if (matchLength[state] > 0)
+			{
+				return true;
+			}
+		}
+
+		for (Pattern pattern : patterns)
+		{
+			if (pattern.matcher(message).find())
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Replace every character of the message which is part of a matching word or
+	 * pattern with {@code *}
+	 *
+	 * @param message message
+	 * @return the censored message, or null if nothing matched
+	 */
+	String censor(String message)
+	{
+		char[] out = null;
+		boolean matched = false;
+
+		int state = 0;
+		for (int i = 0; i < message.length(); ++i)
+		{
+			state = step(state, fold(message.charAt(i)));
+			int length = matchLength[state];
+			if (length > 0)
+			{
+				if (out == null)
+				{
+					out = message.toCharArray();
+				}
+				// shorter words ending here are suffixes of this one
+				Arrays.fill(out, i - length + 1, i + 1, '*');
+			}
+		}
+
+		for (Pattern pattern : patterns)
+		{
+			Matcher m = pattern.matcher(message);
+			while (m.find())
+			{
+				matched = true;
+				if (m.end() > m.start())
+				{
+					if (out == null)
+					{
+						out = message.toCharArray();
+					}
+					Arrays.fill(out, m.start(), m.end(), '*');
+				}
+			}
+		}
+
+		if (out != null)
+		{
+			return new String(out);
+		}
+		return matched ? message : null;
+	}
+
+	/**
+	 * Fold case the same way as {@link Pattern#CASE_INSENSITIVE}, which only folds US-ASCII
+	 */
+	private static char fold(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+}
@@ -30,11 +30,13 @@ import com.google.common.base.CharMatcher;
 import com.google.common.base.Splitter;
 import com.google.inject.Provides;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
@@ -67,8 +69,8 @@ public class ChatFilterPlugin extends Plugin
 	static final String CENSOR_MESSAGE = "Hey, everyone, I just tried to say something very silly!";
 
 	private final CharMatcher jagexPrintableCharMatcher = Text.JAGEX_PRINTABLE_CHAR_MATCHER;
-	private final List<Pattern> filteredPatterns = new ArrayList<>();
 	private final List<Pattern> filteredNamePatterns = new ArrayList<>();
+	private ChatFilter chatFilter = new ChatFilter(Collections.emptyList(), Collections.emptyList());
 
 	@Inject
 	private Client client;
@@ -95,7 +97,7 @@ public class ChatFilterPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
-		filteredPatterns.clear();
+		chatFilter = new ChatFilter(Collections.emptyList(), Collections.emptyList());
 		client.refreshChat();
 	}
 
@@ -203,48 +205,29 @@ public class ChatFilterPlugin extends Plugin
 			}
 		}
 
-		boolean filtered = false;
-		for (Pattern pattern : filteredPatterns)
+		switch (config.filterType())
 		{
-			Matcher m = pattern.matcher(strippedMessage);
-
-			StringBuffer sb = new StringBuffer();
-
-			while (m.find())
-			{
-				switch (config.filterType())
-				{
-					case CENSOR_WORDS:
-						m.appendReplacement(sb, StringUtils.repeat('*', m.group(0).length()));
-						filtered = true;
-						break;
-					case CENSOR_MESSAGE:
-						return CENSOR_MESSAGE;
-					case REMOVE_MESSAGE:
-						return null;
-				}
-			}
-			m.appendTail(sb);
-
-			strippedMessage = sb.toString();
+			case CENSOR_WORDS:
+				String censoredMessage = chatFilter.censor(strippedMessage);
+				return censoredMessage != null ? censoredMessage : message;
+			case CENSOR_MESSAGE:
+				return chatFilter.matches(strippedMessage) ? CENSOR_MESSAGE : message;
+			case REMOVE_MESSAGE:
+				return chatFilter.matches(strippedMessage) ? null : message;
 		}
 
-		return filtered ? strippedMessage : message;
+		return message;
 	}
 
 	void updateFilteredPatterns()
 	{
-		filteredPatterns.clear();
 		filteredNamePatterns.clear();
 
-		Text.fromCSV(config.filteredWords()).stream()
-			.map(s -> Pattern.compile(Pattern.quote(s), Pattern.CASE_INSENSITIVE))
-			.forEach(filteredPatterns::add);
-
-		NEWLINE_SPLITTER.splitToList(config.filteredRegex()).stream()
+		List<Pattern> filteredPatterns = NEWLINE_SPLITTER.splitToList(config.filteredRegex()).stream()
 			.map(ChatFilterPlugin::compilePattern)
 			.filter(Objects::nonNull)
-			.forEach(filteredPatterns::add);
+			.collect(Collectors.toList());
+		chatFilter = new ChatFilter(Text.fromCSV(config.filteredWords()), filteredPatterns);
 
 		NEWLINE_SPLITTER.splitToList(config.filteredNames()).stream()
 			.map(ChatFilterPlugin::compilePattern)
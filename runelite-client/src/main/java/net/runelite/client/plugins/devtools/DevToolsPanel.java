@@ -47,6 +47,7 @@ class DevToolsPanel extends PluginPanel
 	private final WidgetInspector widgetInspector;
 	private final VarInspector varInspector;
 	private final ScriptInspector scriptInspector;
+	private final TimingInspector timingInspector;
 	private final InfoBoxManager infoBoxManager;
 
 	@Inject
@@ -56,6 +57,7 @@ class DevToolsPanel extends PluginPanel
 		WidgetInspector widgetInspector,
 		VarInspector varInspector,
 		ScriptInspector scriptInspector,
+		TimingInspector timingInspector,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager)
 	{
@@ -65,6 +67,7 @@ class DevToolsPanel extends PluginPanel
 		this.widgetInspector = widgetInspector;
 		this.varInspector = varInspector;
 		this.scriptInspector = scriptInspector;
+		this.timingInspector = timingInspector;
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
 
@@ -160,6 +163,19 @@ class DevToolsPanel extends PluginPanel
 			}
 		});
 
+		container.add(plugin.getTimingInspector());
+		plugin.getTimingInspector().addActionListener((ev) ->
+		{
+			if (plugin.getTimingInspector().isActive())
+			{
+				timingInspector.close();
+			}
+			else
+			{
+				timingInspector.open();
+			}
+		});
+
 		final JButton newInfoboxBtn = new JButton("Infobox");
 		newInfoboxBtn.addActionListener(e -> infoBoxManager.addInfoBox(new Counter(ImageUtil.getResourceStreamFromClass(getClass(), "devtools_icon.png"), plugin, 42)));
 		container.add(newInfoboxBtn);
@@ -140,6 +140,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton varInspector;
 	private DevToolsButton soundEffects;
 	private DevToolsButton scriptInspector;
+	private DevToolsButton timingInspector;
 	private NavigationButton navButton;
 
 	@Provides
@@ -182,6 +183,7 @@ public class DevToolsPlugin extends Plugin
 		varInspector = new DevToolsButton("Var Inspector");
 		soundEffects = new DevToolsButton("Sound Effects");
 		scriptInspector = new DevToolsButton("Script Inspector");
+		timingInspector = new DevToolsButton("Timing Inspector");
 
 		overlayManager.add(overlay);
 		overlayManager.add(locationOverlay);
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.inject.Inject;
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableRowSorter;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.callback.InvokePriority;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.ui.ClientUI;
+import net.runelite.client.util.InvocationStats;
+
+/**
+ * Shows how long event subscribers and client thread invokes take, to find which plugin is causing stutter,
+ * and how long invokes wait in the client thread's queue
+ */
+class TimingInspector extends JFrame
+{
+	private static final int REFRESH_INTERVAL = 1000;
+
+	private final EventBus eventBus;
+	private final ClientThread clientThread;
+
+	private final TimingTableModel model = new TimingTableModel();
+	private final Timer refreshTimer = new Timer(REFRESH_INTERVAL, e -> refresh());
+
+	@Inject
+	TimingInspector(EventBus eventBus, ClientThread clientThread, DevToolsPlugin plugin)
+	{
+		this.eventBus = eventBus;
+		this.clientThread = clientThread;
+
+		setTitle("RuneLite Timing Inspector");
+		setIconImage(ClientUI.ICON);
+
+		setLayout(new BorderLayout());
+
+		setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+		addWindowListener(new WindowAdapter()
+		{
+			@Override
+			public void windowClosing(WindowEvent e)
+			{
+				close();
+				plugin.getTimingInspector().setActive(false);
+			}
+		});
+
+		final JTable table = new JTable(model);
+		final TableRowSorter<TimingTableModel> sorter = new TableRowSorter<>(model);
+		sorter.setSortKeys(Collections.singletonList(new RowSorter.SortKey(TimingTableModel.COL_TOTAL, SortOrder.DESCENDING)));
+		table.setRowSorter(sorter);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(800, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		final JPanel options = new JPanel();
+		options.setLayout(new FlowLayout());
+
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.addActionListener(e ->
+		{
+			eventBus.getTimings().reset();
+			clientThread.getTimings().reset();
+			refresh();
+		});
+		options.add(resetBtn);
+
+		add(options, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	private void refresh()
+	{
+		final List<Row> rows = new ArrayList<>();
+		for (InvocationStats stats : eventBus.getTimings().getStats())
+		{
+			rows.add(new Row("Event", stats));
+		}
+		for (InvocationStats stats : clientThread.getTimings().getStats())
+		{
+			rows.add(new Row("Client thread", stats));
+		}
+		for (InvokePriority priority : InvokePriority.values())
+		{
+			rows.add(new Row("Queue (" + clientThread.getQueueSize(priority) + " waiting)", clientThread.getLag(priority)));
+		}
+		model.setRows(rows);
+	}
+
+	public void open()
+	{
+		eventBus.getTimings().setEnabled(true);
+		clientThread.getTimings().setEnabled(true);
+		refreshTimer.start();
+		setVisible(true);
+		toFront();
+		repaint();
+	}
+
+	public void close()
+	{
+		refreshTimer.stop();
+		eventBus.getTimings().setEnabled(false);
+		clientThread.getTimings().setEnabled(false);
+		setVisible(false);
+	}
+
+	/**
+	 * A copy of the stats at the time of the refresh, so the table doesn't change while it is sorted
+	 */
+	private static class Row
+	{
+		private final String source;
+		private final String owner;
+		private final String name;
+		private final long count;
+		private final long mean;
+		private final long p99;
+		private final long max;
+		private final long total;
+
+		private Row(String source, InvocationStats stats)
+		{
+			this.source = source;
+			this.owner = stats.getOwner();
+			this.name = stats.getName();
+			this.count = stats.getCount();
+			this.mean = stats.getMeanNanos() / 1000;
+			this.p99 = stats.getPercentileNanos(0.99) / 1000;
+			this.max = stats.getMaxNanos() / 1000;
+			this.total = stats.getTotalNanos() / 1_000_000;
+		}
+	}
+
+	private static class TimingTableModel extends AbstractTableModel
+	{
+		private static final String[] COLUMNS = {"Source", "Owner", "Name", "Count", "Mean (us)", "p99 (us)", "Max (us)", "Total (ms)"};
+		private static final int COL_TOTAL = 7;
+
+		private List<Row> rows = Collections.emptyList();
+
+		void setRows(List<Row> rows)
+		{
+			this.rows = rows;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			return col < 3 ? String.class : Long.class;
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return rows.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public Object getValueAt(int rowIndex, int columnIndex)
+		{
+			final Row row = rows.get(rowIndex);
+			switch (columnIndex)
+			{
+				case 0:
+					return row.source;
+				case 1:
+					return row.owner;
+				case 2:
+					return row.name;
+				case 3:
+					return row.count;
+				case 4:
+					return row.mean;
+				case 5:
+					return row.p99;
+				case 6:
+					return row.max;
+				case COL_TOTAL:
+					return row.total;
+				default:
+					return null;
+			}
+		}
+	}
+}
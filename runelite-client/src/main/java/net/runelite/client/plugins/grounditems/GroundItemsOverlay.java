@@ -40,6 +40,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import javax.inject.Inject;
+import net.runelite.api.CameraSnapshot;
 import net.runelite.api.Client;
 import net.runelite.api.Perspective;
 import net.runelite.api.Player;
@@ -177,6 +178,7 @@ public class GroundItemsOverlay extends Overlay
 
 		final boolean onlyShowLoot = config.onlyShowLoot();
 		final boolean groundItemTimers = config.groundItemTimers();
+		final CameraSnapshot camera = CameraSnapshot.of(client);
 
 		for (GroundItem item : groundItemList)
 		{
@@ -210,7 +212,7 @@ public class GroundItemsOverlay extends Overlay
 
 			if (config.highlightTiles())
 			{
-				final Polygon poly = Perspective.getCanvasTilePoly(client, groundPoint);
+				final Polygon poly = Perspective.getCanvasTilePoly(client, camera, groundPoint);
 
 				if (poly != null)
 				{
@@ -274,6 +276,7 @@ public class GroundItemsOverlay extends Overlay
 			itemStringBuilder.setLength(0);
 
 			final Point textPoint = Perspective.getCanvasTextLocation(client,
+				camera,
 				graphics,
 				groundPoint,
 				itemString,
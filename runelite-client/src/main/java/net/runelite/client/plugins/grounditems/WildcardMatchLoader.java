@@ -35,6 +35,7 @@ import net.runelite.client.util.WildcardMatcher;
 class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 {
 	private final List<ItemThreshold> itemThresholds;
+	private final WildcardMatcher matcher;
 
 	WildcardMatchLoader(List<String> configEntries)
 	{
@@ -42,6 +43,9 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 			.map(ItemThreshold::fromConfigEntry)
 			.filter(Objects::nonNull)
 			.collect(Collectors.toList());
+		this.matcher = WildcardMatcher.compile(itemThresholds.stream()
+			.map(ItemThreshold::getItemName)
+			.collect(Collectors.toList()));
 	}
 
 	@Override
@@ -53,16 +57,8 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 		}
 
 		final String filteredName = key.getName().trim();
+		final int quantity = key.getQuantity();
 
-		for (final ItemThreshold entry : itemThresholds)
-		{
-			if (WildcardMatcher.matches(entry.getItemName(), filteredName)
-				&& entry.quantityHolds(key.getQuantity()))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return matcher.matches(filteredName, i -> itemThresholds.get(i).quantityHolds(quantity));
 	}
 }
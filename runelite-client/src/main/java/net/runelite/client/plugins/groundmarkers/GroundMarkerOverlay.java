@@ -31,6 +31,7 @@ import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.util.Collection;
 import javax.inject.Inject;
+import net.runelite.api.CameraSnapshot;
 import net.runelite.api.Client;
 import net.runelite.api.Perspective;
 import net.runelite.api.coords.LocalPoint;
@@ -64,6 +65,7 @@ public class GroundMarkerOverlay extends Overlay
 	public Dimension render(Graphics2D graphics)
 	{
 		final Collection<ColorTileMarker> points = plugin.getPoints();
+		final CameraSnapshot camera = CameraSnapshot.of(client);
 		for (final ColorTileMarker point : points)
 		{
 			WorldPoint worldPoint = point.getWorldPoint();
@@ -79,13 +81,13 @@ public class GroundMarkerOverlay extends Overlay
 				tileColor = config.markerColor();
 			}
 
-			drawTile(graphics, worldPoint, tileColor);
+			drawTile(graphics, camera, worldPoint, tileColor);
 		}
 
 		return null;
 	}
 
-	private void drawTile(Graphics2D graphics, WorldPoint point, Color color)
+	private void drawTile(Graphics2D graphics, CameraSnapshot camera, WorldPoint point, Color color)
 	{
 		WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
 
@@ -100,7 +102,7 @@ public class GroundMarkerOverlay extends Overlay
 			return;
 		}
 
-		Polygon poly = Perspective.getCanvasTilePoly(client, lp);
+		Polygon poly = Perspective.getCanvasTilePoly(client, camera, lp);
 		if (poly == null)
 		{
 			return;
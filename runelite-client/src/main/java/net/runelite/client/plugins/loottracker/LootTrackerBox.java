@@ -75,7 +75,7 @@ class LootTrackerBox extends JPanel
 	private final LootTrackerPriceType priceType;
 	private final boolean showPriceType;
 
-	private int kills;
+	private long kills;
 	@Getter
 	private final List<LootTrackerItem> items = new ArrayList<>();
 
@@ -153,7 +153,7 @@ class LootTrackerBox extends JPanel
 	 *
 	 * @return total amount of kills
 	 */
-	private int getTotalKills()
+	private long getTotalKills()
 	{
 		return kills;
 	}
@@ -220,6 +220,21 @@ class LootTrackerBox extends JPanel
 		}
 	}
 
+	/**
+	 * Replaces the kills and items of this box with the running totals of a group.
+	 */
+	void setLoot(final LootTrackerGroup group)
+	{
+		if (!matches(group.getTitle(), group.getType()))
+		{
+			throw new IllegalArgumentException(group.getTitle());
+		}
+
+		kills = group.getKills();
+		items.clear();
+		items.addAll(group.getItems());
+	}
+
 	void rebuild()
 	{
 		buildItems();
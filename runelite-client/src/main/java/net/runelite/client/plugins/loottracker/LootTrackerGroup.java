@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * Running totals of the loot of every record of one event. Adding a record costs
+ * O(items in the record), and changing whether an item is ignored costs O(records
+ * which dropped it), so the panel never has to walk every record to show totals.
+ */
+class LootTrackerGroup
+{
+	@Getter
+	private final String title;
+	@Getter
+	private final String subTitle;
+	@Getter
+	private final LootRecordType type;
+
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.PACKAGE)
+	private boolean eventIgnored;
+
+	private final List<LootTrackerRecord> records = new ArrayList<>();
+	// per record, the number of its items which aren't ignored
+	private int[] recordVisible = new int[4];
+
+	@Getter
+	private long kills;
+	// kills of records with any items, and of records with any items which aren't ignored
+	private long lootedKills;
+	private long visibleKills;
+
+	private long ge;
+	private long ha;
+	private long visibleGe;
+	private long visibleHa;
+
+	// item slots, one per mapped item id
+	private int slotCount;
+	private int[] ids = new int[8];
+	private String[] names = new String[8];
+	private int[] quantities = new int[8];
+	private int[] gePrices = new int[8];
+	private int[] haPrices = new int[8];
+	private long[] slotGe = new long[8];
+	private long[] slotHa = new long[8];
+	private boolean[] ignored = new boolean[8];
+	// per slot, the index of each record containing it, once per occurrence
+	private int[][] slotRecords = new int[8][];
+	private int[] slotRecordCount = new int[8];
+
+	// open addressed item id -> slot + 1
+	private int[] table = new int[16];
+
+	private final Map<String, int[]> slotsByName = new HashMap<>();
+
+	LootTrackerGroup(String title, String subTitle, LootRecordType type, boolean eventIgnored)
+	{
+		this.title = title;
+		this.subTitle = subTitle;
+		this.type = type;
+		this.eventIgnored = eventIgnored;
+	}
+
+	boolean matches(final String id, final LootRecordType type)
+	{
+		if (id == null)
+		{
+			return true;
+		}
+
+		return title.equals(id) && this.type == type;
+	}
+
+	boolean isEmpty()
+	{
+		return records.isEmpty();
+	}
+
+	/**
+	 * Kills of the records which have loot, optionally only counting loot which isn't ignored
+	 */
+	long getKills(boolean hideIgnoredItems)
+	{
+		return hideIgnoredItems ? visibleKills : lootedKills;
+	}
+
+	long getGePrice(boolean hideIgnoredItems)
+	{
+		return hideIgnoredItems ? visibleGe : ge;
+	}
+
+	long getHaPrice(boolean hideIgnoredItems)
+	{
+		return hideIgnoredItems ? visibleHa : ha;
+	}
+
+	void add(LootTrackerRecord record)
+	{
+		final int index = records.size();
+		records.add(record);
+		if (index == recordVisible.length)
+		{
+			recordVisible = Arrays.copyOf(recordVisible, index * 2);
+		}
+
+		final LootTrackerItem[] items = record.getItems();
+		int visible = 0;
+		for (LootTrackerItem item : items)
+		{
+			final int slot = slot(item);
+			quantities[slot] += item.getQuantity();
+
+			final long itemGe = item.getTotalGePrice();
+			final long itemHa = item.getTotalHaPrice();
+			slotGe[slot] += itemGe;
+			slotHa[slot] += itemHa;
+			ge += itemGe;
+			ha += itemHa;
+
+			if (!ignored[slot])
+			{
+				visibleGe += itemGe;
+				visibleHa += itemHa;
+				++visible;
+			}
+
+			addSlotRecord(slot, index);
+		}
+
+		recordVisible[index] = visible;
+		kills += record.getKills();
+		if (items.length > 0)
+		{
+			lootedKills += record.getKills();
+		}
+		if (visible > 0)
+		{
+			visibleKills += record.getKills();
+		}
+	}
+
+	/**
+	 * Remove the records matching a predicate, recomputing the totals from those left
+	 *
+	 * @return true if any record was removed
+	 */
+	boolean remove(Predicate<LootTrackerRecord> predicate)
+	{
+		final List<LootTrackerRecord> remaining = new ArrayList<>(records.size());
+		for (LootTrackerRecord record : records)
+		{
+			if (!predicate.test(record))
+			{
+				remaining.add(record);
+			}
+		}
+
+		if (remaining.size() == records.size())
+		{
+			return false;
+		}
+
+		final Map<String, Boolean> ignoredNames = new HashMap<>();
+		for (int i = 0; i < slotCount; ++i)
+		{
+			ignoredNames.put(names[i], ignored[i]);
+		}
+
+		clear();
+		for (LootTrackerRecord record : remaining)
+		{
+			add(record);
+		}
+
+		// keep the ignored state of the items, which may have changed since the records were made
+		for (Map.Entry<String, Boolean> entry : ignoredNames.entrySet())
+		{
+			setIgnored(entry.getKey(), entry.getValue());
+		}
+		return true;
+	}
+
+	/**
+	 * Set whether the items with a name are ignored
+	 *
+	 * @return true if any item changed
+	 */
+	boolean setIgnored(String name, boolean ignore)
+	{
+		final int[] slots = slotsByName.get(name);
+		if (slots == null)
+		{
+			return false;
+		}
+
+		boolean changed = false;
+		for (int slot : slots)
+		{
+			if (ignored[slot] == ignore)
+			{
+				continue;
+			}
+
+			ignored[slot] = ignore;
+			changed = true;
+
+			final int sign = ignore ? -1 : 1;
+			visibleGe += sign * slotGe[slot];
+			visibleHa += sign * slotHa[slot];
+
+			final int[] indexes = slotRecords[slot];
+			for (int i = 0; i < slotRecordCount[slot]; ++i)
+			{
+				final int index = indexes[i];
+				final int before = recordVisible[index];
+				final int after = before + sign;
+				recordVisible[index] = after;
+
+				if (before == 0 || after == 0)
+				{
+					visibleKills += sign * records.get(index).getKills();
+				}
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Build the group's items, one per mapped item id
+	 */
+	List<LootTrackerItem> getItems()
+	{
+		final List<LootTrackerItem> items = new ArrayList<>(slotCount);
+		for (int i = 0; i < slotCount; ++i)
+		{
+			items.add(new LootTrackerItem(ids[i], names[i], quantities[i], gePrices[i], haPrices[i], ignored[i]));
+		}
+		return items;
+	}
+
+	private int slot(LootTrackerItem item)
+	{
+		final int id = LootTrackerMapping.map(item.getId(), item.getName());
+
+		final int mask = table.length - 1;
+		int i = mix(id) & mask;
+		for (int s; (s = table[i]) != 0; i = (i + 1) & mask)
+		{
+			if (ids[s - 1] == id)
+			{
+				return s - 1;
+			}
+		}
+
+		final int slot = slotCount++;
+		if (slot == ids.length)
+		{
+			grow();
+		}
+
+		ids[slot] = id;
+		names[slot] = item.getName();
+		gePrices[slot] = item.getGePrice();
+		haPrices[slot] = item.getHaPrice();
+		ignored[slot] = item.isIgnored();
+		slotRecords[slot] = new int[2];
+		table[i] = slot + 1;
+
+		final int[] named = slotsByName.get(item.getName());
+		if (named == null)
+		{
+			slotsByName.put(item.getName(), new int[]{slot});
+		}
+		else
+		{
+			final int[] grown = Arrays.copyOf(named, named.length + 1);
+			grown[named.length] = slot;
+			slotsByName.put(item.getName(), grown);
+		}
+
+		if (slotCount * 2 > table.length)
+		{
+			rehash(table.length * 2);
+		}
+		return slot;
+	}
+
+	private void addSlotRecord(int slot, int index)
+	{
+		final int count = slotRecordCount[slot];
+		if (count == slotRecords[slot].length)
+		{
+			slotRecords[slot] = Arrays.copyOf(slotRecords[slot], count * 2);
+		}
+		slotRecords[slot][count] = index;
+		slotRecordCount[slot] = count + 1;
+	}
+
+	private void grow()
+	{
+		final int size = ids.length * 2;
+		ids = Arrays.copyOf(ids, size);
+		names = Arrays.copyOf(names, size);
+		quantities = Arrays.copyOf(quantities, size);
+		gePrices = Arrays.copyOf(gePrices, size);
+		haPrices = Arrays.copyOf(haPrices, size);
+		slotGe = Arrays.copyOf(slotGe, size);
+		slotHa = Arrays.copyOf(slotHa, size);
+		ignored = Arrays.copyOf(ignored, size);
+		slotRecords = Arrays.copyOf(slotRecords, size);
+		slotRecordCount = Arrays.copyOf(slotRecordCount, size);
+	}
+
+	private void rehash(int size)
+	{
+		table = new int[size];
+		final int mask = size - 1;
+		for (int slot = 0; slot < slotCount; ++slot)
+		{
+			int i = mix(ids[slot]) & mask;
+			while (table[i] != 0)
+			{
+				i = (i + 1) & mask;
+			}
+			table[i] = slot + 1;
+		}
+	}
+
+	private void clear()
+	{
+		records.clear();
+		kills = lootedKills = visibleKills = 0;
+		ge = ha = visibleGe = visibleHa = 0;
+		Arrays.fill(quantities, 0, slotCount, 0);
+		Arrays.fill(slotGe, 0, slotCount, 0);
+		Arrays.fill(slotHa, 0, slotCount, 0);
+		Arrays.fill(slotRecordCount, 0, slotCount, 0);
+		Arrays.fill(names, 0, slotCount, null);
+		Arrays.fill(slotRecords, 0, slotCount, null);
+		Arrays.fill(table, 0);
+		slotsByName.clear();
+		slotCount = 0;
+	}
+
+	private static int mix(int id)
+	{
+		final int h = id * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -25,7 +25,6 @@
  */
 package net.runelite.client.plugins.loottracker;
 
-import static com.google.common.collect.Iterables.concat;
 import com.google.common.collect.Lists;
 import java.awt.BorderLayout;
 import java.awt.Color;
@@ -37,8 +36,13 @@ import java.awt.image.BufferedImage;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
@@ -114,11 +118,18 @@ class LootTrackerPanel extends PluginPanel
 	private final JRadioButton groupedLootBtn = new JRadioButton();
 	private final JButton collapseBtn = new JButton();
 
-	// Aggregate of all kills
-	private final List<LootTrackerRecord> aggregateRecords = new ArrayList<>();
+	// Running totals of all kills, by event
+	private final Map<String, LootTrackerGroup> groups = new LinkedHashMap<>();
 	// Individual records for the individual kills this session
 	private final List<LootTrackerRecord> sessionRecords = new ArrayList<>();
 	private final List<LootTrackerBox> boxes = new ArrayList<>();
+	// Boxes of the grouped view, by the group they show
+	private final Map<LootTrackerGroup, LootTrackerBox> groupBoxes = new HashMap<>();
+
+	// Totals of the groups shown in the current view
+	private long overallKills;
+	private long overallGe;
+	private long overallHa;
 
 	private final ItemManager itemManager;
 	private final LootTrackerPlugin plugin;
@@ -292,8 +303,9 @@ class LootTrackerPanel extends PluginPanel
 
 			// If not in detailed view, remove all, otherwise only remove for the currently detailed title
 			sessionRecords.removeIf(r -> r.matches(currentView, currentType));
-			aggregateRecords.removeIf(r -> r.matches(currentView, currentType));
+			groups.values().removeIf(g -> g.matches(currentView, currentType));
 			boxes.removeIf(b -> b.matches(currentView, currentType));
+			groupBoxes.values().removeIf(b -> b.matches(currentView, currentType));
 			updateOverall();
 			logsContainer.removeAll();
 			logsContainer.repaint();
@@ -357,27 +369,43 @@ class LootTrackerPanel extends PluginPanel
 		}
 		final LootTrackerRecord record = new LootTrackerRecord(eventName, subTitle, type, items, 1);
 		sessionRecords.add(record);
+		final LootTrackerGroup group = addRecord(record);
 
-		if (hideIgnoredItems && plugin.isEventIgnored(eventName))
+		if (groupLoot)
 		{
-			return;
+			updateBox(group);
 		}
-
-		LootTrackerBox box = buildBox(record);
-		if (box != null)
+		else
 		{
-			box.rebuild();
-			updateOverall();
+			final LootTrackerBox box = buildBox(record);
+			if (box != null)
+			{
+				box.rebuild();
+			}
 		}
+
+		updateOverallLabels();
 	}
 
 	/**
-	 * Adds a Collection of records to the panel
+	 * Adds a Collection of records to the panel, updating only the groups they belong to
 	 */
 	void addRecords(Collection<LootTrackerRecord> recs)
 	{
-		aggregateRecords.addAll(recs);
-		rebuild();
+		final Set<LootTrackerGroup> changed = new LinkedHashSet<>();
+		for (LootTrackerRecord record : recs)
+		{
+			changed.add(addRecord(record));
+		}
+
+		if (groupLoot)
+		{
+			changed.forEach(this::updateBox);
+			logsContainer.revalidate();
+			logsContainer.repaint();
+		}
+
+		updateOverallLabels();
 	}
 
 	/**
@@ -427,34 +455,81 @@ class LootTrackerPanel extends PluginPanel
 	}
 
 	/**
-	 * After an item changed it's ignored state, iterate all the records and make
-	 * sure all items of the same name also get updated
+	 * After items changed their ignored state, update the items of the same name in the
+	 * session's records and in each group, and the boxes of the groups which changed
 	 */
-	void updateIgnoredRecords()
+	void updateIgnoredItems(Set<String> names)
 	{
-		for (LootTrackerRecord record : concat(aggregateRecords, sessionRecords))
+		for (LootTrackerRecord record : sessionRecords)
 		{
 			for (LootTrackerItem item : record.getItems())
 			{
-				item.setIgnored(plugin.isIgnored(item.getName()));
+				if (names.contains(item.getName()))
+				{
+					item.setIgnored(plugin.isIgnored(item.getName()));
+				}
 			}
 		}
 
+		for (LootTrackerGroup group : groups.values())
+		{
+			addOverall(group, -1);
+			boolean changed = false;
+			for (String name : names)
+			{
+				changed |= group.setIgnored(name, plugin.isIgnored(name));
+			}
+			addOverall(group, 1);
+
+			if (changed && groupLoot)
+			{
+				updateBox(group);
+			}
+		}
+
+		if (groupLoot)
+		{
+			updateOverallLabels();
+		}
+		else
+		{
+			rebuild();
+		}
+	}
+
+	/**
+	 * After events changed their ignored state, or the display settings changed, rebuild the boxes
+	 */
+	void updateIgnoredRecords()
+	{
+		for (LootTrackerGroup group : groups.values())
+		{
+			group.setEventIgnored(plugin.isEventIgnored(group.getTitle()));
+		}
+
 		rebuild();
 	}
 
 	/**
-	 * Rebuilds all the boxes from scratch using existing listed records, depending on the grouping mode.
+	 * Rebuilds all the boxes from scratch, from the groups' totals or the session's records
+	 * depending on the grouping mode.
 	 */
 	private void rebuild()
 	{
 		SwingUtil.fastRemoveAll(logsContainer);
 		boxes.clear();
+		groupBoxes.clear();
 
 		if (groupLoot)
 		{
-			aggregateRecords.forEach(this::buildBox);
-			sessionRecords.forEach(this::buildBox);
+			for (LootTrackerGroup group : groups.values())
+			{
+				final LootTrackerBox box = buildBox(group);
+				if (box != null)
+				{
+					box.setLoot(group);
+				}
+			}
 		}
 		else
 		{
@@ -477,9 +552,80 @@ class LootTrackerPanel extends PluginPanel
 	}
 
 	/**
-	 * This method decides what to do with a new record, if a similar log exists, it will
-	 * add its items to it, updating the log's overall price and kills. If not, a new log will be created
-	 * to hold this entry's information.
+	 * Adds a record to the running totals of its group, creating the group if needed.
+	 */
+	private LootTrackerGroup addRecord(LootTrackerRecord record)
+	{
+		final String key = groupKey(record.getTitle(), record.getType());
+		LootTrackerGroup group = groups.get(key);
+		if (group == null)
+		{
+			group = new LootTrackerGroup(record.getTitle(), record.getSubTitle(), record.getType(),
+				plugin.isEventIgnored(record.getTitle()));
+			groups.put(key, group);
+		}
+
+		addOverall(group, -1);
+		group.add(record);
+		addOverall(group, 1);
+		return group;
+	}
+
+	private static String groupKey(String title, LootRecordType type)
+	{
+		return type + "/" + title;
+	}
+
+	/**
+	 * Updates the box of a group after the group changed, creating it if the group is new.
+	 */
+	private void updateBox(LootTrackerGroup group)
+	{
+		LootTrackerBox box = groupBoxes.get(group);
+		if (box == null)
+		{
+			box = buildBox(group);
+			if (box == null)
+			{
+				return;
+			}
+		}
+
+		box.setLoot(group);
+		box.rebuild();
+	}
+
+	/**
+	 * Creates the box for a group in the grouped view, if it is part of the current view.
+	 */
+	private LootTrackerBox buildBox(LootTrackerGroup group)
+	{
+		if (!group.matches(currentView, currentType) || (hideIgnoredItems && group.isEventIgnored()))
+		{
+			return null;
+		}
+
+		final LootTrackerBox box = createBox(group.getTitle(), group.getType(), group.getSubTitle(), group.isEventIgnored(), b ->
+		{
+			// With grouped loot, remove any record with this title
+			addOverall(group, -1);
+			groups.values().remove(group);
+			sessionRecords.removeIf(r -> r.matches(group.getTitle(), group.getType()));
+			groupBoxes.remove(group);
+
+			LootTrackerClient client = plugin.getLootTrackerClient();
+			if (client != null && config.syncPanel())
+			{
+				client.delete(b.getId());
+			}
+		});
+
+		groupBoxes.put(group, box);
+		return box;
+	}
+
+	/**
+	 * Creates the box for one of the session's records in the ungrouped view, if it is part of the current view.
 	 */
 	private LootTrackerBox buildBox(LootTrackerRecord record)
 	{
@@ -495,28 +641,51 @@ class LootTrackerPanel extends PluginPanel
 			return null;
 		}
 
-		// Group all similar loot together
-		if (groupLoot)
+		final LootTrackerBox box = createBox(record.getTitle(), record.getType(), record.getSubTitle(), isIgnored, b ->
 		{
-			for (LootTrackerBox box : boxes)
+			// Remove specifically this entry. Without loot being grouped we have no way to
+			// identify single kills to be deleted from the server.
+			sessionRecords.removeIf(r -> r.equals(record));
+
+			final String key = groupKey(record.getTitle(), record.getType());
+			final LootTrackerGroup group = groups.get(key);
+			if (group != null)
 			{
-				if (box.matches(record))
+				addOverall(group, -1);
+				group.remove(r -> r.equals(record));
+				if (group.isEmpty())
 				{
-					box.addKill(record);
-					return box;
+					groups.remove(key);
+				}
+				else
+				{
+					addOverall(group, 1);
 				}
 			}
+		});
+		box.addKill(record);
+
+		if (boxes.size() > MAX_LOOT_BOXES)
+		{
+			logsContainer.remove(boxes.remove(0));
 		}
 
+		return box;
+	}
+
+	/**
+	 * Creates a box, with menus to reset and view the details of its loot, and adds it to the panel.
+	 */
+	private LootTrackerBox createBox(String title, LootRecordType type, String subTitle, boolean isIgnored, Consumer<LootTrackerBox> onReset)
+	{
 		// Show main view
 		remove(errorPanel);
 		actionsContainer.setVisible(true);
 		overallPanel.setVisible(true);
 
 		// Create box
-		final LootTrackerBox box = new LootTrackerBox(itemManager, record.getTitle(), record.getType(), record.getSubTitle(),
+		final LootTrackerBox box = new LootTrackerBox(itemManager, title, type, subTitle,
 			hideIgnoredItems, config.priceType(), config.showPriceType(), plugin::toggleItem, plugin::toggleEvent, isIgnored);
-		box.addKill(record);
 
 		// Use the existing popup menu or create a new one
 		JPopupMenu popupMenu = box.getComponentPopupMenu();
@@ -552,24 +721,11 @@ class LootTrackerPanel extends PluginPanel
 		final JMenuItem reset = new JMenuItem("Reset");
 		reset.addActionListener(e ->
 		{
-			Predicate<LootTrackerRecord> match = groupLoot
-				// With grouped loot, remove any record with this title
-				? r -> r.matches(record.getTitle(), record.getType())
-				// Otherwise remove specifically this entry
-				: r -> r.equals(record);
-			sessionRecords.removeIf(match);
-			aggregateRecords.removeIf(match);
+			onReset.accept(box);
 			boxes.remove(box);
-			updateOverall();
+			updateOverallLabels();
 			logsContainer.remove(box);
 			logsContainer.repaint();
-
-			LootTrackerClient client = plugin.getLootTrackerClient();
-			// Without loot being grouped we have no way to identify single kills to be deleted
-			if (client != null && groupLoot && config.syncPanel())
-			{
-				client.delete(box.getId());
-			}
 		});
 
 		popupMenu.add(reset);
@@ -578,8 +734,8 @@ class LootTrackerPanel extends PluginPanel
 		final JMenuItem details = new JMenuItem("View details");
 		details.addActionListener(e ->
 		{
-			currentView = record.getTitle();
-			currentType = record.getType();
+			currentView = title;
+			currentType = type;
 			detailsTitle.setText(currentView);
 			backBtn.setVisible(true);
 			rebuild();
@@ -591,52 +747,44 @@ class LootTrackerPanel extends PluginPanel
 		boxes.add(box);
 		logsContainer.add(box, 0);
 
-		if (!groupLoot && boxes.size() > MAX_LOOT_BOXES)
+		return box;
+	}
+
+	/**
+	 * Adds or, with a negative sign, removes a group's totals from the overall totals,
+	 * if the group is shown in the current view.
+	 */
+	private void addOverall(LootTrackerGroup group, int sign)
+	{
+		if (!group.matches(currentView, currentType) || (hideIgnoredItems && group.isEventIgnored()))
 		{
-			logsContainer.remove(boxes.remove(0));
+			return;
 		}
 
-		return box;
+		overallKills += sign * group.getKills(hideIgnoredItems);
+		overallGe += sign * group.getGePrice(hideIgnoredItems);
+		overallHa += sign * group.getHaPrice(hideIgnoredItems);
 	}
 
+	/**
+	 * Recomputes the overall totals from the groups, after the current view changed
+	 */
 	private void updateOverall()
 	{
-		long overallKills = 0;
-		long overallGe = 0;
-		long overallHa = 0;
+		overallKills = 0;
+		overallGe = 0;
+		overallHa = 0;
 
-		for (LootTrackerRecord record : concat(aggregateRecords, sessionRecords))
+		for (LootTrackerGroup group : groups.values())
 		{
-			if (!record.matches(currentView, currentType))
-			{
-				continue;
-			}
-
-			if (hideIgnoredItems && plugin.isEventIgnored(record.getTitle()))
-			{
-				continue;
-			}
-
-			int present = record.getItems().length;
-
-			for (LootTrackerItem item : record.getItems())
-			{
-				if (hideIgnoredItems && item.isIgnored())
-				{
-					present--;
-					continue;
-				}
-
-				overallGe += item.getTotalGePrice();
-				overallHa += item.getTotalHaPrice();
-			}
-
-			if (present > 0)
-			{
-				overallKills += record.getKills();
-			}
+			addOverall(group, 1);
 		}
 
+		updateOverallLabels();
+	}
+
+	private void updateOverallLabels()
+	{
 		String priceType = "";
 		if (config.showPriceType())
 		{
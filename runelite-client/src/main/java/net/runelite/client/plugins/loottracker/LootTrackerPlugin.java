@@ -33,6 +33,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Multisets;
+import com.google.common.collect.Sets;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
@@ -42,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -276,9 +278,20 @@ public class LootTrackerPlugin extends Plugin
 	{
 		if (event.getGroup().equals("loottracker"))
 		{
+			final List<String> previousItems = ignoredItems;
 			ignoredItems = Text.fromCSV(config.getIgnoredItems());
 			ignoredEvents = Text.fromCSV(config.getIgnoredEvents());
-			SwingUtilities.invokeLater(panel::updateIgnoredRecords);
+
+			if ("ignoredItems".equals(event.getKey()))
+			{
+				// only the items which changed need updating
+				final Set<String> changed = new HashSet<>(Sets.symmetricDifference(new HashSet<>(previousItems), new HashSet<>(ignoredItems)));
+				SwingUtilities.invokeLater(() -> panel.updateIgnoredItems(changed));
+			}
+			else
+			{
+				SwingUtilities.invokeLater(panel::updateIgnoredRecords);
+			}
 		}
 	}
 
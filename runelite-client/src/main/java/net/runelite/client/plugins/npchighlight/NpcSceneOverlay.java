@@ -36,6 +36,7 @@ import java.text.NumberFormat;
 import java.time.Instant;
 import java.util.Locale;
 import javax.inject.Inject;
+import net.runelite.api.CameraSnapshot;
 import net.runelite.api.Client;
 import net.runelite.api.Constants;
 import net.runelite.api.NPC;
@@ -80,20 +81,22 @@ public class NpcSceneOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		final CameraSnapshot camera = CameraSnapshot.of(client);
+
 		if (config.showRespawnTimer())
 		{
-			plugin.getDeadNpcsToDisplay().forEach((id, npc) -> renderNpcRespawn(npc, graphics));
+			plugin.getDeadNpcsToDisplay().forEach((id, npc) -> renderNpcRespawn(npc, graphics, camera));
 		}
 
 		for (NPC npc : plugin.getHighlightedNpcs())
 		{
-			renderNpcOverlay(graphics, npc, config.getHighlightColor());
+			renderNpcOverlay(graphics, camera, npc, config.getHighlightColor());
 		}
 
 		return null;
 	}
 
-	private void renderNpcRespawn(final MemorizedNpc npc, final Graphics2D graphics)
+	private void renderNpcRespawn(final MemorizedNpc npc, final Graphics2D graphics, final CameraSnapshot camera)
 	{
 		if (npc.getPossibleRespawnLocations().isEmpty())
 		{
@@ -114,7 +117,7 @@ public class NpcSceneOverlay extends Overlay
 			lp.getX() + Perspective.LOCAL_TILE_SIZE * (npc.getNpcSize() - 1) / 2,
 			lp.getY() + Perspective.LOCAL_TILE_SIZE * (npc.getNpcSize() - 1) / 2);
 
-		final Polygon poly = Perspective.getCanvasTileAreaPoly(client, centerLp, npc.getNpcSize());
+		final Polygon poly = Perspective.getCanvasTileAreaPoly(client, camera, centerLp, npc.getNpcSize());
 
 		if (poly != null)
 		{
@@ -131,7 +134,7 @@ public class NpcSceneOverlay extends Overlay
 		final int textHeight = graphics.getFontMetrics().getAscent();
 
 		final Point canvasPoint = Perspective
-			.localToCanvas(client, centerLp, respawnLocation.getPlane());
+			.localToCanvas(client, camera, centerLp, respawnLocation.getPlane(), 0);
 
 		if (canvasPoint != null)
 		{
@@ -143,7 +146,7 @@ public class NpcSceneOverlay extends Overlay
 		}
 	}
 
-	private void renderNpcOverlay(Graphics2D graphics, NPC actor, Color color)
+	private void renderNpcOverlay(Graphics2D graphics, CameraSnapshot camera, NPC actor, Color color)
 	{
 		NPCComposition npcComposition = actor.getTransformedComposition();
 		if (npcComposition == null || !npcComposition.isInteractible())
@@ -161,7 +164,7 @@ public class NpcSceneOverlay extends Overlay
 				int x = localPoint.getX() - ((size - 1) * Perspective.LOCAL_TILE_SIZE / 2);
 				int y = localPoint.getY() - ((size - 1) * Perspective.LOCAL_TILE_SIZE / 2);
 
-				Polygon tilePoly = Perspective.getCanvasTilePoly(client, new LocalPoint(x, y));
+				Polygon tilePoly = Perspective.getCanvasTilePoly(client, camera, new LocalPoint(x, y));
 
 				renderPoly(graphics, color, tilePoly);
 				break;
@@ -169,7 +172,7 @@ public class NpcSceneOverlay extends Overlay
 			case TILE:
 				int size = npcComposition.getSize();
 				LocalPoint lp = actor.getLocalLocation();
-				Polygon tilePoly = Perspective.getCanvasTileAreaPoly(client, lp, size);
+				Polygon tilePoly = Perspective.getCanvasTileAreaPoly(client, camera, lp, size);
 
 				renderPoly(graphics, color, tilePoly);
 				break;
@@ -30,6 +30,7 @@ import java.awt.Color;
 import java.awt.event.KeyEvent;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -68,8 +69,11 @@ import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.party.data.PartyData;
 import net.runelite.client.plugins.party.data.PartyTilePingData;
 import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.LocationUpdateCodec;
 import net.runelite.client.plugins.party.messages.SkillUpdate;
+import net.runelite.client.plugins.party.messages.SkillUpdateCodec;
 import net.runelite.client.plugins.party.messages.TilePing;
+import net.runelite.client.plugins.party.messages.TilePingCodec;
 import net.runelite.client.task.Schedule;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.worldmap.WorldMapPoint;
@@ -78,6 +82,7 @@ import net.runelite.client.util.ColorUtil;
 import net.runelite.client.ws.PartyMember;
 import net.runelite.client.ws.PartyService;
 import net.runelite.client.ws.WSClient;
+import net.runelite.http.api.ws.WebsocketMessage;
 import net.runelite.http.api.ws.messages.party.UserJoin;
 import net.runelite.http.api.ws.messages.party.UserPart;
 import net.runelite.http.api.ws.messages.party.UserSync;
@@ -149,9 +154,9 @@ public class PartyPlugin extends Plugin implements KeyListener
 	{
 		overlayManager.add(partyStatsOverlay);
 		overlayManager.add(partyPingOverlay);
-		wsClient.registerMessage(SkillUpdate.class);
-		wsClient.registerMessage(TilePing.class);
-		wsClient.registerMessage(LocationUpdate.class);
+		wsClient.registerMessage(SkillUpdate.class, SkillUpdateCodec.ID, new SkillUpdateCodec());
+		wsClient.registerMessage(TilePing.class, TilePingCodec.ID, new TilePingCodec());
+		wsClient.registerMessage(LocationUpdate.class, LocationUpdateCodec.ID, new LocationUpdateCodec());
 		keyManager.registerKeyListener(this);
 		doSync = true; // Delay sync so eventbus can process correctly.
 	}
@@ -300,12 +305,15 @@ public class PartyPlugin extends Plugin implements KeyListener
 			sendInstructionMessage();
 		}
 
+		// Sent together, in one frame when using the binary protocol
+		final List<WebsocketMessage> messages = new ArrayList<>(3);
+
 		if (doSync && !party.getMembers().isEmpty())
 		{
 			// Request sync
 			final UserSync userSync = new UserSync();
 			userSync.setMemberId(party.getLocalMember().getMemberId());
-			ws.send(userSync);
+			messages.add(userSync);
 		}
 
 		doSync = false;
@@ -322,17 +330,22 @@ public class PartyPlugin extends Plugin implements KeyListener
 			{
 				final SkillUpdate update = new SkillUpdate(Skill.HITPOINTS, currentHealth, realHealth);
 				update.setMemberId(localMember.getMemberId());
-				ws.send(update);
+				messages.add(update);
 			}
 
 			if (currentPrayer != lastPray)
 			{
 				final SkillUpdate update = new SkillUpdate(Skill.PRAYER, currentPrayer, realPrayer);
 				update.setMemberId(localMember.getMemberId());
-				ws.send(update);
+				messages.add(update);
 			}
 		}
 
+		if (!messages.isEmpty())
+		{
+			ws.send(messages);
+		}
+
 		lastHp = currentHealth;
 		lastPray = currentPrayer;
 	}
@@ -414,11 +427,11 @@ public class PartyPlugin extends Plugin implements KeyListener
 		{
 			final SkillUpdate hpUpdate = new SkillUpdate(Skill.HITPOINTS, currentHealth, realHealth);
 			hpUpdate.setMemberId(localMember.getMemberId());
-			ws.send(hpUpdate);
 
 			final SkillUpdate prayUpdate = new SkillUpdate(Skill.PRAYER, currentPrayer, realPrayer);
 			prayUpdate.setMemberId(localMember.getMemberId());
-			ws.send(prayUpdate);
+
+			ws.send(Arrays.asList(hpUpdate, prayUpdate));
 		}
 	}
 
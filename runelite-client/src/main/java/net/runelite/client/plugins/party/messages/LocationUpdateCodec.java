@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.party.messages;
+
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.http.api.ws.binary.BinaryProtocol;
+import net.runelite.http.api.ws.binary.DeltaPositionCodec;
+
+public class LocationUpdateCodec extends DeltaPositionCodec<LocationUpdate>
+{
+	public static final int ID = BinaryProtocol.FIRST_USER_ID;
+
+	@Override
+	protected int getX(LocationUpdate message)
+	{
+		return message.getWorldPoint().getX();
+	}
+
+	@Override
+	protected int getY(LocationUpdate message)
+	{
+		return message.getWorldPoint().getY();
+	}
+
+	@Override
+	protected int getPlane(LocationUpdate message)
+	{
+		return message.getWorldPoint().getPlane();
+	}
+
+	@Override
+	protected LocationUpdate create(int x, int y, int plane)
+	{
+		return new LocationUpdate(new WorldPoint(x, y, plane));
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.party.messages;
+
+import java.util.UUID;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.http.api.ws.binary.BinaryProtocol;
+import net.runelite.http.api.ws.binary.BinaryReader;
+import net.runelite.http.api.ws.binary.BinaryWriter;
+import net.runelite.http.api.ws.binary.MessageCodec;
+
+public class TilePingCodec implements MessageCodec<TilePing>
+{
+	public static final int ID = BinaryProtocol.FIRST_USER_ID + 2;
+
+	@Override
+	public void encode(TilePing message, BinaryWriter out)
+	{
+		final WorldPoint point = message.getPoint();
+		out.writeUUID(message.getMemberId());
+		out.writeVarInt(point.getX());
+		out.writeVarInt(point.getY());
+		out.writeVarInt(point.getPlane());
+	}
+
+	@Override
+	public TilePing decode(BinaryReader in)
+	{
+		final UUID memberId = in.readUUID();
+		final TilePing message = new TilePing(new WorldPoint(in.readVarInt(), in.readVarInt(), in.readVarInt()));
+		message.setMemberId(memberId);
+		return message;
+	}
+}
@@ -29,6 +29,7 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import javax.inject.Inject;
+import net.runelite.api.CameraSnapshot;
 import net.runelite.api.Client;
 import net.runelite.api.Perspective;
 import net.runelite.api.coords.LocalPoint;
@@ -57,18 +58,20 @@ public class TileIndicatorsOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		final CameraSnapshot camera = CameraSnapshot.of(client);
+
 		if (config.highlightHoveredTile())
 		{
 			// If we have tile "selected" render it
 			if (client.getSelectedSceneTile() != null)
 			{
-				renderTile(graphics, client.getSelectedSceneTile().getLocalLocation(), config.highlightHoveredColor());
+				renderTile(graphics, camera, client.getSelectedSceneTile().getLocalLocation(), config.highlightHoveredColor());
 			}
 		}
 
 		if (config.highlightDestinationTile())
 		{
-			renderTile(graphics, client.getLocalDestinationLocation(), config.highlightDestinationColor());
+			renderTile(graphics, camera, client.getLocalDestinationLocation(), config.highlightDestinationColor());
 		}
 
 		if (config.highlightCurrentTile())
@@ -85,20 +88,20 @@ public class TileIndicatorsOverlay extends Overlay
 				return null;
 			}
 
-			renderTile(graphics, playerPosLocal, config.highlightCurrentColor());
+			renderTile(graphics, camera, playerPosLocal, config.highlightCurrentColor());
 		}
 
 		return null;
 	}
 
-	private void renderTile(final Graphics2D graphics, final LocalPoint dest, final Color color)
+	private void renderTile(final Graphics2D graphics, final CameraSnapshot camera, final LocalPoint dest, final Color color)
 	{
 		if (dest == null)
 		{
 			return;
 		}
 
-		final Polygon poly = Perspective.getCanvasTilePoly(client, dest);
+		final Polygon poly = Perspective.getCanvasTilePoly(client, camera, dest);
 
 		if (poly == null)
 		{
@@ -60,6 +60,12 @@ public class DeferredEventBus extends EventBus
 		pendingEvents.add(object);
 	}
 
+	@Override
+	public InvocationTimings getTimings()
+	{
+		return eventBus.getTimings();
+	}
+
 	public void replay()
 	{
 		int size = pendingEvents.size();
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+
+/**
+ * Invocation count and latency histogram for a single callback. Latencies are
+ * bucketed by powers of two microseconds, so percentiles are upper bounds
+ * accurate to within a factor of two.
+ */
+@ThreadSafe
+public class InvocationStats
+{
+	/**
+	 * Bucket i holds latencies below 2^i microseconds, the last bucket holds everything above
+	 */
+	public static final int BUCKETS = 24;
+
+	@Getter
+	private final String owner;
+	@Getter
+	private final String name;
+
+	private final long[] buckets = new long[BUCKETS];
+	private long count;
+	private long totalNanos;
+	private long maxNanos;
+
+	public InvocationStats(String owner, String name)
+	{
+		this.owner = owner;
+		this.name = name;
+	}
+
+	public synchronized void record(long nanos)
+	{
+		long micros = nanos / 1000;
+		int bucket = micros == 0 ? 0 : 64 - Long.numberOfLeadingZeros(micros);
+		++buckets[Math.min(bucket, BUCKETS - 1)];
+		++count;
+		totalNanos += nanos;
+		if (nanos > maxNanos)
+		{
+			maxNanos = nanos;
+		}
+	}
+
+	public synchronized long getCount()
+	{
+		return count;
+	}
+
+	public synchronized long getTotalNanos()
+	{
+		return totalNanos;
+	}
+
+	public synchronized long getMaxNanos()
+	{
+		return maxNanos;
+	}
+
+	public synchronized long getMeanNanos()
+	{
+		return count == 0 ? 0 : totalNanos / count;
+	}
+
+	/**
+	 * Get the upper bound of the latency below which the given fraction of invocations fell
+	 *
+	 * @param fraction percentile, from 0 to 1
+	 * @return latency in nanoseconds
+	 */
+	public synchronized long getPercentileNanos(double fraction)
+	{
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		long target = (long) Math.ceil(count * fraction);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS - 1; ++i)
+		{
+			seen += buckets[i];
+			if (seen >= target)
+			{
+				return Math.min(TimeUnit.MICROSECONDS.toNanos(1L << i), maxNanos);
+			}
+		}
+		return maxNanos;
+	}
+
+	public synchronized long[] getBuckets()
+	{
+		return buckets.clone();
+	}
+
+	@Override
+	public synchronized String toString()
+	{
+		return owner + " " + name + ": count=" + count + " mean=" + getMeanNanos() / 1000 + "us max=" + maxNanos / 1000 + "us";
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Opt-in per-callback timing. Callers check {@link #isEnabled()} once before
+ * dispatching, and only when it is set time each callback and {@link #record}
+ * it, so that timing costs a single volatile read while disabled.
+ */
+@ThreadSafe
+public class InvocationTimings
+{
+	private final Map<Object, InvocationStats> stats = new ConcurrentHashMap<>();
+	private volatile boolean enabled;
+
+	public boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled)
+	{
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Record an invocation
+	 *
+	 * @param key identifies the callback
+	 * @param factory creates the stats for a key the first time it is seen,
+	 *                should not capture anything so that recording does not allocate
+	 * @param nanos time taken
+	 */
+	public void record(Object key, Function<Object, InvocationStats> factory, long nanos)
+	{
+		InvocationStats s = stats.get(key);
+		if (s == null)
+		{
+			s = stats.computeIfAbsent(key, factory);
+		}
+		s.record(nanos);
+	}
+
+	/**
+	 * Get the recorded stats. The stats keep updating while timing is enabled.
+	 */
+	public List<InvocationStats> getStats()
+	{
+		return new ArrayList<>(stats.values());
+	}
+
+	public void reset()
+	{
+		stats.clear();
+	}
+}
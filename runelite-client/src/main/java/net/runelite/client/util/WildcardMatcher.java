@@ -24,34 +24,266 @@
  */
 package net.runelite.client.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
 
+/**
+ * Case insensitive matching of text against patterns where {@code *} matches any
+ * sequence of characters.
+ * <p>
+ * A list of patterns can be compiled into a single matcher, which indexes the
+ * patterns by their leading literal text in a trie, and the patterns which start
+ * with a wildcard by their trailing literal text in a second trie. Matching text
+ * only checks the patterns whose leading or trailing text it starts or ends with,
+ * and does not allocate.
+ */
 public class WildcardMatcher
 {
-	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
+	private static final char WILDCARD = '*';
+
+	private static class Node
+	{
+		private char[] keys = new char[0];
+		private Node[] children = new Node[0];
+		/**
+		 * Patterns whose leading, or trailing, literal text ends at this node
+		 */
+		private int[] patterns = new int[0];
+
+		private Node child(char c)
+		{
+			int i = Arrays.binarySearch(keys, c);
+			return i >= 0 ? children[i] : null;
+		}
+
+		private Node addChild(char c)
+		{
+			int i = Arrays.binarySearch(keys, c);
+			if (i >= 0)
+			{
+				return children[i];
+			}
+
+			i = -i - 1;
+			char[] newKeys = new char[keys.length + 1];
+			Node[] newChildren = new Node[children.length + 1];
+			System.arraycopy(keys, 0, newKeys, 0, i);
+			System.arraycopy(children, 0, newChildren, 0, i);
+			System.arraycopy(keys, i, newKeys, i + 1, keys.length - i);
+			System.arraycopy(children, i, newChildren, i + 1, children.length - i);
+
+			Node child = new Node();
+			newKeys[i] = c;
+			newChildren[i] = child;
+			keys = newKeys;
+			children = newChildren;
+			return child;
+		}
+	}
+
+	private final String[] patterns;
+	private final int[] prefixLengths;
+	private final int[] lastWildcards;
+	private final Node prefixes = new Node();
+	private final Node suffixes = new Node();
+
+	private WildcardMatcher(List<String> patterns)
+	{
+		this.patterns = patterns.toArray(new String[0]);
+		this.prefixLengths = new int[this.patterns.length];
+		this.lastWildcards = new int[this.patterns.length];
+
+		for (int i = 0; i < this.patterns.length; ++i)
+		{
+			String pattern = this.patterns[i];
+			int lastWildcard = pattern.lastIndexOf(WILDCARD);
+			int length = 0;
+			while (length < pattern.length() && pattern.charAt(length) != WILDCARD)
+			{
+				++length;
+			}
+
+			prefixLengths[i] = length;
+			lastWildcards[i] = lastWildcard;
+
+			Node node;
+			if (length == 0 && lastWildcard != -1 && lastWildcard < pattern.length() - 1)
+			{
+				node = suffixes;
+				for (int j = pattern.length() - 1; j > lastWildcard; --j)
+				{
+					node = node.addChild(fold(pattern.charAt(j)));
+				}
+			}
+			else
+			{
+				node = prefixes;
+				for (int j = 0; j < length; ++j)
+				{
+					node = node.addChild(fold(pattern.charAt(j)));
+				}
+			}
+
+			node.patterns = Arrays.copyOf(node.patterns, node.patterns.length + 1);
+			node.patterns[node.patterns.length - 1] = i;
+		}
+	}
+
+	/**
+	 * Compile a list of patterns into a matcher
+	 *
+	 * @param patterns patterns, which are identified by their index in the list
+	 * @return the matcher
+	 */
+	public static WildcardMatcher compile(List<String> patterns)
+	{
+		return new WildcardMatcher(patterns);
+	}
+
+	/**
+	 * Test if the text matches any of the patterns
+	 *
+	 * @param text text to match
+	 * @return true if any pattern matches
+	 */
+	public boolean matches(String text)
+	{
+		return matches(text, (IntPredicate) null);
+	}
+
+	/**
+	 * Test if the text matches any of the patterns accepted by a filter. The filter is
+	 * only tested for patterns which match, in no particular order.
+	 *
+	 * @param text text to match
+	 * @param filter filter on the index of the matching pattern, or null to accept all
+	 * @return true if an accepted pattern matches
+	 */
+	public boolean matches(String text, IntPredicate filter)
+	{
+		Node node = prefixes;
+		for (int t = 0; node != null; ++t)
+		{
+			if (matches(node.patterns, text, filter))
+			{
+				return true;
+			}
+
+			node = t < text.length() ? node.child(fold(text.charAt(t))) : null;
+		}
+
+		node = suffixes;
+		for (int t = text.length() - 1; t >= 0 && node != null; --t)
+		{
+			node = node.child(fold(text.charAt(t)));
+			if (node != null && matches(node.patterns, text, filter))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean matches(int[] candidates, String text, IntPredicate filter)
+	{
+		for (int i : candidates)
+		{
+			// the leading literal text has already been matched by the trie
+			int prefixLength = prefixLengths[i];
+			if (matches(patterns[i], prefixLength, lastWildcards[i], text, prefixLength)
+				&& (filter == null || filter.test(i)))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
 
 	public static boolean matches(String pattern, String text)
 	{
-		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
-		final StringBuffer buffer = new StringBuffer();
+		return matches(pattern, 0, pattern.lastIndexOf(WILDCARD), text, 0);
+	}
+
+	/**
+	 * Match the remainder of a pattern against the remainder of the text. The literal
+	 * text after the last wildcard must match the end of the text, which rejects most
+	 * text without scanning it. Otherwise when a literal fails to match after a wildcard,
+	 * the wildcard is extended by one character and matching resumes from after it.
+	 */
+	private static boolean matches(String pattern, int p, int lastWildcard, String text, int t)
+	{
+		int patternLength = pattern.length();
+		int textLength = text.length();
+
+		if (lastWildcard == -1)
+		{
+			if (patternLength - p != textLength - t)
+			{
+				return false;
+			}
+		}
+		else
+		{
+			int tailLength = patternLength - lastWildcard - 1;
+			if (textLength - t < tailLength)
+			{
+				return false;
+			}
+
+			for (int i = 0; i < tailLength; ++i)
+			{
+				if (fold(pattern.charAt(lastWildcard + 1 + i)) != fold(text.charAt(textLength - tailLength + i)))
+				{
+					return false;
+				}
+			}
+
+			// the tail is matched, and the last wildcard matches whatever precedes it
+			patternLength = lastWildcard + 1;
+			textLength -= tailLength;
+		}
 
-		buffer.append("(?i)");
-		while (matcher.find())
+		int star = -1;
+		int mark = 0;
+
+		while (t < textLength)
 		{
-			if (matcher.group(1) != null)
+			if (p < patternLength && pattern.charAt(p) == WILDCARD)
+			{
+				star = p++;
+				mark = t;
+			}
+			else if (p < patternLength && fold(pattern.charAt(p)) == fold(text.charAt(t)))
+			{
+				++p;
+				++t;
+			}
+			else if (star != -1)
 			{
-				matcher.appendReplacement(buffer, ".*");
+				p = star + 1;
+				t = ++mark;
 			}
 			else
 			{
-				matcher.appendReplacement(buffer, "\\\\Q" + matcher.group(0) + "\\\\E");
+				return false;
 			}
 		}
 
-		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
+		while (p < patternLength && pattern.charAt(p) == WILDCARD)
+		{
+			++p;
+		}
 
-		return text.matches(replaced);
+		return p == patternLength;
+	}
+
+	/**
+	 * Fold case the same way as {@link String#equalsIgnoreCase(String)}
+	 */
+	private static char fold(char c)
+	{
+		return Character.toLowerCase(Character.toUpperCase(c));
 	}
 }
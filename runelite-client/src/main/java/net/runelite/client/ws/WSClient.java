@@ -27,7 +27,9 @@ package net.runelite.client.ws;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import javax.inject.Inject;
@@ -38,12 +40,16 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.http.api.RuneLiteAPI;
 import net.runelite.http.api.ws.WebsocketGsonFactory;
 import net.runelite.http.api.ws.WebsocketMessage;
+import net.runelite.http.api.ws.binary.BinaryProtocol;
+import net.runelite.http.api.ws.binary.MessageCodec;
 import net.runelite.http.api.ws.messages.Handshake;
 import net.runelite.http.api.ws.messages.party.PartyMessage;
+import net.runelite.http.api.ws.messages.party.UserJoin;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
+import okio.ByteString;
 
 @Slf4j
 @Singleton
@@ -51,8 +57,10 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 {
 	private final EventBus eventBus;
 	private final Collection<Class<? extends WebsocketMessage>> messages = new HashSet<>();
+	private final BinaryProtocol binaryProtocol = new BinaryProtocol();
 
 	private volatile Gson gson;
+	private volatile boolean binary;
 	@Getter
 	private UUID sessionId;
 	private WebSocket webSocket;
@@ -101,10 +109,15 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 			.url(RuneLiteAPI.getWsEndpoint())
 			.build();
 
+		// json until the server accepts the binary protocol
+		binary = false;
+		binaryProtocol.reset();
+
 		webSocket = RuneLiteAPI.CLIENT.newWebSocket(request, this);
 
 		Handshake handshake = new Handshake();
 		handshake.setSession(sessionId);
+		handshake.setBinaryVersion(BinaryProtocol.VERSION);
 		send(handshake);
 	}
 
@@ -116,8 +129,24 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		}
 	}
 
+	/**
+	 * Register a message along with its codec for the binary protocol
+	 *
+	 * @param message message type
+	 * @param id the message's type id, which must be the same for every client
+	 * @param codec
+	 * @see BinaryProtocol#FIRST_USER_ID
+	 */
+	public <T extends WebsocketMessage> void registerMessage(final Class<T> message, final int id, final MessageCodec<T> codec)
+	{
+		binaryProtocol.register(id, message, codec);
+		registerMessage(message);
+	}
+
 	public void unregisterMessage(final Class<? extends WebsocketMessage> message)
 	{
+		binaryProtocol.unregister(message);
+
 		if (messages.remove(message))
 		{
 			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
@@ -125,6 +154,15 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 	}
 
 	public void send(WebsocketMessage message)
+	{
+		send(Collections.singletonList(message));
+	}
+
+	/**
+	 * Send messages, as a single frame if the server has accepted the binary protocol
+	 * and every message has a binary codec, and otherwise as one json frame each.
+	 */
+	public void send(Collection<? extends WebsocketMessage> messages)
 	{
 		if (webSocket == null)
 		{
@@ -132,9 +170,20 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 			connect();
 		}
 
-		final String json = gson.toJson(message, WebsocketMessage.class);
-		webSocket.send(json);
-		log.debug("Sent: {}", json);
+		if (binary && binaryProtocol.canEncode(messages))
+		{
+			final byte[] frame = binaryProtocol.encode(messages);
+			webSocket.send(ByteString.of(frame));
+			log.debug("Sent {} messages in {} bytes", messages.size(), frame.length);
+			return;
+		}
+
+		for (WebsocketMessage message : messages)
+		{
+			final String json = gson.toJson(message, WebsocketMessage.class);
+			webSocket.send(json);
+			log.debug("Sent: {}", json);
+		}
 	}
 
 	@Override
@@ -167,13 +216,56 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 			return;
 		}
 
+		if (message instanceof Handshake)
+		{
+			// the server sends a new handshake whenever the party changes whether it can use the binary protocol,
+			// and the members may not have seen the messages which our deltas are relative to
+			binaryProtocol.reset();
+			binary = Objects.equals(((Handshake) message).getBinaryVersion(), BinaryProtocol.VERSION);
+			log.debug("Server {} the binary protocol", binary ? "accepted" : "declined");
+			return;
+		}
+
+		log.debug("Got: {}", text);
+		post(message);
+	}
+
+	@Override
+	public void onMessage(WebSocket webSocket, ByteString bytes)
+	{
+		final List<WebsocketMessage> messages;
+
+		try
+		{
+			messages = binaryProtocol.decode(bytes.toByteArray());
+		}
+		catch (IllegalArgumentException e)
+		{
+			log.debug("Failed to decode frame", e);
+			return;
+		}
+
+		log.debug("Got {} messages in {} bytes", messages.size(), bytes.size());
+		for (WebsocketMessage message : messages)
+		{
+			post(message);
+		}
+	}
+
+	private void post(WebsocketMessage message)
+	{
 		if (message.isParty() && !(message instanceof PartyMessage))
 		{
 			// spoofed message?
 			return;
 		}
 
-		log.debug("Got: {}", text);
+		if (message instanceof UserJoin)
+		{
+			// the new member can't decode messages relative to ones sent before it joined
+			binaryProtocol.reset();
+		}
+
 		eventBus.post(message);
 	}
 
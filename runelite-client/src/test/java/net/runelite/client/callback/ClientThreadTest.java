@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.Client;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientThreadTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Inject
+	private ClientThread clientThread;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		when(client.isClientThread()).thenReturn(true);
+	}
+
+	@Test
+	public void testPriorityOrder()
+	{
+		List<String> calls = new ArrayList<>();
+		clientThread.invokeLater(() -> calls.add("low"), InvokePriority.LOW);
+		clientThread.invokeLater(() -> calls.add("normal"));
+		clientThread.invokeLater(() -> calls.add("high"), InvokePriority.HIGH);
+
+		clientThread.invoke();
+		assertEquals(Arrays.asList("high", "normal", "low"), calls);
+		for (InvokePriority priority : InvokePriority.values())
+		{
+			assertEquals(0, clientThread.getQueueSize(priority));
+			assertEquals(1, clientThread.getLag(priority).getCount());
+		}
+	}
+
+	@Test
+	public void testFrameBudget()
+	{
+		clientThread.setFrameBudget(Duration.ZERO);
+
+		List<String> calls = new ArrayList<>();
+		for (int i = 0; i < 3; ++i)
+		{
+			String name = "low" + i;
+			clientThread.invokeLater(() -> calls.add(name), InvokePriority.LOW);
+		}
+		clientThread.invokeLater(() -> calls.add("normal0"));
+		clientThread.invokeLater(() -> calls.add("normal1"));
+
+		// unbudgeted invokes always run, and at least one budgeted invoke runs each frame
+		clientThread.invoke();
+		assertEquals(Arrays.asList("normal0", "normal1", "low0"), calls);
+		assertEquals(2, clientThread.getQueueSize(InvokePriority.LOW));
+
+		calls.clear();
+		clientThread.invoke();
+		assertEquals(Arrays.asList("low1"), calls);
+
+		calls.clear();
+		clientThread.setFrameBudget(Duration.ofSeconds(10));
+		clientThread.invoke();
+		assertEquals(Arrays.asList("low2"), calls);
+		assertEquals(0, clientThread.getQueueSize(InvokePriority.LOW));
+		assertEquals(3, clientThread.getLag(InvokePriority.LOW).getCount());
+	}
+
+	@Test
+	public void testRetry()
+	{
+		int[] runs = new int[1];
+		clientThread.invoke(() -> ++runs[0] == 3, InvokePriority.LOW);
+		assertEquals(1, runs[0]);
+		assertEquals(1, clientThread.getQueueSize(InvokePriority.LOW));
+
+		clientThread.invoke();
+		clientThread.invoke();
+		clientThread.invoke();
+		assertEquals(3, runs[0]);
+		assertEquals(0, clientThread.getQueueSize(InvokePriority.LOW));
+		// lag is only recorded the first time an invoke is run from the queue
+		assertEquals(1, clientThread.getLag(InvokePriority.LOW).getCount());
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Posts events to an event bus with 130 registered plugins, each subscribed to a
+ * few of twenty event types, and toggles a plugin by unregistering and
+ * registering it again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EventBusBenchmark
+{
+	private static final int PLUGINS = 130;
+
+	public static class GameTick
+	{
+	}
+
+	public static class BeforeRender
+	{
+	}
+
+	public static class Unsubscribed
+	{
+	}
+
+	public static class TickPlugin
+	{
+		int ticks;
+
+		@Subscribe
+		public void onGameTick(GameTick event)
+		{
+			++ticks;
+		}
+	}
+
+	public static class RenderPlugin
+	{
+		int renders;
+
+		@Subscribe
+		public void onGameTick(GameTick event)
+		{
+		}
+
+		@Subscribe
+		public void onBeforeRender(BeforeRender event)
+		{
+			++renders;
+		}
+	}
+
+	private final GameTick gameTick = new GameTick();
+	private final BeforeRender beforeRender = new BeforeRender();
+	private final Unsubscribed unsubscribed = new Unsubscribed();
+
+	private EventBus eventBus;
+	private List<Object> plugins;
+	private int toggle;
+
+	@Setup
+	public void setup()
+	{
+		eventBus = new EventBus();
+		plugins = new ArrayList<>();
+		for (int i = 0; i < PLUGINS; ++i)
+		{
+			Object plugin = i % 4 == 0 ? new RenderPlugin() : new TickPlugin();
+			plugins.add(plugin);
+			eventBus.register(plugin);
+		}
+	}
+
+	@Benchmark
+	public void postGameTick()
+	{
+		eventBus.post(gameTick);
+	}
+
+	@Benchmark
+	public void postBeforeRender()
+	{
+		eventBus.post(beforeRender);
+	}
+
+	@Benchmark
+	public void postUnsubscribed()
+	{
+		eventBus.post(unsubscribed);
+	}
+
+	@Benchmark
+	public void togglePlugin()
+	{
+		Object plugin = plugins.get(toggle++ % PLUGINS);
+		eventBus.unregister(plugin);
+		eventBus.register(plugin);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(EventBusBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
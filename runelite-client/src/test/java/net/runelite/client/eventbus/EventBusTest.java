@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import net.runelite.client.util.InvocationStats;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private static class TestEvent
+	{
+	}
+
+	private static class OtherEvent
+	{
+	}
+
+	private static class TestSubscriber
+	{
+		private final List<String> calls;
+		private final String name;
+
+		TestSubscriber(List<String> calls, String name)
+		{
+			this.calls = calls;
+			this.name = name;
+		}
+
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add(name);
+		}
+	}
+
+	private static class PrioritySubscriber
+	{
+		private final List<String> calls;
+
+		PrioritySubscriber(List<String> calls)
+		{
+			this.calls = calls;
+		}
+
+		@Subscribe(priority = 1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("priority");
+		}
+
+		@Subscribe
+		public void onOtherEvent(OtherEvent event)
+		{
+			calls.add("other");
+		}
+	}
+
+	@Test
+	public void testPost()
+	{
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+
+		TestSubscriber a = new TestSubscriber(calls, "a");
+		TestSubscriber b = new TestSubscriber(calls, "b");
+		PrioritySubscriber priority = new PrioritySubscriber(calls);
+
+		eventBus.register(a);
+		eventBus.register(priority);
+		eventBus.register(b);
+
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(Arrays.asList("priority", "a", "b", "other"), calls);
+
+		calls.clear();
+		eventBus.unregister(a);
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("priority", "b"), calls);
+
+		calls.clear();
+		eventBus.unregister(priority);
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(Arrays.asList("b"), calls);
+
+		calls.clear();
+		eventBus.unregister(b);
+		eventBus.post(new TestEvent());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	public void testExceptionHandler()
+	{
+		List<Throwable> exceptions = new ArrayList<>();
+		EventBus eventBus = new EventBus(exceptions::add);
+		List<String> calls = new ArrayList<>();
+
+		eventBus.register(new Object()
+		{
+			@Subscribe(priority = 1)
+			public void onTestEvent(TestEvent event)
+			{
+				throw new IllegalStateException();
+			}
+		});
+		eventBus.register(new TestSubscriber(calls, "a"));
+
+		eventBus.post(new TestEvent());
+		assertEquals(1, exceptions.size());
+		assertEquals(Arrays.asList("a"), calls);
+	}
+
+	@Test
+	public void testTimings()
+	{
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		eventBus.register(new TestSubscriber(calls, "a"));
+		eventBus.register(new PrioritySubscriber(calls));
+
+		eventBus.post(new TestEvent());
+		assertTrue(eventBus.getTimings().getStats().isEmpty());
+
+		eventBus.getTimings().setEnabled(true);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+
+		List<InvocationStats> stats = eventBus.getTimings().getStats();
+		assertEquals(3, stats.size());
+		for (InvocationStats s : stats)
+		{
+			assertEquals(s.getName().equals("OtherEvent") ? 1 : 2, s.getCount());
+			assertTrue(s.getOwner().endsWith("Subscriber"));
+		}
+
+		eventBus.getTimings().setEnabled(false);
+		eventBus.getTimings().reset();
+		eventBus.post(new TestEvent());
+		assertTrue(eventBus.getTimings().getStats().isEmpty());
+		assertFalse(eventBus.getTimings().isEnabled());
+	}
+
+	@Test
+	public void testTimingsDoNotRetainSubscribers()
+	{
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		eventBus.getTimings().setEnabled(true);
+
+		TestSubscriber subscriber = new TestSubscriber(calls, "a");
+		eventBus.register(subscriber);
+		eventBus.post(new TestEvent());
+		eventBus.unregister(subscriber);
+
+		WeakReference<TestSubscriber> ref = new WeakReference<>(subscriber);
+		subscriber = null;
+		for (int i = 0; i < 10 && ref.get() != null; ++i)
+		{
+			System.gc();
+		}
+		assertNull(ref.get());
+
+		// the stats of an unregistered subscriber are kept
+		assertEquals(1, eventBus.getTimings().getStats().size());
+		assertEquals(TestSubscriber.class.getName(), eventBus.getTimings().getStats().get(0).getOwner());
+	}
+}
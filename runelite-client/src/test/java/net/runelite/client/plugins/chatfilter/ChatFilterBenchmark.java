@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.chatfilter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Censors 10,000 chat lines with 200 filtered words and 20 filtered patterns, using
+ * a pattern per word applied one after another as the plugin used to, and
+ * {@link ChatFilter}. The chat lines are generated from a fixed seed, from a
+ * vocabulary of common chat, and about one in twenty contains a filtered word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ChatFilterBenchmark
+{
+	private static final String[] VOCABULARY = {
+		"buying", "selling", "gf", "lol", "world", "trade", "me", "pls", "gz", "on", "99", "anyone", "want",
+		"to", "duo", "bandos", "zulrah", "noob", "ty", "gl", "ironman", "w330", "cox", "mass", "split", "rune",
+		"whip", "dragon", "bones", "cheap", "house", "party", "free", "tele", "ge", "lumbridge", "varrock"
+	};
+
+	private List<String> messages;
+	private List<Pattern> legacyPatterns;
+	private ChatFilter chatFilter;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42L);
+
+		List<String> words = new ArrayList<>();
+		for (int i = 0; i < 200; ++i)
+		{
+			words.add(randomWord(random));
+		}
+
+		List<Pattern> patterns = new ArrayList<>();
+		for (int i = 0; i < 20; ++i)
+		{
+			patterns.add(Pattern.compile(randomWord(random) + "[0-9]+x" + i, Pattern.CASE_INSENSITIVE));
+		}
+
+		messages = new ArrayList<>();
+		for (int i = 0; i < 10000; ++i)
+		{
+			StringBuilder sb = new StringBuilder();
+			for (int j = 0, length = 3 + random.nextInt(10); j < length; ++j)
+			{
+				if (j > 0)
+				{
+					sb.append(' ');
+				}
+				sb.append(random.nextInt(100) == 0
+					? words.get(random.nextInt(words.size()))
+					: VOCABULARY[random.nextInt(VOCABULARY.length)]);
+			}
+			messages.add(sb.toString());
+		}
+
+		legacyPatterns = new ArrayList<>();
+		for (String word : words)
+		{
+			legacyPatterns.add(Pattern.compile(Pattern.quote(word), Pattern.CASE_INSENSITIVE));
+		}
+		legacyPatterns.addAll(patterns);
+
+		chatFilter = new ChatFilter(words, patterns);
+	}
+
+	private static String randomWord(Random random)
+	{
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0, length = 4 + random.nextInt(6); i < length; ++i)
+		{
+			sb.append((char) ('a' + random.nextInt(26)));
+		}
+		return sb.toString();
+	}
+
+	@Benchmark
+	public int legacy()
+	{
+		int censored = 0;
+		for (String message : messages)
+		{
+			if (legacyCensor(message) != message)
+			{
+				++censored;
+			}
+		}
+		return censored;
+	}
+
+	@Benchmark
+	public int chatFilter()
+	{
+		int censored = 0;
+		for (String message : messages)
+		{
+			if (chatFilter.censor(message) != null)
+			{
+				++censored;
+			}
+		}
+		return censored;
+	}
+
+	private String legacyCensor(String message)
+	{
+		String strippedMessage = message;
+		boolean filtered = false;
+		for (Pattern pattern : legacyPatterns)
+		{
+			Matcher m = pattern.matcher(strippedMessage);
+
+			StringBuffer sb = new StringBuffer();
+
+			while (m.find())
+			{
+				m.appendReplacement(sb, StringUtils.repeat('*', m.group(0).length()));
+				filtered = true;
+			}
+			m.appendTail(sb);
+
+			strippedMessage = sb.toString();
+		}
+
+		return filtered ? strippedMessage : message;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ChatFilterBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -117,6 +117,17 @@ public class ChatFilterPluginTest
 		assertEquals("w***s up", chatFilterPlugin.censorMessage("Blue", "whats up"));
 	}
 
+	@Test
+	public void testCensorWordsAndRegex()
+	{
+		when(chatFilterConfig.filteredWords()).thenReturn("hat,up");
+		when(chatFilterConfig.filteredRegex()).thenReturn("w[a-z]+s");
+
+		chatFilterPlugin.updateFilteredPatterns();
+		assertEquals("***** **", chatFilterPlugin.censorMessage("Blue", "whats up"));
+		assertEquals("hello", chatFilterPlugin.censorMessage("Blue", "hello"));
+	}
+
 	@Test
 	public void testCensorRegex()
 	{
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.chatfilter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.regex.Pattern;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ChatFilterTest
+{
+	@Test
+	public void testWords()
+	{
+		ChatFilter filter = new ChatFilter(Arrays.asList("he", "she", "hers", "his", ""), Collections.emptyList());
+		assertEquals("u*****", filter.censor("ushers"));
+		assertEquals("***, ***", filter.censor("SHE, HIS"));
+		assertEquals("t** ****", filter.censor("the hers"));
+		assertNull(filter.censor("nothing"));
+		assertNull(filter.censor(""));
+
+		assertTrue(filter.matches("ushers"));
+		assertFalse(filter.matches("nothing"));
+	}
+
+	@Test
+	public void testOverlappingWords()
+	{
+		ChatFilter filter = new ChatFilter(Arrays.asList("abc", "bcd", "cdef"), Collections.emptyList());
+		assertEquals("x******x", filter.censor("xabcdefx"));
+		assertEquals("x***y***", filter.censor("xabcybcd"));
+	}
+
+	@Test
+	public void testPatterns()
+	{
+		ChatFilter filter = new ChatFilter(Collections.singletonList("dicing"), Arrays.asList(
+			Pattern.compile("5[0-9]x2", Pattern.CASE_INSENSITIVE),
+			Pattern.compile("(a)\\1", Pattern.CASE_INSENSITIVE),
+			Pattern.compile("w+", Pattern.CASE_INSENSITIVE)));
+
+		assertEquals("**** ****** | **h **d", filter.censor("55X2 Dicing | aAh wwd"));
+		assertNull(filter.censor("nothing here"));
+		assertTrue(filter.matches("55x2"));
+		assertTrue(filter.matches("aa"));
+		assertFalse(filter.matches("a"));
+	}
+
+	@Test
+	public void testEmptyMatch()
+	{
+		// an empty match censors nothing, but is still a match
+		ChatFilter filter = new ChatFilter(Collections.emptyList(), Collections.singletonList(Pattern.compile("x*")));
+		assertEquals("abc", filter.censor("abc"));
+		assertTrue(filter.matches("abc"));
+	}
+}
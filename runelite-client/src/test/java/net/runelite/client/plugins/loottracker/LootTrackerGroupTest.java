@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import net.runelite.api.ItemID;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class LootTrackerGroupTest
+{
+	private static final String[] NAMES = {
+		"Bones", "Coins", "Rune scimitar", "Clue scroll (medium)", "Dragon bones", "Law rune", "Shark"
+	};
+
+	@Test
+	public void testMappedItems()
+	{
+		LootTrackerGroup group = new LootTrackerGroup("Theatre of Blood", null, LootRecordType.EVENT, false);
+		group.add(new LootTrackerRecord("Theatre of Blood", null, LootRecordType.EVENT, new LootTrackerItem[]{
+			new LootTrackerItem(ItemID.CLUE_SCROLL_MEDIUM, "Clue scroll (medium)", 1, 0, 0, false),
+			new LootTrackerItem(ItemID.CLUE_SCROLL_MEDIUM_3602, "Clue scroll (medium)", 1, 0, 0, false),
+			new LootTrackerItem(ItemID.GRACEFUL_HOOD_13579, "Graceful hood", 1, 0, 0, false),
+		}, 42));
+
+		assertEquals(Arrays.asList(
+			new LootTrackerItem(ItemID.CLUE_SCROLL_MEDIUM, "Clue scroll (medium)", 2, 0, 0, false),
+			new LootTrackerItem(ItemID.GRACEFUL_HOOD_13579, "Graceful hood", 1, 0, 0, false)
+		), group.getItems());
+		assertEquals(42, group.getKills());
+	}
+
+	@Test
+	public void testIgnoredItems()
+	{
+		LootTrackerGroup group = new LootTrackerGroup("Goblin", "(lvl-2)", LootRecordType.NPC, false);
+		group.add(record(new LootTrackerItem(ItemID.BONES, "Bones", 1, 100, 1, false)));
+		group.add(record(new LootTrackerItem(ItemID.BONES, "Bones", 1, 100, 1, false),
+			new LootTrackerItem(ItemID.COINS_995, "Coins", 5, 1, 0, false)));
+
+		assertEquals(2, group.getKills(true));
+		assertEquals(205, group.getGePrice(true));
+
+		assertTrue(group.setIgnored("Bones", true));
+		assertFalse(group.setIgnored("Bones", true));
+		assertFalse(group.setIgnored("Shark", true));
+		// the first kill dropped only bones
+		assertEquals(1, group.getKills(true));
+		assertEquals(2, group.getKills(false));
+		assertEquals(5, group.getGePrice(true));
+		assertEquals(205, group.getGePrice(false));
+
+		assertTrue(group.setIgnored("Bones", false));
+		assertEquals(2, group.getKills(true));
+		assertEquals(205, group.getGePrice(true));
+	}
+
+	@Test
+	public void testRemoveKeepsIgnored()
+	{
+		LootTrackerGroup group = new LootTrackerGroup("Goblin", "(lvl-2)", LootRecordType.NPC, false);
+		LootTrackerRecord first = record(new LootTrackerItem(ItemID.BONES, "Bones", 1, 100, 1, false));
+		group.add(first);
+		group.add(record(new LootTrackerItem(ItemID.BONES, "Bones", 2, 100, 1, false)));
+
+		// the records' items are not updated, as with aggregate records from the server
+		group.setIgnored("Bones", true);
+		assertTrue(group.remove(r -> r == first));
+		assertFalse(group.remove(r -> r == first));
+
+		assertEquals(Arrays.asList(new LootTrackerItem(ItemID.BONES, "Bones", 2, 100, 1, true)), group.getItems());
+		assertEquals(0, group.getKills(true));
+		assertEquals(0, group.getGePrice(true));
+		assertEquals(200, group.getGePrice(false));
+	}
+
+	@Test
+	public void testManyItems()
+	{
+		LootTrackerGroup group = new LootTrackerGroup("Barrows", "", LootRecordType.EVENT, false);
+		for (int kill = 0; kill < 3; ++kill)
+		{
+			LootTrackerItem[] items = new LootTrackerItem[1000];
+			for (int i = 0; i < items.length; ++i)
+			{
+				items[i] = new LootTrackerItem(i * 7, "Item " + i, 1, 2, 1, false);
+			}
+			group.add(record(items));
+		}
+
+		List<LootTrackerItem> items = group.getItems();
+		assertEquals(1000, items.size());
+		for (int i = 0; i < items.size(); ++i)
+		{
+			assertEquals(i * 7, items.get(i).getId());
+			assertEquals(3, items.get(i).getQuantity());
+		}
+		assertEquals(6000, group.getGePrice(true));
+	}
+
+	@Test
+	public void testMatchesRecords()
+	{
+		Random random = new Random(42);
+		for (int iteration = 0; iteration < 200; ++iteration)
+		{
+			Set<String> ignored = new HashSet<>();
+			List<LootTrackerRecord> records = new ArrayList<>();
+			LootTrackerGroup group = new LootTrackerGroup("Goblin", "", LootRecordType.NPC, false);
+
+			for (int step = 0; step < 60; ++step)
+			{
+				int action = random.nextInt(10);
+				if (action < 7)
+				{
+					LootTrackerItem[] items = new LootTrackerItem[random.nextInt(4)];
+					for (int i = 0; i < items.length; ++i)
+					{
+						String name = NAMES[random.nextInt(NAMES.length)];
+						int id = name.startsWith("Clue") ? ItemID.CLUE_SCROLL_MEDIUM_3602 + random.nextInt(2) : name.hashCode() & 0xFFFF;
+						items[i] = new LootTrackerItem(id, name, 1 + random.nextInt(1000), random.nextInt(50000), random.nextInt(30000), ignored.contains(name));
+					}
+					LootTrackerRecord record = new LootTrackerRecord("Goblin", "", LootRecordType.NPC, items, 1 + random.nextInt(3));
+					records.add(record);
+					group.add(record);
+				}
+				else if (action < 9)
+				{
+					String name = NAMES[random.nextInt(NAMES.length)];
+					boolean ignore = !ignored.remove(name);
+					if (ignore)
+					{
+						ignored.add(name);
+					}
+					for (LootTrackerRecord record : records)
+					{
+						for (LootTrackerItem item : record.getItems())
+						{
+							if (item.getName().equals(name))
+							{
+								item.setIgnored(ignore);
+							}
+						}
+					}
+					group.setIgnored(name, ignore);
+				}
+				else if (!records.isEmpty())
+				{
+					LootTrackerRecord removed = records.remove(random.nextInt(records.size()));
+					group.remove(r -> r == removed);
+				}
+
+				assertTotals(records, group);
+			}
+		}
+	}
+
+	/**
+	 * Compare the group's totals to those computed by walking every record and item
+	 */
+	private static void assertTotals(List<LootTrackerRecord> records, LootTrackerGroup group)
+	{
+		for (boolean hide : new boolean[]{false, true})
+		{
+			long kills = 0;
+			long ge = 0;
+			long ha = 0;
+			for (LootTrackerRecord record : records)
+			{
+				int present = record.getItems().length;
+				for (LootTrackerItem item : record.getItems())
+				{
+					if (hide && item.isIgnored())
+					{
+						present--;
+						continue;
+					}
+
+					ge += item.getTotalGePrice();
+					ha += item.getTotalHaPrice();
+				}
+
+				if (present > 0)
+				{
+					kills += record.getKills();
+				}
+			}
+
+			assertEquals(kills, group.getKills(hide));
+			assertEquals(ge, group.getGePrice(hide));
+			assertEquals(ha, group.getHaPrice(hide));
+		}
+
+		// merge the items by mapped id, as LootTrackerBox.addKill does
+		List<LootTrackerItem> expected = new ArrayList<>();
+		for (LootTrackerRecord record : records)
+		{
+			outer:
+			for (LootTrackerItem item : record.getItems())
+			{
+				int id = LootTrackerMapping.map(item.getId(), item.getName());
+				for (int i = 0; i < expected.size(); ++i)
+				{
+					LootTrackerItem e = expected.get(i);
+					if (e.getId() == id)
+					{
+						expected.set(i, new LootTrackerItem(id, e.getName(), e.getQuantity() + item.getQuantity(), e.getGePrice(), e.getHaPrice(), e.isIgnored()));
+						continue outer;
+					}
+				}
+				expected.add(new LootTrackerItem(id, item.getName(), item.getQuantity(), item.getGePrice(), item.getHaPrice(), item.isIgnored()));
+			}
+		}
+		assertEquals(expected, group.getItems());
+	}
+
+	private static LootTrackerRecord record(LootTrackerItem... items)
+	{
+		return new LootTrackerRecord("Goblin", "(lvl-2)", LootRecordType.NPC, items, 1);
+	}
+}
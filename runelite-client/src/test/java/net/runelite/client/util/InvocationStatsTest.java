@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class InvocationStatsTest
+{
+	@Test
+	public void testRecord()
+	{
+		InvocationStats stats = new InvocationStats("owner", "name");
+		assertEquals(0, stats.getPercentileNanos(0.99));
+
+		for (int i = 0; i < 98; ++i)
+		{
+			stats.record(500); // bucket 0, under 1us
+		}
+		stats.record(TimeUnit.MICROSECONDS.toNanos(3)); // bucket 2
+		stats.record(TimeUnit.SECONDS.toNanos(30)); // last bucket
+
+		assertEquals(100, stats.getCount());
+		assertEquals(TimeUnit.SECONDS.toNanos(30), stats.getMaxNanos());
+		assertEquals(98 * 500 + 3000 + TimeUnit.SECONDS.toNanos(30), stats.getTotalNanos());
+
+		assertEquals(TimeUnit.MICROSECONDS.toNanos(1), stats.getPercentileNanos(0.5));
+		assertEquals(TimeUnit.MICROSECONDS.toNanos(4), stats.getPercentileNanos(0.99));
+		assertEquals(TimeUnit.SECONDS.toNanos(30), stats.getPercentileNanos(1));
+
+		long[] buckets = new long[InvocationStats.BUCKETS];
+		buckets[0] = 98;
+		buckets[2] = 1;
+		buckets[InvocationStats.BUCKETS - 1] = 1;
+		assertArrayEquals(buckets, stats.getBuckets());
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.runelite.api.ItemID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Matches every item name, taken from {@link ItemID}, against a 500 entry list of
+ * exact names, prefixes and suffixes, the way the ground items plugin builds its
+ * highlighted and hidden item caches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WildcardMatcherBenchmark
+{
+	private static final int PATTERNS = 500;
+	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
+
+	private List<String> names;
+	private List<String> patterns;
+	private WildcardMatcher matcher;
+
+	@Setup
+	public void setup() throws IllegalAccessException
+	{
+		names = new ArrayList<>();
+		for (Field field : ItemID.class.getDeclaredFields())
+		{
+			if (Modifier.isStatic(field.getModifiers()) && field.getType() == int.class)
+			{
+				String name = field.getName().replace('_', ' ').toLowerCase();
+				names.add(Character.toUpperCase(name.charAt(0)) + name.substring(1));
+			}
+		}
+
+		Random random = new Random(42L);
+		patterns = new ArrayList<>(PATTERNS);
+		for (int i = 0; i < PATTERNS; ++i)
+		{
+			String name = names.get(random.nextInt(names.size()));
+			switch (i % 3)
+			{
+				case 0:
+					patterns.add(name);
+					break;
+				case 1:
+					patterns.add(name.substring(0, 1 + random.nextInt(name.length())) + "*");
+					break;
+				default:
+					patterns.add("*" + name.substring(random.nextInt(name.length())));
+					break;
+			}
+		}
+
+		matcher = WildcardMatcher.compile(patterns);
+	}
+
+	@Benchmark
+	public int regex()
+	{
+		int count = 0;
+		for (String name : names)
+		{
+			for (String pattern : patterns)
+			{
+				if (regexMatches(pattern, name))
+				{
+					++count;
+					break;
+				}
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int perPattern()
+	{
+		int count = 0;
+		for (String name : names)
+		{
+			for (String pattern : patterns)
+			{
+				if (WildcardMatcher.matches(pattern, name))
+				{
+					++count;
+					break;
+				}
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int compiled()
+	{
+		int count = 0;
+		for (String name : names)
+		{
+			if (matcher.matches(name))
+			{
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * The previous implementation, which compiled a regex for every match
+	 */
+	private static boolean regexMatches(String pattern, String text)
+	{
+		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
+		final StringBuffer buffer = new StringBuffer();
+
+		buffer.append("(?i)");
+		while (matcher.find())
+		{
+			if (matcher.group(1) != null)
+			{
+				matcher.appendReplacement(buffer, ".*");
+			}
+			else
+			{
+				matcher.appendReplacement(buffer, "\\\\Q" + matcher.group(0) + "\\\\E");
+			}
+		}
+
+		matcher.appendTail(buffer);
+		return text.matches(buffer.toString());
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(WildcardMatcherBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
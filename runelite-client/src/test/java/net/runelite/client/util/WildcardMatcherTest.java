@@ -26,6 +26,11 @@ package net.runelite.client.util;
 
 import static junit.framework.TestCase.assertTrue;
 import static net.runelite.client.util.WildcardMatcher.matches;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import org.junit.Test;
 
@@ -40,4 +45,44 @@ public class WildcardMatcherTest
 		assertTrue(matches("rune*", "Runeite Ore"));
 		assertTrue(matches("Abyssal whip", "Abyssal whip"));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testWildcards()
+	{
+		assertTrue(matches("*", ""));
+		assertTrue(matches("*whip", "Abyssal whip"));
+		assertTrue(matches("*ss*wh*", "Abyssal whip"));
+		assertTrue(matches("a*a*a", "aaa"));
+		assertFalse(matches("a*a*a", "aa"));
+		assertFalse(matches("*whip", "Abyssal whip (or)"));
+		assertTrue(matches("dragon (*)", "Dragon (kp)"));
+		assertTrue(matches("rune.*", "Rune.*"));
+		assertFalse(matches("rune.*", "Rune pouch"));
+	}
+
+	@Test
+	public void testCompile()
+	{
+		WildcardMatcher matcher = WildcardMatcher.compile(Arrays.asList("rune*", "Abyssal whip", "*dagger", "rune pouch"));
+		assertTrue(matcher.matches("rune pouch"));
+		assertTrue(matcher.matches("Runeite Ore"));
+		assertTrue(matcher.matches("Abyssal whip"));
+		assertTrue(matcher.matches("Adamant dagger"));
+		assertFalse(matcher.matches("Abyssal whi"));
+		assertFalse(matcher.matches("Abyssal whip (or)"));
+		assertFalse(matcher.matches(""));
+
+		List<Integer> matched = new ArrayList<>();
+		assertFalse(matcher.matches("Rune pouch", i ->
+		{
+			matched.add(i);
+			return false;
+		}));
+		Collections.sort(matched);
+		assertEquals(Arrays.asList(0, 3), matched);
+
+		assertTrue(matcher.matches("Rune dagger", i -> i == 2));
+		assertFalse(WildcardMatcher.compile(Collections.emptyList()).matches("Rune pouch"));
+		assertTrue(WildcardMatcher.compile(Collections.singletonList("*")).matches(""));
+	}
+}